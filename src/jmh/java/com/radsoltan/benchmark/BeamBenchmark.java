@@ -0,0 +1,139 @@
+package com.radsoltan.benchmark;
+
+import com.radsoltan.model.Beam;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.ValidateBeam;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for beam design checks, validation and reinforcement properties.
+ * Parameterized over section size and number of bottom reinforcement rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeamBenchmark {
+
+    @Param({"300x600", "450x900", "600x1200"})
+    public String section;
+
+    @Param({"1", "3", "5"})
+    public int rows;
+
+    private Geometry geometry;
+    private BeamReinforcement reinforcement;
+    private DesignParameters designParameters;
+    private double UlsMoment;
+    private double UlsShear;
+    private double SlsMoment;
+
+    /**
+     * Sets up beam geometry, reinforcement and forces. Forces are proportional to the section size and effective depth.
+     */
+    @Setup
+    public void setUp() {
+        int[] size = Sections.parseSize(section);
+        int width = size[0];
+        int depth = size[1];
+        geometry = new Geometry(new Rectangle(width, depth));
+        designParameters = Sections.getDesignParameters();
+        reinforcement = Sections.getBeamReinforcement(width, rows, designParameters);
+        double effectiveDepth = depth - reinforcement.getCentroidOfBottomReinforcement(designParameters.getNominalCoverBottom());
+        UlsMoment = 0.05 * 30 * width * effectiveDepth * effectiveDepth * Math.pow(10, -6);
+        UlsShear = 0.5 * width * effectiveDepth * Math.pow(10, -3);
+        SlsMoment = 0.7 * UlsMoment;
+    }
+
+    /**
+     * Creates a new beam object for the benchmarked section.
+     *
+     * @return beam
+     */
+    private Beam createBeam() {
+        return new Beam(UlsMoment, UlsShear, SlsMoment, geometry, Concrete.C30_37, reinforcement, designParameters);
+    }
+
+    /**
+     * Benchmarks bending capacity calculations.
+     *
+     * @return calculated beam
+     */
+    @Benchmark
+    public Beam bendingCapacity() {
+        Beam beam = createBeam();
+        beam.calculateBendingCapacity();
+        return beam;
+    }
+
+    /**
+     * Benchmarks shear capacity calculations.
+     *
+     * @return calculated beam
+     */
+    @Benchmark
+    public Beam shearCapacity() {
+        Beam beam = createBeam();
+        beam.calculateShearCapacity();
+        return beam;
+    }
+
+    /**
+     * Benchmarks crack width calculations. Bending capacity is required to calculate cracking, so it is included.
+     *
+     * @return calculated beam
+     */
+    @Benchmark
+    public Beam cracking() {
+        Beam beam = createBeam();
+        beam.calculateBendingCapacity();
+        beam.calculateCracking();
+        return beam;
+    }
+
+    /**
+     * Benchmarks beam validation.
+     *
+     * @return validation messages
+     */
+    @Benchmark
+    public List<String> validateBeam() {
+        return new ValidateBeam(geometry, reinforcement, designParameters).getValidationMessages();
+    }
+
+    /**
+     * Benchmarks centroid of bottom reinforcement for reinforcement object that is reused between calls.
+     *
+     * @return centroid in mm
+     */
+    @Benchmark
+    public double centroidOfBottomReinforcement() {
+        return reinforcement.getCentroidOfBottomReinforcement(designParameters.getNominalCoverBottom());
+    }
+
+    /**
+     * Benchmarks centroid of bottom reinforcement including creation of the reinforcement object.
+     *
+     * @return centroid in mm
+     */
+    @Benchmark
+    public double centroidOfBottomReinforcementForNewReinforcement() {
+        BeamReinforcement newReinforcement = new BeamReinforcement(
+                reinforcement.getTopDiameters(),
+                reinforcement.getTopVerticalSpacings(),
+                reinforcement.getBottomDiameters(),
+                reinforcement.getBottomVerticalSpacings(),
+                reinforcement.getShearLinks()
+        );
+        return newReinforcement.getCentroidOfBottomReinforcement(designParameters.getNominalCoverBottom());
+    }
+}
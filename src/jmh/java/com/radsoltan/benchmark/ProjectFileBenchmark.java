@@ -0,0 +1,89 @@
+package com.radsoltan.benchmark;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.Project;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.util.ProjectFile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for saving and opening project files. Parameterized over number of bottom reinforcement rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectFileBenchmark {
+
+    @Param({"1", "5"})
+    public int rows;
+
+    private Project project;
+    private File saveFile;
+    private File openFile;
+
+    /**
+     * Sets up calculated beam project and temporary files.
+     *
+     * @throws IOException if temporary files can't be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        DesignParameters designParameters = Sections.getDesignParameters();
+        project = new Project();
+        project.setName("Benchmark");
+        project.setElementType(Constants.ELEMENT_TYPE_BEAM);
+        project.setUlsMoment("300");
+        project.setSlsMoment("210");
+        project.setUlsShear("250");
+        project.setGeometry(new Geometry(new Rectangle(450, 900)));
+        project.setReinforcement(Sections.getBeamReinforcement(450, rows, designParameters));
+        project.setDesignParameters(designParameters);
+        project.setConcrete(Concrete.C30_37);
+        project.calculate();
+
+        saveFile = File.createTempFile("benchmark-save", ".rcd");
+        openFile = File.createTempFile("benchmark-open", ".rcd");
+        ProjectFile.save(openFile, project);
+    }
+
+    /**
+     * Deletes temporary files.
+     */
+    @TearDown
+    public void tearDown() {
+        saveFile.delete();
+        openFile.delete();
+    }
+
+    /**
+     * Benchmarks saving the project.
+     *
+     * @throws IOException if file can't be saved
+     */
+    @Benchmark
+    public void save() throws IOException {
+        ProjectFile.save(saveFile, project);
+    }
+
+    /**
+     * Benchmarks opening the project.
+     *
+     * @return opened project
+     * @throws IOException            if file can't be read
+     * @throws ClassNotFoundException if project class can't be found
+     */
+    @Benchmark
+    public Project open() throws IOException, ClassNotFoundException {
+        return ProjectFile.open(openFile);
+    }
+}
@@ -0,0 +1,79 @@
+package com.radsoltan.benchmark;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helper class that creates sections used in benchmarks. Reinforcement is sized so that all the checks can be carried out without errors.
+ */
+class Sections {
+    static final int BAR_DIAMETER = 20;
+    static final int SLAB_BAR_SPACING = 150;
+    static final int VERTICAL_SPACING = 25;
+
+    /**
+     * Creates design parameters used in all benchmarks.
+     *
+     * @return design parameters
+     */
+    static DesignParameters getDesignParameters() {
+        return new DesignParameters(30, 30, 30, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+    }
+
+    /**
+     * Creates beam reinforcement with given number of bottom rows. Number of bars in each row depends on the beam width.
+     *
+     * @param width            beam width in mm
+     * @param numberOfRows     number of bottom rows
+     * @param designParameters design parameters
+     * @return beam reinforcement
+     */
+    static BeamReinforcement getBeamReinforcement(int width, int numberOfRows, DesignParameters designParameters) {
+        int numberOfBars = Math.max(Constants.BEAM_ROW_MAIN_BAR_MIN_COUNT, (width - 100) / 60);
+        return new BeamReinforcement(
+                List.of(Collections.nCopies(2, 16)),
+                Collections.emptyList(),
+                Collections.nCopies(numberOfRows, Collections.nCopies(numberOfBars, BAR_DIAMETER)),
+                Collections.nCopies(numberOfRows - 1, VERTICAL_SPACING),
+                new ShearLinks(500, 10, 150, 2)
+        );
+    }
+
+    /**
+     * Creates slab reinforcement with given number of bottom layers.
+     *
+     * @param numberOfLayers number of bottom layers
+     * @return slab reinforcement
+     */
+    static SlabReinforcement getSlabReinforcement(int numberOfLayers) {
+        return new SlabReinforcement(
+                List.of(12),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList(),
+                Collections.nCopies(numberOfLayers, BAR_DIAMETER),
+                Collections.nCopies(numberOfLayers, 0),
+                Collections.nCopies(numberOfLayers, SLAB_BAR_SPACING),
+                Collections.nCopies(numberOfLayers - 1, VERTICAL_SPACING)
+        );
+    }
+
+    /**
+     * Parses section size in format "widthxdepth".
+     *
+     * @param size section size, for example 300x600
+     * @return array with width and depth in mm
+     */
+    static int[] parseSize(String size) {
+        String[] dimensions = size.split("x");
+        return new int[]{Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1])};
+    }
+}
@@ -0,0 +1,104 @@
+package com.radsoltan.benchmark;
+
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.Slab;
+import com.radsoltan.model.ValidateSlab;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for slab design checks, validation and reinforcement properties.
+ * Parameterized over slab thickness and number of bottom reinforcement layers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SlabBenchmark {
+
+    @Param({"200", "300", "400"})
+    public int thickness;
+
+    @Param({"1", "2", "4"})
+    public int layers;
+
+    private SlabStrip slabStrip;
+    private SlabReinforcement reinforcement;
+    private DesignParameters designParameters;
+    private double UlsMoment;
+    private double SlsMoment;
+
+    /**
+     * Sets up slab strip, reinforcement and moments. Moments are proportional to the effective depth.
+     */
+    @Setup
+    public void setUp() {
+        slabStrip = new SlabStrip(thickness);
+        designParameters = Sections.getDesignParameters();
+        reinforcement = Sections.getSlabReinforcement(layers);
+        double effectiveDepth = thickness - reinforcement.getCentroidOfBottomReinforcement(designParameters.getNominalCoverBottom());
+        UlsMoment = 0.03 * 30 * 1000 * effectiveDepth * effectiveDepth * Math.pow(10, -6);
+        SlsMoment = 0.7 * UlsMoment;
+    }
+
+    /**
+     * Creates a new slab object for the benchmarked section.
+     *
+     * @return slab
+     */
+    private Slab createSlab() {
+        return new Slab(UlsMoment, SlsMoment, slabStrip, Concrete.C30_37, reinforcement, designParameters);
+    }
+
+    /**
+     * Benchmarks bending capacity calculations.
+     *
+     * @return calculated slab
+     */
+    @Benchmark
+    public Slab bendingCapacity() {
+        Slab slab = createSlab();
+        slab.calculateBendingCapacity();
+        return slab;
+    }
+
+    /**
+     * Benchmarks crack width calculations. Bending capacity is required to calculate cracking, so it is included.
+     *
+     * @return calculated slab
+     */
+    @Benchmark
+    public Slab cracking() {
+        Slab slab = createSlab();
+        slab.calculateBendingCapacity();
+        slab.calculateCracking();
+        return slab;
+    }
+
+    /**
+     * Benchmarks slab validation.
+     *
+     * @return validation messages
+     */
+    @Benchmark
+    public List<String> validateSlab() {
+        return new ValidateSlab(thickness, reinforcement, designParameters).getValidationMessages();
+    }
+
+    /**
+     * Benchmarks centroid of bottom reinforcement for reinforcement object that is reused between calls.
+     *
+     * @return centroid in mm
+     */
+    @Benchmark
+    public double centroidOfBottomReinforcement() {
+        return reinforcement.getCentroidOfBottomReinforcement(designParameters.getNominalCoverBottom());
+    }
+}
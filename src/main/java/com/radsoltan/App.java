@@ -3,14 +3,21 @@ package com.radsoltan;
 import com.radsoltan.components.SecondaryWindow;
 import com.radsoltan.constants.Constants;
 import com.radsoltan.constants.UIText;
+import com.radsoltan.controllers.Controller;
+import com.radsoltan.util.StartupProfiler;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
+import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * App class that is used to launch the application.
@@ -20,9 +27,28 @@ public class App extends Application {
     private static Scene scene;
     private static Stage stage;
     private static SecondaryWindow secondaryWindow;
+    private static final ViewCache viewCache = new ViewCache();
+    private static final StartupProfiler startupProfiler = StartupProfiler.fromSystemProperties();
+
+    private CompletableFuture<Void> resourcesLoading;
+    private CompletableFuture<Void> viewsPreloading;
+    private final Runnable firstFrameListener = this::onFirstFrame;
+
+    private static final List<String> SETUP_VIEWS = List.of("beam-geometry", "slab-geometry", "design-parameters", "beam-reinforcement", "slab-reinforcement");
+
+    /**
+     * Method that runs on the launcher thread once JavaFX toolkit is initialised, before the application is started.
+     * It starts loading fonts in the background, so that they are loaded in parallel with stage creation.
+     */
+    @Override
+    public void init() {
+        startupProfiler.mark("toolkit initialised");
+        resourcesLoading = CompletableFuture.runAsync(App::loadFonts);
+    }
 
     /**
      * Method that runs when starting the application. It sets scene and its properties.
+     * Once primary stage is shown, setup views are preloaded in the background.
      *
      * @param primaryStage primary stage of the application
      * @throws Exception exception when starting the app
@@ -30,7 +56,8 @@ public class App extends Application {
     @Override
     public void start(Stage primaryStage) throws Exception {
         // Creating new scene from primary .fxml file
-        scene = new Scene(loadFXML("primary"), Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        scene = new Scene(loadView("primary"), Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        startupProfiler.mark("primary view loaded");
         // Setting primary stage and its properties
         primaryStage.setScene(scene);
         primaryStage.setTitle(UIText.APP_TITLE);
@@ -38,18 +65,54 @@ public class App extends Application {
         primaryStage.setResizable(true);
         setMinMaxStageSize(primaryStage);
         stage = primaryStage;
+        // Fonts have to be registered before styles are applied to the scene
+        resourcesLoading.join();
+        startupProfiler.mark("fonts registered");
+        scene.addPostLayoutPulseListener(firstFrameListener);
         // Showing primary stage
         primaryStage.show();
+        // Preloading setup views, so that navigation does not need to parse fxml files
+        viewsPreloading = viewCache.preload(SETUP_VIEWS);
+    }
+
+    /**
+     * Pulse listener that runs once after the first layout of the primary scene. It reports startup timings when profiling is enabled.
+     * If app should exit after startup, it exits once setup views are preloaded, so that their classes are included in class data sharing archive.
+     */
+    private void onFirstFrame() {
+        scene.removePostLayoutPulseListener(firstFrameListener);
+        startupProfiler.mark("first frame");
+        if (startupProfiler.isExitAfterStartup()) {
+            viewsPreloading.whenComplete((result, exception) -> Platform.runLater(() -> {
+                startupProfiler.mark("setup views preloaded");
+                startupProfiler.report(System.out);
+                Platform.exit();
+            }));
+        } else {
+            startupProfiler.report(System.out);
+        }
+    }
+
+    /**
+     * Loads fonts used in the stylesheets. Fonts are registered globally, so they can be loaded on any thread.
+     */
+    private static void loadFonts() {
+        try (InputStream font = App.class.getResourceAsStream("/fonts/SourceSansPro-Regular.ttf")) {
+            Font.loadFont(font, Constants.DEFAULT_FONT_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        startupProfiler.mark("fonts loaded");
     }
 
     /**
-     * It changes the view of the scene by loading fxml file.
+     * It changes the view of the scene. Views are taken from the cache and refreshed from the project instance.
      *
      * @param fxml fxml file to show in the main view
      * @throws IOException Exception for failed or interrupted I/O operation
      */
     public static void setRoot(String fxml) throws IOException {
-        scene.setRoot(loadFXML(fxml));
+        scene.setRoot(loadView(fxml));
     }
 
     /**
@@ -65,15 +128,18 @@ public class App extends Application {
     }
 
     /**
-     * It loads an fxml file using FXMLLoader.
+     * It gets a view from the cache and invokes refresh hook on its controller, so that the view shows current state of the project.
      *
      * @param fxml fxml file name in src/resources/fxml/
-     * @return fxml file
+     * @return root node of the view
      * @throws IOException Exception for failed or interrupted I/O operation
      */
-    private static Parent loadFXML(String fxml) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(App.class.getResource("/fxml/" + fxml + ".fxml"));
-        return fxmlLoader.load();
+    private static Parent loadView(String fxml) throws IOException {
+        ViewCache.View view = viewCache.get(fxml);
+        if (view.getController() instanceof Controller) {
+            ((Controller) view.getController()).refresh();
+        }
+        return view.getRoot();
     }
 
     /**
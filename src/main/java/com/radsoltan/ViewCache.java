@@ -0,0 +1,131 @@
+package com.radsoltan;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache of views loaded from fxml files. Each view is loaded once, along with its controller, and then reused.
+ * This avoids parsing fxml file, creating scene graph and controller on each navigation.
+ * <p>
+ * Views can be preloaded on a background thread. FXMLLoader only creates the scene graph, which is attached to the scene later on the application thread.
+ * If preloading fails, the view is loaded on the application thread when it is requested.
+ * Controllers must not show dialogs or carry out other work that requires the application thread in their initialize method,
+ * such work belongs in the refresh hook. The cache is used by the App only, so it is not a part of the exported API.
+ */
+class ViewCache {
+
+    private final Map<String, CompletableFuture<View>> views;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor. Creates a single daemon thread used for preloading views, so that it does not prevent the app from closing.
+     */
+    public ViewCache() {
+        this.views = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads views on a background thread. Views that are already cached or being loaded are skipped.
+     *
+     * @param fxmlFiles list of fxml file names in src/resources/fxml/
+     * @return future completed once all views are loaded, exceptionally if any of them failed
+     */
+    public CompletableFuture<Void> preload(List<String> fxmlFiles) {
+        return CompletableFuture.allOf(fxmlFiles.stream()
+                .map(fxml -> views.computeIfAbsent(fxml, key -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return load(key);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor)))
+                .toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Gets a view from the cache. If view is being preloaded it waits for it. If it was not loaded yet, it is loaded on the calling thread.
+     *
+     * @param fxml fxml file name in src/resources/fxml/
+     * @return cached view
+     * @throws IOException Exception for failed or interrupted I/O operation
+     */
+    public View get(String fxml) throws IOException {
+        CompletableFuture<View> future = views.get(fxml);
+        if (future != null) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // Preloading failed, loading again on the calling thread
+                views.remove(fxml, future);
+            }
+        }
+        View view = load(fxml);
+        views.put(fxml, CompletableFuture.completedFuture(view));
+        return view;
+    }
+
+    /**
+     * It loads an fxml file using FXMLLoader.
+     *
+     * @param fxml fxml file name in src/resources/fxml/
+     * @return view with root node and controller
+     * @throws IOException Exception for failed or interrupted I/O operation
+     */
+    private static View load(String fxml) throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(App.class.getResource("/fxml/" + fxml + ".fxml"));
+        Parent root = fxmlLoader.load();
+        return new View(root, fxmlLoader.getController());
+    }
+
+    /**
+     * View loaded from fxml file. It holds root node of the scene graph and the controller.
+     */
+    static class View {
+        private final Parent root;
+        private final Object controller;
+
+        /**
+         * Constructor.
+         *
+         * @param root       root node
+         * @param controller controller instance
+         */
+        private View(Parent root, Object controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+
+        /**
+         * Getter for root node.
+         *
+         * @return root node
+         */
+        public Parent getRoot() {
+            return root;
+        }
+
+        /**
+         * Getter for controller.
+         *
+         * @return controller instance
+         */
+        public Object getController() {
+            return controller;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.DesignResultCache;
+import com.radsoltan.model.Project;
+import com.radsoltan.util.Utility;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Headless engine that designs large number of beam and slab sections outside of the JavaFX application.
+ * Each request is calculated independently with Beam and Slab classes. Requests are processed in parallel in a dedicated fork join pool,
+ * by default sized to the number of available processors.
+ * Results can be memoized in a DesignResultCache, which may be shared with other engines and the GUI.
+ */
+public class BatchDesignEngine {
+    private final int parallelism;
+    private final DesignResultCache cache;
+
+    /**
+     * Constructor. Uses all available processors.
+     */
+    public BatchDesignEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism number of worker threads
+     */
+    public BatchDesignEngine(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism number of worker threads
+     * @param cache       design result cache, null to calculate every request
+     */
+    public BatchDesignEngine(int parallelism, DesignResultCache cache) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_PARALLELISM);
+        }
+        this.parallelism = parallelism;
+        this.cache = cache;
+    }
+
+    /**
+     * Designs all sections in the list. Results are returned in the same order as the requests.
+     *
+     * @param requests list of design requests
+     * @return batch report including results
+     */
+    public BatchReport run(List<DesignRequest> requests) {
+        long start = System.nanoTime();
+        List<DesignResult> results = Utility.invokeInForkJoinPool(parallelism, () -> requests.parallelStream()
+                .map(request -> design(request, cache))
+                .collect(Collectors.toList()));
+        long elapsed = System.nanoTime() - start;
+        long failed = results.stream().filter(result -> !result.isPassed()).count();
+
+        return new BatchReport(results, results.size(), failed, elapsed);
+    }
+
+    /**
+     * Designs all sections in the stream and passes each result to the consumer as soon as it is calculated.
+     * Results are not kept in memory, so the method can be used for very large batches. Consumer is called from worker threads and must be thread safe.
+     *
+     * @param requests stream of design requests
+     * @param consumer thread safe result consumer
+     * @return batch report without results
+     */
+    public BatchReport run(Stream<DesignRequest> requests, Consumer<DesignResult> consumer) {
+        LongAdder count = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long start = System.nanoTime();
+        Utility.invokeInForkJoinPool(parallelism, () -> {
+            requests.parallel()
+                    .map(request -> design(request, cache))
+                    .forEach(result -> {
+                        count.increment();
+                        if (!result.isPassed()) {
+                            failed.increment();
+                        }
+                        consumer.accept(result);
+                    });
+            return null;
+        });
+        long elapsed = System.nanoTime() - start;
+
+        return new BatchReport(Collections.emptyList(), count.sum(), failed.sum(), elapsed);
+    }
+
+    /**
+     * Calculates projects in parallel. Each project is converted to an immutable design request and the results are stored back in that project,
+     * so projects must not be shared with the GUI while the batch is running.
+     *
+     * @param projects list of independent projects
+     * @return batch report including results
+     */
+    public BatchReport runProjects(List<Project> projects) {
+        List<DesignRequest> requests = projects.stream()
+                .map(Project::toDesignRequest)
+                .collect(Collectors.toList());
+        BatchReport report = run(requests);
+        for (int i = 0; i < projects.size(); i++) {
+            Project project = projects.get(i);
+            project.resetResults();
+            project.setResults(report.getResults().get(i));
+        }
+
+        return report;
+    }
+
+    /**
+     * Runs a parametric sweep and passes the results to the writers block by block, in grid order.
+     * Points of each block are evaluated in parallel, while the previous block is being written, so only two blocks are held in memory.
+     * Writers are not closed by this method.
+     *
+     * @param sweep     parametric sweep
+     * @param blockSize number of points in a block
+     * @param writers   list of sweep writers
+     * @return batch report without results, points with reinforcement that does not fit are counted as failed
+     * @throws IOException if results can't be written
+     */
+    public BatchReport runSweep(ParametricSweep sweep, int blockSize, List<SweepWriter> writers) throws IOException {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_BLOCK_SIZE);
+        }
+        long start = System.nanoTime();
+        long failed;
+        try {
+            failed = Utility.invokeInForkJoinPool(parallelism, () -> runSweepBlocks(sweep, blockSize, writers, cache));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new BatchReport(Collections.emptyList(), sweep.getSize(), failed, elapsed);
+    }
+
+    /**
+     * Evaluates sweep blocks and writes them. Next block is forked before the current one is written.
+     * Must be called from a fork join pool worker.
+     *
+     * @param sweep     parametric sweep
+     * @param blockSize number of points in a block
+     * @param writers   list of sweep writers
+     * @param cache     design result cache, can be null
+     * @return number of points that did not pass all the checks
+     */
+    private static long runSweepBlocks(ParametricSweep sweep, int blockSize, List<SweepWriter> writers, DesignResultCache cache) {
+        long size = sweep.getSize();
+        long failed = 0;
+        SweepBlock current = new SweepBlock(blockSize);
+        SweepBlock next = new SweepBlock(blockSize);
+        current.reset(0, (int) Math.min(blockSize, size));
+        evaluateSweepBlock(sweep, current, cache);
+
+        while (current.getSize() > 0) {
+            long nextStartIndex = current.getStartIndex() + current.getSize();
+            next.reset(nextStartIndex, (int) Math.min(blockSize, size - nextStartIndex));
+            SweepBlock nextBlock = next;
+            ForkJoinTask<?> nextBlockTask = ForkJoinTask.adapt(() -> evaluateSweepBlock(sweep, nextBlock, cache)).fork();
+            try {
+                for (int row = 0; row < current.getSize(); row++) {
+                    if (!current.isPassed(row)) {
+                        failed++;
+                    }
+                }
+                for (SweepWriter writer : writers) {
+                    writer.write(current);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                nextBlockTask.join();
+            }
+            next = current;
+            current = nextBlock;
+        }
+
+        return failed;
+    }
+
+    /**
+     * Evaluates all points of the block in parallel.
+     *
+     * @param sweep parametric sweep
+     * @param block block to evaluate
+     * @param cache design result cache, can be null
+     */
+    private static void evaluateSweepBlock(ParametricSweep sweep, SweepBlock block, DesignResultCache cache) {
+        IntStream.range(0, block.getSize())
+                .parallel()
+                .forEach(row -> sweep.evaluate(block.getStartIndex() + row, block, row, cache));
+    }
+
+    /**
+     * Designs all sections of a schedule and writes the results in the same row order. The schedule is processed in chunks of lines.
+     * While a chunk is designed in parallel, results of the previous chunk are written and the next chunk is read,
+     * so only two chunks are held in memory. Rows that can't be parsed are written with their id and an error message and do not stop the batch.
+     * Reader and writer are not closed by this method.
+     *
+     * @param reader    schedule reader
+     * @param writer    result writer
+     * @param chunkSize number of lines in a chunk
+     * @return batch report without results
+     * @throws IOException if schedule can't be read or results can't be written
+     */
+    public BatchReport runSchedule(ScheduleReader reader, ScheduleResultWriter writer, int chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_BLOCK_SIZE);
+        }
+        long start = System.nanoTime();
+        try {
+            return Utility.invokeInForkJoinPool(parallelism, () -> runScheduleChunks(reader, writer, chunkSize, start, cache));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads, designs and writes schedule chunks. Two line and result buffers are used alternately.
+     * Must be called from a fork join pool worker.
+     *
+     * @param reader    schedule reader
+     * @param writer    result writer
+     * @param chunkSize number of lines in a chunk
+     * @param start     start time in nanoseconds
+     * @param cache     design result cache, can be null
+     * @return batch report without results
+     */
+    private static BatchReport runScheduleChunks(ScheduleReader reader, ScheduleResultWriter writer, int chunkSize, long start, DesignResultCache cache) {
+        String[][] lines = new String[2][chunkSize];
+        DesignResult[][] results = new DesignResult[2][chunkSize];
+        long numberOfRows = 0;
+        long failed = 0;
+        int current = 0;
+        int previousSize = 0;
+        try {
+            int size = reader.read(lines[current]);
+            while (size > 0 || previousSize > 0) {
+                String[] chunkLines = lines[current];
+                DesignResult[] chunkResults = results[current];
+                int chunkLength = size;
+                ForkJoinTask<?> chunkTask = ForkJoinTask.adapt(() -> designScheduleChunk(reader, chunkLines, chunkResults, chunkLength, cache)).fork();
+                int nextSize;
+                try {
+                    DesignResult[] previousResults = results[1 - current];
+                    for (int i = 0; i < previousSize; i++) {
+                        if (!previousResults[i].isPassed()) {
+                            failed++;
+                        }
+                    }
+                    writer.write(numberOfRows + 1, previousResults, previousSize);
+                    numberOfRows += previousSize;
+                    nextSize = reader.read(lines[1 - current]);
+                } finally {
+                    chunkTask.join();
+                }
+                previousSize = size;
+                size = nextSize;
+                current = 1 - current;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new BatchReport(Collections.emptyList(), numberOfRows, failed, System.nanoTime() - start);
+    }
+
+    /**
+     * Parses and designs all lines of the chunk in parallel.
+     *
+     * @param reader  schedule reader
+     * @param lines   schedule lines
+     * @param results array for results
+     * @param size    number of lines
+     * @param cache   design result cache, can be null
+     */
+    private static void designScheduleChunk(ScheduleReader reader, String[] lines, DesignResult[] results, int size, DesignResultCache cache) {
+        IntStream.range(0, size)
+                .parallel()
+                .forEach(i -> {
+                    DesignRequest request;
+                    try {
+                        request = reader.parse(lines[i]);
+                    } catch (IllegalArgumentException e) {
+                        DesignRequest invalidRequest = new DesignRequest(reader.getId(lines[i]), "", null, null, null, null, 0, 0, 0);
+                        results[i] = DesignResult.error(invalidRequest, e.getMessage());
+                        return;
+                    }
+                    results[i] = design(request, cache);
+                });
+    }
+
+    /**
+     * Designs a single section. Invalid requests do not stop the batch. Their error message is stored in the result instead.
+     *
+     * @param request design request
+     * @return design result
+     */
+    public static DesignResult design(DesignRequest request) {
+        return design(request, null);
+    }
+
+    /**
+     * Designs a single section using the cache. Invalid requests do not stop the batch. Their error message is stored in the result instead.
+     *
+     * @param request design request
+     * @param cache   design result cache, null to calculate the request
+     * @return design result
+     */
+    public static DesignResult design(DesignRequest request, DesignResultCache cache) {
+        try {
+            return cache == null ? request.calculate() : cache.calculate(request);
+        } catch (IllegalArgumentException e) {
+            return DesignResult.error(request, e.getMessage());
+        }
+    }
+
+    /**
+     * Getter for parallelism.
+     *
+     * @return number of worker threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Getter for design result cache.
+     *
+     * @return design result cache, null if results are not cached
+     */
+    public DesignResultCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,99 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.model.DesignResult;
+
+import java.util.List;
+
+/**
+ * Summary of a batch run. It includes number of designed and failed sections, elapsed time and throughput.
+ * Results are included only if the batch was run for a list of requests. Streamed runs pass the results to a consumer instead.
+ */
+public class BatchReport {
+    private final List<DesignResult> results;
+    private final long numberOfSections;
+    private final long numberOfFailedSections;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param results                list of results, empty if results were streamed to a consumer
+     * @param numberOfSections       number of sections designed
+     * @param numberOfFailedSections number of sections that did not pass all the checks
+     * @param elapsedNanos           elapsed time in nanoseconds
+     */
+    public BatchReport(List<DesignResult> results, long numberOfSections, long numberOfFailedSections, long elapsedNanos) {
+        this.results = List.copyOf(results);
+        this.numberOfSections = numberOfSections;
+        this.numberOfFailedSections = numberOfFailedSections;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Calculates throughput of the batch.
+     *
+     * @return number of sections designed per second
+     */
+    public double getSectionsPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return numberOfSections * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets elapsed time in milliseconds.
+     *
+     * @return elapsed time in ms
+     */
+    public double getElapsedMillis() {
+        return elapsedNanos / 1e6;
+    }
+
+    /**
+     * Getter for results.
+     *
+     * @return list of results
+     */
+    public List<DesignResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Getter for number of sections.
+     *
+     * @return number of sections designed
+     */
+    public long getNumberOfSections() {
+        return numberOfSections;
+    }
+
+    /**
+     * Getter for number of failed sections.
+     *
+     * @return number of sections that did not pass all the checks
+     */
+    public long getNumberOfFailedSections() {
+        return numberOfFailedSections;
+    }
+
+    /**
+     * Getter for elapsed time.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets a short summary of the batch run.
+     *
+     * @return summary of the run
+     */
+    @Override
+    public String toString() {
+        return String.format("%d sections, %d failed, %.1f ms, %.0f sections/s",
+                numberOfSections, numberOfFailedSections, getElapsedMillis(), getSectionsPerSecond());
+    }
+}
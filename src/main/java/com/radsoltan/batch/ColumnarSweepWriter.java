@@ -0,0 +1,77 @@
+package com.radsoltan.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes parametric sweep results to a compact columnar binary file. Each block is stored as a row group, in which values of each column
+ * are written one after another, so that a single column can be read without parsing the whole file.
+ * <p>
+ * Schema - version 1, all values big endian:
+ * <pre>
+ * header     int magic "RCSW", short version, short number of columns, then for each column: UTF name, byte integer flag
+ * row group  int number of rows, long grid index of the first row, then for each column: int or double values for all rows
+ * end        int 0
+ * </pre>
+ * Concrete class is stored as ordinal of Concrete enum, feasible and passed flags are stored as 0 or 1.
+ */
+public class ColumnarSweepWriter implements SweepWriter {
+    public static final int MAGIC = 0x52435357;
+    public static final short VERSION = 1;
+
+    private final DataOutputStream output;
+
+    /**
+     * Constructor. Writes the header.
+     *
+     * @param outputStream output stream, closed with this writer
+     * @throws IOException if header can't be written
+     */
+    public ColumnarSweepWriter(OutputStream outputStream) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeShort(SweepColumn.values().length);
+        for (SweepColumn column : SweepColumn.values()) {
+            output.writeUTF(column.getName());
+            output.writeBoolean(column.isInteger());
+        }
+    }
+
+    /**
+     * Writes the block as a row group.
+     *
+     * @param block calculated block
+     * @throws IOException if block can't be written
+     */
+    @Override
+    public void write(SweepBlock block) throws IOException {
+        if (block.getSize() == 0) {
+            return;
+        }
+        output.writeInt(block.getSize());
+        output.writeLong(block.getStartIndex());
+        for (SweepColumn column : SweepColumn.values()) {
+            for (int row = 0; row < block.getSize(); row++) {
+                if (column.isInteger()) {
+                    output.writeInt(block.getInt(column, row));
+                } else {
+                    output.writeDouble(block.getDouble(column, row));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes end marker, flushes and closes the underlying stream.
+     *
+     * @throws IOException if stream can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        output.writeInt(0);
+        output.close();
+    }
+}
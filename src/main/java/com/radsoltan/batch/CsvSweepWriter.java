@@ -0,0 +1,70 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.model.Concrete;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes parametric sweep results as comma separated values. The first column is the grid index, followed by all sweep columns.
+ * Concrete class is written as enum name. Each block is formatted to a single reused buffer and written in one call.
+ */
+public class CsvSweepWriter implements SweepWriter {
+    private static final Concrete[] CONCRETES = Concrete.values();
+
+    private final Writer writer;
+    private final StringBuilder buffer;
+
+    /**
+     * Constructor. Writes the header line.
+     *
+     * @param writer writer, preferably buffered, closed with this writer
+     * @throws IOException if header can't be written
+     */
+    public CsvSweepWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        this.buffer = new StringBuilder();
+        buffer.append("index");
+        for (SweepColumn column : SweepColumn.values()) {
+            buffer.append(',').append(column.getName());
+        }
+        buffer.append('\n');
+        writer.write(buffer.toString());
+    }
+
+    /**
+     * Writes all points of the block as lines of the file.
+     *
+     * @param block calculated block
+     * @throws IOException if block can't be written
+     */
+    @Override
+    public void write(SweepBlock block) throws IOException {
+        buffer.setLength(0);
+        for (int row = 0; row < block.getSize(); row++) {
+            buffer.append(block.getStartIndex() + row);
+            for (SweepColumn column : SweepColumn.values()) {
+                buffer.append(',');
+                if (column == SweepColumn.CONCRETE) {
+                    buffer.append(CONCRETES[block.getInt(column, row)].name());
+                } else if (column.isInteger()) {
+                    buffer.append(block.getInt(column, row));
+                } else {
+                    buffer.append(block.getDouble(column, row));
+                }
+            }
+            buffer.append('\n');
+        }
+        writer.append(buffer);
+    }
+
+    /**
+     * Flushes and closes the underlying writer.
+     *
+     * @throws IOException if writer can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,346 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.DesignResultCache;
+import com.radsoltan.model.ValidateBeam;
+import com.radsoltan.model.ValidateSlab;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parametric study of a single beam or slab section. Any subset of width, depth, concrete class, nominal cover, bar diameter,
+ * number of bars and ULS moment is varied over a grid, the remaining properties are taken from the base request.
+ * <p>
+ * Grid points are not stored. Each point is decoded from its index, with ULS moment varying fastest and width slowest.
+ * Geometries, design parameters and reinforcement for all values of the axes are created once in the constructor and shared by all points.
+ * <p>
+ * Bar diameter and number of bars replace the first row (beams) or layer (slabs) of the tensile face, that is bottom face for sagging
+ * and top face for hogging moments. For slabs, number of bars is per metre width and it is converted to bar spacing.
+ * SLS moment is scaled with the ULS moment using the ratio from the base request.
+ */
+public class ParametricSweep {
+    private static final int SAGGING = 0;
+    private static final int HOGGING = 1;
+
+    private final DesignRequest baseRequest;
+    private final boolean isBeam;
+    private final int[] widths;
+    private final int[] depths;
+    private final Concrete[] concretes;
+    private final int[] covers;
+    private final int[] barDiameters;
+    private final int[] numbersOfBars;
+    private final double[] UlsMoments;
+    private final double SlsToUlsRatio;
+    private final boolean isReinforcementVaried;
+    private final boolean isNumberOfBarsVaried;
+    private final long size;
+    private final Geometry[] geometries;
+    private final DesignParameters[] designParameters;
+    private final Reinforcement[] reinforcements;
+
+    /**
+     * Constructor. Empty or null list means that the property is taken from the base request.
+     *
+     * @param baseRequest   request with properties that are not varied, beams must be rectangular
+     * @param widths        beam widths in mm, must be empty for slabs
+     * @param depths        beam depths or slab thicknesses in mm
+     * @param concretes     concrete classes
+     * @param covers        nominal covers in mm, used for all faces
+     * @param barDiameters  diameters of tensile bars in mm
+     * @param numbersOfBars number of tensile bars in the first row, or per metre for slabs, each at least 1
+     * @param UlsMoments    ULS moments in kNm or kNm/m
+     * @throws IllegalArgumentException if element type, geometry or reinforcement of the base request or numbers of bars are invalid
+     */
+    public ParametricSweep(DesignRequest baseRequest, List<Integer> widths, List<Integer> depths,
+                           List<Concrete> concretes, List<Integer> covers, List<Integer> barDiameters,
+                           List<Integer> numbersOfBars, List<Double> UlsMoments) {
+        this.baseRequest = baseRequest;
+        switch (baseRequest.getElementType().toLowerCase()) {
+            case Constants.ELEMENT_TYPE_SLAB:
+                if (!(baseRequest.getGeometry().getSection() instanceof SlabStrip)) {
+                    throw new IllegalArgumentException(UIText.INVALID_SLAB_GEOMETRY);
+                }
+                if (!(baseRequest.getReinforcement() instanceof SlabReinforcement)) {
+                    throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
+                }
+                if (widths != null && !widths.isEmpty()) {
+                    throw new IllegalArgumentException(UIText.INVALID_SWEEP_WIDTH);
+                }
+                this.isBeam = false;
+                break;
+            case Constants.ELEMENT_TYPE_BEAM:
+                if (!(baseRequest.getGeometry().getSection() instanceof Rectangle)) {
+                    // Only rectangular sections are supported as of now
+                    throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
+                }
+                if (!(baseRequest.getReinforcement() instanceof BeamReinforcement)) {
+                    throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
+                }
+                this.isBeam = true;
+                break;
+            default:
+                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+        }
+        if (numbersOfBars != null && numbersOfBars.stream().anyMatch(numberOfBars -> numberOfBars < 1)) {
+            throw new IllegalArgumentException(UIText.INVALID_SWEEP_NUMBER_OF_BARS);
+        }
+        DesignParameters baseParameters = baseRequest.getDesignParameters();
+        List<Integer> baseTensileRow = getBaseTensileRow();
+
+        this.widths = toIntArray(widths, baseRequest.getGeometry().getWidth());
+        this.depths = toIntArray(depths, baseRequest.getGeometry().getDepth());
+        this.concretes = concretes == null || concretes.isEmpty() ?
+                new Concrete[]{baseRequest.getConcrete()} :
+                concretes.toArray(new Concrete[0]);
+        this.covers = toIntArray(covers, baseParameters.getNominalCoverBottom());
+        this.barDiameters = toIntArray(barDiameters, baseTensileRow.get(0));
+        this.numbersOfBars = toIntArray(numbersOfBars, baseTensileRow.get(1));
+        this.UlsMoments = UlsMoments == null || UlsMoments.isEmpty() ?
+                new double[]{baseRequest.getUlsMoment()} :
+                UlsMoments.stream().mapToDouble(Double::doubleValue).toArray();
+        this.SlsToUlsRatio = baseRequest.getUlsMoment() != 0 ? baseRequest.getSlsMoment() / baseRequest.getUlsMoment() : 0;
+        this.isNumberOfBarsVaried = numbersOfBars != null && !numbersOfBars.isEmpty();
+        this.isReinforcementVaried = (barDiameters != null && !barDiameters.isEmpty()) || isNumberOfBarsVaried;
+        this.size = (long) this.widths.length * this.depths.length * this.concretes.length * this.covers.length
+                * this.barDiameters.length * this.numbersOfBars.length * this.UlsMoments.length;
+
+        this.geometries = new Geometry[this.widths.length * this.depths.length];
+        for (int i = 0; i < this.widths.length; i++) {
+            for (int j = 0; j < this.depths.length; j++) {
+                geometries[i * this.depths.length + j] = isBeam ?
+                        new Geometry(new Rectangle(this.widths[i], this.depths[j])) :
+                        new Geometry(new SlabStrip(this.depths[j]));
+            }
+        }
+        this.designParameters = new DesignParameters[this.covers.length];
+        for (int i = 0; i < this.covers.length; i++) {
+            designParameters[i] = covers == null || covers.isEmpty() ? baseParameters : withCover(baseParameters, this.covers[i]);
+        }
+        this.reinforcements = new Reinforcement[this.barDiameters.length * this.numbersOfBars.length * 2];
+        for (int i = 0; i < this.barDiameters.length; i++) {
+            for (int j = 0; j < this.numbersOfBars.length; j++) {
+                int index = (i * this.numbersOfBars.length + j) * 2;
+                reinforcements[index + SAGGING] = getReinforcement(this.barDiameters[i], this.numbersOfBars[j], false);
+                reinforcements[index + HOGGING] = getReinforcement(this.barDiameters[i], this.numbersOfBars[j], true);
+            }
+        }
+    }
+
+    /**
+     * Evaluates a grid point and stores inputs and results in given row of the block.
+     * Reinforcement layouts that do not fit in the section are not calculated, these are stored as not feasible and not passed, with NaN utilisations.
+     *
+     * @param index grid index
+     * @param block block to store the results in
+     * @param row   row in the block
+     */
+    public void evaluate(long index, SweepBlock block, int row) {
+        evaluate(index, block, row, null);
+    }
+
+    /**
+     * Evaluates a grid point using the cache and stores inputs and results in given row of the block.
+     * Points repeated across sweeps with overlapping grids are then calculated only once.
+     *
+     * @param index grid index
+     * @param block block to store the results in
+     * @param row   row in the block
+     * @param cache design result cache, null to calculate the point
+     */
+    public void evaluate(long index, SweepBlock block, int row, DesignResultCache cache) {
+        int momentIndex = (int) (index % UlsMoments.length);
+        index /= UlsMoments.length;
+        int numberOfBarsIndex = (int) (index % numbersOfBars.length);
+        index /= numbersOfBars.length;
+        int barDiameterIndex = (int) (index % barDiameters.length);
+        index /= barDiameters.length;
+        int coverIndex = (int) (index % covers.length);
+        index /= covers.length;
+        int concreteIndex = (int) (index % concretes.length);
+        index /= concretes.length;
+        int depthIndex = (int) (index % depths.length);
+        int widthIndex = (int) (index / depths.length);
+
+        double UlsMoment = UlsMoments[momentIndex];
+        Geometry geometry = geometries[widthIndex * depths.length + depthIndex];
+        DesignParameters parameters = designParameters[coverIndex];
+        Reinforcement reinforcement = reinforcements[(barDiameterIndex * numbersOfBars.length + numberOfBarsIndex) * 2 + (UlsMoment >= 0 ? SAGGING : HOGGING)];
+
+        block.setInt(SweepColumn.WIDTH, row, widths[widthIndex]);
+        block.setInt(SweepColumn.DEPTH, row, depths[depthIndex]);
+        block.setInt(SweepColumn.CONCRETE, row, concretes[concreteIndex].ordinal());
+        block.setInt(SweepColumn.COVER, row, covers[coverIndex]);
+        block.setInt(SweepColumn.BAR_DIAMETER, row, barDiameters[barDiameterIndex]);
+        block.setInt(SweepColumn.NUMBER_OF_BARS, row, numbersOfBars[numberOfBarsIndex]);
+        block.setDouble(SweepColumn.ULS_MOMENT, row, UlsMoment);
+
+        boolean isFeasible;
+        try {
+            isFeasible = isBeam ?
+                    ValidateBeam.isValid(geometry, (BeamReinforcement) reinforcement, parameters) :
+                    ValidateSlab.isValid(geometry.getDepth(), (SlabReinforcement) reinforcement, parameters);
+        } catch (IllegalArgumentException e) {
+            // Reinforcement that can't be validated does not stop the sweep, the grid point is not feasible
+            isFeasible = false;
+        }
+        if (!isFeasible) {
+            block.setInt(SweepColumn.FEASIBLE, row, 0);
+            block.setInt(SweepColumn.PASSED, row, 0);
+            block.setDouble(SweepColumn.FLEXURE_UTILISATION, row, Double.NaN);
+            block.setDouble(SweepColumn.SHEAR_UTILISATION, row, Double.NaN);
+            block.setDouble(SweepColumn.CRACKING_UTILISATION, row, Double.NaN);
+            return;
+        }
+        DesignRequest request = new DesignRequest(baseRequest.getId(), baseRequest.getElementType(), geometry, reinforcement,
+                parameters, concretes[concreteIndex], UlsMoment, UlsMoment * SlsToUlsRatio, baseRequest.getUlsShear());
+        DesignResult result = BatchDesignEngine.design(request, cache);
+
+        block.setInt(SweepColumn.FEASIBLE, row, 1);
+        block.setInt(SweepColumn.PASSED, row, result.isPassed() ? 1 : 0);
+        block.setDouble(SweepColumn.FLEXURE_UTILISATION, row, result.getFlexureCheck().getUtilisation());
+        block.setDouble(SweepColumn.SHEAR_UTILISATION, row, result.getShearCheck().getUtilisation());
+        block.setDouble(SweepColumn.CRACKING_UTILISATION, row, result.getCrackingCheck().getUtilisation());
+    }
+
+    /**
+     * Gets diameter of the first bar and number of bars in the first row or layer of the base reinforcement for sagging.
+     *
+     * @return list with bar diameter and number of bars
+     */
+    private List<Integer> getBaseTensileRow() {
+        Reinforcement reinforcement = baseRequest.getReinforcement();
+        if (isBeam) {
+            List<Integer> row = ((BeamReinforcement) reinforcement).getBottomDiameters().get(0);
+            return List.of(row.get(0), row.size());
+        }
+        SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
+        return List.of(slabReinforcement.getBottomDiameters().get(0), 1000 / slabReinforcement.getBottomSpacings().get(0));
+    }
+
+    /**
+     * Gets base reinforcement with the first row or layer of the tensile face replaced.
+     * If bar diameters and numbers of bars are not varied, base reinforcement is returned.
+     * For slabs, bar spacing is only changed if numbers of bars are varied, otherwise spacing of the base layer is kept.
+     *
+     * @param barDiameter  bar diameter in mm
+     * @param numberOfBars number of bars in the row, or per metre for slabs
+     * @param isHogging    true if top face is in tension
+     * @return reinforcement
+     */
+    private Reinforcement getReinforcement(int barDiameter, int numberOfBars, boolean isHogging) {
+        Reinforcement reinforcement = baseRequest.getReinforcement();
+        if (!isReinforcementVaried) {
+            return reinforcement;
+        }
+        if (isBeam) {
+            BeamReinforcement beamReinforcement = (BeamReinforcement) reinforcement;
+            List<List<Integer>> topDiameters = beamReinforcement.getTopDiameters();
+            List<List<Integer>> bottomDiameters = beamReinforcement.getBottomDiameters();
+            List<Integer> row = Collections.nCopies(numberOfBars, barDiameter);
+            return new BeamReinforcement(
+                    isHogging ? replaceFirst(topDiameters, row) : topDiameters,
+                    beamReinforcement.getTopVerticalSpacings(),
+                    isHogging ? bottomDiameters : replaceFirst(bottomDiameters, row),
+                    beamReinforcement.getBottomVerticalSpacings(),
+                    beamReinforcement.getShearLinks());
+        }
+        SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
+        List<Integer> tensileSpacings = isHogging ? slabReinforcement.getTopSpacings() : slabReinforcement.getBottomSpacings();
+        int spacing;
+        if (isNumberOfBarsVaried) {
+            spacing = 1000 / numberOfBars;
+        } else {
+            // Top face may have no bars in the base request, spacing of the bottom layer is used then
+            spacing = tensileSpacings.isEmpty() ? slabReinforcement.getBottomSpacings().get(0) : tensileSpacings.get(0);
+        }
+        // A face without bars gets a layer without additional bars
+        return new SlabReinforcement(
+                isHogging ? replaceFirst(slabReinforcement.getTopDiameters(), barDiameter) : slabReinforcement.getTopDiameters(),
+                isHogging && slabReinforcement.getAdditionalTopDiameters().isEmpty() ? List.of(0) : slabReinforcement.getAdditionalTopDiameters(),
+                isHogging ? replaceFirst(slabReinforcement.getTopSpacings(), spacing) : slabReinforcement.getTopSpacings(),
+                slabReinforcement.getTopVerticalSpacings(),
+                isHogging ? slabReinforcement.getBottomDiameters() : replaceFirst(slabReinforcement.getBottomDiameters(), barDiameter),
+                !isHogging && slabReinforcement.getAdditionalBottomDiameters().isEmpty() ? List.of(0) : slabReinforcement.getAdditionalBottomDiameters(),
+                isHogging ? slabReinforcement.getBottomSpacings() : replaceFirst(slabReinforcement.getBottomSpacings(), spacing),
+                slabReinforcement.getBottomVerticalSpacings());
+    }
+
+    /**
+     * Copies design parameters with the same nominal cover for all faces. Side cover of slabs is not changed.
+     *
+     * @param designParameters design parameters
+     * @param cover            nominal cover in mm
+     * @return design parameters with new cover
+     */
+    private DesignParameters withCover(DesignParameters designParameters, int cover) {
+        return new DesignParameters(cover, isBeam ? cover : designParameters.getNominalCoverSides(), cover,
+                designParameters.getYieldStrength(), designParameters.getAggregateSize(),
+                designParameters.getPartialFactorOfSafetyForConcrete(), designParameters.getPartialFactorOfSafetyForSteel(),
+                designParameters.getRedistributionRatio(), designParameters.isRecommendedRatio(),
+                designParameters.isIncludeCrackingCalculations(), designParameters.getCrackWidthLimit());
+    }
+
+    /**
+     * Copies the list and replaces its first element. If the list is empty, the element is added.
+     *
+     * @param list    list
+     * @param element new first element
+     * @param <T>     type of list elements
+     * @return new list
+     */
+    private static <T> List<T> replaceFirst(List<T> list, T element) {
+        List<T> copy = new ArrayList<>(list);
+        if (copy.isEmpty()) {
+            copy.add(element);
+        } else {
+            copy.set(0, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Converts list of values to an array. If the list is empty, the array includes only the base value.
+     *
+     * @param values    list of values, can be null
+     * @param baseValue value from the base request
+     * @return array of values
+     */
+    private static int[] toIntArray(List<Integer> values, int baseValue) {
+        if (values == null || values.isEmpty()) {
+            return new int[]{baseValue};
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Getter for number of grid points.
+     *
+     * @return number of points
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Getter for base request.
+     *
+     * @return base request
+     */
+    public DesignRequest getBaseRequest() {
+        return baseRequest;
+    }
+}
@@ -0,0 +1,71 @@
+package com.radsoltan.batch;
+
+/**
+ * Enum with columns of a section schedule CSV file. Columns are matched with header names, ignoring case, and can be in any order.
+ * <p>
+ * Beam bar diameters are written per bar, separated with spaces, and rows are separated with '|', e.g. "25 25 25|16 16".
+ * Slab diameters, spacings and vertical spacings are written per layer, separated with spaces, e.g. "12 10".
+ * Design parameter columns are optional, missing values are taken from default design parameters of the reader.
+ */
+public enum ScheduleColumn {
+    ID("id", true),
+    ELEMENT_TYPE("elementType", true),
+    WIDTH("width", false),
+    DEPTH("depth", true),
+    FLANGE_WIDTH("flangeWidth", false),
+    FLANGE_THICKNESS("flangeThickness", false),
+    CONCRETE("concrete", true),
+    ULS_MOMENT("UlsMoment", true),
+    SLS_MOMENT("SlsMoment", false),
+    ULS_SHEAR("UlsShear", false),
+    TOP_DIAMETERS("topDiameters", true),
+    ADDITIONAL_TOP_DIAMETERS("additionalTopDiameters", false),
+    TOP_SPACINGS("topSpacings", false),
+    TOP_VERTICAL_SPACINGS("topVerticalSpacings", false),
+    BOTTOM_DIAMETERS("bottomDiameters", true),
+    ADDITIONAL_BOTTOM_DIAMETERS("additionalBottomDiameters", false),
+    BOTTOM_SPACINGS("bottomSpacings", false),
+    BOTTOM_VERTICAL_SPACINGS("bottomVerticalSpacings", false),
+    LINK_DIAMETER("linkDiameter", false),
+    LINK_SPACING("linkSpacing", false),
+    LINK_LEGS("linkLegs", false),
+    LINK_YIELD_STRENGTH("linkYieldStrength", false),
+    COVER_TOP("coverTop", false),
+    COVER_SIDES("coverSides", false),
+    COVER_BOTTOM("coverBottom", false),
+    YIELD_STRENGTH("yieldStrength", false),
+    AGGREGATE_SIZE("aggregateSize", false),
+    CRACK_WIDTH_LIMIT("crackWidthLimit", false);
+
+    private final String name;
+    private final boolean isRequired;
+
+    /**
+     * Enum constructor.
+     *
+     * @param name       column name in the header
+     * @param isRequired true if the column must be included in the header
+     */
+    ScheduleColumn(String name, boolean isRequired) {
+        this.name = name;
+        this.isRequired = isRequired;
+    }
+
+    /**
+     * Getter for column name.
+     *
+     * @return column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for isRequired field.
+     *
+     * @return true if the column must be included in the header
+     */
+    public boolean isRequired() {
+        return isRequired;
+    }
+}
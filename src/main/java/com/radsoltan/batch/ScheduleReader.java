@@ -0,0 +1,537 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Streaming reader for section schedule CSV files with one member per row, see ScheduleColumn for the list of columns.
+ * The header is read in the constructor and the remaining lines are read in chunks, so files of any size can be processed.
+ * <p>
+ * Lines are parsed into DesignRequest objects by the parse method, which is thread safe and can be called in parallel.
+ * Fields are located by scanning the line once, integers are parsed directly from the line without creating substrings.
+ * Beams with flange width are parsed as T sections, other beams as rectangles. Slabs are parsed as slab strips.
+ */
+public class ScheduleReader implements Closeable {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char ROW_SEPARATOR = '|';
+    private static final char VALUE_SEPARATOR = ' ';
+    private static final Concrete[] CONCRETES = Concrete.values();
+
+    private final BufferedReader reader;
+    private final DesignParameters defaultParameters;
+    private final int[] columnIndices;
+    private final int numberOfFields;
+    private final boolean hasDesignParameterColumns;
+
+    /**
+     * Constructor. Reads the header line and maps columns to fields.
+     *
+     * @param reader            reader with CSV contents, closed with this reader
+     * @param defaultParameters design parameters used if values are not included in the schedule
+     * @throws IOException              if header can't be read
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    public ScheduleReader(Reader reader, DesignParameters defaultParameters) throws IOException {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, 1 << 16);
+        this.defaultParameters = defaultParameters;
+        this.columnIndices = new int[ScheduleColumn.values().length];
+
+        String header = this.reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException(UIText.EMPTY_SCHEDULE);
+        }
+        int[] bounds = getFieldBounds(header, Integer.MAX_VALUE);
+        this.numberOfFields = bounds.length / 2;
+        for (ScheduleColumn column : ScheduleColumn.values()) {
+            columnIndices[column.ordinal()] = -1;
+            for (int i = 0; i < numberOfFields; i++) {
+                int start = bounds[2 * i];
+                int length = bounds[2 * i + 1] - start;
+                if (length == column.getName().length() && header.regionMatches(true, start, column.getName(), 0, length)) {
+                    columnIndices[column.ordinal()] = i;
+                    break;
+                }
+            }
+            if (column.isRequired() && columnIndices[column.ordinal()] == -1) {
+                throw new IllegalArgumentException(UIText.MISSING_SCHEDULE_COLUMN + column.getName());
+            }
+        }
+        this.hasDesignParameterColumns = isColumnIncluded(ScheduleColumn.COVER_TOP) || isColumnIncluded(ScheduleColumn.COVER_SIDES)
+                || isColumnIncluded(ScheduleColumn.COVER_BOTTOM) || isColumnIncluded(ScheduleColumn.YIELD_STRENGTH)
+                || isColumnIncluded(ScheduleColumn.AGGREGATE_SIZE) || isColumnIncluded(ScheduleColumn.CRACK_WIDTH_LIMIT);
+    }
+
+    /**
+     * Reads next lines of the schedule. Blank lines are skipped.
+     *
+     * @param lines array to be filled with lines
+     * @return number of lines read, 0 at the end of the file
+     * @throws IOException if lines can't be read
+     */
+    public int read(String[] lines) throws IOException {
+        int count = 0;
+        String line;
+        while (count < lines.length && (line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                lines[count++] = line;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Parses a schedule line into a design request. Thread safe.
+     *
+     * @param line schedule line
+     * @return design request
+     * @throws IllegalArgumentException if a value is missing or invalid
+     */
+    public DesignRequest parse(String line) {
+        int[] bounds = getFieldBounds(line, numberOfFields);
+        String id = getString(line, bounds, ScheduleColumn.ID);
+        DesignParameters designParameters = getDesignParameters(line, bounds);
+        Concrete concrete = getConcrete(line, bounds);
+        double UlsMoment = getDouble(line, bounds, ScheduleColumn.ULS_MOMENT, 0);
+        double SlsMoment = getDouble(line, bounds, ScheduleColumn.SLS_MOMENT, 0);
+        double UlsShear = getDouble(line, bounds, ScheduleColumn.ULS_SHEAR, 0);
+        int depth = getInt(line, bounds, ScheduleColumn.DEPTH);
+
+        if (isEqual(line, bounds, ScheduleColumn.ELEMENT_TYPE, Constants.ELEMENT_TYPE_SLAB)) {
+            return new DesignRequest(id, Constants.ELEMENT_TYPE_SLAB, new Geometry(new SlabStrip(depth)),
+                    getSlabReinforcement(line, bounds), designParameters, concrete, UlsMoment, SlsMoment, 0);
+        }
+        if (isEqual(line, bounds, ScheduleColumn.ELEMENT_TYPE, Constants.ELEMENT_TYPE_BEAM)) {
+            int width = getInt(line, bounds, ScheduleColumn.WIDTH);
+            int flangeWidth = getInt(line, bounds, ScheduleColumn.FLANGE_WIDTH, 0);
+            Geometry geometry = flangeWidth > 0 ?
+                    new Geometry(new TSection(width, depth, flangeWidth, getInt(line, bounds, ScheduleColumn.FLANGE_THICKNESS))) :
+                    new Geometry(new Rectangle(width, depth));
+            return new DesignRequest(id, Constants.ELEMENT_TYPE_BEAM, geometry, getBeamReinforcement(line, bounds, designParameters),
+                    designParameters, concrete, UlsMoment, SlsMoment, UlsShear);
+        }
+        throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+    }
+
+    /**
+     * Gets member id from a schedule line. Used to report rows that can't be parsed. Thread safe.
+     *
+     * @param line schedule line
+     * @return member id
+     */
+    public String getId(String line) {
+        return getString(line, getFieldBounds(line, numberOfFields), ScheduleColumn.ID);
+    }
+
+    /**
+     * Parses beam reinforcement including shear links. Yield strength of links defaults to yield strength of main bars and number of legs to 2.
+     *
+     * @param line             schedule line
+     * @param bounds           field bounds
+     * @param designParameters design parameters of the row
+     * @return beam reinforcement
+     */
+    private Reinforcement getBeamReinforcement(String line, int[] bounds, DesignParameters designParameters) {
+        ShearLinks shearLinks = new ShearLinks(
+                getInt(line, bounds, ScheduleColumn.LINK_YIELD_STRENGTH, designParameters.getYieldStrength()),
+                getInt(line, bounds, ScheduleColumn.LINK_DIAMETER),
+                getInt(line, bounds, ScheduleColumn.LINK_SPACING),
+                getInt(line, bounds, ScheduleColumn.LINK_LEGS, 2));
+
+        List<List<Integer>> topDiameters = getRows(line, bounds, ScheduleColumn.TOP_DIAMETERS);
+        List<Integer> topVerticalSpacings = getIntegers(line, bounds, ScheduleColumn.TOP_VERTICAL_SPACINGS);
+        List<List<Integer>> bottomDiameters = getRows(line, bounds, ScheduleColumn.BOTTOM_DIAMETERS);
+        List<Integer> bottomVerticalSpacings = getIntegers(line, bounds, ScheduleColumn.BOTTOM_VERTICAL_SPACINGS);
+        checkSize(topVerticalSpacings, topDiameters.size() - 1, ScheduleColumn.TOP_VERTICAL_SPACINGS);
+        checkSize(bottomVerticalSpacings, bottomDiameters.size() - 1, ScheduleColumn.BOTTOM_VERTICAL_SPACINGS);
+
+        return new BeamReinforcement(topDiameters, topVerticalSpacings, bottomDiameters, bottomVerticalSpacings, shearLinks);
+    }
+
+    /**
+     * Parses slab reinforcement. If additional bars are not included, layers have main bars only.
+     * Each face must have the same number of diameters and spacings, and one vertical spacing less.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @return slab reinforcement
+     */
+    private Reinforcement getSlabReinforcement(String line, int[] bounds) {
+        List<Integer> topDiameters = getIntegers(line, bounds, ScheduleColumn.TOP_DIAMETERS);
+        List<Integer> bottomDiameters = getIntegers(line, bounds, ScheduleColumn.BOTTOM_DIAMETERS);
+        List<Integer> additionalTopDiameters = getIntegers(line, bounds, ScheduleColumn.ADDITIONAL_TOP_DIAMETERS);
+        List<Integer> additionalBottomDiameters = getIntegers(line, bounds, ScheduleColumn.ADDITIONAL_BOTTOM_DIAMETERS);
+        List<Integer> topSpacings = getRequiredIntegers(line, bounds, ScheduleColumn.TOP_SPACINGS);
+        List<Integer> topVerticalSpacings = getIntegers(line, bounds, ScheduleColumn.TOP_VERTICAL_SPACINGS);
+        List<Integer> bottomSpacings = getRequiredIntegers(line, bounds, ScheduleColumn.BOTTOM_SPACINGS);
+        List<Integer> bottomVerticalSpacings = getIntegers(line, bounds, ScheduleColumn.BOTTOM_VERTICAL_SPACINGS);
+        if (additionalTopDiameters.isEmpty()) {
+            additionalTopDiameters = Collections.nCopies(topDiameters.size(), 0);
+        }
+        if (additionalBottomDiameters.isEmpty()) {
+            additionalBottomDiameters = Collections.nCopies(bottomDiameters.size(), 0);
+        }
+        checkSize(topDiameters, topSpacings.size(), ScheduleColumn.TOP_DIAMETERS);
+        checkSize(additionalTopDiameters, topSpacings.size(), ScheduleColumn.ADDITIONAL_TOP_DIAMETERS);
+        checkSize(topVerticalSpacings, topSpacings.size() - 1, ScheduleColumn.TOP_VERTICAL_SPACINGS);
+        checkSize(bottomDiameters, bottomSpacings.size(), ScheduleColumn.BOTTOM_DIAMETERS);
+        checkSize(additionalBottomDiameters, bottomSpacings.size(), ScheduleColumn.ADDITIONAL_BOTTOM_DIAMETERS);
+        checkSize(bottomVerticalSpacings, bottomSpacings.size() - 1, ScheduleColumn.BOTTOM_VERTICAL_SPACINGS);
+
+        return new SlabReinforcement(topDiameters, additionalTopDiameters, topSpacings, topVerticalSpacings,
+                bottomDiameters, additionalBottomDiameters, bottomSpacings, bottomVerticalSpacings);
+    }
+
+    /**
+     * Gets design parameters of the row. Default parameters are returned if the row does not change any of their values,
+     * so that rows share the same instance.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @return design parameters
+     */
+    private DesignParameters getDesignParameters(String line, int[] bounds) {
+        if (!hasDesignParameterColumns) {
+            return defaultParameters;
+        }
+        int coverTop = getInt(line, bounds, ScheduleColumn.COVER_TOP, defaultParameters.getNominalCoverTop());
+        int coverSides = getInt(line, bounds, ScheduleColumn.COVER_SIDES, defaultParameters.getNominalCoverSides());
+        int coverBottom = getInt(line, bounds, ScheduleColumn.COVER_BOTTOM, defaultParameters.getNominalCoverBottom());
+        int yieldStrength = getInt(line, bounds, ScheduleColumn.YIELD_STRENGTH, defaultParameters.getYieldStrength());
+        int aggregateSize = getInt(line, bounds, ScheduleColumn.AGGREGATE_SIZE, defaultParameters.getAggregateSize());
+        double crackWidthLimit = getDouble(line, bounds, ScheduleColumn.CRACK_WIDTH_LIMIT, defaultParameters.getCrackWidthLimit());
+
+        if (coverTop == defaultParameters.getNominalCoverTop() && coverSides == defaultParameters.getNominalCoverSides()
+                && coverBottom == defaultParameters.getNominalCoverBottom() && yieldStrength == defaultParameters.getYieldStrength()
+                && aggregateSize == defaultParameters.getAggregateSize() && crackWidthLimit == defaultParameters.getCrackWidthLimit()) {
+            return defaultParameters;
+        }
+        return new DesignParameters(coverTop, coverSides, coverBottom, yieldStrength, aggregateSize,
+                defaultParameters.getPartialFactorOfSafetyForConcrete(), defaultParameters.getPartialFactorOfSafetyForSteel(),
+                defaultParameters.getRedistributionRatio(), defaultParameters.isRecommendedRatio(),
+                defaultParameters.isIncludeCrackingCalculations(), crackWidthLimit);
+    }
+
+    /**
+     * Gets concrete class. Both enum names, e.g. C30_37, and class names, e.g. C30/37, are accepted.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @return concrete class
+     */
+    private Concrete getConcrete(String line, int[] bounds) {
+        int index = columnIndices[ScheduleColumn.CONCRETE.ordinal()];
+        int start = bounds[2 * index];
+        int length = bounds[2 * index + 1] - start;
+        for (Concrete concrete : CONCRETES) {
+            String name = concrete.name();
+            if (name.length() != length) {
+                continue;
+            }
+            boolean isMatch = true;
+            for (int i = 0; i < length && isMatch; i++) {
+                char character = Character.toUpperCase(line.charAt(start + i));
+                isMatch = character == name.charAt(i) || (character == '/' && name.charAt(i) == '_');
+            }
+            if (isMatch) {
+                return concrete;
+            }
+        }
+        throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + ScheduleColumn.CONCRETE.getName());
+    }
+
+    /**
+     * Gets beam reinforcement rows. Rows are separated with '|' and bar diameters with spaces.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @param column column
+     * @return list of rows
+     */
+    private List<List<Integer>> getRows(String line, int[] bounds, ScheduleColumn column) {
+        int index = columnIndices[column.ordinal()];
+        int start = bounds[2 * index];
+        int end = bounds[2 * index + 1];
+        List<List<Integer>> rows = new ArrayList<>();
+        while (start < end) {
+            int rowEnd = line.indexOf(ROW_SEPARATOR, start);
+            if (rowEnd == -1 || rowEnd > end) {
+                rowEnd = end;
+            }
+            List<Integer> row = parseIntegers(line, start, rowEnd, column);
+            if (row.isEmpty()) {
+                throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName());
+            }
+            rows.add(row);
+            start = rowEnd + 1;
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName());
+        }
+        return rows;
+    }
+
+    /**
+     * Checks number of values in a column, so that inconsistent reinforcement is reported for its row rather than failing during calculations.
+     *
+     * @param values values of the column
+     * @param size   expected number of values
+     * @param column column, used in error message
+     */
+    private static void checkSize(List<?> values, int size, ScheduleColumn column) {
+        if (values.size() != size) {
+            throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName());
+        }
+    }
+
+    /**
+     * Gets list of integers that must not be empty.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @param column column
+     * @return list of integers
+     */
+    private List<Integer> getRequiredIntegers(String line, int[] bounds, ScheduleColumn column) {
+        List<Integer> integers = getIntegers(line, bounds, column);
+        if (integers.isEmpty()) {
+            throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName());
+        }
+        return integers;
+    }
+
+    /**
+     * Gets list of integers separated with spaces. Missing column or empty field gives an empty list.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @param column column
+     * @return list of integers
+     */
+    private List<Integer> getIntegers(String line, int[] bounds, ScheduleColumn column) {
+        if (!isValueIncluded(bounds, column)) {
+            return Collections.emptyList();
+        }
+        int index = columnIndices[column.ordinal()];
+        return parseIntegers(line, bounds[2 * index], bounds[2 * index + 1], column);
+    }
+
+    /**
+     * Parses integers separated with spaces from part of the line.
+     *
+     * @param line   schedule line
+     * @param start  start index, inclusive
+     * @param end    end index, exclusive
+     * @param column column, used in error message
+     * @return list of integers
+     */
+    private static List<Integer> parseIntegers(String line, int start, int end, ScheduleColumn column) {
+        List<Integer> integers = new ArrayList<>();
+        int valueStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || line.charAt(i) == VALUE_SEPARATOR) {
+                if (i > valueStart) {
+                    integers.add(parseInt(line, valueStart, i, column));
+                }
+                valueStart = i + 1;
+            }
+        }
+        return integers;
+    }
+
+    /**
+     * Gets required integer value.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @param column column
+     * @return value
+     */
+    private int getInt(String line, int[] bounds, ScheduleColumn column) {
+        if (!isValueIncluded(bounds, column)) {
+            throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName());
+        }
+        int index = columnIndices[column.ordinal()];
+        return parseInt(line, bounds[2 * index], bounds[2 * index + 1], column);
+    }
+
+    /**
+     * Gets optional integer value.
+     *
+     * @param line         schedule line
+     * @param bounds       field bounds
+     * @param column       column
+     * @param defaultValue value used if column or value is missing
+     * @return value
+     */
+    private int getInt(String line, int[] bounds, ScheduleColumn column, int defaultValue) {
+        return isValueIncluded(bounds, column) ? getInt(line, bounds, column) : defaultValue;
+    }
+
+    /**
+     * Parses integer from part of the line without creating a substring.
+     *
+     * @param line   schedule line
+     * @param start  start index, inclusive
+     * @param end    end index, exclusive
+     * @param column column, used in error message
+     * @return value
+     */
+    private static int parseInt(String line, int start, int end, ScheduleColumn column) {
+        try {
+            return Integer.parseInt(line, start, end, 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName(), e);
+        }
+    }
+
+    /**
+     * Gets optional double value.
+     *
+     * @param line         schedule line
+     * @param bounds       field bounds
+     * @param column       column
+     * @param defaultValue value used if column or value is missing
+     * @return value
+     */
+    private double getDouble(String line, int[] bounds, ScheduleColumn column, double defaultValue) {
+        if (!isValueIncluded(bounds, column)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(getString(line, bounds, column));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(UIText.INVALID_SCHEDULE_VALUE + column.getName(), e);
+        }
+    }
+
+    /**
+     * Gets string value. Missing column gives an empty string.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @param column column
+     * @return value
+     */
+    private String getString(String line, int[] bounds, ScheduleColumn column) {
+        int index = columnIndices[column.ordinal()];
+        return index == -1 ? "" : line.substring(bounds[2 * index], bounds[2 * index + 1]);
+    }
+
+    /**
+     * Compares field value with a string, ignoring case.
+     *
+     * @param line   schedule line
+     * @param bounds field bounds
+     * @param column column
+     * @param value  string to compare with
+     * @return true if equal
+     */
+    private boolean isEqual(String line, int[] bounds, ScheduleColumn column, String value) {
+        int index = columnIndices[column.ordinal()];
+        int start = bounds[2 * index];
+        int length = bounds[2 * index + 1] - start;
+        return length == value.length() && line.regionMatches(true, start, value, 0, length);
+    }
+
+    /**
+     * Checks if column is included in the header and the field is not empty.
+     *
+     * @param bounds field bounds
+     * @param column column
+     * @return true if value is included
+     */
+    private boolean isValueIncluded(int[] bounds, ScheduleColumn column) {
+        int index = columnIndices[column.ordinal()];
+        return index != -1 && bounds[2 * index + 1] > bounds[2 * index];
+    }
+
+    /**
+     * Checks if column is included in the header.
+     *
+     * @param column column
+     * @return true if included
+     */
+    private boolean isColumnIncluded(ScheduleColumn column) {
+        return columnIndices[column.ordinal()] != -1;
+    }
+
+    /**
+     * Finds start and end index of each field in the line. Surrounding spaces and double quotes are not included.
+     * Separators inside double quotes are ignored. Missing fields at the end of the line are empty.
+     *
+     * @param line           CSV line
+     * @param numberOfFields expected number of fields, Integer.MAX_VALUE for the header
+     * @return array with start and end index of each field
+     */
+    private static int[] getFieldBounds(String line, int numberOfFields) {
+        int capacity = numberOfFields == Integer.MAX_VALUE ? 16 : numberOfFields;
+        int[] bounds = new int[2 * capacity];
+        int field = 0;
+        int position = 0;
+        int length = line.length();
+        while (position <= length && field < numberOfFields) {
+            int start = position;
+            int end;
+            while (start < length && line.charAt(start) == VALUE_SEPARATOR) {
+                start++;
+            }
+            if (start < length && line.charAt(start) == QUOTE) {
+                start++;
+                end = line.indexOf(QUOTE, start);
+                end = end == -1 ? length : end;
+                position = line.indexOf(SEPARATOR, end);
+            } else {
+                position = line.indexOf(SEPARATOR, start);
+                end = position == -1 ? length : position;
+            }
+            position = position == -1 ? length + 1 : position + 1;
+            while (end > start && line.charAt(end - 1) == VALUE_SEPARATOR) {
+                end--;
+            }
+            if (2 * field + 1 >= bounds.length) {
+                int[] resized = new int[bounds.length * 2];
+                System.arraycopy(bounds, 0, resized, 0, bounds.length);
+                bounds = resized;
+            }
+            bounds[2 * field] = start;
+            bounds[2 * field + 1] = end;
+            field++;
+        }
+        if (numberOfFields == Integer.MAX_VALUE) {
+            int[] trimmed = new int[2 * field];
+            System.arraycopy(bounds, 0, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bounds;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if reader can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,98 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes design results of a section schedule as comma separated values, one line per schedule row in the same order.
+ * Columns are row number, id, element type, passed flag, utilisations of flexure, shear and cracking and the first error message.
+ * Rows that could not be parsed have empty element type.
+ */
+public class ScheduleResultWriter implements Closeable {
+    private static final String HEADER = "row,id,elementType,passed,flexureUtilisation,shearUtilisation,crackingUtilisation,error\n";
+
+    private final Writer writer;
+    private final StringBuilder buffer;
+
+    /**
+     * Constructor. Writes the header line.
+     *
+     * @param writer writer, preferably buffered, closed with this writer
+     * @throws IOException if header can't be written
+     */
+    public ScheduleResultWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        this.buffer = new StringBuilder();
+        writer.write(HEADER);
+    }
+
+    /**
+     * Writes results of consecutive schedule rows.
+     *
+     * @param firstRow number of the first row, starting from 1
+     * @param results  array of results
+     * @param size     number of results to write
+     * @throws IOException if results can't be written
+     */
+    public void write(long firstRow, DesignResult[] results, int size) throws IOException {
+        buffer.setLength(0);
+        for (int i = 0; i < size; i++) {
+            DesignResult result = results[i];
+            DesignRequest request = result.getRequest();
+            buffer.append(firstRow + i).append(',');
+            appendQuoted(request.getId());
+            buffer.append(',').append(request.getElementType())
+                    .append(',').append(result.isPassed() ? 1 : 0)
+                    .append(',').append(result.getFlexureCheck().getUtilisation())
+                    .append(',').append(result.getShearCheck().getUtilisation())
+                    .append(',').append(result.getCrackingCheck().getUtilisation())
+                    .append(',');
+            appendQuoted(getError(result));
+            buffer.append('\n');
+        }
+        writer.append(buffer);
+    }
+
+    /**
+     * Gets the first error message of the result.
+     *
+     * @param result design result
+     * @return error message or null if there are no errors
+     */
+    private static String getError(DesignResult result) {
+        if (result.getFlexureError() != null) {
+            return result.getFlexureError();
+        }
+        return result.getShearError() != null ? result.getShearError() : result.getCrackingError();
+    }
+
+    /**
+     * Appends value to the buffer. Values with separators or quotes are quoted, null values are written as empty fields.
+     *
+     * @param value value
+     */
+    private void appendQuoted(String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1) {
+            buffer.append(value);
+            return;
+        }
+        buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Flushes and closes the underlying writer.
+     *
+     * @throws IOException if writer can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
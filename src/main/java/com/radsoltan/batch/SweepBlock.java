@@ -0,0 +1,128 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.UIText;
+
+/**
+ * Block of consecutive parametric sweep points. Values are stored column by column in primitive arrays, so that blocks can be reused
+ * and the whole grid never has to be held in memory. Each row is written by a single worker thread.
+ */
+public class SweepBlock {
+    private final int capacity;
+    private final int[][] intColumns;
+    private final double[][] doubleColumns;
+    private long startIndex;
+    private int size;
+
+    /**
+     * Constructor. Allocates arrays for all sweep columns.
+     *
+     * @param capacity max number of points in the block
+     */
+    public SweepBlock(int capacity) {
+        this.capacity = capacity;
+        this.intColumns = new int[SweepColumn.values().length][];
+        this.doubleColumns = new double[SweepColumn.values().length][];
+        for (SweepColumn column : SweepColumn.values()) {
+            if (column.isInteger()) {
+                intColumns[column.ordinal()] = new int[capacity];
+            } else {
+                doubleColumns[column.ordinal()] = new double[capacity];
+            }
+        }
+    }
+
+    /**
+     * Prepares the block for points starting at given grid index.
+     *
+     * @param startIndex grid index of the first point
+     * @param size       number of points, not greater than capacity
+     */
+    public void reset(long startIndex, int size) {
+        if (size < 0 || size > capacity) {
+            throw new IllegalArgumentException(UIText.INVALID_BLOCK_SIZE);
+        }
+        this.startIndex = startIndex;
+        this.size = size;
+    }
+
+    /**
+     * Sets integer value for given row.
+     *
+     * @param column integer column
+     * @param row    row in the block
+     * @param value  value
+     */
+    public void setInt(SweepColumn column, int row, int value) {
+        intColumns[column.ordinal()][row] = value;
+    }
+
+    /**
+     * Sets double value for given row.
+     *
+     * @param column double column
+     * @param row    row in the block
+     * @param value  value
+     */
+    public void setDouble(SweepColumn column, int row, double value) {
+        doubleColumns[column.ordinal()][row] = value;
+    }
+
+    /**
+     * Gets integer value for given row.
+     *
+     * @param column integer column
+     * @param row    row in the block
+     * @return value
+     */
+    public int getInt(SweepColumn column, int row) {
+        return intColumns[column.ordinal()][row];
+    }
+
+    /**
+     * Gets double value for given row.
+     *
+     * @param column double column
+     * @param row    row in the block
+     * @return value
+     */
+    public double getDouble(SweepColumn column, int row) {
+        return doubleColumns[column.ordinal()][row];
+    }
+
+    /**
+     * Checks if the point passed all the checks.
+     *
+     * @param row row in the block
+     * @return true if passed
+     */
+    public boolean isPassed(int row) {
+        return getInt(SweepColumn.PASSED, row) == 1;
+    }
+
+    /**
+     * Getter for capacity.
+     *
+     * @return max number of points in the block
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Getter for start index.
+     *
+     * @return grid index of the first point
+     */
+    public long getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Getter for size.
+     *
+     * @return number of points in the block
+     */
+    public int getSize() {
+        return size;
+    }
+}
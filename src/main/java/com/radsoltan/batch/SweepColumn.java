@@ -0,0 +1,52 @@
+package com.radsoltan.batch;
+
+/**
+ * Enum with columns of parametric sweep results. Integer columns are stored as int values, the remaining ones as double values.
+ * Concrete class is stored as ordinal of Concrete enum, feasible and passed flags are stored as 0 or 1.
+ */
+public enum SweepColumn {
+    WIDTH("width", true),
+    DEPTH("depth", true),
+    CONCRETE("concrete", true),
+    COVER("cover", true),
+    BAR_DIAMETER("barDiameter", true),
+    NUMBER_OF_BARS("numberOfBars", true),
+    ULS_MOMENT("UlsMoment", false),
+    FEASIBLE("feasible", true),
+    PASSED("passed", true),
+    FLEXURE_UTILISATION("flexureUtilisation", false),
+    SHEAR_UTILISATION("shearUtilisation", false),
+    CRACKING_UTILISATION("crackingUtilisation", false);
+
+    private final String name;
+    private final boolean isInteger;
+
+    /**
+     * Enum constructor.
+     *
+     * @param name      column name used in output files
+     * @param isInteger true if values are integers
+     */
+    SweepColumn(String name, boolean isInteger) {
+        this.name = name;
+        this.isInteger = isInteger;
+    }
+
+    /**
+     * Getter for column name.
+     *
+     * @return column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for isInteger field.
+     *
+     * @return true if values are integers
+     */
+    public boolean isInteger() {
+        return isInteger;
+    }
+}
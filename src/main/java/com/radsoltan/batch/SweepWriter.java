@@ -0,0 +1,19 @@
+package com.radsoltan.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Interface for parametric sweep outputs. Blocks are written in grid order from a single thread.
+ * Block arrays are reused after the method returns, so the values must be copied or written out straight away.
+ */
+public interface SweepWriter extends Closeable {
+
+    /**
+     * Writes all points of the block.
+     *
+     * @param block calculated block
+     * @throws IOException if block can't be written
+     */
+    void write(SweepBlock block) throws IOException;
+}
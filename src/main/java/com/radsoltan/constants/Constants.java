@@ -25,6 +25,7 @@ public class Constants {
     public static final int DEFAULT_ALERT_HEIGHT = 80;
     public static final int LARGE_ALERT_WIDTH = 320;
     public static final int LARGE_ALERT_HEIGHT = 105;
+    public static final int DEFAULT_FONT_SIZE = 14;
     public static final ArrayList<Integer> BAR_DIAMETERS = new ArrayList<>(List.of(6, 8, 10, 12, 16, 20, 25, 32, 40));
     public static final ArrayList<Integer> SHEAR_LEGS = new ArrayList<>(List.of(2, 3, 4, 5, 6, 7, 8, 9, 10));
     public static final int SLAB_MIN_BAR_SPACING = 50;
@@ -43,5 +44,10 @@ public class Constants {
     public static final int NOMINAL_COVER_STEP = 5;
     public static final int MAX_NUMBER_OF_LAYERS = 6;
     public static final int MAX_NUMBER_OF_ROWS = 5;
+    public static final int DESIGN_RESULT_CACHE_SIZE = 10000;
+    public static final double KNM_TO_NMM = 1e6;
+    public static final double NMM_TO_KNM = 1e-6;
+    public static final double N_TO_KN = 1e-3;
+    public static final double PER_MM_TO_PER_M = 1e3;
     public static final ArrayList<String> ORDINAL_LABELS = new ArrayList<>(List.of("1st", "2nd", "3rd", "4th", "5th", "6th"));
 }
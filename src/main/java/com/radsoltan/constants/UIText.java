@@ -14,14 +14,29 @@ public class UIText {
     public static final String OK = "OK";
     public static final String CANCEL = "Cancel";
     public static final String CALCULATIONS_ERROR = "Calculations error";
+    public static final String CALCULATIONS_INTERRUPTED = "Calculations interrupted.";
     public static final String CRACKING = "Cracking";
     public static final String CRACKING_FAIL_MESSAGE = "Increase reinforcement or redesign section.";
+    public static final String EMPTY_LOAD_COMBINATIONS = "At least one load combination is required.";
+    public static final String EMPTY_SCHEDULE = "Section schedule is empty.";
     public static final String ENTER_GEOMETRY = "Enter geometry...";
     public static final String ENTER_REINFORCEMENT = "Enter reinforcement...";
     public static final String FAIL = "Fail";
     public static final String FLEXURE_FAIL_MESSAGE = "Increase reinforcement or redesign section.";
     public static final String FLEXURE = "Flexure";
     public static final String INVALID_ELEMENT_TYPE = "Invalid element type.";
+    public static final String INVALID_SCHEDULE_VALUE = "Missing or invalid value in section schedule column: ";
+    public static final String INVALID_SWEEP_WIDTH = "Width of a slab strip can't be varied in a sweep.";
+    public static final String INVALID_SWEEP_NUMBER_OF_BARS = "Number of bars in a sweep must be at least 1.";
+    public static final String INVALID_HTTP_METHOD = "HTTP method not allowed.";
+    public static final String INVALID_JSON = "Invalid JSON at position: ";
+    public static final String INVALID_JSON_DEPTH = "JSON is nested too deeply, maximum depth is: ";
+    public static final String INVALID_JSON_FIELD = "Missing or invalid value in field: ";
+    public static final String INVALID_JSON_SECTION = "Section must be a JSON object.";
+    public static final String INVALID_NUMBER_OF_ROWS = "Number of reinforcement rows or layers can't be greater than: ";
+    public static final String INVALID_PARALLELISM = "Parallelism must be at least 1.";
+    public static final String INVALID_MOMENT_FIELD = "Moment field must have at least one grid point, positive spacings and a moment for each point.";
+    public static final String INVALID_STRIP_WIDTH = "Strip width must be positive and moment step must not be negative.";
     public static final String INVALID_REDISTRIBUTION_RATIO = "Redistribution ratio must be between 0.7 and 1.0.";
     public static final String INVALID_SLAB_REINFORCEMENT = "Invalid slab reinforcement.";
     public static final String INVALID_BEAM_REINFORCEMENT = "Invalid beam reinforcement.";
@@ -30,11 +45,19 @@ public class UIText {
     public static final String INVALID_BEAM_GEOMETRY = "Invalid beam geometry.";
     public static final String INVALID_DIMENSION_LINE = "Invalid dimension line.";
     public static final String INVALID_MAX_CRACK_WIDTH = "Max crack width must be between 0.05 and 0.5.";
+    public static final String INVALID_NUMBER_OF_FIBERS = "Number of fibers must be at least 1.";
+    public static final String INVALID_BLOCK_SIZE = "Invalid block size.";
+    public static final String INVALID_CACHE_SIZE = "Cache size must be at least 1.";
+    public static final String INVALID_DRAWING_SIZE = "Drawing width and height must be at least 1 pixel.";
+    public static final String INVALID_DRAWING_LAYERS = "Renderer must be provided for each drawing layer.";
     public static final String INVALID_BAR_SPACING_CRACKS = "Bar spacing must not exceed 5(c + 0.5d) for cracking calculations.";
     public static final String INVALID_BENDING_CAPACITY = "Flexure calculations required to run cracking check.";
     public static final String INVALID_SHEAR_LINKS = "Invalid shear links";
     public static final String INVALID_SLAB_FACE = "Invalid slab face.";
+    public static final String MISSING_SCHEDULE_COLUMN = "Missing section schedule column: ";
     public static final String PASS = "Pass";
+    public static final String NO_ADEQUATE_REINFORCEMENT = "No adequate reinforcement";
+    public static final String PROJECT_NOT_IN_ARCHIVE = "Project not found in archive.";
     public static final String REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE = "Compressive force greater than the capacity. Redesign section.";
     public static final String REDESIGN_SECTION_DUE_TO_HIGH_SHEAR = "Shear force greater than compressive strut capacity. Redesign section.";
     public static final String SHEAR = "Shear";
@@ -55,5 +78,7 @@ public class UIText {
     public static final String SOMETHING_WENT_WRONG = "Sorry. Something went wrong.";
     public static final String UNIT_MOMENT_BEAM = "kNm";
     public static final String UNIT_MOMENT_SLAB = "kNm/m";
+    public static final String UNIT_SHEAR_REINFORCEMENT = "mm\u00b2/m";
+    public static final String UNIT_CRACK_WIDTH = "mm";
     public static final String WRONG_CONCRETE_CLASS = "Concrete class greater than C50/60. Outside of scope of this software.";
 }
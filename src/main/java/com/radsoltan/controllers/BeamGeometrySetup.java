@@ -3,6 +3,8 @@ package com.radsoltan.controllers;
 import com.radsoltan.App;
 import com.radsoltan.components.PositiveIntegerField;
 import com.radsoltan.constants.UIText;
+import com.radsoltan.drawing.CanvasRenderer;
+import com.radsoltan.drawing.Renderer;
 import com.radsoltan.model.Project;
 import com.radsoltan.model.geometry.*;
 import com.radsoltan.util.AlertKind;
@@ -11,7 +13,6 @@ import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -40,27 +41,34 @@ public class BeamGeometrySetup extends Controller {
     public PositiveIntegerField beamDepth;
 
     private final Project project;
-    private final Geometry geometry;
+    private boolean isDrawn;
 
     private static final double BEAM_IMAGE_HORIZONTAL_RATIO = 0.15;
     private static final double BEAM_IMAGE_VERTICAL_RATIO = 0.65;
     private static final double BEAM_IMAGE_DIMENSION_LINES_SCALE = 0.65;
 
     /**
-     * Constructor. It gets project instance and using the instance it gets the geometry.
+     * Constructor. It gets project instance.
      */
     public BeamGeometrySetup() {
         project = Project.getInstance();
-        this.geometry = project.getGeometry();
     }
 
     /**
-     * Initialize method that is run after calling the constructor.
-     * If bea, geometry was instantiated before, it takes beam dimensions and sets them to relevant input fields.
-     * It also invokes draw method that draws a typical beam cross section.
+     * Refresh method that is run each time the view is shown.
+     * If beam geometry was instantiated before, it takes beam dimensions and sets them to relevant input fields. Otherwise, the fields are cleared.
+     * The typical beam cross section is drawn when the view is shown for the first time rather than in initialize method,
+     * as views can be loaded on a background thread and drawing may show an alert box.
      */
-    @FXML
-    public void initialize() {
+    @Override
+    public void refresh() {
+        if (!isDrawn) {
+            this.draw();
+            isDrawn = true;
+        }
+        Geometry geometry = project.getGeometry();
+        beamWidth.setText("");
+        beamDepth.setText("");
         if (geometry != null) {
             Section section = geometry.getSection();
             if (section instanceof Rectangle) {
@@ -72,7 +80,6 @@ public class BeamGeometrySetup extends Controller {
                 showAlertBox(UIText.INVALID_BEAM_GEOMETRY, AlertKind.ERROR);
             }
         }
-        this.draw();
         Platform.runLater(() -> container.requestFocus());
     }
 
@@ -113,7 +120,7 @@ public class BeamGeometrySetup extends Controller {
      * Beam image is drawn relatively to the canvas size using ratios defined in constants.
      */
     private void draw() {
-        GraphicsContext graphicsContext = beamImage.getGraphicsContext2D();
+        Renderer renderer = new CanvasRenderer(beamImage.getGraphicsContext2D());
         double canvasWidth = beamImage.getWidth();
         double canvasHeight = beamImage.getHeight();
         int beamWidth = (int) (BEAM_IMAGE_HORIZONTAL_RATIO * canvasWidth);
@@ -126,7 +133,7 @@ public class BeamGeometrySetup extends Controller {
         Rectangle rectangle = new Rectangle(
                 beamWidth,
                 beamDepth,
-                graphicsContext,
+                renderer,
                 Color.BLACK,
                 Color.LIGHTGRAY,
                 beamLeftEdgeX,
@@ -140,7 +147,7 @@ public class BeamGeometrySetup extends Controller {
             HorizontalDimensionLine horizontalDimensionLine = new HorizontalDimensionLine(
                     "b",
                     Color.BLACK,
-                    graphicsContext,
+                    renderer,
                     beamLeftEdgeX,
                     beamRightEdgeX,
                     beamBottomEdgeY,
@@ -153,7 +160,7 @@ public class BeamGeometrySetup extends Controller {
             VerticalDimensionLine verticalDimensionLine = new VerticalDimensionLine(
                     "h",
                     Color.BLACK,
-                    graphicsContext,
+                    renderer,
                     beamTopEdgeY,
                     beamBottomEdgeY,
                     beamLeftEdgeX,
@@ -163,7 +170,7 @@ public class BeamGeometrySetup extends Controller {
             );
             verticalDimensionLine.draw();
         } catch (IllegalArgumentException e) {
-            // Showing warning if rectangle is instantiated using wrong constructor - no graphics context etc.
+            // Showing warning if rectangle is instantiated using wrong constructor - no renderer etc.
             showAlertBox(e.getMessage(), AlertKind.WARNING);
         }
     }
@@ -77,7 +77,6 @@ public class BeamReinforcementSetup extends Controller {
     private int numberOfTopRows;
     private int numberOfBottomRows;
     private final Project project;
-    private final Reinforcement beamReinforcement;
     private final ObservableList<Integer> diameters;
     private final ObservableList<Integer> mainBarNumbers;
     private final ObservableList<Integer> additionalBarNumbers;
@@ -86,14 +85,12 @@ public class BeamReinforcementSetup extends Controller {
     private final ArrayList<String> rowLabels;
 
     /**
-     * Constructor. It gets project instance and using the instance it gets the reinforcement.
+     * Constructor. It gets project instance.
      * It also creates lists for reinforcement diameters and lists with number of bars.
      */
     public BeamReinforcementSetup() {
         project = Project.getInstance();
 
-        beamReinforcement = project.getReinforcement();
-
         // Creating lists for bar numbers
         List<Integer> barNumberList = new ArrayList<>();
         IntStream.iterate(Constants.BEAM_ROW_MAIN_BAR_MIN_COUNT, count -> count <= Constants.BEAM_ROW_BAR_MAX_COUNT, count -> count + 1)
@@ -117,23 +114,44 @@ public class BeamReinforcementSetup extends Controller {
     }
 
     /**
-     * Initialize method that is run after calling the constructor. If no beam reinforcement was set up it creates one empty bottom row and one empty top row.
-     * If beam reinforcement is found in project instance, it creates required number of reinforcement rows and initializes the fields.
+     * Initialize method that is run after calling the constructor. It fills drop down lists for shear links.
      */
     @FXML
     public void initialize() {
         // Filling drop down lists for shear links
         shearLinkDiameter.getItems().addAll(shearLinkDiametersList);
         shearLinkLegs.getItems().addAll(shearLinkLegsList);
+    }
 
-        if (beamReinforcement == null) {
+    /**
+     * Refresh method that is run each time the view is shown. Rows left from the previous time the view was shown are removed.
+     * If no beam reinforcement was set up it creates one empty bottom row and one empty top row.
+     * If beam reinforcement is found in project instance, it creates required number of reinforcement rows and initializes the fields.
+     */
+    @Override
+    public void refresh() {
+        Reinforcement reinforcement = project.getReinforcement();
+
+        // Clearing rows and shear links fields
+        topReinforcementVBox.getChildren().clear();
+        topVerticalSpacingVBox.getChildren().clear();
+        setHidden(topReinforcementVerticalSpacingsTitle, true);
+        bottomReinforcementVBox.getChildren().clear();
+        bottomVerticalSpacingVBox.getChildren().clear();
+        setHidden(bottomReinforcementVerticalSpacingsTitle, true);
+        shearLinkDiameter.setValue(null);
+        shearLinkLegs.setValue(null);
+        shearLinksSpacing.setText("");
+        shearLinkYieldStrength.setText("");
+
+        if (reinforcement == null) {
             // If no reinforcement set up before, create one top and one bottom row
             addReinforcementRow(topReinforcementVBox, topVerticalSpacingVBox, topReinforcementVerticalSpacingsTitle, 0);
             addReinforcementRow(bottomReinforcementVBox, bottomVerticalSpacingVBox, bottomReinforcementVerticalSpacingsTitle, 0);
             numberOfTopRows = 1;
             numberOfBottomRows = 1;
-        } else if (this.beamReinforcement instanceof BeamReinforcement) {
-            BeamReinforcement beamReinforcement = (BeamReinforcement) this.beamReinforcement;
+        } else if (reinforcement instanceof BeamReinforcement) {
+            BeamReinforcement beamReinforcement = (BeamReinforcement) reinforcement;
             numberOfTopRows = beamReinforcement.getTopDiameters().size();
             numberOfBottomRows = beamReinforcement.getBottomDiameters().size();
 
@@ -0,0 +1,52 @@
+package com.radsoltan.controllers;
+
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.DesignResultCache;
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
+
+/**
+ * Service that runs project calculations on a background thread, so that the JavaFX application thread is not blocked.
+ * Each run calculates an immutable DesignRequest, results are published by the service on the application thread only when the task succeeds.
+ * Restarting the service while it is running cancels the previous task, so that repeated clicks are coalesced and only the latest request is published.
+ * Results are memoized in the shared DesignResultCache, so switching back to previously calculated inputs does not run the calculations again.
+ */
+class CalculationService extends Service<DesignResult> {
+
+    private static final int NUMBER_OF_STEPS = 1;
+
+    private DesignRequest request;
+
+    /**
+     * Sets request to be calculated in the next run. It should be called on the application thread before restarting the service.
+     *
+     * @param request design request
+     */
+    void setRequest(DesignRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Creates a task for the current request. The request is captured when the task is created, so later changes do not affect a running task.
+     *
+     * @return calculation task
+     */
+    @Override
+    protected Task<DesignResult> createTask() {
+        DesignRequest taskRequest = request;
+        return new Task<>() {
+            @Override
+            protected DesignResult call() {
+                updateProgress(0, NUMBER_OF_STEPS);
+                if (isCancelled()) {
+                    return null;
+                }
+                DesignResult result = DesignResultCache.getShared().calculate(taskRequest);
+                // Results of a cancelled task are never published by the service
+                updateProgress(NUMBER_OF_STEPS, NUMBER_OF_STEPS);
+                return result;
+            }
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.radsoltan.controllers;
 import com.radsoltan.App;
 import com.radsoltan.components.SecondaryWindow;
 import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.CssStyleClasses;
 import com.radsoltan.constants.Events;
 import com.radsoltan.constants.UIText;
 import com.radsoltan.util.AlertKind;
@@ -10,6 +11,7 @@ import com.radsoltan.util.FileEvent;
 import javafx.event.ActionEvent;
 import javafx.event.Event;
 import javafx.event.EventType;
+import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
@@ -104,6 +106,29 @@ public abstract class Controller {
         dialogPane.getStylesheets().add(getClass().getResource("/css/main.css").toExternalForm());
     }
 
+    /**
+     * Refresh hook invoked by the App each time the view is shown. Views are cached, so the controller is created only once
+     * and this method should set up the view fields from the current state of the project instance.
+     * One-off setup, such as filling drop down lists, should be carried out in initialize method.
+     * By default it does nothing.
+     */
+    public void refresh() {
+    }
+
+    /**
+     * Shows or hides a node by removing or adding hidden css class. The class is added only once.
+     *
+     * @param node     node to show or hide
+     * @param isHidden true if node should be hidden
+     */
+    protected void setHidden(Node node, boolean isHidden) {
+        if (!isHidden) {
+            node.getStyleClass().remove(CssStyleClasses.HIDDEN);
+        } else if (!node.getStyleClass().contains(CssStyleClasses.HIDDEN)) {
+            node.getStyleClass().add(CssStyleClasses.HIDDEN);
+        }
+    }
+
     /**
      * Method that should check for empty fields in view and add a message to a List about each empty field.
      *
@@ -72,9 +72,6 @@ public class DesignParametersSetup extends Controller {
     public HBox maxCrackWidthWrapper;
 
     private final Project project;
-    private final DesignParameters designParameters;
-    private final Concrete concrete;
-    private final String elementType;
     private final ObservableList<Integer> nominalCovers;
     private final ObservableList<String> concreteClasses;
 
@@ -84,9 +81,6 @@ public class DesignParametersSetup extends Controller {
      */
     public DesignParametersSetup() {
         project = Project.getInstance();
-        designParameters = project.getDesignParameters();
-        concrete = project.getConcrete();
-        elementType = project.getElementType();
 
         // List of nominal covers populated using IntStream
         List<Integer> nominalCoverList = new ArrayList<>();
@@ -104,8 +98,6 @@ public class DesignParametersSetup extends Controller {
 
     /**
      * Initialize method that is run after calling the constructor. It sets up drop down lists.
-     * If designParameters and concrete objects were instantiated before it takes their properties and set them in the fields.
-     * Otherwise, it sets the input fields to default values.
      */
     @FXML
     public void initialize() {
@@ -116,10 +108,33 @@ public class DesignParametersSetup extends Controller {
         concreteClass.getItems().addAll(concreteClasses);
         gammaC.getItems().addAll(Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_C_ACCIDENTAL);
         gammaS.getItems().addAll(Constants.GAMMA_S_PERSISTENT_TRANSIENT, Constants.GAMMA_S_ACCIDENTAL);
-        if (elementType.equals(Constants.ELEMENT_TYPE_SLAB)) {
+    }
+
+    /**
+     * Refresh method that is run each time the view is shown.
+     * If designParameters and concrete objects were instantiated before it takes their properties and set them in the fields.
+     * Otherwise, it sets the input fields to default values.
+     */
+    @Override
+    public void refresh() {
+        DesignParameters designParameters = project.getDesignParameters();
+        Concrete concrete = project.getConcrete();
+        boolean isSlab = Constants.ELEMENT_TYPE_SLAB.equals(project.getElementType());
+
+        // Clearing values that could be left from the previous time the view was shown
+        nominalCoverTop.setValue(null);
+        nominalCoverBottom.setValue(null);
+        nominalCoverSides.setValue(null);
+        concreteClass.setValue(null);
+        yieldStrength.setText("");
+        maxCrackWidth.setText("");
+        includeCrackingCalculations.selectedProperty().setValue(false);
+        setHidden(maxCrackWidthWrapper, false);
+
+        setHidden(nominalCoverSides.getParent(), isSlab);
+        if (isSlab) {
             // If slab ignore nominal cover for sides
             nominalCoverSides.setValue(0);
-            nominalCoverSides.getParent().getStyleClass().add(CssStyleClasses.HIDDEN);
         }
         if (designParameters == null) {
             // If design parameters were not set, show default values
@@ -128,7 +143,7 @@ public class DesignParametersSetup extends Controller {
             aggregateSize.setText(Integer.toString(Constants.DEFAULT_AGGREGATE_SIZE));
             redistributionRatio.setText(Double.toString(Constants.DEFAULT_REDISTRIBUTION_RATIO));
             isRecommendedRedistributionRatio.selectedProperty().setValue(true);
-            maxCrackWidthWrapper.getStyleClass().add(CssStyleClasses.HIDDEN);
+            setHidden(maxCrackWidthWrapper, true);
         } else {
             // If design parameters set, show values that are stored in the instance
             nominalCoverTop.setValue(designParameters.getNominalCoverTop());
@@ -144,7 +159,7 @@ public class DesignParametersSetup extends Controller {
             if (designParameters.isIncludeCrackingCalculations()) {
                 maxCrackWidth.setText(Double.toString(designParameters.getCrackWidthLimit()));
             } else {
-                maxCrackWidthWrapper.getStyleClass().add(CssStyleClasses.HIDDEN);
+                setHidden(maxCrackWidthWrapper, true);
             }
         }
         if (concrete != null) {
@@ -6,34 +6,44 @@ import com.radsoltan.components.PositiveIntegerField;
 import com.radsoltan.constants.Constants;
 import com.radsoltan.constants.CssStyleClasses;
 import com.radsoltan.constants.UIText;
+import com.radsoltan.drawing.CanvasRenderer;
+import com.radsoltan.drawing.DrawingLayer;
+import com.radsoltan.drawing.LayeredDrawing;
+import com.radsoltan.drawing.Renderer;
+import com.radsoltan.drawing.SectionDrawing;
 import com.radsoltan.model.*;
-import com.radsoltan.model.geometry.*;
 import com.radsoltan.model.reinforcement.BeamReinforcement;
-import com.radsoltan.model.reinforcement.ShearLinks;
 import com.radsoltan.model.reinforcement.SlabReinforcement;
 import com.radsoltan.util.AlertKind;
 import com.radsoltan.util.FileEvent;
 import com.radsoltan.util.ProjectFile;
 import com.radsoltan.util.Utility;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.Event;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
+import javafx.util.Duration;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller to main view of the application. This includes handling logic for:
@@ -41,7 +51,7 @@ import java.util.List;
  * - setting project information
  * - specifying analysis forces
  * - redirecting to design parameters, geometry and reinforcement controllers
- * - running project calculations
+ * - running project calculations on a background thread
  */
 public class Primary extends Controller {
 
@@ -91,78 +101,132 @@ public class Primary extends Controller {
     private HBox UlsShearWrapper;
     @FXML
     private ChoiceBox<String> elementTypeChoiceBox;
+    @FXML
+    private ProgressBar calculationProgress;
+    @FXML
+    private Button cancelCalculationsButton;
+    @FXML
+    private CheckBox liveResultsCheckBox;
 
     private final Project project;
+    private final CalculationService calculationService;
+    private final PauseTransition liveRecalculationDelay;
+    private DesignResult lastResult;
+    private LayeredDrawing elementImageLayers;
 
-    private static final double SLAB_IMAGE_HORIZONTAL_RATIO = 0.75;
-    private static final double SLAB_IMAGE_DIMENSION_LINES_SCALE = 0.5;
-    private static final int MAX_SLAB_THICKNESS_WHEN_DRAWING = 500;
-
-    private static final double BEAM_IMAGE_MAX_HORIZONTAL_RATIO = 0.5;
-    private static final double BEAM_IMAGE_MAX_VERTICAL_RATIO = 0.75;
-    private static final double BEAM_IMAGE_RATIO_REDUCTION_STEP = 0.05;
+    private static final double LIVE_RECALCULATION_DELAY_MILLIS = 100;
 
     /**
-     * Constructor. Gets project instance.
+     * Constructor. Gets project instance and creates service for background calculations.
+     * It also creates the delay used to debounce live recalculations.
      */
     public Primary() {
         project = Project.getInstance();
+        calculationService = new CalculationService();
+        liveRecalculationDelay = new PauseTransition(Duration.millis(LIVE_RECALCULATION_DELAY_MILLIS));
+        liveRecalculationDelay.setOnFinished(event -> recalculateLive());
     }
 
     /**
      * Initialize method that is run after calling the constructor.
-     * It sets up input fields for project details and analysis forces to values set up in the project instance.
-     * It also sets description and styling for geometry, reinforcement and design parameters sections.
+     * The view is cached, so this is run only once. It sets up calculation service, event handlers for top menu and event listeners for input fields.
      */
     @FXML
     public void initialize() {
+        UlsMomentWrapper = (HBox) UlsMoment.getParent();
+        SlsMomentWrapper = (HBox) SlsMoment.getParent();
+        UlsShearWrapper = (HBox) UlsShear.getParent();
+
+        setUpCalculationService();
+        setUpElementImageLayers();
+
+        Platform.runLater(() -> {
+            addEventHandlersForTopMenu();
+            addEventListenersForInputFields();
+        });
+    }
+
+    /**
+     * Refresh method that is run each time the view is shown.
+     * It sets up input fields for project details and analysis forces to values set up in the project instance.
+     * It also sets description and styling for geometry, reinforcement and design parameters sections, draws the element image and generates results area.
+     */
+    @Override
+    public void refresh() {
+        boolean isSlab = Constants.ELEMENT_TYPE_SLAB.equals(project.getElementType());
+
         // Setting project details
         projectName.setText(project.getName());
-        if (project.getId() != null) {
-            projectNumber.setText(project.getId());
-        }
+        projectNumber.setText(project.getId() != null ? project.getId() : "");
         projectDescription.setText(project.getDescription());
         projectAuthor.setText(project.getAuthor());
 
-        UlsMomentWrapper = (HBox) UlsMoment.getParent();
-        SlsMomentWrapper = (HBox) SlsMoment.getParent();
-        UlsShearWrapper = (HBox) UlsShear.getParent();
-
         // Setting element type
         elementTypeChoiceBox.setValue(Utility.capitalize(project.getElementType()));
+        setHidden(UlsShearWrapper, isSlab);
+        setMomentsUnit(isSlab ? UIText.UNIT_MOMENT_SLAB : UIText.UNIT_MOMENT_BEAM);
         // Setting analysis forces
-        if (project.getUlsMoment() != null) {
-            UlsMoment.setText(project.getUlsMoment());
-        }
-        if (project.getSlsMoment() != null) {
-            SlsMoment.setText(project.getSlsMoment());
-        }
+        UlsMoment.setText(project.getUlsMoment() != null ? project.getUlsMoment() : "");
+        SlsMoment.setText(project.getSlsMoment() != null ? project.getSlsMoment() : "");
         if (project.getUlsShear() != null) {
             UlsShear.setText(project.getUlsShear());
-        }
-        // Setting geometry, reinforcement and design parameters sections
-        if (project.getGeometry() == null) {
-            geometrySection.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
         } else {
-            geometryText.setText(project.getGeometry().getDescription());
+            UlsShear.setText(isSlab ? "0" : "");
         }
-        if (project.getReinforcement() == null) {
-            reinforcementSection.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
-        } else {
-            reinforcementText.setText(project.getReinforcement().getDescription());
-        }
-        if (project.getDesignParameters() == null) {
-            designParametersSection.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
-        }
-        // Drawing main image
+        // Setting geometry, reinforcement and design parameters sections
+        setSectionDefined(geometrySection, project.getGeometry() != null);
+        geometryText.setText(project.getGeometry() != null ? project.getGeometry().getDescription() : UIText.ENTER_GEOMETRY);
+        setSectionDefined(reinforcementSection, project.getReinforcement() != null);
+        reinforcementText.setText(project.getReinforcement() != null ? project.getReinforcement().getDescription() : UIText.ENTER_REINFORCEMENT);
+        setSectionDefined(designParametersSection, project.getDesignParameters() != null);
+
+        // Drawing main image, only layers that have changed are redrawn
         this.drawElementImage();
 
+        clearResultsArea();
         generateResultsArea();
 
-        Platform.runLater(() -> {
-            addEventHandlersForTopMenu();
-            addEventListenersForInputFields();
-            container.requestFocus();
+        Platform.runLater(() -> container.requestFocus());
+    }
+
+    /**
+     * Sets styling for geometry, reinforcement or design parameters section depending on whether it was set up in the project.
+     *
+     * @param section   section to style
+     * @param isDefined true if section was set up
+     */
+    private void setSectionDefined(Node section, boolean isDefined) {
+        if (isDefined) {
+            section.getStyleClass().remove(CssStyleClasses.NOT_DEFINED);
+        } else if (!section.getStyleClass().contains(CssStyleClasses.NOT_DEFINED)) {
+            section.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
+        }
+    }
+
+    /**
+     * Sets up calculation service. Progress bar and cancel button are shown only while calculations are running.
+     * Results are published to the project and results area when the calculations succeed. Cancelled calculations are discarded.
+     */
+    private void setUpCalculationService() {
+        calculationProgress.progressProperty().bind(calculationService.progressProperty());
+        calculationProgress.visibleProperty().bind(calculationService.runningProperty());
+        calculationProgress.managedProperty().bind(calculationService.runningProperty());
+        cancelCalculationsButton.visibleProperty().bind(calculationService.runningProperty());
+        cancelCalculationsButton.managedProperty().bind(calculationService.runningProperty());
+
+        calculationService.setOnSucceeded(event -> {
+            lastResult = calculationService.getValue();
+            project.setResults(lastResult);
+            // Generating results area
+            generateResultsArea();
+            // Running post calculation validation
+            List<String> postCalculationValidationMessages = getPostCalculationValidationMessagesBasedOnElementType(project.getElementType());
+            postCalculationValidationMessages.forEach(message -> showAlertBox(message, AlertKind.WARNING, Constants.LARGE_ALERT_WIDTH, Constants.LARGE_ALERT_HEIGHT));
+        });
+        calculationService.setOnFailed(event -> {
+            Throwable exception = calculationService.getException();
+            String message = (exception instanceof IllegalArgumentException) ? exception.getMessage() : UIText.SOMETHING_WENT_WRONG;
+            showAlertBox(message, AlertKind.ERROR, Constants.LARGE_ALERT_WIDTH, Constants.LARGE_ALERT_HEIGHT);
         });
     }
 
@@ -265,11 +329,64 @@ public class Primary extends Controller {
 
     /**
      * Method that event listeners for forces input fields. These clear results area if user changes analysis forces.
+     * In live results mode these schedule a live recalculation instead.
      */
     private void addEventListenersForInputFields() {
-        UlsMoment.textProperty().addListener((observable, oldValue, newValue) -> clearResultsArea());
-        SlsMoment.textProperty().addListener((observable, oldValue, newValue) -> clearResultsArea());
-        UlsShear.textProperty().addListener((observable, oldValue, newValue) -> clearResultsArea());
+        UlsMoment.textProperty().addListener((observable, oldValue, newValue) -> onAnalysisForcesChanged());
+        SlsMoment.textProperty().addListener((observable, oldValue, newValue) -> onAnalysisForcesChanged());
+        UlsShear.textProperty().addListener((observable, oldValue, newValue) -> onAnalysisForcesChanged());
+    }
+
+    /**
+     * Handles change of analysis forces. In live results mode the recalculation is debounced, so that it runs once the user stops typing.
+     * Otherwise results area is cleared.
+     */
+    private void onAnalysisForcesChanged() {
+        if (liveResultsCheckBox.isSelected()) {
+            liveRecalculationDelay.playFromStart();
+        } else {
+            clearResultsArea();
+        }
+    }
+
+    /**
+     * Method that handles live results check box. When selected, results are recalculated straight away and then after each change of analysis forces.
+     *
+     * @param actionEvent Check box click event.
+     */
+    public void toggleLiveResults(ActionEvent actionEvent) {
+        if (liveResultsCheckBox.isSelected()) {
+            liveRecalculationDelay.playFromStart();
+        } else {
+            liveRecalculationDelay.stop();
+        }
+    }
+
+    /**
+     * Recalculates results in live results mode. Only checks affected by the change of analysis forces are recalculated using previous result,
+     * for example changed SLS moment recalculates cracking only. Flexure state cached on Beam or Slab is reused.
+     * Recalculations are cheap, so these are run on the application thread and results area is updated in the same frame.
+     * Alerts are not shown, results area is cleared if input is incomplete or invalid.
+     */
+    private void recalculateLive() {
+        if (elementTypeChoiceBox.getValue() == null || !getValidationMessagesForEmptyFields().isEmpty()) {
+            clearResultsArea();
+            return;
+        }
+        setProjectPropertiesFromInputFields();
+        if (!getValidationMessagesBasedOnElementType(project.getElementType()).isEmpty()) {
+            clearResultsArea();
+            return;
+        }
+        try {
+            lastResult = project.toDesignRequest().recalculate(lastResult);
+            project.setResults(lastResult);
+            clearResultsArea();
+            generateResultsArea();
+        } catch (IllegalArgumentException e) {
+            // Input such as a single minus sign while typing
+            clearResultsArea();
+        }
     }
 
     /**
@@ -282,7 +399,8 @@ public class Primary extends Controller {
      * - project properties must be valid. This is carried out by calling getValidationMessagesBasedOnElementType method
      * If any of these conditions are not met, an alert box is shown to the user
      * <p>
-     * Project is calculated and then results for flexure, shear and cracking are shown in results area.
+     * Project is calculated on a background thread and then results for flexure, shear and cracking are shown in results area.
+     * Clicking the button while calculations are running cancels them and starts calculations with the latest input.
      *
      * @param actionEvent Calculate button click event.
      */
@@ -298,15 +416,11 @@ public class Primary extends Controller {
                 // Checking if project properties are valid
                 if (elementValidationMessages.isEmpty()) {
                     try {
-                        project.calculate();
+                        calculationService.setRequest(project.toDesignRequest());
+                        calculationService.restart();
                     } catch (IllegalArgumentException e) {
                         showAlertBox(e.getMessage(), AlertKind.ERROR, Constants.LARGE_ALERT_WIDTH, Constants.LARGE_ALERT_HEIGHT);
                     }
-                    // Generating results area
-                    generateResultsArea();
-                    // Running post calculation validation
-                    List<String> postCalculationValidationMessages = getPostCalculationValidationMessagesBasedOnElementType(project.getElementType());
-                    postCalculationValidationMessages.forEach(message -> showAlertBox(message, AlertKind.WARNING, Constants.LARGE_ALERT_WIDTH, Constants.LARGE_ALERT_HEIGHT));
                 } else {
                     showAlertBox(elementValidationMessages.get(0), AlertKind.ERROR, Constants.LARGE_ALERT_WIDTH, Constants.LARGE_ALERT_HEIGHT);
                 }
@@ -318,6 +432,15 @@ public class Primary extends Controller {
         }
     }
 
+    /**
+     * Method that handles cancel button shown while calculations are running.
+     *
+     * @param actionEvent Cancel button click event.
+     */
+    public void cancelCalculations(ActionEvent actionEvent) {
+        calculationService.cancel();
+    }
+
     /**
      * Method that handles edit button for Design Parameters.
      * It redirects to controller that handles setting up design parameters.
@@ -395,17 +518,19 @@ public class Primary extends Controller {
      * @param actionEvent Dropdown list click event
      */
     public void setElementTypeChoiceBox(ActionEvent actionEvent) {
+        if (elementTypeChoiceBox.getValue() == null) {
+            // Element type cleared when refreshing view for a new project
+            return;
+        }
         String elementType = elementTypeChoiceBox.getValue().toLowerCase();
         if (elementType.equals(Constants.ELEMENT_TYPE_SLAB)) {
             UlsShear.setText("0");
             project.setUlsShear(null);
-            if (UlsShearWrapper.getStyleClass().toString().isEmpty()) {
-                UlsShearWrapper.getStyleClass().add(CssStyleClasses.HIDDEN);
-            }
+            setHidden(UlsShearWrapper, true);
             setMomentsUnit(UIText.UNIT_MOMENT_SLAB);
         } else if (elementType.equals(Constants.ELEMENT_TYPE_BEAM)) {
             UlsShear.setText("");
-            UlsShearWrapper.getStyleClass().remove(CssStyleClasses.HIDDEN);
+            setHidden(UlsShearWrapper, false);
             setMomentsUnit(UIText.UNIT_MOMENT_BEAM);
         }
         if (project.getElementType() != null && !project.getElementType().equals(elementType)) {
@@ -461,15 +586,14 @@ public class Primary extends Controller {
         project.setReinforcement(null);
         project.setDesignParameters(null);
         project.setConcrete(null);
-        geometrySection.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
+        setSectionDefined(geometrySection, false);
         geometryText.setText(UIText.ENTER_GEOMETRY);
-        reinforcementSection.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
+        setSectionDefined(reinforcementSection, false);
         reinforcementText.setText(UIText.ENTER_REINFORCEMENT);
-        designParametersSection.getStyleClass().add(CssStyleClasses.NOT_DEFINED);
+        setSectionDefined(designParametersSection, false);
 
         // Clearing Image
-        GraphicsContext graphicsContext = elementImage.getGraphicsContext2D();
-        graphicsContext.clearRect(0, 0, elementImage.getWidth(), elementImage.getHeight());
+        elementImageLayers.clear();
 
         // Resetting Results Area
         clearResultsArea();
@@ -614,9 +738,10 @@ public class Primary extends Controller {
     }
 
     /**
-     * Method that clears and hides the results area.
+     * Method that clears and hides the results area. Running calculations are cancelled as their results would be out of date.
      */
     private void clearResultsArea() {
+        calculationService.cancel();
         if (!designResultsWrapper.getStyleClass().contains(CssStyleClasses.HIDDEN)) {
             designResultsWrapper.getStyleClass().add(CssStyleClasses.HIDDEN);
         }
@@ -625,305 +750,51 @@ public class Primary extends Controller {
         crackingResultsWrapper.getChildren().clear();
     }
 
+    /**
+     * Sets up layers of the element image. The element image canvas is the bottom layer with the section outline.
+     * Canvases for other layers are stacked over it, so that each layer can be cleared and redrawn separately.
+     */
+    private void setUpElementImageLayers() {
+        StackPane elementImageWrapper = (StackPane) elementImage.getParent();
+        Map<DrawingLayer, Renderer> renderers = new EnumMap<>(DrawingLayer.class);
+        renderers.put(DrawingLayer.OUTLINE, new CanvasRenderer(elementImage.getGraphicsContext2D()));
+        for (DrawingLayer layer : DrawingLayer.values()) {
+            if (layer != DrawingLayer.OUTLINE) {
+                Canvas layerCanvas = new Canvas(elementImage.getWidth(), elementImage.getHeight());
+                layerCanvas.setMouseTransparent(true);
+                elementImageWrapper.getChildren().add(layerCanvas);
+                renderers.put(layer, new CanvasRenderer(layerCanvas.getGraphicsContext2D()));
+            }
+        }
+        elementImageLayers = new LayeredDrawing(renderers, elementImage.getWidth(), elementImage.getHeight());
+    }
+
     /**
      * Generates the element image based on provided geometry and reinforcement.
      * It adds labels describing geometry and reinforcement.
      */
     private void drawElementImage() {
         if (project.getGeometry() == null) {
+            elementImageLayers.clear();
             return;
         }
 
+        SectionDrawing sectionDrawing = new SectionDrawing(
+                project.getElementType(),
+                project.getGeometry(),
+                project.getReinforcement(),
+                project.getDesignParameters(),
+                elementImage.getWidth(),
+                elementImage.getHeight()
+        );
         try {
-            switch (project.getElementType().toLowerCase()) {
-                case Constants.ELEMENT_TYPE_SLAB:
-                    drawSlabImage();
-                    break;
-                case Constants.ELEMENT_TYPE_BEAM:
-                    drawBeamImage();
-                    break;
-                default:
-                    showAlertBox(UIText.INVALID_ELEMENT_TYPE, AlertKind.ERROR);
-            }
+            elementImageLayers.update(sectionDrawing);
         } catch (IllegalArgumentException e) {
-            // Showing warning if geometry or reinforcement were instantiated using wrong constructor - no graphics context etc.
+            // Showing warning if geometry or reinforcement can't be drawn
             showAlertBox(e.getMessage(), AlertKind.WARNING);
         }
     }
 
-    /**
-     * Draws slab image along with dimension lines. It also invokes method to draw slab reinforcement.
-     * Slab image is drawn relatively to the canvas size using the ratios defined in constants.
-     * It scales the image by using scale from getSlabImageScale method.
-     */
-    private void drawSlabImage() {
-        GraphicsContext graphicsContext = elementImage.getGraphicsContext2D();
-        double canvasWidth = elementImage.getWidth();
-        double canvasHeight = elementImage.getHeight();
-        int slabImageWidth = (int) (SLAB_IMAGE_HORIZONTAL_RATIO * canvasWidth);
-        int slabThickness = project.getGeometry().getDepth();
-        double slabImageScale = getSlabImageScale(slabImageWidth, slabThickness);
-        int slabImageHeight = (int) (slabImageScale * slabThickness);
-
-        double slabLeftEdgeX = 0.5 * canvasWidth - 0.5 * slabImageWidth;
-        double slabTopEdgeY = 0.5 * canvasHeight - 0.5 * slabImageHeight;
-        double slabBottomEdgeY = slabTopEdgeY + slabImageHeight;
-        int slabEndArchDepth = (int) (getScaleForEndArchDepth(slabThickness) * SlabStrip.SMALL_END_ARCH_DEPTH);
-
-        SlabStrip slabStrip = new SlabStrip(
-                slabImageWidth,
-                slabImageHeight,
-                graphicsContext,
-                Color.BLACK,
-                Color.LIGHTGRAY,
-                slabLeftEdgeX,
-                slabTopEdgeY,
-                slabEndArchDepth
-        );
-        slabStrip.draw();
-
-        // Draw Vertical Dimension Line
-        VerticalDimensionLine verticalDimensionLine = new VerticalDimensionLine(
-                Integer.toString(project.getGeometry().getDepth()),
-                Color.BLACK,
-                graphicsContext,
-                slabTopEdgeY,
-                slabBottomEdgeY,
-                slabLeftEdgeX,
-                -DimensionLine.DEFAULT_SMALL_OFFSET,
-                SLAB_IMAGE_DIMENSION_LINES_SCALE,
-                true
-        );
-        verticalDimensionLine.draw();
-
-        DesignParameters designParameters = project.getDesignParameters();
-        boolean isReinforcementSetup = project.getReinforcement() != null && designParameters != null;
-
-        if (isReinforcementSetup) {
-            // Draw slab reinforcement
-            drawSlabReinforcement(slabStrip, designParameters, slabImageScale);
-        }
-    }
-
-    /**
-     * Draws slab reinforcement. It adds reinforcement description as text on canvas.
-     * Slab reinforcement is scaled using the scale from getSlabImageScale method.
-     *
-     * @param slabStrip        slab strip object instantiated using constructor with graphics context
-     * @param slabImageScale   slab image scale
-     * @param designParameters design parameters object
-     */
-    private void drawSlabReinforcement(SlabStrip slabStrip, DesignParameters designParameters, double slabImageScale) {
-        SlabReinforcement slabReinforcement = (SlabReinforcement) project.getReinforcement();
-        GraphicsContext graphicsContext = elementImage.getGraphicsContext2D();
-
-        SlabReinforcement slabReinforcementToDraw = new SlabReinforcement(
-                slabReinforcement.getTopDiameters(),
-                slabReinforcement.getAdditionalTopDiameters(),
-                slabReinforcement.getTopSpacings(),
-                slabReinforcement.getTopVerticalSpacings(),
-                slabReinforcement.getBottomDiameters(),
-                slabReinforcement.getAdditionalBottomDiameters(),
-                slabReinforcement.getBottomSpacings(),
-                slabReinforcement.getBottomVerticalSpacings(),
-                designParameters,
-                slabStrip,
-                graphicsContext,
-                Color.BLACK,
-                slabImageScale
-        );
-
-        slabReinforcementToDraw.draw();
-    }
-
-    /**
-     * It gets the scale of the slab image. The scale depends on MAX_SLAB_THICKNESS_WHEN_DRAWING.
-     * If this is less then limiting value, the scale is constant and the slab image represents 1m wide strip and slabImageHeight changes accordingly.
-     * Otherwise, the slabImageHeight stays constant when increasing slab depth, scale decreases and the slab strip width increases and is greater than 1m.
-     *
-     * @param slabImageWidth slab image width
-     * @param slabThickness  actual slab thickness in mm
-     * @return scale of the slab image
-     */
-    private double getSlabImageScale(double slabImageWidth, int slabThickness) {
-        if (slabThickness <= MAX_SLAB_THICKNESS_WHEN_DRAWING) {
-            return slabImageWidth / 1000;
-        } else {
-            double maxSlabImageHeight = slabImageWidth * MAX_SLAB_THICKNESS_WHEN_DRAWING / 1000;
-
-            double slabWidth = slabImageWidth * slabThickness / maxSlabImageHeight;
-
-            return slabImageWidth / slabWidth;
-        }
-    }
-
-    /**
-     * Calculates the scale for the end arch depth. This is a ratio of MAX_SLAB_THICKNESS_WHEN_DRAWING to the slab thickness.
-     *
-     * @param slabThickness slab thickness in mm
-     * @return scale for the end arch depth
-     */
-    private double getScaleForEndArchDepth(int slabThickness) {
-        return Math.min((double) MAX_SLAB_THICKNESS_WHEN_DRAWING / slabThickness, 1.0);
-    }
-
-    /**
-     * Draws beam image along with dimension lines. It also invokes method to draw beam reinforcement.
-     * Beam image is drawn in scale that is obtained from getBeamImageScale method.
-     */
-    private void drawBeamImage() {
-        GraphicsContext graphicsContext = elementImage.getGraphicsContext2D();
-        double canvasWidth = elementImage.getWidth();
-        double canvasHeight = elementImage.getHeight();
-
-        Section section = project.getGeometry().getSection();
-
-        if (section instanceof Rectangle) {
-            int beamWidth = section.getWidth();
-            int beamDepth = section.getDepth();
-
-            double beamImageScale = getBeamImageScale(beamWidth, canvasWidth, beamDepth, canvasHeight);
-
-            int beamImageWidth = (int) (beamImageScale * beamWidth);
-            int beamImageHeight = (int) (beamImageScale * beamDepth);
-
-            double beamLeftEdgeX = 0.5 * canvasWidth - 0.5 * beamImageWidth;
-            double beamRightEdgeX = beamLeftEdgeX + beamImageWidth;
-            double beamTopEdgeY = 0.5 * canvasHeight - 0.5 * beamImageHeight;
-            double beamBottomEdgeY = beamTopEdgeY + beamImageHeight;
-
-            Rectangle rectangle = new Rectangle(
-                    beamImageWidth,
-                    beamImageHeight,
-                    graphicsContext,
-                    Color.BLACK,
-                    Color.LIGHTGRAY,
-                    beamLeftEdgeX,
-                    beamTopEdgeY
-            );
-
-            rectangle.draw();
-
-            // Draw Vertical Dimension Line
-            VerticalDimensionLine verticalDimensionLine = new VerticalDimensionLine(
-                    Integer.toString(project.getGeometry().getDepth()),
-                    Color.BLACK,
-                    graphicsContext,
-                    beamTopEdgeY,
-                    beamBottomEdgeY,
-                    beamLeftEdgeX,
-                    -DimensionLine.DEFAULT_SMALL_OFFSET,
-                    SLAB_IMAGE_DIMENSION_LINES_SCALE,
-                    true
-            );
-            verticalDimensionLine.draw();
-
-            // Draw Horizontal Dimension Line
-            HorizontalDimensionLine horizontalDimensionLine = new HorizontalDimensionLine(
-                    Integer.toString(project.getGeometry().getWidth()),
-                    Color.BLACK,
-                    graphicsContext,
-                    beamLeftEdgeX,
-                    beamRightEdgeX,
-                    beamBottomEdgeY,
-                    DimensionLine.DEFAULT_SMALL_OFFSET,
-                    SLAB_IMAGE_DIMENSION_LINES_SCALE
-            );
-            horizontalDimensionLine.draw();
-
-            DesignParameters designParameters = project.getDesignParameters();
-            boolean isReinforcementSetup = project.getReinforcement() != null && designParameters != null;
-
-            if (isReinforcementSetup) {
-                // Draw beam reinforcement and shear links
-                drawBeamReinforcement(rectangle, designParameters, beamImageScale);
-            }
-        } else {
-            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
-        }
-    }
-
-    /**
-     * Draws beam reinforcement and shear links.
-     */
-    private void drawBeamReinforcement(Section section, DesignParameters designParameters, double beamImageScale) {
-        if (section instanceof Rectangle) {
-            BeamReinforcement beamReinforcement = (BeamReinforcement) project.getReinforcement();
-            ShearLinks shearLinks = beamReinforcement.getShearLinks();
-            GraphicsContext graphicsContext = elementImage.getGraphicsContext2D();
-
-            BeamReinforcement beamReinforcementToDraw = new BeamReinforcement(
-                    beamReinforcement.getTopDiameters(),
-                    beamReinforcement.getTopVerticalSpacings(),
-                    beamReinforcement.getBottomDiameters(),
-                    beamReinforcement.getBottomVerticalSpacings(),
-                    shearLinks,
-                    designParameters,
-                    section,
-                    graphicsContext,
-                    Color.BLACK,
-                    beamImageScale
-            );
-
-            ShearLinks shearLinksToDraw = new ShearLinks(
-                    shearLinks.getYieldStrength(),
-                    shearLinks.getDiameter(),
-                    shearLinks.getSpacing(),
-                    shearLinks.getLegs(),
-                    designParameters,
-                    section,
-                    graphicsContext,
-                    Color.BLACK,
-                    beamImageScale
-            );
-
-            beamReinforcementToDraw.draw();
-            shearLinksToDraw.draw();
-        } else {
-            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
-        }
-    }
-
-    /**
-     * Calculates beam image scale using ratios defined in constants.
-     * These are ratios of max beam image width/height to canvas width/height.
-     *
-     * @param beamWidth    beam real width in mm
-     * @param canvasWidth  canvas width
-     * @param beamDepth    beam real depth in mmm
-     * @param canvasHeight canvas height
-     * @return Beam image scale
-     */
-    private double getBeamImageScale(int beamWidth, double canvasWidth, int beamDepth, double canvasHeight) {
-        double scale;
-
-        switch (Integer.signum(beamDepth - beamWidth)) {
-            case 1:
-                double beamImageVerticalRatio = BEAM_IMAGE_MAX_VERTICAL_RATIO;
-                do {
-                    // Wrapped in loop to check if width doesn't exceed max ratio. If that's the case retry with reduced max vertical ratio
-                    scale = beamImageVerticalRatio * canvasHeight / beamDepth;
-                    // Reducing beam max vertical ratio
-                    beamImageVerticalRatio = beamImageVerticalRatio - BEAM_IMAGE_RATIO_REDUCTION_STEP;
-                } while (scale * beamWidth <= BEAM_IMAGE_MAX_HORIZONTAL_RATIO);
-                break;
-            case -1:
-                double beamImageHorizontalRatio = BEAM_IMAGE_MAX_HORIZONTAL_RATIO;
-                do {
-                    // Wrapped in loop to check if depth doesn't exceed max ratio. If that's the case retry with reduced max horizontal ratio
-                    scale = beamImageHorizontalRatio * canvasWidth / beamWidth;
-                    // Reducing beam max horizontal ratio
-                    beamImageHorizontalRatio = beamImageHorizontalRatio - BEAM_IMAGE_RATIO_REDUCTION_STEP;
-                } while (scale * beamDepth <= BEAM_IMAGE_MAX_VERTICAL_RATIO);
-                break;
-            default:
-                scale = BEAM_IMAGE_MAX_HORIZONTAL_RATIO * canvasWidth / beamWidth;
-                break;
-        }
-
-        return scale;
-    }
-
     /**
      * Gets a list of validation messages if analysis forces, geometry, reinforcement and design parameters are not set up.
      *
@@ -2,6 +2,8 @@ package com.radsoltan.controllers;
 
 import com.radsoltan.App;
 import com.radsoltan.components.PositiveIntegerField;
+import com.radsoltan.drawing.CanvasRenderer;
+import com.radsoltan.drawing.Renderer;
 import com.radsoltan.model.Project;
 import com.radsoltan.model.geometry.*;
 import com.radsoltan.constants.UIText;
@@ -11,7 +13,6 @@ import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -36,27 +37,33 @@ public class SlabGeometrySetup extends Controller {
     public PositiveIntegerField slabThickness;
 
     private final Project project;
-    private final Geometry geometry;
+    private boolean isDrawn;
 
     private static final double SLAB_IMAGE_HORIZONTAL_RATIO = 0.6;
     private static final double SLAB_IMAGE_VERTICAL_RATIO = 0.3;
     private static final double SLAB_IMAGE_DIMENSION_LINES_SCALE = 0.75;
 
     /**
-     * Constructor. It gets project instance and using the instance it gets the geometry.
+     * Constructor. It gets project instance.
      */
     public SlabGeometrySetup() {
         this.project = Project.getInstance();
-        this.geometry = project.getGeometry();
     }
 
     /**
-     * Initialize method that is run after calling the constructor.
-     * If slab geometry was instantiated before, it takes the slab thickness and set them in the input field.
-     * It also invokes draw method that draws a typical slab cross section.
+     * Refresh method that is run each time the view is shown.
+     * If slab geometry was instantiated before, it takes the slab thickness and set them in the input field. Otherwise, the field is cleared.
+     * The typical slab cross section is drawn when the view is shown for the first time rather than in initialize method,
+     * as views can be loaded on a background thread and drawing may show an alert box.
      */
-    @FXML
-    public void initialize() {
+    @Override
+    public void refresh() {
+        if (!isDrawn) {
+            this.draw();
+            isDrawn = true;
+        }
+        Geometry geometry = project.getGeometry();
+        slabThickness.setText("");
         if (geometry != null) {
             Section section = geometry.getSection();
             if (section instanceof SlabStrip) {
@@ -66,7 +73,6 @@ public class SlabGeometrySetup extends Controller {
                 showAlertBox(UIText.INVALID_SLAB_GEOMETRY, AlertKind.ERROR);
             }
         }
-        this.draw();
         Platform.runLater(() -> container.requestFocus());
     }
 
@@ -108,7 +114,7 @@ public class SlabGeometrySetup extends Controller {
      * Slab image is drawn relatively to the canvas size using the ratios defined in constants.
      */
     private void draw() {
-        GraphicsContext graphicsContext = slabImage.getGraphicsContext2D();
+        Renderer renderer = new CanvasRenderer(slabImage.getGraphicsContext2D());
         double canvasWidth = slabImage.getWidth();
         double canvasHeight = slabImage.getHeight();
         int slabWidth = (int) (SLAB_IMAGE_HORIZONTAL_RATIO * canvasWidth);
@@ -121,7 +127,7 @@ public class SlabGeometrySetup extends Controller {
         SlabStrip slabStrip = new SlabStrip(
                 slabWidth,
                 slabThickness,
-                graphicsContext,
+                renderer,
                 Color.BLACK,
                 Color.LIGHTGRAY,
                 slabLeftEdgeX,
@@ -135,7 +141,7 @@ public class SlabGeometrySetup extends Controller {
             HorizontalDimensionLine horizontalDimensionLine = new HorizontalDimensionLine(
                     "1000",
                     Color.BLACK,
-                    graphicsContext,
+                    renderer,
                     slabLeftEdgeX,
                     slabRightEdgeX,
                     slabTopEdgeY,
@@ -148,7 +154,7 @@ public class SlabGeometrySetup extends Controller {
             VerticalDimensionLine verticalDimensionLine = new VerticalDimensionLine(
                     "t",
                     Color.BLACK,
-                    graphicsContext,
+                    renderer,
                     slabTopEdgeY,
                     slabBottomEdgeY,
                     slabLeftEdgeX,
@@ -158,7 +164,7 @@ public class SlabGeometrySetup extends Controller {
             );
             verticalDimensionLine.draw();
         } catch (IllegalArgumentException e) {
-            // Showing warning if slab strip is instantiated using wrong constructor - no graphics context etc.
+            // Showing warning if slab strip is instantiated using wrong constructor - no renderer etc.
             showAlertBox(e.getMessage(), AlertKind.WARNING);
         }
     }
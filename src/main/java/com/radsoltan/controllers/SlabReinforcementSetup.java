@@ -67,20 +67,17 @@ public class SlabReinforcementSetup extends Controller {
     private int numberOfTopLayers;
     private int numberOfBottomLayers;
     private final Project project;
-    private final Reinforcement slabReinforcement;
     private final ObservableList<Integer> spacings;
     private final ObservableList<Integer> diameters;
     private final ArrayList<String> layerLabels;
 
     /**
-     * Constructor. It gets project instance and using the instance it gets the reinforcement.
+     * Constructor. It gets project instance.
      * It also creates lists for reinforcement spacings and diameters.
      */
     public SlabReinforcementSetup() {
         project = Project.getInstance();
 
-        slabReinforcement = project.getReinforcement();
-
         // Creating list for bar spacings
         List<Integer> spacingsList = new ArrayList<>();
         IntStream.iterate(Constants.SLAB_MIN_BAR_SPACING, spacing -> spacing <= Constants.SLAB_MAX_BAR_SPACING, spacing -> spacing + Constants.SLAB_BAR_SPACING_STEP)
@@ -93,20 +90,31 @@ public class SlabReinforcementSetup extends Controller {
     }
 
     /**
-     * Initialize method that is run after calling the constructor. If no slab reinforcement was set up it creates an empty bottom layer and an empty top layers.
+     * Refresh method that is run each time the view is shown. Layers left from the previous time the view was shown are removed.
+     * If no slab reinforcement was set up it creates an empty bottom layer and an empty top layers.
      * If slab reinforcement is found in project instance, it creates required number of reinforcement layers and initializes the fields.
      */
-    @FXML
-    public void initialize() {
-        if (slabReinforcement == null) {
+    @Override
+    public void refresh() {
+        Reinforcement reinforcement = project.getReinforcement();
+
+        // Clearing layers
+        topLayersVBox.getChildren().clear();
+        topLayersVerticalSpacingVBox.getChildren().clear();
+        setHidden(topLayersVerticalSpacingsTitle, true);
+        bottomLayersVBox.getChildren().clear();
+        bottomLayersVerticalSpacingVBox.getChildren().clear();
+        setHidden(bottomLayersVerticalSpacingsTitle, true);
+
+        if (reinforcement == null) {
             // If no reinforcement set up before, create one top and one bottom layer
             addReinforcementLayer(topLayersVBox, topLayersVerticalSpacingVBox, topLayersVerticalSpacingsTitle, 0);
             addReinforcementLayer(bottomLayersVBox, bottomLayersVerticalSpacingVBox, bottomLayersVerticalSpacingsTitle, 0);
             numberOfTopLayers = 1;
             numberOfBottomLayers = 1;
-        } else if (this.slabReinforcement instanceof SlabReinforcement) {
+        } else if (reinforcement instanceof SlabReinforcement) {
             // Getting slab reinforcement instance
-            SlabReinforcement slabReinforcement = (SlabReinforcement) this.slabReinforcement;
+            SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
             numberOfTopLayers = slabReinforcement.getTopDiameters().size();
             numberOfBottomLayers = slabReinforcement.getBottomDiameters().size();
             List<Integer> topDiameters = slabReinforcement.getTopDiameters();
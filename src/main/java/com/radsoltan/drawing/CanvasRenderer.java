@@ -0,0 +1,253 @@
+package com.radsoltan.drawing;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Renderer that draws on JavaFX canvas graphics context. It must be used on the JavaFX application thread.
+ */
+public class CanvasRenderer implements Renderer {
+
+    private final GraphicsContext graphicsContext;
+
+    /**
+     * Constructor.
+     *
+     * @param graphicsContext graphics context to draw on
+     */
+    public CanvasRenderer(GraphicsContext graphicsContext) {
+        this.graphicsContext = graphicsContext;
+    }
+
+    /**
+     * Getter for graphics context.
+     *
+     * @return graphics context
+     */
+    public GraphicsContext getGraphicsContext() {
+        return graphicsContext;
+    }
+
+    /**
+     * Sets colour used by fill and fillText methods.
+     *
+     * @param colour fill colour
+     */
+    @Override
+    public void setFill(Color colour) {
+        graphicsContext.setFill(colour);
+    }
+
+    /**
+     * Sets colour used by stroke method.
+     *
+     * @param colour stroke colour
+     */
+    @Override
+    public void setStroke(Color colour) {
+        graphicsContext.setStroke(colour);
+    }
+
+    /**
+     * Sets line width used by stroke method.
+     *
+     * @param lineWidth line width
+     */
+    @Override
+    public void setLineWidth(double lineWidth) {
+        graphicsContext.setLineWidth(lineWidth);
+    }
+
+    /**
+     * Sets font used by fillText method.
+     *
+     * @param family font family
+     * @param size   font size
+     */
+    @Override
+    public void setFont(String family, double size) {
+        graphicsContext.setFont(new Font(family, size));
+    }
+
+    /**
+     * Sets horizontal text alignment relative to the text x coordinate.
+     *
+     * @param textAlignment text alignment
+     */
+    @Override
+    public void setTextAlign(TextAlignment textAlignment) {
+        graphicsContext.setTextAlign(textAlignment);
+    }
+
+    /**
+     * Sets vertical text alignment relative to the text y coordinate.
+     *
+     * @param baseline text baseline
+     */
+    @Override
+    public void setTextBaseline(VPos baseline) {
+        graphicsContext.setTextBaseline(baseline);
+    }
+
+    /**
+     * Starts a new path.
+     */
+    @Override
+    public void beginPath() {
+        graphicsContext.beginPath();
+    }
+
+    /**
+     * Starts a new sub path at the given point.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    @Override
+    public void moveTo(double x, double y) {
+        graphicsContext.moveTo(x, y);
+    }
+
+    /**
+     * Adds a line from the current point to the given point.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    @Override
+    public void lineTo(double x, double y) {
+        graphicsContext.lineTo(x, y);
+    }
+
+    /**
+     * Adds a quadratic curve from the current point to the given point.
+     *
+     * @param xc x coordinate of the control point
+     * @param yc y coordinate of the control point
+     * @param x1 x coordinate of the end point
+     * @param y1 y coordinate of the end point
+     */
+    @Override
+    public void quadraticCurveTo(double xc, double yc, double x1, double y1) {
+        graphicsContext.quadraticCurveTo(xc, yc, x1, y1);
+    }
+
+    /**
+     * Adds an elliptical arc to the path.
+     *
+     * @param centerX    x coordinate of the arc centre
+     * @param centerY    y coordinate of the arc centre
+     * @param radiusX    horizontal radius
+     * @param radiusY    vertical radius
+     * @param startAngle start angle in degrees
+     * @param length     angular extent in degrees
+     */
+    @Override
+    public void arc(double centerX, double centerY, double radiusX, double radiusY, double startAngle, double length) {
+        graphicsContext.arc(centerX, centerY, radiusX, radiusY, startAngle, length);
+    }
+
+    /**
+     * Adds a closed rectangle to the path.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void rect(double x, double y, double width, double height) {
+        graphicsContext.rect(x, y, width, height);
+    }
+
+    /**
+     * Closes the current sub path.
+     */
+    @Override
+    public void closePath() {
+        graphicsContext.closePath();
+    }
+
+    /**
+     * Strokes the current path.
+     */
+    @Override
+    public void stroke() {
+        graphicsContext.stroke();
+    }
+
+    /**
+     * Fills the current path.
+     */
+    @Override
+    public void fill() {
+        graphicsContext.fill();
+    }
+
+    /**
+     * Clears the given rectangle, removing everything drawn in that area.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void clearRect(double x, double y, double width, double height) {
+        graphicsContext.clearRect(x, y, width, height);
+    }
+
+    /**
+     * Fills an oval bounded by the given rectangle.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        graphicsContext.fillOval(x, y, width, height);
+    }
+
+    /**
+     * Draws text with fill colour.
+     *
+     * @param text text to be drawn
+     * @param x    x coordinate
+     * @param y    y coordinate
+     */
+    @Override
+    public void fillText(String text, double x, double y) {
+        graphicsContext.fillText(text, x, y);
+    }
+
+    /**
+     * Replaces the current transform.
+     *
+     * @param mxx x coordinate scaling element
+     * @param myx y coordinate shearing element
+     * @param mxy x coordinate shearing element
+     * @param myy y coordinate scaling element
+     * @param mxt x coordinate translation element
+     * @param myt y coordinate translation element
+     */
+    @Override
+    public void setTransform(double mxx, double myx, double mxy, double myy, double mxt, double myt) {
+        graphicsContext.setTransform(mxx, myx, mxy, myy, mxt, myt);
+    }
+
+    /**
+     * Appends translation to the current transform.
+     *
+     * @param x translation in x direction
+     * @param y translation in y direction
+     */
+    @Override
+    public void translate(double x, double y) {
+        graphicsContext.translate(x, y);
+    }
+}
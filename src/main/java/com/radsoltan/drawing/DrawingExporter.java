@@ -0,0 +1,169 @@
+package com.radsoltan.drawing;
+
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.util.Utility;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Exports section drawings to SVG or PNG files without JavaFX application thread.
+ * Each drawing uses its own offscreen renderer, so drawings are rendered in parallel in a dedicated fork join pool.
+ */
+public class DrawingExporter {
+    private final DrawingFormat format;
+    private final int width;
+    private final int height;
+    private final int parallelism;
+
+    /**
+     * Constructor. Uses all available processors.
+     *
+     * @param format drawing format
+     * @param width  drawing width in pixels
+     * @param height drawing height in pixels
+     */
+    public DrawingExporter(DrawingFormat format, int width, int height) {
+        this(format, width, height, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param format      drawing format
+     * @param width       drawing width in pixels
+     * @param height      drawing height in pixels
+     * @param parallelism number of worker threads
+     */
+    public DrawingExporter(DrawingFormat format, int width, int height, int parallelism) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_DRAWING_SIZE);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_PARALLELISM);
+        }
+        this.format = format;
+        this.width = width;
+        this.height = height;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Renders drawing of a single section.
+     *
+     * @param request design request
+     * @return drawing file content
+     * @throws IllegalArgumentException if section can't be drawn
+     */
+    public byte[] render(DesignRequest request) {
+        SectionDrawing sectionDrawing = new SectionDrawing(request, width, height);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(format == DrawingFormat.PNG ? 16384 : 8192);
+        try {
+            if (format == DrawingFormat.PNG) {
+                RasterRenderer renderer = new RasterRenderer(width, height);
+                sectionDrawing.draw(renderer);
+                renderer.writePng(outputStream);
+            } else {
+                SvgRenderer renderer = new SvgRenderer(width, height);
+                sectionDrawing.draw(renderer);
+                Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                renderer.write(writer);
+            }
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Renders drawings of all sections in parallel and writes them to the directory, one file per section.
+     * Files are named after request ids, see getFileNames method. Sections that can't be drawn do not stop the export,
+     * their error messages are returned instead.
+     *
+     * @param requests  list of design requests
+     * @param directory output directory, created if it does not exist
+     * @return error messages by file name of the drawing, in the same order as the requests, empty if all sections were drawn
+     * @throws IOException if a file can't be written
+     */
+    public Map<String, String> export(List<DesignRequest> requests, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> fileNames = getFileNames(requests);
+        String[] errors = new String[requests.size()];
+        try {
+            Utility.invokeInForkJoinPool(parallelism, () -> {
+                IntStream.range(0, requests.size()).parallel().forEach(i -> {
+                    DesignRequest request = requests.get(i);
+                    byte[] drawing;
+                    try {
+                        drawing = render(request);
+                    } catch (IllegalArgumentException e) {
+                        errors[i] = e.getMessage();
+                        return;
+                    }
+                    try {
+                        Files.write(directory.resolve(fileNames.get(i)), drawing);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Map<String, String> errorMessages = new LinkedHashMap<>();
+        IntStream.range(0, errors.length)
+                .filter(i -> errors[i] != null)
+                .forEach(i -> errorMessages.put(fileNames.get(i), errors[i]));
+        return errorMessages;
+    }
+
+    /**
+     * Gets unique file names of section drawings. A name is the request id with characters other than letters, digits, dots, dashes and underscores
+     * replaced with underscores. Requests without id are named by their position in the list, starting from 1.
+     * If a name was already used, ignoring case, the position is appended to it, e.g. B1-2 for the second request with id B1.
+     *
+     * @param requests list of design requests
+     * @return file names with extension, in the same order as the requests
+     */
+    public List<String> getFileNames(List<DesignRequest> requests) {
+        List<String> fileNames = new ArrayList<>(requests.size());
+        Set<String> usedNames = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String id = requests.get(i).getId();
+            String name = (id == null || id.isBlank()) ? "section-" + (i + 1) : id.replaceAll("[^A-Za-z0-9._-]", "_");
+            String uniqueName = name;
+            for (int suffix = i + 1; !usedNames.add(uniqueName.toLowerCase(Locale.ROOT)); suffix++) {
+                uniqueName = name + "-" + suffix;
+            }
+            fileNames.add(uniqueName + "." + format.getExtension());
+        }
+        return fileNames;
+    }
+
+    /**
+     * Getter for drawing format.
+     *
+     * @return drawing format
+     */
+    public DrawingFormat getFormat() {
+        return format;
+    }
+}
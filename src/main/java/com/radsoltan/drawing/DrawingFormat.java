@@ -0,0 +1,29 @@
+package com.radsoltan.drawing;
+
+/**
+ * File formats that section drawings can be exported to.
+ */
+public enum DrawingFormat {
+    SVG("svg"),
+    PNG("png");
+
+    private final String extension;
+
+    /**
+     * Constructor.
+     *
+     * @param extension file extension without the dot
+     */
+    DrawingFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Getter for file extension.
+     *
+     * @return file extension without the dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,33 @@
+package com.radsoltan.drawing;
+
+/**
+ * Layers of the section drawing, in the order they are drawn. Each layer depends on a part of the section inputs only,
+ * so it can be kept when other inputs change. Outline and dimension lines depend on the geometry,
+ * reinforcement and annotations also on reinforcement and design parameters.
+ */
+public enum DrawingLayer {
+    OUTLINE(false),
+    DIMENSIONS(false),
+    REINFORCEMENT(true),
+    ANNOTATIONS(true);
+
+    private final boolean dependsOnReinforcement;
+
+    /**
+     * Constructor.
+     *
+     * @param dependsOnReinforcement true if layer content depends on reinforcement and design parameters
+     */
+    DrawingLayer(boolean dependsOnReinforcement) {
+        this.dependsOnReinforcement = dependsOnReinforcement;
+    }
+
+    /**
+     * Checks if layer content depends on reinforcement and design parameters.
+     *
+     * @return true if layer has to be redrawn when reinforcement or design parameters change
+     */
+    public boolean dependsOnReinforcement() {
+        return dependsOnReinforcement;
+    }
+}
@@ -0,0 +1,88 @@
+package com.radsoltan.drawing;
+
+import com.radsoltan.constants.UIText;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Section drawing split into layers, each drawn with its own renderer, for example on canvases stacked one over another.
+ * Inputs each layer was drawn for are kept, so that on update only layers whose inputs have changed are cleared and redrawn.
+ * For example, changing reinforcement redraws reinforcement and annotations, but not the section outline and dimension lines.
+ */
+public class LayeredDrawing {
+
+    private final Map<DrawingLayer, Renderer> renderers;
+    private final Map<DrawingLayer, List<Object>> drawnInputs;
+    private final double width;
+    private final double height;
+
+    /**
+     * Constructor.
+     *
+     * @param renderers renderer for each drawing layer
+     * @param width     width of the area cleared before a layer is redrawn
+     * @param height    height of the area cleared before a layer is redrawn
+     */
+    public LayeredDrawing(Map<DrawingLayer, Renderer> renderers, double width, double height) {
+        if (!renderers.keySet().containsAll(EnumSet.allOf(DrawingLayer.class))) {
+            throw new IllegalArgumentException(UIText.INVALID_DRAWING_LAYERS);
+        }
+        this.renderers = new EnumMap<>(renderers);
+        this.drawnInputs = new EnumMap<>(DrawingLayer.class);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Redraws layers of the section drawing whose inputs have changed since they were last drawn.
+     * If a layer can't be drawn, it and all layers above it are cleared and the exception is rethrown.
+     *
+     * @param sectionDrawing section drawing
+     * @return layers that were redrawn
+     */
+    public Set<DrawingLayer> update(SectionDrawing sectionDrawing) {
+        Set<DrawingLayer> redrawnLayers = EnumSet.noneOf(DrawingLayer.class);
+        for (DrawingLayer layer : DrawingLayer.values()) {
+            List<Object> inputs = sectionDrawing.getLayerInputs(layer);
+            if (Objects.equals(inputs, drawnInputs.get(layer))) {
+                continue;
+            }
+            Renderer renderer = renderers.get(layer);
+            renderer.clearRect(0, 0, width, height);
+            drawnInputs.remove(layer);
+            try {
+                sectionDrawing.draw(renderer, layer);
+            } catch (IllegalArgumentException e) {
+                clearFrom(layer);
+                throw e;
+            }
+            drawnInputs.put(layer, inputs);
+            redrawnLayers.add(layer);
+        }
+        return redrawnLayers;
+    }
+
+    /**
+     * Clears all layers. All of them are redrawn on next update.
+     */
+    public void clear() {
+        clearFrom(DrawingLayer.OUTLINE);
+    }
+
+    /**
+     * Clears given layer and all layers above it.
+     *
+     * @param firstLayer first layer to clear
+     */
+    private void clearFrom(DrawingLayer firstLayer) {
+        for (DrawingLayer layer : EnumSet.range(firstLayer, DrawingLayer.ANNOTATIONS)) {
+            renderers.get(layer).clearRect(0, 0, width, height);
+            drawnInputs.remove(layer);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.radsoltan.drawing;
+
+import javafx.geometry.VPos;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Base class for renderers that draw without JavaFX toolkit, so they can be used in worker threads.
+ * It keeps the drawing state and builds the current path. Path points are transformed when they are added,
+ * as in GraphicsContext, so the path is stored in drawing coordinates. Subclasses only output the shapes.
+ */
+public abstract class OffscreenRenderer implements Renderer {
+
+    private final int width;
+    private final int height;
+    private final AffineTransform transform;
+    private final Path2D.Double path;
+    private final Point2D.Double point;
+    private Color fill;
+    private Color stroke;
+    private double lineWidth;
+    private String fontFamily;
+    private double fontSize;
+    private TextAlignment textAlignment;
+    private VPos textBaseline;
+
+    public static final String DEFAULT_FONT_FAMILY = "SansSerif";
+    public static final double DEFAULT_FONT_SIZE = 12;
+    // Approximate font metrics used to position lines of text
+    private static final double ASCENT_RATIO = 0.8;
+    private static final double LINE_HEIGHT_RATIO = 1.2;
+
+    /**
+     * Constructor. Sets default drawing state, same as for a new canvas.
+     *
+     * @param width  drawing width
+     * @param height drawing height
+     */
+    protected OffscreenRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.transform = new AffineTransform();
+        this.path = new Path2D.Double();
+        this.point = new Point2D.Double();
+        this.fill = Color.BLACK;
+        this.stroke = Color.BLACK;
+        this.lineWidth = 1;
+        this.fontFamily = DEFAULT_FONT_FAMILY;
+        this.fontSize = DEFAULT_FONT_SIZE;
+        this.textAlignment = TextAlignment.LEFT;
+        this.textBaseline = VPos.BASELINE;
+    }
+
+    /**
+     * Sets colour used by fill and fillText methods.
+     *
+     * @param colour fill colour
+     */
+    @Override
+    public void setFill(Color colour) {
+        this.fill = colour;
+    }
+
+    /**
+     * Sets colour used by stroke method.
+     *
+     * @param colour stroke colour
+     */
+    @Override
+    public void setStroke(Color colour) {
+        this.stroke = colour;
+    }
+
+    /**
+     * Sets line width used by stroke method.
+     *
+     * @param lineWidth line width
+     */
+    @Override
+    public void setLineWidth(double lineWidth) {
+        this.lineWidth = lineWidth;
+    }
+
+    /**
+     * Sets font used by fillText method.
+     *
+     * @param family font family
+     * @param size   font size
+     */
+    @Override
+    public void setFont(String family, double size) {
+        this.fontFamily = family;
+        this.fontSize = size;
+    }
+
+    /**
+     * Sets horizontal text alignment relative to the text x coordinate.
+     *
+     * @param textAlignment text alignment
+     */
+    @Override
+    public void setTextAlign(TextAlignment textAlignment) {
+        this.textAlignment = textAlignment;
+    }
+
+    /**
+     * Sets vertical text alignment relative to the text y coordinate.
+     *
+     * @param baseline text baseline
+     */
+    @Override
+    public void setTextBaseline(VPos baseline) {
+        this.textBaseline = baseline;
+    }
+
+    /**
+     * Starts a new path.
+     */
+    @Override
+    public void beginPath() {
+        path.reset();
+    }
+
+    /**
+     * Starts a new sub path at the given point.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    @Override
+    public void moveTo(double x, double y) {
+        transformPoint(x, y);
+        path.moveTo(point.x, point.y);
+    }
+
+    /**
+     * Adds a line from the current point to the given point. If the path is empty it starts a new sub path.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    @Override
+    public void lineTo(double x, double y) {
+        if (path.getCurrentPoint() == null) {
+            moveTo(x, y);
+            return;
+        }
+        transformPoint(x, y);
+        path.lineTo(point.x, point.y);
+    }
+
+    /**
+     * Adds a quadratic curve from the current point to the given point. If the path is empty it starts a new sub path at the control point.
+     *
+     * @param xc x coordinate of the control point
+     * @param yc y coordinate of the control point
+     * @param x1 x coordinate of the end point
+     * @param y1 y coordinate of the end point
+     */
+    @Override
+    public void quadraticCurveTo(double xc, double yc, double x1, double y1) {
+        if (path.getCurrentPoint() == null) {
+            moveTo(xc, yc);
+        }
+        transformPoint(xc, yc);
+        double controlX = point.x;
+        double controlY = point.y;
+        transformPoint(x1, y1);
+        path.quadTo(controlX, controlY, point.x, point.y);
+    }
+
+    /**
+     * Adds an elliptical arc to the path. The arc is connected with a line to the current point.
+     *
+     * @param centerX    x coordinate of the arc centre
+     * @param centerY    y coordinate of the arc centre
+     * @param radiusX    horizontal radius
+     * @param radiusY    vertical radius
+     * @param startAngle start angle in degrees
+     * @param length     angular extent in degrees
+     */
+    @Override
+    public void arc(double centerX, double centerY, double radiusX, double radiusY, double startAngle, double length) {
+        Arc2D.Double arc = new Arc2D.Double(centerX - radiusX, centerY - radiusY, 2 * radiusX, 2 * radiusY, startAngle, length, Arc2D.OPEN);
+        path.append(arc.getPathIterator(transform), path.getCurrentPoint() != null);
+    }
+
+    /**
+     * Adds a closed rectangle to the path.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void rect(double x, double y, double width, double height) {
+        path.append(new Rectangle2D.Double(x, y, width, height).getPathIterator(transform), false);
+    }
+
+    /**
+     * Closes the current sub path.
+     */
+    @Override
+    public void closePath() {
+        if (path.getCurrentPoint() != null) {
+            path.closePath();
+        }
+    }
+
+    /**
+     * Replaces the current transform.
+     *
+     * @param mxx x coordinate scaling element
+     * @param myx y coordinate shearing element
+     * @param mxy x coordinate shearing element
+     * @param myy y coordinate scaling element
+     * @param mxt x coordinate translation element
+     * @param myt y coordinate translation element
+     */
+    @Override
+    public void setTransform(double mxx, double myx, double mxy, double myy, double mxt, double myt) {
+        transform.setTransform(mxx, myx, mxy, myy, mxt, myt);
+    }
+
+    /**
+     * Appends translation to the current transform.
+     *
+     * @param x translation in x direction
+     * @param y translation in y direction
+     */
+    @Override
+    public void translate(double x, double y) {
+        transform.translate(x, y);
+    }
+
+    /**
+     * Transforms a point with the current transform into the reusable point field.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    private void transformPoint(double x, double y) {
+        point.setLocation(x, y);
+        transform.transform(point, point);
+    }
+
+    /**
+     * Splits text into lines.
+     *
+     * @param text text
+     * @return lines of text
+     */
+    protected static String[] getLines(String text) {
+        return text.split("\n", -1);
+    }
+
+    /**
+     * Gets distance between baselines of subsequent lines of text for the current font.
+     *
+     * @return line height
+     */
+    protected double getLineHeight() {
+        return LINE_HEIGHT_RATIO * fontSize;
+    }
+
+    /**
+     * Gets y coordinate of the baseline of the first line of text, so the text block is aligned to y according to the text baseline.
+     *
+     * @param y             text y coordinate
+     * @param numberOfLines number of lines of text
+     * @return y coordinate of the first baseline
+     */
+    protected double getFirstBaselineY(double y, int numberOfLines) {
+        double blockHeight = (numberOfLines - 1) * getLineHeight() + fontSize;
+        switch (textBaseline) {
+            case TOP:
+                return y + ASCENT_RATIO * fontSize;
+            case CENTER:
+                return y - 0.5 * blockHeight + ASCENT_RATIO * fontSize;
+            case BOTTOM:
+                return y - blockHeight + ASCENT_RATIO * fontSize;
+            default:
+                return y;
+        }
+    }
+
+    /**
+     * Getter for drawing width.
+     *
+     * @return drawing width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Getter for drawing height.
+     *
+     * @return drawing height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Getter for current transform. It must not be modified.
+     *
+     * @return current transform
+     */
+    protected AffineTransform getTransform() {
+        return transform;
+    }
+
+    /**
+     * Getter for the current path in drawing coordinates. It must not be modified.
+     *
+     * @return current path
+     */
+    protected Path2D.Double getPath() {
+        return path;
+    }
+
+    /**
+     * Getter for fill colour.
+     *
+     * @return fill colour
+     */
+    protected Color getFill() {
+        return fill;
+    }
+
+    /**
+     * Getter for stroke colour.
+     *
+     * @return stroke colour
+     */
+    protected Color getStroke() {
+        return stroke;
+    }
+
+    /**
+     * Getter for line width.
+     *
+     * @return line width
+     */
+    protected double getLineWidth() {
+        return lineWidth;
+    }
+
+    /**
+     * Getter for font family.
+     *
+     * @return font family
+     */
+    protected String getFontFamily() {
+        return fontFamily;
+    }
+
+    /**
+     * Getter for font size.
+     *
+     * @return font size
+     */
+    protected double getFontSize() {
+        return fontSize;
+    }
+
+    /**
+     * Getter for text alignment.
+     *
+     * @return text alignment
+     */
+    protected TextAlignment getTextAlignment() {
+        return textAlignment;
+    }
+}
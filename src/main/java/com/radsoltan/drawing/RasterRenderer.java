@@ -0,0 +1,162 @@
+package com.radsoltan.drawing;
+
+import javafx.scene.paint.Color;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Renderer that draws into an offscreen raster image with Java 2D. Image has white background and drawing is anti-aliased.
+ */
+public class RasterRenderer extends OffscreenRenderer {
+
+    private final BufferedImage image;
+    private final Graphics2D graphics;
+    private final AffineTransform identity;
+    private final Ellipse2D.Double oval;
+
+    /**
+     * Constructor. Creates an image with white background.
+     *
+     * @param width  image width in pixels
+     * @param height image height in pixels
+     */
+    public RasterRenderer(int width, int height) {
+        super(width, height);
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this.graphics = image.createGraphics();
+        this.identity = new AffineTransform();
+        this.oval = new Ellipse2D.Double();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        graphics.setColor(java.awt.Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+    }
+
+    /**
+     * Strokes the current path. Path is already in image coordinates.
+     */
+    @Override
+    public void stroke() {
+        graphics.setTransform(identity);
+        graphics.setColor(toAwtColour(getStroke()));
+        graphics.setStroke(new BasicStroke((float) getLineWidth(), BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER));
+        graphics.draw(getPath());
+    }
+
+    /**
+     * Fills the current path. Path is already in image coordinates.
+     */
+    @Override
+    public void fill() {
+        graphics.setTransform(identity);
+        graphics.setColor(toAwtColour(getFill()));
+        graphics.fill(getPath());
+    }
+
+    /**
+     * Clears the given rectangle by painting it with the white background colour.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void clearRect(double x, double y, double width, double height) {
+        graphics.setTransform(getTransform());
+        graphics.setColor(java.awt.Color.WHITE);
+        graphics.fill(new Rectangle2D.Double(x, y, width, height));
+    }
+
+    /**
+     * Fills an oval bounded by the given rectangle.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        graphics.setTransform(getTransform());
+        graphics.setColor(toAwtColour(getFill()));
+        oval.setFrame(x, y, width, height);
+        graphics.fill(oval);
+    }
+
+    /**
+     * Draws text with fill colour. Lines of text are drawn one below another.
+     *
+     * @param text text to be drawn
+     * @param x    x coordinate
+     * @param y    y coordinate
+     */
+    @Override
+    public void fillText(String text, double x, double y) {
+        graphics.setTransform(getTransform());
+        graphics.setColor(toAwtColour(getFill()));
+        Font font = graphics.getFont();
+        if (!font.getFamily().equals(getFontFamily()) || font.getSize2D() != (float) getFontSize()) {
+            graphics.setFont(new Font(getFontFamily(), Font.PLAIN, 1).deriveFont((float) getFontSize()));
+        }
+        FontMetrics fontMetrics = graphics.getFontMetrics();
+        String[] lines = getLines(text);
+        double baselineY = getFirstBaselineY(y, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            double lineX;
+            switch (getTextAlignment()) {
+                case CENTER:
+                    lineX = x - 0.5 * fontMetrics.stringWidth(lines[i]);
+                    break;
+                case RIGHT:
+                    lineX = x - fontMetrics.stringWidth(lines[i]);
+                    break;
+                default:
+                    lineX = x;
+            }
+            graphics.drawString(lines[i], (float) lineX, (float) (baselineY + i * getLineHeight()));
+        }
+    }
+
+    /**
+     * Getter for the image.
+     *
+     * @return image
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Writes the image in PNG format. Stream is not closed.
+     *
+     * @param outputStream output stream
+     * @throws IOException if image can't be written
+     */
+    public void writePng(OutputStream outputStream) throws IOException {
+        ImageIO.write(image, "png", outputStream);
+        outputStream.flush();
+    }
+
+    /**
+     * Converts JavaFX colour to AWT colour.
+     *
+     * @param colour JavaFX colour
+     * @return AWT colour
+     */
+    private static java.awt.Color toAwtColour(Color colour) {
+        return new java.awt.Color((float) colour.getRed(), (float) colour.getGreen(), (float) colour.getBlue(), (float) colour.getOpacity());
+    }
+}
@@ -0,0 +1,172 @@
+package com.radsoltan.drawing;
+
+import javafx.geometry.VPos;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Interface for drawing surfaces that Drawable objects are drawn on. It follows the path based API of JavaFX GraphicsContext,
+ * so the same drawing code can draw on the canvas in the app or on offscreen surfaces such as SVG documents and raster images.
+ * Renderers are not thread safe, each drawing should use its own renderer.
+ */
+public interface Renderer {
+    /**
+     * Sets colour used by fill and fillText methods.
+     *
+     * @param colour fill colour
+     */
+    void setFill(Color colour);
+
+    /**
+     * Sets colour used by stroke method.
+     *
+     * @param colour stroke colour
+     */
+    void setStroke(Color colour);
+
+    /**
+     * Sets line width used by stroke method.
+     *
+     * @param lineWidth line width
+     */
+    void setLineWidth(double lineWidth);
+
+    /**
+     * Sets font used by fillText method.
+     *
+     * @param family font family
+     * @param size   font size
+     */
+    void setFont(String family, double size);
+
+    /**
+     * Sets horizontal text alignment relative to the text x coordinate.
+     *
+     * @param textAlignment text alignment
+     */
+    void setTextAlign(TextAlignment textAlignment);
+
+    /**
+     * Sets vertical text alignment relative to the text y coordinate.
+     *
+     * @param baseline text baseline
+     */
+    void setTextBaseline(VPos baseline);
+
+    /**
+     * Starts a new path.
+     */
+    void beginPath();
+
+    /**
+     * Starts a new sub path at the given point.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    void moveTo(double x, double y);
+
+    /**
+     * Adds a line from the current point to the given point.
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     */
+    void lineTo(double x, double y);
+
+    /**
+     * Adds a quadratic curve from the current point to the given point.
+     *
+     * @param xc x coordinate of the control point
+     * @param yc y coordinate of the control point
+     * @param x1 x coordinate of the end point
+     * @param y1 y coordinate of the end point
+     */
+    void quadraticCurveTo(double xc, double yc, double x1, double y1);
+
+    /**
+     * Adds an elliptical arc to the path. Angles are in degrees and are measured counterclockwise from the positive x axis.
+     *
+     * @param centerX    x coordinate of the arc centre
+     * @param centerY    y coordinate of the arc centre
+     * @param radiusX    horizontal radius
+     * @param radiusY    vertical radius
+     * @param startAngle start angle in degrees
+     * @param length     angular extent in degrees
+     */
+    void arc(double centerX, double centerY, double radiusX, double radiusY, double startAngle, double length);
+
+    /**
+     * Adds a closed rectangle to the path.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    void rect(double x, double y, double width, double height);
+
+    /**
+     * Closes the current sub path.
+     */
+    void closePath();
+
+    /**
+     * Strokes the current path with stroke colour and line width.
+     */
+    void stroke();
+
+    /**
+     * Fills the current path with fill colour.
+     */
+    void fill();
+
+    /**
+     * Clears the given rectangle, removing everything drawn in that area.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    void clearRect(double x, double y, double width, double height);
+
+    /**
+     * Fills an oval bounded by the given rectangle.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    void fillOval(double x, double y, double width, double height);
+
+    /**
+     * Draws text with fill colour. Text can include new lines.
+     *
+     * @param text text to be drawn
+     * @param x    x coordinate
+     * @param y    y coordinate
+     */
+    void fillText(String text, double x, double y);
+
+    /**
+     * Replaces the current transform.
+     *
+     * @param mxx x coordinate scaling element
+     * @param myx y coordinate shearing element
+     * @param mxy x coordinate shearing element
+     * @param myy y coordinate scaling element
+     * @param mxt x coordinate translation element
+     * @param myt y coordinate translation element
+     */
+    void setTransform(double mxx, double myx, double mxy, double myy, double mxt, double myt);
+
+    /**
+     * Appends translation to the current transform.
+     *
+     * @param x translation in x direction
+     * @param y translation in y direction
+     */
+    void translate(double x, double y);
+}
@@ -0,0 +1,455 @@
+package com.radsoltan.drawing;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.geometry.*;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Drawing of a beam or slab section with dimension lines, reinforcement and reinforcement description.
+ * The image is scaled and centred on a drawing of given size. It can be drawn with any renderer,
+ * so the same drawing is shown on the canvas in the app and exported to SVG or PNG files.
+ */
+public class SectionDrawing {
+
+    private final String elementType;
+    private final Geometry geometry;
+    private final Reinforcement reinforcement;
+    private final DesignParameters designParameters;
+    private final double width;
+    private final double height;
+
+    private static final double SLAB_IMAGE_HORIZONTAL_RATIO = 0.75;
+    private static final double SLAB_IMAGE_DIMENSION_LINES_SCALE = 0.5;
+    private static final int MAX_SLAB_THICKNESS_WHEN_DRAWING = 500;
+
+    private static final double BEAM_IMAGE_MAX_HORIZONTAL_RATIO = 0.5;
+    private static final double BEAM_IMAGE_MAX_VERTICAL_RATIO = 0.75;
+    private static final double BEAM_IMAGE_RATIO_REDUCTION_STEP = 0.05;
+
+    /**
+     * Constructor. Reinforcement is drawn only if both reinforcement and design parameters are provided.
+     *
+     * @param elementType      element type - 'beam' or 'slab'
+     * @param geometry         element geometry
+     * @param reinforcement    element reinforcement, can be null
+     * @param designParameters design parameters, can be null
+     * @param width            drawing width
+     * @param height           drawing height
+     */
+    public SectionDrawing(String elementType, Geometry geometry, Reinforcement reinforcement, DesignParameters designParameters, double width, double height) {
+        this.elementType = elementType;
+        this.geometry = geometry;
+        this.reinforcement = reinforcement;
+        this.designParameters = designParameters;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Constructor. Draws the section of a design request.
+     *
+     * @param request design request
+     * @param width   drawing width
+     * @param height  drawing height
+     */
+    public SectionDrawing(DesignRequest request, double width, double height) {
+        this(request.getElementType(), request.getGeometry(), request.getReinforcement(), request.getDesignParameters(), width, height);
+    }
+
+    /**
+     * Draws the section with given renderer. All layers are drawn one over another.
+     *
+     * @param renderer renderer to draw the section with
+     */
+    public void draw(Renderer renderer) {
+        for (DrawingLayer layer : DrawingLayer.values()) {
+            draw(renderer, layer);
+        }
+    }
+
+    /**
+     * Draws a single layer of the section with given renderer.
+     * Layers that depend on reinforcement are empty if reinforcement or design parameters are not set up.
+     *
+     * @param renderer renderer to draw the layer with
+     * @param layer    drawing layer
+     */
+    public void draw(Renderer renderer, DrawingLayer layer) {
+        if (geometry == null || elementType == null) {
+            throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+        }
+        switch (elementType.toLowerCase()) {
+            case Constants.ELEMENT_TYPE_SLAB:
+                drawSlabImage(renderer, layer);
+                break;
+            case Constants.ELEMENT_TYPE_BEAM:
+                drawBeamImage(renderer, layer);
+                break;
+            default:
+                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+        }
+    }
+
+    /**
+     * Gets inputs that the content of a layer depends on. Layer drawn for equal inputs is the same,
+     * so it doesn't need to be redrawn. Geometry, reinforcement and design parameters are compared by identity,
+     * as these are replaced and not modified when the section is edited.
+     *
+     * @param layer drawing layer
+     * @return list of layer inputs
+     */
+    public List<Object> getLayerInputs(DrawingLayer layer) {
+        return layer.dependsOnReinforcement()
+                ? Arrays.asList(elementType, geometry, width, height, reinforcement, designParameters)
+                : Arrays.asList(elementType, geometry, width, height);
+    }
+
+    /**
+     * Checks if reinforcement should be drawn.
+     *
+     * @return true if reinforcement and design parameters are set up
+     */
+    private boolean isReinforcementSetup() {
+        return reinforcement != null && designParameters != null;
+    }
+
+    /**
+     * Draws a layer of the slab image. Outline layer is the slab strip, dimensions layer is the slab depth dimension line.
+     * Reinforcement and annotations layers are slab reinforcement bars and their description.
+     * Slab image is drawn relatively to the drawing size using the ratios defined in constants.
+     * It scales the image by using scale from getSlabImageScale method.
+     *
+     * @param renderer renderer to draw with
+     * @param layer    drawing layer
+     */
+    private void drawSlabImage(Renderer renderer, DrawingLayer layer) {
+        int slabImageWidth = (int) (SLAB_IMAGE_HORIZONTAL_RATIO * width);
+        int slabThickness = geometry.getDepth();
+        double slabImageScale = getSlabImageScale(slabImageWidth, slabThickness);
+        int slabImageHeight = (int) (slabImageScale * slabThickness);
+
+        double slabLeftEdgeX = 0.5 * width - 0.5 * slabImageWidth;
+        double slabTopEdgeY = 0.5 * height - 0.5 * slabImageHeight;
+        double slabBottomEdgeY = slabTopEdgeY + slabImageHeight;
+        int slabEndArchDepth = (int) (getScaleForEndArchDepth(slabThickness) * SlabStrip.SMALL_END_ARCH_DEPTH);
+
+        SlabStrip slabStrip = new SlabStrip(
+                slabImageWidth,
+                slabImageHeight,
+                renderer,
+                Color.BLACK,
+                Color.LIGHTGRAY,
+                slabLeftEdgeX,
+                slabTopEdgeY,
+                slabEndArchDepth
+        );
+
+        switch (layer) {
+            case OUTLINE:
+                slabStrip.draw();
+                break;
+            case DIMENSIONS:
+                // Draw Vertical Dimension Line
+                VerticalDimensionLine verticalDimensionLine = new VerticalDimensionLine(
+                        Integer.toString(geometry.getDepth()),
+                        Color.BLACK,
+                        renderer,
+                        slabTopEdgeY,
+                        slabBottomEdgeY,
+                        slabLeftEdgeX,
+                        -DimensionLine.DEFAULT_SMALL_OFFSET,
+                        SLAB_IMAGE_DIMENSION_LINES_SCALE,
+                        true
+                );
+                verticalDimensionLine.draw();
+                break;
+            case REINFORCEMENT:
+                if (isReinforcementSetup()) {
+                    getSlabReinforcementToDraw(renderer, slabStrip, slabImageScale).drawBars();
+                }
+                break;
+            case ANNOTATIONS:
+                if (isReinforcementSetup()) {
+                    getSlabReinforcementToDraw(renderer, slabStrip, slabImageScale).drawDescription();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Gets slab reinforcement that can be drawn. Slab reinforcement is scaled using the scale from getSlabImageScale method.
+     *
+     * @param renderer       renderer to draw with
+     * @param slabStrip      slab strip object instantiated using constructor with renderer
+     * @param slabImageScale slab image scale
+     * @return slab reinforcement set up to be drawn
+     */
+    private SlabReinforcement getSlabReinforcementToDraw(Renderer renderer, SlabStrip slabStrip, double slabImageScale) {
+        if (!(reinforcement instanceof SlabReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
+        }
+        SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
+
+        return new SlabReinforcement(
+                slabReinforcement.getTopDiameters(),
+                slabReinforcement.getAdditionalTopDiameters(),
+                slabReinforcement.getTopSpacings(),
+                slabReinforcement.getTopVerticalSpacings(),
+                slabReinforcement.getBottomDiameters(),
+                slabReinforcement.getAdditionalBottomDiameters(),
+                slabReinforcement.getBottomSpacings(),
+                slabReinforcement.getBottomVerticalSpacings(),
+                designParameters,
+                slabStrip,
+                renderer,
+                Color.BLACK,
+                slabImageScale
+        );
+    }
+
+    /**
+     * It gets the scale of the slab image. The scale depends on MAX_SLAB_THICKNESS_WHEN_DRAWING.
+     * If this is less then limiting value, the scale is constant and the slab image represents 1m wide strip and slabImageHeight changes accordingly.
+     * Otherwise, the slabImageHeight stays constant when increasing slab depth, scale decreases and the slab strip width increases and is greater than 1m.
+     *
+     * @param slabImageWidth slab image width
+     * @param slabThickness  actual slab thickness in mm
+     * @return scale of the slab image
+     */
+    private static double getSlabImageScale(double slabImageWidth, int slabThickness) {
+        if (slabThickness <= MAX_SLAB_THICKNESS_WHEN_DRAWING) {
+            return slabImageWidth / 1000;
+        } else {
+            double maxSlabImageHeight = slabImageWidth * MAX_SLAB_THICKNESS_WHEN_DRAWING / 1000;
+
+            double slabWidth = slabImageWidth * slabThickness / maxSlabImageHeight;
+
+            return slabImageWidth / slabWidth;
+        }
+    }
+
+    /**
+     * Calculates the scale for the end arch depth. This is a ratio of MAX_SLAB_THICKNESS_WHEN_DRAWING to the slab thickness.
+     *
+     * @param slabThickness slab thickness in mm
+     * @return scale for the end arch depth
+     */
+    private static double getScaleForEndArchDepth(int slabThickness) {
+        return Math.min((double) MAX_SLAB_THICKNESS_WHEN_DRAWING / slabThickness, 1.0);
+    }
+
+    /**
+     * Draws a layer of the beam image. Outline layer is the beam section, dimensions layer are beam depth and width dimension lines.
+     * Reinforcement layer are main bars and shear links, annotations layer is their description.
+     * Beam image is drawn in scale that is obtained from getBeamImageScale method.
+     *
+     * @param renderer renderer to draw with
+     * @param layer    drawing layer
+     */
+    private void drawBeamImage(Renderer renderer, DrawingLayer layer) {
+        Section section = geometry.getSection();
+
+        if (section instanceof Rectangle) {
+            int beamWidth = section.getWidth();
+            int beamDepth = section.getDepth();
+
+            double beamImageScale = getBeamImageScale(beamWidth, width, beamDepth, height);
+
+            int beamImageWidth = (int) (beamImageScale * beamWidth);
+            int beamImageHeight = (int) (beamImageScale * beamDepth);
+
+            double beamLeftEdgeX = 0.5 * width - 0.5 * beamImageWidth;
+            double beamRightEdgeX = beamLeftEdgeX + beamImageWidth;
+            double beamTopEdgeY = 0.5 * height - 0.5 * beamImageHeight;
+            double beamBottomEdgeY = beamTopEdgeY + beamImageHeight;
+
+            Rectangle rectangle = new Rectangle(
+                    beamImageWidth,
+                    beamImageHeight,
+                    renderer,
+                    Color.BLACK,
+                    Color.LIGHTGRAY,
+                    beamLeftEdgeX,
+                    beamTopEdgeY
+            );
+
+            switch (layer) {
+                case OUTLINE:
+                    rectangle.draw();
+                    break;
+                case DIMENSIONS:
+                    // Draw Vertical Dimension Line
+                    VerticalDimensionLine verticalDimensionLine = new VerticalDimensionLine(
+                            Integer.toString(geometry.getDepth()),
+                            Color.BLACK,
+                            renderer,
+                            beamTopEdgeY,
+                            beamBottomEdgeY,
+                            beamLeftEdgeX,
+                            -DimensionLine.DEFAULT_SMALL_OFFSET,
+                            SLAB_IMAGE_DIMENSION_LINES_SCALE,
+                            true
+                    );
+                    verticalDimensionLine.draw();
+
+                    // Draw Horizontal Dimension Line
+                    HorizontalDimensionLine horizontalDimensionLine = new HorizontalDimensionLine(
+                            Integer.toString(geometry.getWidth()),
+                            Color.BLACK,
+                            renderer,
+                            beamLeftEdgeX,
+                            beamRightEdgeX,
+                            beamBottomEdgeY,
+                            DimensionLine.DEFAULT_SMALL_OFFSET,
+                            SLAB_IMAGE_DIMENSION_LINES_SCALE
+                    );
+                    horizontalDimensionLine.draw();
+                    break;
+                case REINFORCEMENT:
+                    if (isReinforcementSetup()) {
+                        // Draw beam reinforcement and shear links
+                        getBeamReinforcementToDraw(renderer, rectangle, beamImageScale).drawBars();
+                        getShearLinksToDraw(renderer, rectangle, beamImageScale).drawLinks();
+                    }
+                    break;
+                case ANNOTATIONS:
+                    if (isReinforcementSetup()) {
+                        getBeamReinforcementToDraw(renderer, rectangle, beamImageScale).drawDescription();
+                        getShearLinksToDraw(renderer, rectangle, beamImageScale).drawDescription();
+                    }
+                    break;
+            }
+        } else {
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
+        }
+    }
+
+    /**
+     * Gets beam reinforcement that can be drawn.
+     *
+     * @param renderer       renderer to draw with
+     * @param rectangle      beam section in scale
+     * @param beamImageScale beam image scale
+     * @return beam reinforcement set up to be drawn
+     */
+    private BeamReinforcement getBeamReinforcementToDraw(Renderer renderer, Rectangle rectangle, double beamImageScale) {
+        BeamReinforcement beamReinforcement = getBeamReinforcement();
+
+        return new BeamReinforcement(
+                beamReinforcement.getTopDiameters(),
+                beamReinforcement.getTopVerticalSpacings(),
+                beamReinforcement.getBottomDiameters(),
+                beamReinforcement.getBottomVerticalSpacings(),
+                beamReinforcement.getShearLinks(),
+                designParameters,
+                rectangle,
+                renderer,
+                Color.BLACK,
+                beamImageScale
+        );
+    }
+
+    /**
+     * Gets shear links that can be drawn.
+     *
+     * @param renderer       renderer to draw with
+     * @param rectangle      beam section in scale
+     * @param beamImageScale beam image scale
+     * @return shear links set up to be drawn
+     */
+    private ShearLinks getShearLinksToDraw(Renderer renderer, Rectangle rectangle, double beamImageScale) {
+        ShearLinks shearLinks = getBeamReinforcement().getShearLinks();
+
+        return new ShearLinks(
+                shearLinks.getYieldStrength(),
+                shearLinks.getDiameter(),
+                shearLinks.getSpacing(),
+                shearLinks.getLegs(),
+                designParameters,
+                rectangle,
+                renderer,
+                Color.BLACK,
+                beamImageScale
+        );
+    }
+
+    /**
+     * Gets reinforcement as beam reinforcement.
+     *
+     * @return beam reinforcement
+     */
+    private BeamReinforcement getBeamReinforcement() {
+        if (!(reinforcement instanceof BeamReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
+        }
+        return (BeamReinforcement) reinforcement;
+    }
+
+    /**
+     * Calculates beam image scale using ratios defined in constants.
+     * These are ratios of max beam image width/height to drawing width/height.
+     *
+     * @param beamWidth     beam real width in mm
+     * @param drawingWidth  drawing width
+     * @param beamDepth     beam real depth in mmm
+     * @param drawingHeight drawing height
+     * @return Beam image scale
+     */
+    private static double getBeamImageScale(int beamWidth, double drawingWidth, int beamDepth, double drawingHeight) {
+        double scale;
+
+        switch (Integer.signum(beamDepth - beamWidth)) {
+            case 1:
+                double beamImageVerticalRatio = BEAM_IMAGE_MAX_VERTICAL_RATIO;
+                do {
+                    // Wrapped in loop to check if width doesn't exceed max ratio. If that's the case retry with reduced max vertical ratio
+                    scale = beamImageVerticalRatio * drawingHeight / beamDepth;
+                    // Reducing beam max vertical ratio
+                    beamImageVerticalRatio = beamImageVerticalRatio - BEAM_IMAGE_RATIO_REDUCTION_STEP;
+                } while (scale * beamWidth <= BEAM_IMAGE_MAX_HORIZONTAL_RATIO);
+                break;
+            case -1:
+                double beamImageHorizontalRatio = BEAM_IMAGE_MAX_HORIZONTAL_RATIO;
+                do {
+                    // Wrapped in loop to check if depth doesn't exceed max ratio. If that's the case retry with reduced max horizontal ratio
+                    scale = beamImageHorizontalRatio * drawingWidth / beamWidth;
+                    // Reducing beam max horizontal ratio
+                    beamImageHorizontalRatio = beamImageHorizontalRatio - BEAM_IMAGE_RATIO_REDUCTION_STEP;
+                } while (scale * beamDepth <= BEAM_IMAGE_MAX_VERTICAL_RATIO);
+                break;
+            default:
+                scale = BEAM_IMAGE_MAX_HORIZONTAL_RATIO * drawingWidth / beamWidth;
+                break;
+        }
+
+        return scale;
+    }
+
+    /**
+     * Getter for drawing width.
+     *
+     * @return drawing width
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Getter for drawing height.
+     *
+     * @return drawing height
+     */
+    public double getHeight() {
+        return height;
+    }
+}
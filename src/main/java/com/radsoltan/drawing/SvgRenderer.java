@@ -0,0 +1,320 @@
+package com.radsoltan.drawing;
+
+import javafx.scene.paint.Color;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renderer that draws into an SVG document. Paths are written in drawing coordinates, ovals and text keep the transform as an attribute.
+ * Coordinates are rounded to 0.01.
+ */
+public class SvgRenderer extends OffscreenRenderer {
+
+    private final StringBuilder body;
+    private final double[] coordinates;
+
+    /**
+     * Constructor.
+     *
+     * @param width  drawing width
+     * @param height drawing height
+     */
+    public SvgRenderer(int width, int height) {
+        super(width, height);
+        this.body = new StringBuilder(4096);
+        this.coordinates = new double[6];
+    }
+
+    /**
+     * Strokes the current path.
+     */
+    @Override
+    public void stroke() {
+        body.append("<path d=\"");
+        appendPathData();
+        body.append("\" fill=\"none\"");
+        appendColour("stroke", getStroke());
+        body.append(" stroke-width=\"");
+        appendNumber(getLineWidth());
+        body.append("\" stroke-linecap=\"square\"/>\n");
+    }
+
+    /**
+     * Fills the current path.
+     */
+    @Override
+    public void fill() {
+        body.append("<path d=\"");
+        appendPathData();
+        body.append('"');
+        appendColour("fill", getFill());
+        body.append("/>\n");
+    }
+
+    /**
+     * Clears the given rectangle. If it covers the whole drawing, all elements are removed.
+     * Otherwise, the rectangle is painted white, as elements drawn earlier can't be cut.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void clearRect(double x, double y, double width, double height) {
+        Rectangle2D area = getTransform().createTransformedShape(new Rectangle2D.Double(x, y, width, height)).getBounds2D();
+        if (area.contains(0, 0, getWidth(), getHeight())) {
+            body.setLength(0);
+            return;
+        }
+        body.append("<rect x=\"");
+        appendNumber(x);
+        body.append("\" y=\"");
+        appendNumber(y);
+        body.append("\" width=\"");
+        appendNumber(width);
+        body.append("\" height=\"");
+        appendNumber(height);
+        body.append('"');
+        appendColour("fill", Color.WHITE);
+        appendTransform();
+        body.append("/>\n");
+    }
+
+    /**
+     * Fills an oval bounded by the given rectangle.
+     *
+     * @param x      x coordinate of the top left corner
+     * @param y      y coordinate of the top left corner
+     * @param width  width
+     * @param height height
+     */
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        body.append("<ellipse cx=\"");
+        appendNumber(x + 0.5 * width);
+        body.append("\" cy=\"");
+        appendNumber(y + 0.5 * height);
+        body.append("\" rx=\"");
+        appendNumber(0.5 * width);
+        body.append("\" ry=\"");
+        appendNumber(0.5 * height);
+        body.append('"');
+        appendColour("fill", getFill());
+        appendTransform();
+        body.append("/>\n");
+    }
+
+    /**
+     * Draws text with fill colour. Each line of text is written as a separate tspan element.
+     *
+     * @param text text to be drawn
+     * @param x    x coordinate
+     * @param y    y coordinate
+     */
+    @Override
+    public void fillText(String text, double x, double y) {
+        String[] lines = getLines(text);
+        double baselineY = getFirstBaselineY(y, lines.length);
+        body.append("<text font-family=\"");
+        appendEscaped(getFontFamily());
+        body.append("\" font-size=\"");
+        appendNumber(getFontSize());
+        body.append("\" text-anchor=\"");
+        switch (getTextAlignment()) {
+            case CENTER:
+                body.append("middle");
+                break;
+            case RIGHT:
+                body.append("end");
+                break;
+            default:
+                body.append("start");
+        }
+        body.append('"');
+        appendColour("fill", getFill());
+        appendTransform();
+        body.append('>');
+        for (int i = 0; i < lines.length; i++) {
+            body.append("<tspan x=\"");
+            appendNumber(x);
+            body.append("\" y=\"");
+            appendNumber(baselineY + i * getLineHeight());
+            body.append("\">");
+            appendEscaped(lines[i]);
+            body.append("</tspan>");
+        }
+        body.append("</text>\n");
+    }
+
+    /**
+     * Gets SVG document with everything drawn so far.
+     *
+     * @return SVG document
+     */
+    public String toSvg() {
+        StringBuilder document = new StringBuilder(body.length() + 256);
+        document.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(getWidth())
+                .append("\" height=\"").append(getHeight())
+                .append("\" viewBox=\"0 0 ").append(getWidth()).append(' ').append(getHeight()).append("\">\n")
+                .append(body)
+                .append("</svg>\n");
+        return document.toString();
+    }
+
+    /**
+     * Writes SVG document to the writer. Writer is not closed.
+     *
+     * @param writer writer
+     * @throws IOException if document can't be written
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write(toSvg());
+        writer.flush();
+    }
+
+    /**
+     * Appends SVG path data of the current path.
+     */
+    private void appendPathData() {
+        PathIterator iterator = getPath().getPathIterator(null);
+        while (!iterator.isDone()) {
+            int segment = iterator.currentSegment(coordinates);
+            switch (segment) {
+                case PathIterator.SEG_MOVETO:
+                    appendSegment('M', 1);
+                    break;
+                case PathIterator.SEG_LINETO:
+                    appendSegment('L', 1);
+                    break;
+                case PathIterator.SEG_QUADTO:
+                    appendSegment('Q', 2);
+                    break;
+                case PathIterator.SEG_CUBICTO:
+                    appendSegment('C', 3);
+                    break;
+                default:
+                    body.append('Z');
+            }
+            iterator.next();
+        }
+    }
+
+    /**
+     * Appends a path segment.
+     *
+     * @param command        SVG path command
+     * @param numberOfPoints number of points in the segment
+     */
+    private void appendSegment(char command, int numberOfPoints) {
+        body.append(command);
+        for (int i = 0; i < 2 * numberOfPoints; i++) {
+            if (i > 0) {
+                body.append(' ');
+            }
+            appendNumber(coordinates[i]);
+        }
+    }
+
+    /**
+     * Appends transform attribute if the current transform is not identity.
+     */
+    private void appendTransform() {
+        AffineTransform transform = getTransform();
+        if (transform.isIdentity()) {
+            return;
+        }
+        body.append(" transform=\"matrix(");
+        appendNumber(transform.getScaleX());
+        body.append(' ');
+        appendNumber(transform.getShearY());
+        body.append(' ');
+        appendNumber(transform.getShearX());
+        body.append(' ');
+        appendNumber(transform.getScaleY());
+        body.append(' ');
+        appendNumber(transform.getTranslateX());
+        body.append(' ');
+        appendNumber(transform.getTranslateY());
+        body.append(")\"");
+    }
+
+    /**
+     * Appends colour attribute. Opacity is added only for transparent colours.
+     *
+     * @param attribute attribute name
+     * @param colour    colour
+     */
+    private void appendColour(String attribute, Color colour) {
+        body.append(' ').append(attribute).append("=\"");
+        if (colour == null) {
+            body.append("none\"");
+            return;
+        }
+        int rgb = ((int) Math.round(colour.getRed() * 255) << 16) | ((int) Math.round(colour.getGreen() * 255) << 8) | (int) Math.round(colour.getBlue() * 255);
+        body.append('#');
+        String hex = Integer.toHexString(rgb);
+        for (int i = hex.length(); i < 6; i++) {
+            body.append('0');
+        }
+        body.append(hex).append('"');
+        if (colour.getOpacity() < 1) {
+            body.append(' ').append(attribute).append("-opacity=\"");
+            appendNumber(colour.getOpacity());
+            body.append('"');
+        }
+    }
+
+    /**
+     * Appends number rounded to 0.01 without trailing zeros.
+     *
+     * @param value number
+     */
+    private void appendNumber(double value) {
+        long hundredths = Math.round(value * 100);
+        if (hundredths < 0) {
+            body.append('-');
+            hundredths = -hundredths;
+        }
+        body.append(hundredths / 100);
+        int fraction = (int) (hundredths % 100);
+        if (fraction != 0) {
+            body.append('.').append(fraction / 10);
+            if (fraction % 10 != 0) {
+                body.append(fraction % 10);
+            }
+        }
+    }
+
+    /**
+     * Appends text with XML special characters escaped.
+     *
+     * @param text text
+     */
+    private void appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            switch (character) {
+                case '&':
+                    body.append("&amp;");
+                    break;
+                case '<':
+                    body.append("&lt;");
+                    break;
+                case '>':
+                    body.append("&gt;");
+                    break;
+                case '"':
+                    body.append("&quot;");
+                    break;
+                default:
+                    body.append(character);
+            }
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.radsoltan.model;
 import com.radsoltan.model.geometry.Geometry;
 import com.radsoltan.model.reinforcement.BeamReinforcement;
 import com.radsoltan.model.reinforcement.ShearLinks;
-import com.radsoltan.constants.UIText;
+import com.radsoltan.constants.Constants;
 
 import java.io.Serializable;
 
@@ -29,6 +29,7 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
     private final int fy;
     private final double fyd;
     private final double fctm;
+    private transient MaterialContext materialContext;
     /* Provided Reinforcement */
     private final double providedTensileReinforcement;
     private final double providedCompressiveReinforcement;
@@ -70,19 +71,71 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
         this.designParameters = designParameters;
         this.geometry = geometry;
         this.concrete = concrete;
-        this.fck = concrete.getCompressiveStrength();
-        this.fcd = concrete.getDesignCompressiveResistance(designParameters.getPartialFactorOfSafetyForConcrete());
-        this.fctm = concrete.getMeanAxialTensileStrength();
-        this.fy = designParameters.getYieldStrength();
-        this.fyd = designParameters.getDesignYieldStrength();
-        this.providedCompressiveReinforcement = (UlsMoment >= 0) ? reinforcement.getTotalAreaOfTopReinforcement() : reinforcement.getTotalAreaOfBottomReinforcement();
-        this.providedTensileReinforcement = (UlsMoment >= 0) ? reinforcement.getTotalAreaOfBottomReinforcement() : reinforcement.getTotalAreaOfTopReinforcement();
+        this.materialContext = MaterialContext.of(concrete, designParameters);
+        this.fck = materialContext.getFck();
+        this.fcd = materialContext.getFcd();
+        this.fctm = materialContext.getFctm();
+        this.fy = materialContext.getFy();
+        this.fyd = materialContext.getFyd();
+        double areaOfTopReinforcement = reinforcement.getTotalAreaOfTopReinforcement();
+        double areaOfBottomReinforcement = reinforcement.getTotalAreaOfBottomReinforcement();
+        this.providedCompressiveReinforcement = (UlsMoment >= 0) ? areaOfTopReinforcement : areaOfBottomReinforcement;
+        this.providedTensileReinforcement = (UlsMoment >= 0) ? areaOfBottomReinforcement : areaOfTopReinforcement;
         this.effectiveDepth = getEffectiveDepth(geometry.getDepth(), UlsMoment, reinforcement, designParameters);
         this.maximumLinksSpacing = getMaximumSpacingForShearLinks(effectiveDepth);
         this.maximumReinforcement = getMaximumReinforcement(geometry.getArea() - providedTensileReinforcement - providedCompressiveReinforcement);
         this.providedShearReinforcement = shearLinks.getArea();
     }
 
+    /**
+     * Copy constructor used for incremental recalculations. It creates a beam with new ULS shear force and SLS moment.
+     * Section properties and results of the given beam are copied. Flexure results depend only on ULS moment, so these remain valid.
+     *
+     * @param beam      beam to copy
+     * @param UlsShear  ULS shear force in kN
+     * @param SlsMoment SLS bending moment in kNm
+     */
+    private Beam(Beam beam, double UlsShear, double SlsMoment) {
+        this.UlsMoment = beam.UlsMoment;
+        this.UlsShear = Math.abs(UlsShear);
+        this.SlsMoment = SlsMoment;
+        this.reinforcement = beam.reinforcement;
+        this.shearLinks = beam.shearLinks;
+        this.designParameters = beam.designParameters;
+        this.geometry = beam.geometry;
+        this.concrete = beam.concrete;
+        this.fck = beam.fck;
+        this.fcd = beam.fcd;
+        this.fctm = beam.fctm;
+        this.fy = beam.fy;
+        this.fyd = beam.fyd;
+        this.materialContext = beam.materialContext;
+        this.providedCompressiveReinforcement = beam.providedCompressiveReinforcement;
+        this.providedTensileReinforcement = beam.providedTensileReinforcement;
+        this.effectiveDepth = beam.effectiveDepth;
+        this.maximumLinksSpacing = beam.maximumLinksSpacing;
+        this.maximumReinforcement = beam.maximumReinforcement;
+        this.providedShearReinforcement = beam.providedShearReinforcement;
+        this.leverArm = beam.leverArm;
+        this.bendingCapacity = beam.bendingCapacity;
+        this.requiredTensileReinforcement = beam.requiredTensileReinforcement;
+        this.requiredCompressionReinforcement = beam.requiredCompressionReinforcement;
+        this.requiredShearReinforcement = beam.requiredShearReinforcement;
+        this.crackWidth = beam.crackWidth;
+    }
+
+    /**
+     * Creates a copy of the beam with different ULS shear force and SLS moment. Flexure results are reused,
+     * so only shear capacity and cracking need to be recalculated for the forces that changed.
+     *
+     * @param UlsShear  ULS shear force in kN
+     * @param SlsMoment SLS bending moment in kNm
+     * @return beam with new forces
+     */
+    public Beam withShearAndSlsMoment(double UlsShear, double SlsMoment) {
+        return new Beam(this, UlsShear, SlsMoment);
+    }
+
     /**
      * Calculates bending capacity of the beam in accordance with Eurocode 2. Calculations support both flanged and rectangular section.
      *
@@ -96,10 +149,23 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
      */
     @Override
     public void calculateBendingCapacity() {
+        ReasonCode reasonCode = checkBendingCapacity();
+        if (reasonCode != null) {
+            throw new IllegalArgumentException(reasonCode.getMessage());
+        }
+    }
+
+    /**
+     * Calculates bending capacity of the beam the same way as calculateBendingCapacity method, but errors are returned as reason codes rather than thrown.
+     * This is used in batch calculations, where allocating exceptions for sections that fail is too expensive.
+     *
+     * @return reason code if bending capacity could not be calculated, null if calculated
+     */
+    public ReasonCode checkBendingCapacity() {
         if (fck <= 50) {
             int widthInCompressiveZone = geometry.getWidthInCompressionZone(UlsMoment);
             double kFactor = getKFactor(UlsMoment, widthInCompressiveZone, effectiveDepth, fck);
-            double kDashFactor = getKDashFactor(designParameters.isRecommendedRatio(), designParameters.getRedistributionRatio());
+            double kDashFactor = getMaterialContext().getKDashFactor();
             double minimumReinforcement = getMinimumReinforcement(UlsMoment, fctm, fy, effectiveDepth, geometry);
             this.leverArm = getLeverArm(effectiveDepth, kFactor, kDashFactor);
             if (geometry.isFlangedSection()) {
@@ -110,14 +176,14 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
                 } else {
                     // PNA in the web
                     double flangeThickness = geometry.getFlangeThickness();
-                    double flangeCapacity = 0.57 * fck * (geometry.getFlangeWidth() - geometry.getWidth()) * flangeThickness * (effectiveDepth - 0.5 * flangeThickness) * Math.pow(10, -6);
-                    double flangeKFactor = (UlsMoment - flangeCapacity) * Math.pow(10, 6) / (fck * geometry.getWidth() * effectiveDepth * effectiveDepth);
+                    double flangeCapacity = 0.57 * fck * (geometry.getFlangeWidth() - geometry.getWidth()) * flangeThickness * (effectiveDepth - 0.5 * flangeThickness) * Constants.NMM_TO_KNM;
+                    double flangeKFactor = (UlsMoment - flangeCapacity) * Constants.KNM_TO_NMM / (fck * geometry.getWidth() * effectiveDepth * effectiveDepth);
                     if (flangeKFactor <= kDashFactor) {
-                        double requiredReinforcementForFlangeResistance = flangeCapacity * Math.pow(10, 6) / (fyd * (effectiveDepth - 0.5 * flangeThickness));
-                        this.requiredTensileReinforcement = requiredReinforcementForFlangeResistance + (UlsMoment - flangeCapacity) * Math.pow(10, 6) / (fyd * leverArm);
-                        this.bendingCapacity = (providedTensileReinforcement - requiredReinforcementForFlangeResistance) * fyd * leverArm * Math.pow(10, -6) + flangeCapacity;
+                        double requiredReinforcementForFlangeResistance = flangeCapacity * Constants.KNM_TO_NMM / (fyd * (effectiveDepth - 0.5 * flangeThickness));
+                        this.requiredTensileReinforcement = requiredReinforcementForFlangeResistance + (UlsMoment - flangeCapacity) * Constants.KNM_TO_NMM / (fyd * leverArm);
+                        this.bendingCapacity = (providedTensileReinforcement - requiredReinforcementForFlangeResistance) * fyd * leverArm * Constants.NMM_TO_KNM + flangeCapacity;
                     } else {
-                        throw new IllegalArgumentException(UIText.REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE);
+                        return ReasonCode.HIGH_COMPRESSIVE_FORCE;
                     }
                 }
             } else {
@@ -125,8 +191,9 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
                 calculateBendingCapacityForRectangularSection(kFactor, kDashFactor, effectiveDepth, widthInCompressiveZone, minimumReinforcement);
             }
         } else {
-            throw new IllegalArgumentException(UIText.WRONG_CONCRETE_CLASS);
+            return ReasonCode.WRONG_CONCRETE_CLASS;
         }
+        return null;
     }
 
     /**
@@ -143,8 +210,8 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
     private void calculateBendingCapacityForRectangularSection(double kFactor, double kDashFactor, double effectiveDepth, double widthInCompressionZone, double minimumReinforcement) {
         if (kFactor <= kDashFactor) {
             // Singly reinforced section
-            this.requiredTensileReinforcement = Math.max(Math.abs(UlsMoment) * Math.pow(10, 6) / (fyd * leverArm), minimumReinforcement);
-            this.bendingCapacity = providedTensileReinforcement * leverArm * fyd * Math.pow(10, -6);
+            this.requiredTensileReinforcement = Math.max(Math.abs(UlsMoment) * Constants.KNM_TO_NMM / (fyd * leverArm), minimumReinforcement);
+            this.bendingCapacity = providedTensileReinforcement * leverArm * fyd * Constants.NMM_TO_KNM;
         } else {
             // Doubly reinforced section
             double depthOfPlasticNeutralAxis = getDepthOfPlasticNeutralAxis(effectiveDepth, leverArm);
@@ -152,7 +219,7 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
             double fsc = Math.min(700 * (depthOfPlasticNeutralAxis - centroidOfCompressionReinforcement) / depthOfPlasticNeutralAxis, fyd);
             this.requiredCompressionReinforcement = (kFactor - kDashFactor) * fck * widthInCompressionZone * effectiveDepth * effectiveDepth / (fsc * (effectiveDepth - centroidOfCompressionReinforcement));
             this.requiredTensileReinforcement = Math.max(kDashFactor * fck * widthInCompressionZone * effectiveDepth * effectiveDepth / (fyd * leverArm) + requiredCompressionReinforcement * fsc / fyd, minimumReinforcement);
-            this.bendingCapacity = providedTensileReinforcement * fyd * (effectiveDepth - centroidOfCompressionReinforcement) * Math.pow(10, -6) - 0.8 * depthOfPlasticNeutralAxis * widthInCompressionZone * fcd * (0.4 * depthOfPlasticNeutralAxis - centroidOfCompressionReinforcement) * Math.pow(10, -6);
+            this.bendingCapacity = providedTensileReinforcement * fyd * (effectiveDepth - centroidOfCompressionReinforcement) * Constants.NMM_TO_KNM - 0.8 * depthOfPlasticNeutralAxis * widthInCompressionZone * fcd * (0.4 * depthOfPlasticNeutralAxis - centroidOfCompressionReinforcement) * Constants.NMM_TO_KNM;
         }
     }
 
@@ -166,39 +233,49 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
      */
     @Override
     public void calculateShearCapacity() {
+        ReasonCode reasonCode = checkShearCapacity();
+        if (reasonCode != null) {
+            throw new IllegalArgumentException(reasonCode.getMessage());
+        }
+    }
+
+    /**
+     * Calculates shear capacity of the beam the same way as calculateShearCapacity method, but errors are returned as reason codes rather than thrown.
+     *
+     * @return reason code if shear capacity could not be calculated, null if calculated
+     */
+    public ReasonCode checkShearCapacity() {
         if (fck <= 50) {
             if (leverArm == 0) {
                 // If bending capacity not calculated
                 leverArm = 0.9 * effectiveDepth;
             }
+            MaterialContext context = getMaterialContext();
             double width = geometry.getWidth();
             double shearStress = UlsShear * 1000 / (width * leverArm);
             double reinforcementRatio = providedTensileReinforcement / (width * effectiveDepth);
-            double CRdc = 0.18 / designParameters.getPartialFactorOfSafetyForConcrete();
             double k = Math.min(1 + Math.sqrt(200 / effectiveDepth), 2.0);
-            double minimumConcreteShearResistance = 0.035 * Math.pow(k, 1.5) * Math.pow(fck, 0.5);
+            double minimumConcreteShearResistance = context.getMinimumConcreteShearStressFactor() * k * Math.sqrt(k);
             // Resistance for members not requiring shear reinforcement cl. 6.2.2
-            double concreteShearResistance = Math.max(CRdc * k * Math.pow(100 * reinforcementRatio * fck, 0.333), minimumConcreteShearResistance) * width * effectiveDepth * Math.pow(10, -3); // Eq. 6.2
+            double concreteShearResistance = Math.max(context.getShearResistanceCoefficient() * k * Math.pow(100 * reinforcementRatio * fck, 0.333), minimumConcreteShearResistance) * width * effectiveDepth * Constants.N_TO_KN; // Eq. 6.2
             double yieldStrength = shearLinks.getYieldStrength();
-            double minimumShearReinforcement = 0.08 * width * Math.pow(fck, 0.5) / yieldStrength * Math.pow(10, 3); // Eq. 9.5N;
+            double minimumShearReinforcement = context.getMinimumShearReinforcementFactor() * width / yieldStrength * Constants.PER_MM_TO_PER_M; // Eq. 9.5N;
             if (UlsShear > concreteShearResistance) {
                 // Calculations if shear reinforcement is needed cl. 6.2.3
-                double strengthReductionFactor = 0.6 * (1 - 0.004 * fck);
-                double coefficientForStressState = 1.0;
-                double maxAngleOfCompressiveStrut = Math.toRadians(45);
-                double maxShearResistance = coefficientForStressState * width * leverArm * strengthReductionFactor * fcd / (Math.tan(maxAngleOfCompressiveStrut) + 1 / Math.tan(maxAngleOfCompressiveStrut)) * Math.pow(10, -3); // Eq. 6.9
+                double maxShearResistance = width * leverArm * context.getMaxShearStress() * Constants.N_TO_KN; // Eq. 6.9
                 if (UlsShear <= maxShearResistance) {
-                    double angleOfCompressiveStrut = Math.toRadians(Math.max(0.5 * Math.asin(shearStress / (0.2 * fck * (1 - 0.004 * fck))), 21.8));
-                    requiredShearReinforcement = Math.max(shearStress * width / (yieldStrength / designParameters.getPartialFactorOfSafetyForSteel() * 1 / Math.tan(angleOfCompressiveStrut)) * Math.pow(10, 3), minimumShearReinforcement);
+                    double angleOfCompressiveStrut = Math.toRadians(Math.max(0.5 * Math.asin(shearStress / context.getStrutCrushingStress()), 21.8));
+                    requiredShearReinforcement = Math.max(shearStress * width / (yieldStrength / context.getGammaS() * 1 / Math.tan(angleOfCompressiveStrut)) * Constants.PER_MM_TO_PER_M, minimumShearReinforcement);
                 } else {
-                    throw new IllegalArgumentException(UIText.REDESIGN_SECTION_DUE_TO_HIGH_SHEAR);
+                    return ReasonCode.HIGH_SHEAR_FORCE;
                 }
             } else {
                 requiredShearReinforcement = minimumShearReinforcement;
             }
         } else {
-            throw new IllegalArgumentException(UIText.WRONG_CONCRETE_CLASS);
+            return ReasonCode.WRONG_CONCRETE_CLASS;
         }
+        return null;
     }
 
     /**
@@ -207,28 +284,47 @@ public class Beam implements Flexure, Shear, Cracking, Serializable {
      */
     @Override
     public void calculateCracking() {
+        ReasonCode reasonCode = checkCracking();
+        if (reasonCode != null) {
+            throw new IllegalArgumentException(reasonCode.getMessage());
+        }
+    }
+
+    /**
+     * Calculates crack width the same way as calculateCracking method, but errors are returned as reason codes rather than thrown.
+     * Bar spacing is checked before the crack width is calculated.
+     *
+     * @return reason code if crack width could not be calculated, null if calculated
+     */
+    public ReasonCode checkCracking() {
         if (this.bendingCapacity == 0) {
-            throw new IllegalArgumentException(UIText.INVALID_BENDING_CAPACITY);
+            return ReasonCode.BENDING_CAPACITY_NOT_CALCULATED;
         }
         int width = geometry.getWidth();
         int depth = geometry.getDepth();
         double neutralAxis = getDepthOfPlasticNeutralAxis(effectiveDepth, leverArm);
 
-        // Setting up reinforcement to support SLS calculations - max bar spacing and diameter
-        BeamReinforcement reinforcementForSls = new BeamReinforcement(
-                reinforcement.getTopDiameters(),
-                reinforcement.getTopVerticalSpacings(),
-                reinforcement.getBottomDiameters(),
-                reinforcement.getBottomVerticalSpacings(),
-                reinforcement.getShearLinks(),
-                designParameters,
-                geometry.getSection()
-        );
-
-        double maxSpacing = reinforcementForSls.getMaxBarSpacingForTensileReinforcement(SlsMoment);
-        int maxBarDiameter = reinforcementForSls.getMaxBarDiameterForTensileReinforcement(SlsMoment);
+        // Max bar spacing and diameter for SLS calculations
+        double maxSpacing = reinforcement.getMaxBarSpacingForTensileReinforcement(SlsMoment, designParameters, geometry.getSection());
+        int maxBarDiameter = reinforcement.getMaxBarDiameterForTensileReinforcement(SlsMoment);
+        if (!isCrackWidthCalculable(UlsMoment, SlsMoment, maxSpacing, maxBarDiameter, designParameters)) {
+            return ReasonCode.BAR_SPACING_TOO_LARGE_FOR_CRACKING;
+        }
 
         this.crackWidth = calculateCrackWidth(width, depth, effectiveDepth, neutralAxis, UlsMoment, SlsMoment, maxSpacing, maxBarDiameter, providedTensileReinforcement, requiredTensileReinforcement, concrete, designParameters);
+        return null;
+    }
+
+    /**
+     * Gets shared material context for concrete and design parameters of the beam. The context is not serialized, so it is looked up again after deserialization.
+     *
+     * @return material context
+     */
+    private MaterialContext getMaterialContext() {
+        if (materialContext == null) {
+            materialContext = MaterialContext.of(concrete, designParameters);
+        }
+        return materialContext;
     }
 
     /**
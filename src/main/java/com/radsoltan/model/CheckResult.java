@@ -0,0 +1,217 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.UIText;
+
+import java.io.Serializable;
+
+/**
+ * Immutable result of a single design check. It holds status, demand and capacity of the check and reason code if the check could not be calculated.
+ * Messages shown in the results area are not stored, they are formatted only when requested by the GUI.
+ */
+public class CheckResult implements Serializable {
+    private final CheckType type;
+    private final CheckStatus status;
+    private final double demand;
+    private final double capacity;
+    private final String unit;
+    private final ReasonCode reasonCode;
+    private final String errorMessage;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     *
+     * @param type         type of the check
+     * @param status       status of the check
+     * @param demand       demand, for example ULS moment, required shear reinforcement or crack width
+     * @param capacity     capacity, for example bending capacity, provided shear reinforcement or crack width limit
+     * @param unit         unit of demand and capacity
+     * @param reasonCode   reason why the check could not be calculated, null if calculated
+     * @param errorMessage error message if there is no reason code for the error, otherwise null
+     */
+    private CheckResult(CheckType type, CheckStatus status, double demand, double capacity, String unit, ReasonCode reasonCode, String errorMessage) {
+        this.type = type;
+        this.status = status;
+        this.demand = demand;
+        this.capacity = capacity;
+        this.unit = unit;
+        this.reasonCode = reasonCode;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Creates result of a check that was calculated. Check passes if demand does not exceed capacity.
+     *
+     * @param type     type of the check
+     * @param demand   demand, for example ULS moment, required shear reinforcement or crack width
+     * @param capacity capacity, for example bending capacity, provided shear reinforcement or crack width limit
+     * @param unit     unit of demand and capacity
+     * @return check result
+     */
+    public static CheckResult calculated(CheckType type, double demand, double capacity, String unit) {
+        return new CheckResult(type, demand <= capacity ? CheckStatus.PASS : CheckStatus.FAIL, demand, capacity, unit, null, null);
+    }
+
+    /**
+     * Creates result of a check that could not be calculated.
+     *
+     * @param type       type of the check
+     * @param reasonCode reason code
+     * @return check result
+     */
+    public static CheckResult error(CheckType type, ReasonCode reasonCode) {
+        return new CheckResult(type, CheckStatus.ERROR, 0, 0, null, reasonCode, null);
+    }
+
+    /**
+     * Creates result of a check that could not be calculated due to an exception thrown by the model classes, for example due to invalid input.
+     * The message is replaced with reason code if there is one for it.
+     *
+     * @param type    type of the check
+     * @param message exception message
+     * @return check result
+     */
+    public static CheckResult error(CheckType type, String message) {
+        ReasonCode reasonCode = ReasonCode.fromMessage(message);
+        return new CheckResult(type, CheckStatus.ERROR, 0, 0, null, reasonCode, reasonCode == null ? message : null);
+    }
+
+    /**
+     * Creates result of a check that was not carried out, for example shear check for slabs.
+     *
+     * @param type type of the check
+     * @return check result
+     */
+    public static CheckResult notCalculated(CheckType type) {
+        return new CheckResult(type, CheckStatus.NOT_CALCULATED, 0, 0, null, null, null);
+    }
+
+    /**
+     * Checks if the check passes. Checks that were not calculated always pass.
+     *
+     * @return true if the check passes
+     */
+    public boolean isPassed() {
+        return status == CheckStatus.PASS || status == CheckStatus.NOT_CALCULATED;
+    }
+
+    /**
+     * Checks if there was an error in the calculations.
+     *
+     * @return true if error
+     */
+    public boolean isError() {
+        return status == CheckStatus.ERROR;
+    }
+
+    /**
+     * Gets utilisation of the check - ratio of demand to capacity.
+     *
+     * @return utilisation, 0 if not calculated and infinity if error or capacity is not positive
+     */
+    public double getUtilisation() {
+        if (status == CheckStatus.NOT_CALCULATED) {
+            return 0;
+        }
+        return status == CheckStatus.ERROR || capacity <= 0 ? Double.POSITIVE_INFINITY : demand / capacity;
+    }
+
+    /**
+     * Gets error message based on reason code.
+     *
+     * @return error message, null if there was no error
+     */
+    public String getErrorMessage() {
+        return reasonCode != null ? reasonCode.getMessage() : errorMessage;
+    }
+
+    /**
+     * Formats message that compares demand and capacity, shown in the results area. Crack width is compared using strict inequality.
+     *
+     * @return check message, null if not calculated
+     */
+    public String getCheckMessage() {
+        switch (status) {
+            case NOT_CALCULATED:
+                return null;
+            case ERROR:
+                return UIText.CALCULATIONS_ERROR;
+            default:
+                boolean isBelowCapacity = type == CheckType.CRACKING ? demand < capacity : demand <= capacity;
+                return String.format(type.getMessageFormat(), demand, unit, isBelowCapacity ? "<" : ">", capacity, unit);
+        }
+    }
+
+    /**
+     * Gets additional message shown under the check message in the results area.
+     *
+     * @return additional message, null if not calculated
+     */
+    public String getAdditionalMessage() {
+        switch (status) {
+            case NOT_CALCULATED:
+                return null;
+            case ERROR:
+                return getErrorMessage();
+            case PASS:
+                return UIText.SECTION_ADEQUATE;
+            default:
+                return type.getFailMessage();
+        }
+    }
+
+    /**
+     * Getter for check type.
+     *
+     * @return check type
+     */
+    public CheckType getType() {
+        return type;
+    }
+
+    /**
+     * Getter for check status.
+     *
+     * @return check status
+     */
+    public CheckStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Getter for demand.
+     *
+     * @return demand, 0 if error or not calculated
+     */
+    public double getDemand() {
+        return demand;
+    }
+
+    /**
+     * Getter for capacity.
+     *
+     * @return capacity, 0 if error or not calculated
+     */
+    public double getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Getter for unit of demand and capacity.
+     *
+     * @return unit, null if error or not calculated
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Getter for reason code.
+     *
+     * @return reason code, null if there was no error or there is no code for the error
+     */
+    public ReasonCode getReasonCode() {
+        return reasonCode;
+    }
+}
@@ -0,0 +1,11 @@
+package com.radsoltan.model;
+
+/**
+ * Enum that describes outcome of a single design check.
+ */
+public enum CheckStatus {
+    PASS,
+    FAIL,
+    ERROR,
+    NOT_CALCULATED
+}
@@ -0,0 +1,44 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.UIText;
+
+/**
+ * Enum with design checks carried out for a section. Each check has a format of its results message and a message shown if the check fails.
+ */
+public enum CheckType {
+    FLEXURE("%.2f %s %s %.2f %s", UIText.FLEXURE_FAIL_MESSAGE),
+    SHEAR("%.2f %s %s %.2f %s", UIText.FLEXURE_FAIL_MESSAGE),
+    CRACKING("%.3f %s %s %.3f %s", UIText.CRACKING_FAIL_MESSAGE);
+
+    private final String messageFormat;
+    private final String failMessage;
+
+    /**
+     * Constructor.
+     *
+     * @param messageFormat format of the message with demand, unit, comparison sign, capacity and unit
+     * @param failMessage   message shown if the check fails
+     */
+    CheckType(String messageFormat, String failMessage) {
+        this.messageFormat = messageFormat;
+        this.failMessage = failMessage;
+    }
+
+    /**
+     * Getter for message format.
+     *
+     * @return message format
+     */
+    public String getMessageFormat() {
+        return messageFormat;
+    }
+
+    /**
+     * Getter for fail message.
+     *
+     * @return fail message
+     */
+    public String getFailMessage() {
+        return failMessage;
+    }
+}
@@ -71,9 +71,7 @@ public interface Cracking {
 
         int nominalCover = SlsMoment >= 0 ? designParameters.getNominalCoverBottom() : designParameters.getNominalCoverTop();
 
-        boolean isReinforcementCloselySpaced = maxSpacing <= 5 * (nominalCover + 0.5 * maxBarDiameter);
-
-        if (isReinforcementCloselySpaced) {
+        if (isCrackWidthCalculable(UlsMoment, SlsMoment, maxSpacing, maxBarDiameter, designParameters)) {
             double cracksSpacing = k3 * nominalCover + k1 * k2 * k4 * maxBarDiameter / reinforcingRatio;
             double differenceBetweenSteelAndConcreteStrain = calculateDifferenceBetweenSteelAndConcreteStrain(serviceStress, concrete, reinforcingRatio);
             return cracksSpacing * differenceBetweenSteelAndConcreteStrain;
@@ -82,6 +80,27 @@ public interface Cracking {
         }
     }
 
+    /**
+     * Checks if crack width can be calculated, that is if the reinforcement is 'reasonably closely' spaced.
+     * The spacing should be no greater than 5 * (c + 0.5d). Crack width is always calculable if ULS or SLS moment is zero.
+     * It allows the calculations to check bar spacing without relying on exception thrown by calculateCrackWidth.
+     *
+     * @param UlsMoment        ULS moment in kNm
+     * @param SlsMoment        SLS moment in kNm
+     * @param maxSpacing       max spacing between bars in tension in mm
+     * @param maxBarDiameter   max bar diameters for bars in tension
+     * @param designParameters design parameters object
+     * @return true if crack width can be calculated
+     */
+    default boolean isCrackWidthCalculable(double UlsMoment, double SlsMoment, double maxSpacing, int maxBarDiameter, DesignParameters designParameters) {
+        if (UlsMoment == 0 || SlsMoment == 0) {
+            return true;
+        }
+        int nominalCover = SlsMoment >= 0 ? designParameters.getNominalCoverBottom() : designParameters.getNominalCoverTop();
+
+        return maxSpacing <= 5 * (nominalCover + 0.5 * maxBarDiameter);
+    }
+
     /**
      * Calculates effective tension area of concrete. Calculated in accordance with Figure 7.1 and cl. 7.3.2 (3) in EC2.
      *
@@ -0,0 +1,346 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Immutable description of a single section to be designed. It holds geometry, reinforcement, materials, design parameters and analysis forces.
+ * Unlike Project, the request does not store any results and can be safely shared between threads.
+ * Calling calculate method creates a new Beam or Slab object and returns an immutable DesignResult.
+ */
+public class DesignRequest {
+    private final String id;
+    private final String elementType;
+    private final Geometry geometry;
+    private final Reinforcement reinforcement;
+    private final DesignParameters designParameters;
+    private final Concrete concrete;
+    private final double UlsMoment;
+    private final double SlsMoment;
+    private final double UlsShear;
+
+    /**
+     * Constructor.
+     *
+     * @param id               section identifier, for example member mark
+     * @param elementType      element type - 'beam' or 'slab'
+     * @param geometry         Geometry object
+     * @param reinforcement    BeamReinforcement or SlabReinforcement object
+     * @param designParameters DesignParameters object
+     * @param concrete         Concrete enum
+     * @param UlsMoment        ULS bending moment in kNm or kNm/m
+     * @param SlsMoment        SLS bending moment in kNm or kNm/m
+     * @param UlsShear         ULS shear force in kN, ignored for slabs
+     */
+    public DesignRequest(String id, String elementType,
+                         Geometry geometry, Reinforcement reinforcement,
+                         DesignParameters designParameters, Concrete concrete,
+                         double UlsMoment, double SlsMoment, double UlsShear) {
+        this.id = id;
+        this.elementType = elementType;
+        this.geometry = geometry;
+        this.reinforcement = reinforcement;
+        this.designParameters = designParameters;
+        this.concrete = concrete;
+        this.UlsMoment = UlsMoment;
+        this.SlsMoment = SlsMoment;
+        this.UlsShear = UlsShear;
+    }
+
+    /**
+     * Runs calculations for the section. It invokes method that depends on structural element type.
+     *
+     * @return design result
+     * @throws IllegalArgumentException if element type, geometry or reinforcement are invalid
+     */
+    public DesignResult calculate() {
+        switch (elementType.toLowerCase()) {
+            case Constants.ELEMENT_TYPE_SLAB:
+                return calculateSlab();
+            case Constants.ELEMENT_TYPE_BEAM:
+                return calculateBeam();
+            default:
+                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+        }
+    }
+
+    /**
+     * Designs the section for many load combinations in one pass. Forces of this request are ignored.
+     * Section properties that depend on the sign of the moment are calculated once for sagging and once for hogging.
+     *
+     * @param combinations list of load combinations
+     * @return calculated envelope with governing combination for each check
+     * @throws IllegalArgumentException if element type, geometry or reinforcement are invalid or there are no combinations
+     */
+    public LoadCaseEnvelope calculateEnvelope(List<LoadCombination> combinations) {
+        boolean isBeam;
+        switch (elementType.toLowerCase()) {
+            case Constants.ELEMENT_TYPE_SLAB:
+                if (!(geometry.getSection() instanceof SlabStrip)) {
+                    throw new IllegalArgumentException(UIText.INVALID_SLAB_GEOMETRY);
+                }
+                isBeam = false;
+                break;
+            case Constants.ELEMENT_TYPE_BEAM:
+                if (!(geometry.getSection() instanceof Rectangle)) {
+                    // Only rectangular sections are supported as of now
+                    throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
+                }
+                isBeam = true;
+                break;
+            default:
+                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+        }
+        LoadCaseEnvelope envelope = new LoadCaseEnvelope(isBeam, geometry, concrete, reinforcement, designParameters, combinations);
+        envelope.calculate();
+        return envelope;
+    }
+
+    /**
+     * Recalculates only the checks affected by the difference between this request and the request of the previous result.
+     * If only SLS moment changed, cracking is recalculated. If only ULS shear changed, shear capacity is recalculated.
+     * Flexure results of the previous Beam or Slab are reused in both cases. Any other change runs all calculations.
+     *
+     * @param previous previous design result, can be null
+     * @return design result
+     * @throws IllegalArgumentException if element type, geometry or reinforcement are invalid
+     */
+    public DesignResult recalculate(DesignResult previous) {
+        if (!isFlexureResultReusable(previous)) {
+            return calculate();
+        }
+        DesignRequest previousRequest = previous.getRequest();
+        boolean isSlsMomentChanged = SlsMoment != previousRequest.getSlsMoment();
+        boolean isCrackingRecalculated = isSlsMomentChanged && designParameters.isIncludeCrackingCalculations();
+
+        if (previous.getSlab() != null) {
+            Slab slab = previous.getSlab().withSlsMoment(SlsMoment);
+            CheckResult crackingCheck = isCrackingRecalculated ? checkCracking(slab::checkCracking, slab::getCrackWidth) : previous.getCrackingCheck();
+            return new DesignResult(this, null, slab, previous.getFlexureCheck(), previous.getShearCheck(), crackingCheck);
+        }
+
+        Beam beam = previous.getBeam().withShearAndSlsMoment(UlsShear, SlsMoment);
+        CheckResult shearCheck = UlsShear != previousRequest.getUlsShear() ? checkShear(beam) : previous.getShearCheck();
+        CheckResult crackingCheck = isCrackingRecalculated ? checkCracking(beam::checkCracking, beam::getCrackWidth) : previous.getCrackingCheck();
+
+        return new DesignResult(this, beam, null, previous.getFlexureCheck(), shearCheck, crackingCheck);
+    }
+
+    /**
+     * Checks if flexure results of the previous result can be reused. This is the case if the previous request had the same element type,
+     * ULS moment and the same geometry, reinforcement, design parameters and concrete instances. These objects are immutable, so they are compared by reference.
+     *
+     * @param previous previous design result, can be null
+     * @return true if only SLS moment or ULS shear changed
+     */
+    private boolean isFlexureResultReusable(DesignResult previous) {
+        if (previous == null || (previous.getBeam() == null && previous.getSlab() == null)) {
+            return false;
+        }
+        DesignRequest previousRequest = previous.getRequest();
+        return elementType.equalsIgnoreCase(previousRequest.getElementType())
+                && geometry == previousRequest.getGeometry()
+                && reinforcement == previousRequest.getReinforcement()
+                && designParameters == previousRequest.getDesignParameters()
+                && concrete == previousRequest.getConcrete()
+                && UlsMoment == previousRequest.getUlsMoment();
+    }
+
+    /**
+     * Calculates slab bending capacity and crack widths (if applicable).
+     * Errors are stored in the result as reason codes rather than thrown so that one section does not stop the others.
+     *
+     * @return slab design result
+     */
+    private DesignResult calculateSlab() {
+        if (!(geometry.getSection() instanceof SlabStrip)) {
+            throw new IllegalArgumentException(UIText.INVALID_SLAB_GEOMETRY);
+        }
+        if (!(reinforcement instanceof SlabReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
+        }
+        Slab slab = new Slab(UlsMoment, SlsMoment, (SlabStrip) geometry.getSection(), concrete, (SlabReinforcement) reinforcement, designParameters);
+
+        CheckResult flexureCheck = checkFlexure(slab::checkBendingCapacity, slab::getBendingCapacity, UIText.UNIT_MOMENT_SLAB);
+        CheckResult crackingCheck = designParameters.isIncludeCrackingCalculations() ?
+                checkCracking(slab::checkCracking, slab::getCrackWidth) :
+                CheckResult.notCalculated(CheckType.CRACKING);
+
+        return new DesignResult(this, null, slab, flexureCheck, CheckResult.notCalculated(CheckType.SHEAR), crackingCheck);
+    }
+
+    /**
+     * Calculates beam bending and shear capacity and crack widths (if applicable).
+     * Errors are stored in the result as reason codes rather than thrown so that one section does not stop the others.
+     *
+     * @return beam design result
+     */
+    private DesignResult calculateBeam() {
+        if (!(geometry.getSection() instanceof Rectangle)) {
+            // Only rectangular sections are supported as of now
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
+        }
+        if (!(reinforcement instanceof BeamReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
+        }
+        Beam beam = new Beam(UlsMoment, UlsShear, SlsMoment, geometry, concrete, (BeamReinforcement) reinforcement, designParameters);
+
+        CheckResult flexureCheck = checkFlexure(beam::checkBendingCapacity, beam::getBendingCapacity, UIText.UNIT_MOMENT_BEAM);
+        CheckResult shearCheck = checkShear(beam);
+        CheckResult crackingCheck = designParameters.isIncludeCrackingCalculations() ?
+                checkCracking(beam::checkCracking, beam::getCrackWidth) :
+                CheckResult.notCalculated(CheckType.CRACKING);
+
+        return new DesignResult(this, beam, null, flexureCheck, shearCheck, crackingCheck);
+    }
+
+    /**
+     * Runs flexure calculations and creates result of the check.
+     * Design errors are returned as reason codes. Exceptions are only raised by invalid reinforcement and these are stored in the result as well.
+     *
+     * @param calculation     method that calculates bending capacity and returns reason code if it could not be calculated
+     * @param bendingCapacity getter for calculated bending capacity
+     * @param unit            unit of bending moment
+     * @return flexure check result
+     */
+    private CheckResult checkFlexure(Supplier<ReasonCode> calculation, DoubleSupplier bendingCapacity, String unit) {
+        try {
+            ReasonCode reasonCode = calculation.get();
+            if (reasonCode != null) {
+                return CheckResult.error(CheckType.FLEXURE, reasonCode);
+            }
+        } catch (IllegalArgumentException e) {
+            return CheckResult.error(CheckType.FLEXURE, e.getMessage());
+        }
+        return CheckResult.calculated(CheckType.FLEXURE, Math.abs(UlsMoment), bendingCapacity.getAsDouble(), unit);
+    }
+
+    /**
+     * Runs shear calculations for the beam and creates result of the check. Exceptions raised by invalid shear links are stored in the result.
+     *
+     * @param beam beam
+     * @return shear check result
+     */
+    private CheckResult checkShear(Beam beam) {
+        try {
+            ReasonCode reasonCode = beam.checkShearCapacity();
+            if (reasonCode != null) {
+                return CheckResult.error(CheckType.SHEAR, reasonCode);
+            }
+        } catch (IllegalArgumentException e) {
+            return CheckResult.error(CheckType.SHEAR, e.getMessage());
+        }
+        return CheckResult.calculated(CheckType.SHEAR, beam.getRequiredShearReinforcement(), beam.getProvidedShearReinforcement(), UIText.UNIT_SHEAR_REINFORCEMENT);
+    }
+
+    /**
+     * Runs cracking calculations and creates result of the check.
+     * Invalid reinforcement can still raise an exception while getting tensile bars, this is stored in the result as well.
+     *
+     * @param calculation method that calculates crack width and returns reason code if it could not be calculated
+     * @param crackWidth  getter for calculated crack width
+     * @return cracking check result
+     */
+    private CheckResult checkCracking(Supplier<ReasonCode> calculation, DoubleSupplier crackWidth) {
+        try {
+            ReasonCode reasonCode = calculation.get();
+            if (reasonCode != null) {
+                return CheckResult.error(CheckType.CRACKING, reasonCode);
+            }
+        } catch (IllegalArgumentException e) {
+            return CheckResult.error(CheckType.CRACKING, e.getMessage());
+        }
+        return CheckResult.calculated(CheckType.CRACKING, crackWidth.getAsDouble(), designParameters.getCrackWidthLimit(), UIText.UNIT_CRACK_WIDTH);
+    }
+
+    /**
+     * Getter for section identifier.
+     *
+     * @return section identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Getter for element type.
+     *
+     * @return element type
+     */
+    public String getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Getter for section geometry.
+     *
+     * @return geometry
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Getter for section reinforcement.
+     *
+     * @return reinforcement
+     */
+    public Reinforcement getReinforcement() {
+        return reinforcement;
+    }
+
+    /**
+     * Getter for design parameters.
+     *
+     * @return design parameters
+     */
+    public DesignParameters getDesignParameters() {
+        return designParameters;
+    }
+
+    /**
+     * Getter for concrete class.
+     *
+     * @return concrete
+     */
+    public Concrete getConcrete() {
+        return concrete;
+    }
+
+    /**
+     * Getter for ULS moment.
+     *
+     * @return ULS moment in kNm or kNm/m
+     */
+    public double getUlsMoment() {
+        return UlsMoment;
+    }
+
+    /**
+     * Getter for SLS moment.
+     *
+     * @return SLS moment in kNm or kNm/m
+     */
+    public double getSlsMoment() {
+        return SlsMoment;
+    }
+
+    /**
+     * Getter for ULS shear force.
+     *
+     * @return ULS shear force in kN
+     */
+    public double getUlsShear() {
+        return UlsShear;
+    }
+}
@@ -0,0 +1,237 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+
+/**
+ * Immutable results of a single section calculation created by DesignRequest.
+ * It includes typed results of flexure, shear and cracking checks with their status, utilisation and reason code if a check could not be calculated.
+ * Messages shown in the results area are created by check results only when requested.
+ */
+public class DesignResult {
+    private final DesignRequest request;
+    private final Beam beam;
+    private final Slab slab;
+    private final CheckResult flexureCheck;
+    private final CheckResult shearCheck;
+    private final CheckResult crackingCheck;
+
+    /**
+     * Constructor.
+     *
+     * @param request       design request the results were calculated for
+     * @param beam          calculated beam, null if slab
+     * @param slab          calculated slab, null if beam
+     * @param flexureCheck  result of flexure check
+     * @param shearCheck    result of shear check
+     * @param crackingCheck result of cracking check
+     */
+    public DesignResult(DesignRequest request, Beam beam, Slab slab,
+                        CheckResult flexureCheck, CheckResult shearCheck, CheckResult crackingCheck) {
+        this.request = request;
+        this.beam = beam;
+        this.slab = slab;
+        this.flexureCheck = flexureCheck;
+        this.shearCheck = shearCheck;
+        this.crackingCheck = crackingCheck;
+    }
+
+    /**
+     * Creates result for a request that could not be calculated at all, for example due to invalid element type. All checks have the same error.
+     *
+     * @param request design request
+     * @param message error message
+     * @return design result
+     */
+    public static DesignResult error(DesignRequest request, String message) {
+        return new DesignResult(request, null, null,
+                CheckResult.error(CheckType.FLEXURE, message),
+                CheckResult.error(CheckType.SHEAR, message),
+                CheckResult.error(CheckType.CRACKING, message));
+    }
+
+    /**
+     * Checks if bending capacity is greater than ULS moment and there was no error in flexure calculations.
+     *
+     * @return true if flexure check passes
+     */
+    public boolean isFlexurePassed() {
+        return flexureCheck.getStatus() == CheckStatus.PASS;
+    }
+
+    /**
+     * Checks if provided shear reinforcement is greater than required. Shear check is not carried out for slabs and it always passes.
+     *
+     * @return true if shear check passes
+     */
+    public boolean isShearPassed() {
+        if (!isShearCalculated()) {
+            return true;
+        }
+        return shearCheck.isPassed();
+    }
+
+    /**
+     * Checks if crack width is less than limiting crack width. If cracking calculations are not included, the check always passes.
+     *
+     * @return true if cracking check passes
+     */
+    public boolean isCrackingPassed() {
+        if (!isCrackingCalculated()) {
+            return true;
+        }
+        return crackingCheck.isPassed();
+    }
+
+    /**
+     * Checks if all checks pass.
+     *
+     * @return true if section is adequate
+     */
+    public boolean isPassed() {
+        return isFlexurePassed() && isShearPassed() && isCrackingPassed();
+    }
+
+    /**
+     * Checks if shear calculations were carried out. These are run only for beams.
+     *
+     * @return true if beam
+     */
+    public boolean isShearCalculated() {
+        return request.getElementType().equalsIgnoreCase(Constants.ELEMENT_TYPE_BEAM);
+    }
+
+    /**
+     * Checks if cracking calculations were carried out.
+     *
+     * @return true if cracking calculations included in design parameters
+     */
+    public boolean isCrackingCalculated() {
+        return request.getDesignParameters().isIncludeCrackingCalculations();
+    }
+
+    /**
+     * Getter for design request.
+     *
+     * @return design request
+     */
+    public DesignRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Getter for calculated beam.
+     *
+     * @return beam, null if slab was calculated
+     */
+    public Beam getBeam() {
+        return beam;
+    }
+
+    /**
+     * Getter for calculated slab.
+     *
+     * @return slab, null if beam was calculated
+     */
+    public Slab getSlab() {
+        return slab;
+    }
+
+    /**
+     * Getter for result of flexure check.
+     *
+     * @return flexure check result
+     */
+    public CheckResult getFlexureCheck() {
+        return flexureCheck;
+    }
+
+    /**
+     * Getter for result of shear check.
+     *
+     * @return shear check result
+     */
+    public CheckResult getShearCheck() {
+        return shearCheck;
+    }
+
+    /**
+     * Getter for result of cracking check.
+     *
+     * @return cracking check result
+     */
+    public CheckResult getCrackingCheck() {
+        return crackingCheck;
+    }
+
+    /**
+     * Gets bending capacity.
+     *
+     * @return bending capacity in kNm or kNm/m
+     */
+    public double getFlexureCapacity() {
+        return flexureCheck.getCapacity();
+    }
+
+    /**
+     * Gets flexure calculations error message.
+     *
+     * @return error message, null if no error
+     */
+    public String getFlexureError() {
+        return flexureCheck.getErrorMessage();
+    }
+
+    /**
+     * Gets required shear reinforcement.
+     *
+     * @return required shear reinforcement in mm2/m
+     */
+    public double getRequiredShearReinforcement() {
+        return shearCheck.getDemand();
+    }
+
+    /**
+     * Gets provided shear reinforcement.
+     *
+     * @return provided shear reinforcement in mm2/m
+     */
+    public double getProvidedShearReinforcement() {
+        return shearCheck.getCapacity();
+    }
+
+    /**
+     * Gets shear calculations error message.
+     *
+     * @return error message, null if no error
+     */
+    public String getShearError() {
+        return shearCheck.getErrorMessage();
+    }
+
+    /**
+     * Gets crack width.
+     *
+     * @return crack width in mm
+     */
+    public double getCrackWidth() {
+        return crackingCheck.getDemand();
+    }
+
+    /**
+     * Gets limiting crack width from design parameters.
+     *
+     * @return crack width limit in mm
+     */
+    public double getCrackWidthLimit() {
+        return request.getDesignParameters().getCrackWidthLimit();
+    }
+
+    /**
+     * Gets cracking calculations error message.
+     *
+     * @return error message, null if no error
+     */
+    public String getCrackingError() {
+        return crackingCheck.getErrorMessage();
+    }
+}
@@ -0,0 +1,330 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Section;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of design results that can be shared between threads, for example by the batch engine and the GUI.
+ * <p>
+ * Results are keyed by values of geometry, reinforcement, design parameters, concrete and forces rather than by object identity,
+ * so equal sections created independently share one result. Section identifier is not a part of the key,
+ * a cached result is returned with the request it was looked up for.
+ * <p>
+ * Entries are split into segments by key hash, each one is a least recently used map guarded by its own lock, so threads working on different sections rarely wait.
+ * Calculations run outside the locks. Two threads that miss on the same section at the same time both calculate it and the later result is kept.
+ * Requests that can't be calculated are not cached, their exceptions are thrown to the caller as by DesignRequest.
+ */
+public class DesignResultCache {
+    private static final int MAX_NUMBER_OF_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final DesignResultCache shared = new DesignResultCache(Constants.DESIGN_RESULT_CACHE_SIZE);
+
+    private final int maximumSize;
+    private final Segment[] segments;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructor. Small caches have a single segment, so that the least recently used entry is evicted exactly.
+     *
+     * @param maximumSize maximum number of cached results
+     */
+    public DesignResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_CACHE_SIZE);
+        }
+        this.maximumSize = maximumSize;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        int numberOfSegments = Math.max(1, Math.min(MAX_NUMBER_OF_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE));
+        this.segments = new Segment[numberOfSegments];
+        for (int i = 0; i < numberOfSegments; i++) {
+            // Remainder is spread over the first segments, so that capacities add up to the maximum size
+            segments[i] = new Segment(maximumSize / numberOfSegments + (i < maximumSize % numberOfSegments ? 1 : 0), evictions);
+        }
+    }
+
+    /**
+     * Gets cache shared by the application.
+     *
+     * @return shared cache
+     */
+    public static DesignResultCache getShared() {
+        return shared;
+    }
+
+    /**
+     * Gets cached result for the request or calculates the section and caches its result.
+     * Requests with missing geometry, reinforcement, design parameters or concrete are calculated without the cache.
+     *
+     * @param request design request
+     * @return design result for given request
+     * @throws IllegalArgumentException if element type, geometry or reinforcement are invalid
+     */
+    public DesignResult calculate(DesignRequest request) {
+        Key key = Key.of(request);
+        if (key == null) {
+            return request.calculate();
+        }
+        Segment segment = getSegment(key);
+        DesignResult cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached.getRequest() == request ? cached
+                    : new DesignResult(request, cached.getBeam(), cached.getSlab(), cached.getFlexureCheck(), cached.getShearCheck(), cached.getCrackingCheck());
+        }
+        misses.increment();
+        DesignResult result = request.calculate();
+        synchronized (segment) {
+            segment.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached results. Metrics are not reset.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets segment for given key. Hash is spread, so that higher bits are used as well.
+     *
+     * @param key cache key
+     * @return segment
+     */
+    private Segment getSegment(Key key) {
+        int hash = key.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+    }
+
+    /**
+     * Gets number of cached results.
+     *
+     * @return number of results
+     */
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Getter for maximum number of cached results.
+     *
+     * @return maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets number of requests that were answered from the cache.
+     *
+     * @return number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets number of requests that had to be calculated.
+     *
+     * @return number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets number of results removed to keep the cache within its maximum size.
+     *
+     * @return number of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Calculates ratio of hits to all cached lookups.
+     *
+     * @return hit ratio, 0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long numberOfHits = hits.sum();
+        long numberOfLookups = numberOfHits + misses.sum();
+        return numberOfLookups == 0 ? 0 : (double) numberOfHits / numberOfLookups;
+    }
+
+    /**
+     * Least recently used map for one segment of the cache. It must be accessed while holding its lock.
+     */
+    private static final class Segment extends LinkedHashMap<Key, DesignResult> {
+        private final int capacity;
+        private final LongAdder evictions;
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity  maximum number of results in the segment
+         * @param evictions eviction counter of the cache
+         */
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Removes the least recently used result when the segment is over capacity.
+         *
+         * @param eldest least recently used entry
+         * @return true if entry should be removed
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DesignResult> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Canonical key of a design request. It holds values of all inputs that affect calculations, hash code is calculated once.
+     * Geometry, reinforcement and design parameters are immutable, so lists of bars are not copied.
+     */
+    private static final class Key {
+        private final List<Object> inputs;
+        private final int hash;
+
+        /**
+         * Constructor.
+         *
+         * @param inputs values of calculation inputs
+         */
+        private Key(List<Object> inputs) {
+            this.inputs = inputs;
+            this.hash = inputs.hashCode();
+        }
+
+        /**
+         * Creates key for a design request. ULS shear is ignored for slabs.
+         *
+         * @param request design request
+         * @return key, null if the request is incomplete and can't be cached
+         */
+        private static Key of(DesignRequest request) {
+            String elementType = request.getElementType();
+            Geometry geometry = request.getGeometry();
+            Reinforcement reinforcement = request.getReinforcement();
+            DesignParameters designParameters = request.getDesignParameters();
+            if (elementType == null || geometry == null || designParameters == null || request.getConcrete() == null) {
+                return null;
+            }
+            List<Object> reinforcementInputs;
+            if (reinforcement instanceof SlabReinforcement) {
+                SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
+                reinforcementInputs = Arrays.asList(
+                        slabReinforcement.getTopDiameters(), slabReinforcement.getAdditionalTopDiameters(),
+                        slabReinforcement.getTopSpacings(), slabReinforcement.getTopVerticalSpacings(),
+                        slabReinforcement.getBottomDiameters(), slabReinforcement.getAdditionalBottomDiameters(),
+                        slabReinforcement.getBottomSpacings(), slabReinforcement.getBottomVerticalSpacings());
+            } else if (reinforcement instanceof BeamReinforcement) {
+                BeamReinforcement beamReinforcement = (BeamReinforcement) reinforcement;
+                ShearLinks shearLinks = beamReinforcement.getShearLinks();
+                reinforcementInputs = Arrays.asList(
+                        beamReinforcement.getTopDiameters(), beamReinforcement.getTopVerticalSpacings(),
+                        beamReinforcement.getBottomDiameters(), beamReinforcement.getBottomVerticalSpacings(),
+                        shearLinks == null ? Collections.emptyList() : Arrays.asList(
+                                shearLinks.getYieldStrength(), shearLinks.getDiameter(), shearLinks.getSpacing(), shearLinks.getLegs()));
+            } else {
+                return null;
+            }
+            Section section = geometry.getSection();
+            boolean isSlab = elementType.equalsIgnoreCase(Constants.ELEMENT_TYPE_SLAB);
+
+            return new Key(Arrays.asList(
+                    elementType.toLowerCase(),
+                    Arrays.asList(section.getClass(), section.getWidth(), section.getDepth(), section.getWebWidth(), geometry.getFlangeThickness()),
+                    reinforcementInputs,
+                    Arrays.asList(designParameters.getNominalCoverTop(), designParameters.getNominalCoverSides(), designParameters.getNominalCoverBottom(),
+                            designParameters.getYieldStrength(), designParameters.getAggregateSize(),
+                            designParameters.getPartialFactorOfSafetyForConcrete(), designParameters.getPartialFactorOfSafetyForSteel(),
+                            designParameters.getRedistributionRatio(), designParameters.isRecommendedRatio(),
+                            designParameters.isIncludeCrackingCalculations(), designParameters.getCrackWidthLimit()),
+                    request.getConcrete(),
+                    canonical(request.getUlsMoment()),
+                    canonical(request.getSlsMoment()),
+                    isSlab ? 0.0 : canonical(request.getUlsShear())
+            ));
+        }
+
+        /**
+         * Normalises a force, so that negative zero is equal to zero.
+         *
+         * @param value force
+         * @return normalised force
+         */
+        private static double canonical(double value) {
+            return value + 0.0;
+        }
+
+        /**
+         * Checks if keys describe the same calculation.
+         *
+         * @param o other object
+         * @return true if equal
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && inputs.equals(key.inputs);
+        }
+
+        /**
+         * Gets hash code calculated on creation.
+         *
+         * @return hash code
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Section;
+import com.radsoltan.model.reinforcement.Reinforcement;
+
+/**
+ * Strain compatibility solver for a reinforced concrete section subject to uniaxial bending, based on fiber discretisation.
+ * <p>
+ * Concrete is divided into horizontal fibers of equal thickness, reinforcement rows are treated as point fibers. Fiber areas and positions are stored in primitive arrays,
+ * so that the solver does not allocate objects while iterating. Concrete uses parabola-rectangle stress-strain relationship from cl. 3.1.7 in EC2 and does not carry tension.
+ * Reinforcement is elastic perfectly plastic with horizontal top branch, cl. 3.2.7 in EC2. Area of concrete displaced by bars is neglected.
+ * <p>
+ * Plane sections remain plane. For given curvature the neutral axis depth is found from equilibrium of axial forces with Newton method safeguarded by bisection.
+ * Section capacity is reached when the extreme compressive fiber reaches the ultimate strain.
+ * <p>
+ * Sign convention: compressive strains and stresses are positive, positive curvature and moment cause sagging - compression at the top.
+ * Units: mm, N, MPa, curvature in 1/mm and moments in kNm (or kNm/m for slab strips).
+ */
+public class FiberSection {
+
+    public static final int DEFAULT_NUMBER_OF_FIBERS = 100;
+
+    private static final int MAX_ITERATIONS = 60;
+    private static final double FORCE_TOLERANCE = 1e-3;
+    private static final double DEPTH_TOLERANCE = 1e-9;
+
+    private final int depth;
+    /* Concrete fibers */
+    private final double[] fiberDistancesFromTop;
+    private final double[] fiberAreas;
+    /* Reinforcement point fibers */
+    private final double[] barDistancesFromTop;
+    private final double[] barAreas;
+    /* Material Properties */
+    private final double fcd;
+    private final double ec2;
+    private final double ecu2;
+    private final double n;
+    private final double fyd;
+    private final double Es;
+
+    /**
+     * Constructor. Uses default number of concrete fibers.
+     *
+     * @param section          section to discretise
+     * @param reinforcement    reinforcement object
+     * @param concrete         Concrete enum
+     * @param designParameters design parameters object
+     */
+    public FiberSection(Section section, Reinforcement reinforcement, Concrete concrete, DesignParameters designParameters) {
+        this(section, reinforcement, concrete, designParameters, DEFAULT_NUMBER_OF_FIBERS);
+    }
+
+    /**
+     * Constructor. Discretises concrete into fibers and reinforcement rows into point fibers.
+     *
+     * @param section          section to discretise
+     * @param reinforcement    reinforcement object
+     * @param concrete         Concrete enum
+     * @param designParameters design parameters object
+     * @param numberOfFibers   number of concrete fibers over the depth of the section
+     * @throws IllegalArgumentException if number of fibers is less than 1
+     */
+    public FiberSection(Section section, Reinforcement reinforcement, Concrete concrete, DesignParameters designParameters, int numberOfFibers) {
+        if (numberOfFibers < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_NUMBER_OF_FIBERS);
+        }
+        this.depth = section.getDepth();
+        this.fiberDistancesFromTop = new double[numberOfFibers];
+        this.fiberAreas = new double[numberOfFibers];
+        double fiberThickness = (double) depth / numberOfFibers;
+        for (int i = 0; i < numberOfFibers; i++) {
+            double distance = (i + 0.5) * fiberThickness;
+            fiberDistancesFromTop[i] = distance;
+            fiberAreas[i] = section.getWidthAtDistanceFromTop(distance) * fiberThickness;
+        }
+
+        double[] topAreas = reinforcement.getAreasOfTopRows();
+        double[] topDistances = reinforcement.getDistancesOfTopRowsToEdge(designParameters.getNominalCoverTop());
+        double[] bottomAreas = reinforcement.getAreasOfBottomRows();
+        double[] bottomDistances = reinforcement.getDistancesOfBottomRowsToEdge(designParameters.getNominalCoverBottom());
+        this.barAreas = new double[topAreas.length + bottomAreas.length];
+        this.barDistancesFromTop = new double[barAreas.length];
+        for (int i = 0; i < topAreas.length; i++) {
+            barAreas[i] = topAreas[i];
+            barDistancesFromTop[i] = topDistances[i];
+        }
+        for (int i = 0; i < bottomAreas.length; i++) {
+            barAreas[topAreas.length + i] = bottomAreas[i];
+            barDistancesFromTop[topAreas.length + i] = depth - bottomDistances[i];
+        }
+
+        MaterialContext materialContext = MaterialContext.of(concrete, designParameters);
+        this.fcd = materialContext.getFcd();
+        this.ec2 = concrete.getCompressiveStrainAtMaximumStrengthForParabolaRectangleModel();
+        this.ecu2 = concrete.getUltimateCompressiveStrainForParabolaRectangleModel();
+        this.n = concrete.getNFactor();
+        this.fyd = materialContext.getFyd();
+        this.Es = DesignParameters.steelYoungsModulus * 1000;
+    }
+
+    /**
+     * Calculates bending moment for given curvature.
+     *
+     * @param curvature curvature in 1/mm, positive for sagging
+     * @return bending moment in kNm, positive for sagging
+     */
+    public double getMoment(double curvature) {
+        if (curvature == 0) {
+            return 0;
+        }
+        boolean isSagging = curvature > 0;
+        double absoluteCurvature = Math.abs(curvature);
+        double neutralAxis = solveNeutralAxis(isSagging, absoluteCurvature, 0);
+        double moment = getMomentAboutNeutralAxis(isSagging, absoluteCurvature, neutralAxis);
+        return isSagging ? moment : -moment;
+    }
+
+    /**
+     * Calculates depth of neutral axis for given curvature.
+     *
+     * @param curvature curvature in 1/mm, positive for sagging
+     * @return depth of neutral axis measured from the compressive edge in mm
+     */
+    public double getNeutralAxisDepth(double curvature) {
+        return solveNeutralAxis(curvature >= 0, Math.abs(curvature), 0);
+    }
+
+    /**
+     * Calculates curvature at which the extreme compressive fiber reaches the ultimate strain ecu2.
+     *
+     * @param isSagging true for sagging, false for hogging
+     * @return ultimate curvature in 1/mm, positive value
+     */
+    public double getUltimateCurvature(boolean isSagging) {
+        return ecu2 / solveNeutralAxis(isSagging, 0, ecu2);
+    }
+
+    /**
+     * Calculates bending capacity of the section. It is a moment at ultimate curvature.
+     *
+     * @param isSagging true for sagging, false for hogging
+     * @return bending capacity in kNm, positive value
+     */
+    public double getBendingCapacity(boolean isSagging) {
+        double neutralAxis = solveNeutralAxis(isSagging, 0, ecu2);
+        return getMomentAboutNeutralAxis(isSagging, ecu2 / neutralAxis, neutralAxis);
+    }
+
+    /**
+     * Calculates moment-curvature curve from zero to ultimate curvature.
+     *
+     * @param isSagging      true for sagging, false for hogging
+     * @param numberOfPoints number of points on the curve, at least 2
+     * @return moment-curvature curve, curvatures and moments are negative for hogging
+     */
+    public MomentCurvatureCurve getMomentCurvatureCurve(boolean isSagging, int numberOfPoints) {
+        int points = Math.max(numberOfPoints, 2);
+        double sign = isSagging ? 1 : -1;
+        double ultimateCurvature = getUltimateCurvature(isSagging);
+        double[] curvatures = new double[points];
+        double[] moments = new double[points];
+        for (int i = 1; i < points; i++) {
+            double curvature = ultimateCurvature * i / (points - 1);
+            double neutralAxis = (i == points - 1) ? ecu2 / ultimateCurvature : solveNeutralAxis(isSagging, curvature, 0);
+            curvatures[i] = sign * curvature;
+            moments[i] = sign * getMomentAboutNeutralAxis(isSagging, curvature, neutralAxis);
+        }
+        return new MomentCurvatureCurve(curvatures, moments);
+    }
+
+    /**
+     * Finds depth of neutral axis from equilibrium of axial forces. Either curvature or strain of the extreme compressive fiber is given.
+     * Axial force grows with depth of neutral axis, so the root is bracketed between 0 and section depth.
+     * Newton steps are taken when they stay inside the bracket, otherwise the bracket is bisected.
+     *
+     * @param isSagging          true if top of the section is in compression
+     * @param curvature          curvature in 1/mm, used if extreme fiber strain is 0
+     * @param extremeFiberStrain strain of the extreme compressive fiber, 0 if curvature is given
+     * @return depth of neutral axis measured from the compressive edge in mm
+     */
+    private double solveNeutralAxis(boolean isSagging, double curvature, double extremeFiberStrain) {
+        double[] forceAndStiffness = new double[2];
+        double low = DEPTH_TOLERANCE * depth;
+        double high = depth;
+
+        evaluateAxialForce(isSagging, curvature, extremeFiberStrain, low, forceAndStiffness);
+        if (forceAndStiffness[0] >= 0) {
+            // No tensile reinforcement to balance compression
+            return low;
+        }
+
+        double neutralAxis = 0.25 * depth;
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            evaluateAxialForce(isSagging, curvature, extremeFiberStrain, neutralAxis, forceAndStiffness);
+            double force = forceAndStiffness[0];
+            double stiffness = forceAndStiffness[1];
+            if (Math.abs(force) < FORCE_TOLERANCE) {
+                break;
+            }
+            if (force > 0) {
+                high = neutralAxis;
+            } else {
+                low = neutralAxis;
+            }
+            if (high - low < DEPTH_TOLERANCE * depth) {
+                break;
+            }
+            double newtonStep = (stiffness > 0) ? neutralAxis - force / stiffness : Double.NaN;
+            neutralAxis = (newtonStep > low && newtonStep < high) ? newtonStep : 0.5 * (low + high);
+        }
+        return neutralAxis;
+    }
+
+    /**
+     * Calculates axial force in the section and its derivative with respect to depth of neutral axis.
+     *
+     * @param isSagging          true if top of the section is in compression
+     * @param curvature          curvature in 1/mm, used if extreme fiber strain is 0
+     * @param extremeFiberStrain strain of the extreme compressive fiber, 0 if curvature is given
+     * @param neutralAxis        depth of neutral axis from the compressive edge in mm
+     * @param result             array to store axial force in N and its derivative in N/mm
+     */
+    private void evaluateAxialForce(boolean isSagging, double curvature, double extremeFiberStrain, double neutralAxis, double[] result) {
+        boolean isCurvatureGiven = extremeFiberStrain == 0;
+        double k = isCurvatureGiven ? curvature : extremeFiberStrain / neutralAxis;
+        double force = 0;
+        double stiffness = 0;
+
+        for (int i = 0; i < fiberAreas.length; i++) {
+            double distance = isSagging ? fiberDistancesFromTop[i] : depth - fiberDistancesFromTop[i];
+            double strain = k * (neutralAxis - distance);
+            if (strain > 0) {
+                double strainDerivative = isCurvatureGiven ? k : extremeFiberStrain * distance / (neutralAxis * neutralAxis);
+                force += getConcreteStress(strain) * fiberAreas[i];
+                stiffness += getConcreteTangentModulus(strain) * strainDerivative * fiberAreas[i];
+            }
+        }
+        for (int i = 0; i < barAreas.length; i++) {
+            double distance = isSagging ? barDistancesFromTop[i] : depth - barDistancesFromTop[i];
+            double strain = k * (neutralAxis - distance);
+            double strainDerivative = isCurvatureGiven ? k : extremeFiberStrain * distance / (neutralAxis * neutralAxis);
+            force += getSteelStress(strain) * barAreas[i];
+            stiffness += (Math.abs(Es * strain) < fyd ? Es : 0) * strainDerivative * barAreas[i];
+        }
+        result[0] = force;
+        result[1] = stiffness;
+    }
+
+    /**
+     * Calculates moment of fiber forces about neutral axis. If the section is in equilibrium, it equals bending moment.
+     *
+     * @param isSagging   true if top of the section is in compression
+     * @param curvature   curvature in 1/mm
+     * @param neutralAxis depth of neutral axis from the compressive edge in mm
+     * @return bending moment in kNm, positive value
+     */
+    private double getMomentAboutNeutralAxis(boolean isSagging, double curvature, double neutralAxis) {
+        double moment = 0;
+        for (int i = 0; i < fiberAreas.length; i++) {
+            double leverArm = neutralAxis - (isSagging ? fiberDistancesFromTop[i] : depth - fiberDistancesFromTop[i]);
+            moment += getConcreteStress(curvature * leverArm) * fiberAreas[i] * leverArm;
+        }
+        for (int i = 0; i < barAreas.length; i++) {
+            double leverArm = neutralAxis - (isSagging ? barDistancesFromTop[i] : depth - barDistancesFromTop[i]);
+            moment += getSteelStress(curvature * leverArm) * barAreas[i] * leverArm;
+        }
+        return moment * Constants.NMM_TO_KNM;
+    }
+
+    /**
+     * Calculates concrete stress using parabola-rectangle diagram, Eq. 3.17 and 3.18 in EC2. Concrete in tension does not carry stress.
+     *
+     * @param strain concrete strain, positive in compression
+     * @return stress in MPa
+     */
+    private double getConcreteStress(double strain) {
+        if (strain <= 0) {
+            return 0;
+        }
+        return strain < ec2 ? fcd * (1 - Math.pow(1 - strain / ec2, n)) : fcd;
+    }
+
+    /**
+     * Calculates tangent modulus of concrete parabola-rectangle diagram.
+     *
+     * @param strain concrete strain, positive in compression
+     * @return tangent modulus in MPa
+     */
+    private double getConcreteTangentModulus(double strain) {
+        if (strain <= 0 || strain >= ec2) {
+            return 0;
+        }
+        return fcd * n * Math.pow(1 - strain / ec2, n - 1) / ec2;
+    }
+
+    /**
+     * Calculates reinforcement stress using elastic perfectly plastic diagram.
+     *
+     * @param strain reinforcement strain, positive in compression
+     * @return stress in MPa
+     */
+    private double getSteelStress(double strain) {
+        return Math.max(-fyd, Math.min(fyd, Es * strain));
+    }
+
+    /**
+     * Moment-curvature curve calculated for a section. Values are stored in arrays of the same length, starting from zero curvature.
+     */
+    public static class MomentCurvatureCurve {
+        private final double[] curvatures;
+        private final double[] moments;
+
+        /**
+         * Constructor.
+         *
+         * @param curvatures curvatures in 1/mm
+         * @param moments    bending moments in kNm
+         */
+        private MomentCurvatureCurve(double[] curvatures, double[] moments) {
+            this.curvatures = curvatures;
+            this.moments = moments;
+        }
+
+        /**
+         * Getter for curvatures.
+         *
+         * @return curvatures in 1/mm
+         */
+        public double[] getCurvatures() {
+            return curvatures;
+        }
+
+        /**
+         * Getter for bending moments.
+         *
+         * @return bending moments in kNm
+         */
+        public double[] getMoments() {
+            return moments;
+        }
+
+        /**
+         * Gets moment at the last point of the curve, that is the bending capacity.
+         *
+         * @return ultimate moment in kNm
+         */
+        public double getUltimateMoment() {
+            return moments[moments.length - 1];
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.radsoltan.model;
 
+import com.radsoltan.constants.Constants;
 import com.radsoltan.model.geometry.Geometry;
 import com.radsoltan.model.reinforcement.Reinforcement;
 
@@ -27,7 +28,7 @@ public interface Flexure {
      * @return value of K factor
      */
     default double getKFactor(double UlsMoment, int widthInCompressionZone, double effectiveDepth, int fck) {
-        return Math.abs(UlsMoment) * Math.pow(10, 6) / (widthInCompressionZone * effectiveDepth * effectiveDepth * fck);
+        return Math.abs(UlsMoment) * Constants.KNM_TO_NMM / (widthInCompressionZone * effectiveDepth * effectiveDepth * fck);
     }
 
     /**
@@ -0,0 +1,540 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.util.List;
+
+/**
+ * Class that designs a single beam or slab section for many load combinations in one pass. It implements Flexure, Shear and Cracking interfaces.
+ * <p>
+ * Section properties that depend only on the sign of the moment, such as effective depth, width in compression zone, minimum reinforcement
+ * and provided tensile reinforcement, are calculated once for sagging and once for hogging. K' factor and material properties are calculated once.
+ * The remaining checks are evaluated for all combinations over primitive arrays, using the same formulas as Beam and Slab classes.
+ * <p>
+ * Errors are stored for each combination rather than thrown, so that one combination does not stop the others.
+ * For each check the governing combination is the one with the highest utilisation, combinations with an error always govern.
+ */
+public class LoadCaseEnvelope implements Flexure, Shear, Cracking {
+    private static final int SAGGING = 0;
+    private static final int HOGGING = 1;
+
+    private final boolean isBeam;
+    private final Geometry geometry;
+    private final Reinforcement reinforcement;
+    private final DesignParameters designParameters;
+    private final List<LoadCombination> combinations;
+    private final int numberOfCombinations;
+    /* Forces */
+    private final double[] UlsMoments;
+    private final double[] UlsShears;
+    private final double[] SlsMoments;
+    /* Material Properties */
+    private final Concrete concrete;
+    private final int fck;
+    private final double fcd;
+    private final int fy;
+    private final double fyd;
+    private final double fctm;
+    private final double kDashFactor;
+    private final MaterialContext materialContext;
+    /* Section properties for sagging and hogging */
+    private final SectionProperties[] sectionProperties;
+    /* Results Bending */
+    private final double[] leverArms;
+    private final double[] bendingCapacities;
+    private final double[] requiredTensileReinforcement;
+    private final double[] requiredCompressionReinforcement;
+    private final String[] flexureErrors;
+    /* Results Shear */
+    private final double[] requiredShearReinforcement;
+    private final String[] shearErrors;
+    /* Results Cracking */
+    private final double[] crackWidths;
+    private final String[] crackingErrors;
+
+    /**
+     * Constructor. Forces of the combinations are copied to primitive arrays.
+     *
+     * @param isBeam           true for beam, false for slab
+     * @param geometry         Geometry object
+     * @param concrete         Concrete enum
+     * @param reinforcement    BeamReinforcement or SlabReinforcement object
+     * @param designParameters Design parameters object
+     * @param combinations     list of load combinations
+     * @throws IllegalArgumentException if there are no combinations or reinforcement does not match element type
+     */
+    public LoadCaseEnvelope(boolean isBeam, Geometry geometry, Concrete concrete,
+                            Reinforcement reinforcement, DesignParameters designParameters,
+                            List<LoadCombination> combinations) {
+        if (combinations == null || combinations.isEmpty()) {
+            throw new IllegalArgumentException(UIText.EMPTY_LOAD_COMBINATIONS);
+        }
+        if (isBeam && !(reinforcement instanceof BeamReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
+        }
+        if (!isBeam && !(reinforcement instanceof SlabReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
+        }
+        this.isBeam = isBeam;
+        this.geometry = geometry;
+        this.reinforcement = reinforcement;
+        this.designParameters = designParameters;
+        this.combinations = List.copyOf(combinations);
+        this.numberOfCombinations = combinations.size();
+        this.UlsMoments = this.combinations.stream().mapToDouble(LoadCombination::getUlsMoment).toArray();
+        this.UlsShears = this.combinations.stream().mapToDouble(combination -> Math.abs(combination.getUlsShear())).toArray();
+        this.SlsMoments = this.combinations.stream().mapToDouble(LoadCombination::getSlsMoment).toArray();
+        this.concrete = concrete;
+        this.materialContext = MaterialContext.of(concrete, designParameters);
+        this.fck = materialContext.getFck();
+        this.fcd = materialContext.getFcd();
+        this.fctm = materialContext.getFctm();
+        this.fy = materialContext.getFy();
+        this.fyd = materialContext.getFyd();
+        this.kDashFactor = materialContext.getKDashFactor();
+        this.sectionProperties = new SectionProperties[2];
+        this.leverArms = new double[numberOfCombinations];
+        this.bendingCapacities = new double[numberOfCombinations];
+        this.requiredTensileReinforcement = new double[numberOfCombinations];
+        this.requiredCompressionReinforcement = new double[numberOfCombinations];
+        this.flexureErrors = new String[numberOfCombinations];
+        this.requiredShearReinforcement = new double[numberOfCombinations];
+        this.shearErrors = new String[numberOfCombinations];
+        this.crackWidths = new double[numberOfCombinations];
+        this.crackingErrors = new String[numberOfCombinations];
+    }
+
+    /**
+     * Runs all checks for all combinations. Shear is calculated only for beams and cracking only if included in design parameters.
+     */
+    public void calculate() {
+        calculateBendingCapacity();
+        if (isBeam) {
+            calculateShearCapacity();
+        }
+        if (designParameters.isIncludeCrackingCalculations()) {
+            calculateCracking();
+        }
+    }
+
+    /**
+     * Calculates bending capacity for all combinations in accordance with Eurocode 2, the same way as Beam and Slab classes.
+     * Beams can be singly or doubly reinforced, slabs can only be singly reinforced.
+     */
+    @Override
+    public void calculateBendingCapacity() {
+        if (fck > 50) {
+            fillErrors(flexureErrors, UIText.WRONG_CONCRETE_CLASS);
+            return;
+        }
+        for (int i = 0; i < numberOfCombinations; i++) {
+            double UlsMoment = UlsMoments[i];
+            SectionProperties properties = getSectionProperties(UlsMoment);
+            double effectiveDepth = properties.effectiveDepth;
+            double kFactor = getKFactor(UlsMoment, properties.widthInCompressionZone, effectiveDepth, fck);
+            double leverArm = getLeverArm(effectiveDepth, kFactor, kDashFactor);
+            leverArms[i] = leverArm;
+            flexureErrors[i] = null;
+
+            if (isBeam && geometry.isFlangedSection() && !geometry.checkIfPlasticNeutralAxisInFlange(UlsMoment, effectiveDepth, leverArm)) {
+                // Flanged section with PNA in the web
+                double flangeThickness = geometry.getFlangeThickness();
+                double flangeCapacity = 0.57 * fck * (geometry.getFlangeWidth() - geometry.getWidth()) * flangeThickness * (effectiveDepth - 0.5 * flangeThickness) * Constants.NMM_TO_KNM;
+                double flangeKFactor = (UlsMoment - flangeCapacity) * Constants.KNM_TO_NMM / (fck * geometry.getWidth() * effectiveDepth * effectiveDepth);
+                if (flangeKFactor <= kDashFactor) {
+                    double requiredReinforcementForFlangeResistance = flangeCapacity * Constants.KNM_TO_NMM / (fyd * (effectiveDepth - 0.5 * flangeThickness));
+                    requiredTensileReinforcement[i] = requiredReinforcementForFlangeResistance + (UlsMoment - flangeCapacity) * Constants.KNM_TO_NMM / (fyd * leverArm);
+                    bendingCapacities[i] = (properties.providedTensileReinforcement - requiredReinforcementForFlangeResistance) * fyd * leverArm * Constants.NMM_TO_KNM + flangeCapacity;
+                } else {
+                    flexureErrors[i] = UIText.REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE;
+                }
+            } else if (kFactor <= kDashFactor) {
+                // Singly reinforced section
+                requiredTensileReinforcement[i] = Math.max(Math.abs(UlsMoment) * Constants.KNM_TO_NMM / (fyd * leverArm), properties.minimumReinforcement);
+                bendingCapacities[i] = properties.providedTensileReinforcement * leverArm * fyd * Constants.NMM_TO_KNM;
+            } else if (isBeam) {
+                // Doubly reinforced section
+                int width = properties.widthInCompressionZone;
+                double centroidOfCompressionReinforcement = properties.centroidOfCompressionReinforcement;
+                double depthOfPlasticNeutralAxis = getDepthOfPlasticNeutralAxis(effectiveDepth, leverArm);
+                double fsc = Math.min(700 * (depthOfPlasticNeutralAxis - centroidOfCompressionReinforcement) / depthOfPlasticNeutralAxis, fyd);
+                requiredCompressionReinforcement[i] = (kFactor - kDashFactor) * fck * width * effectiveDepth * effectiveDepth / (fsc * (effectiveDepth - centroidOfCompressionReinforcement));
+                requiredTensileReinforcement[i] = Math.max(kDashFactor * fck * width * effectiveDepth * effectiveDepth / (fyd * leverArm) + requiredCompressionReinforcement[i] * fsc / fyd, properties.minimumReinforcement);
+                bendingCapacities[i] = properties.providedTensileReinforcement * fyd * (effectiveDepth - centroidOfCompressionReinforcement) * Constants.NMM_TO_KNM - 0.8 * depthOfPlasticNeutralAxis * width * fcd * (0.4 * depthOfPlasticNeutralAxis - centroidOfCompressionReinforcement) * Constants.NMM_TO_KNM;
+            } else {
+                flexureErrors[i] = UIText.REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE;
+            }
+        }
+    }
+
+    /**
+     * Calculates required shear reinforcement for all combinations in accordance with Eurocode 2 - cl. 6.2, the same way as Beam class.
+     * Concrete shear resistance and minimum shear reinforcement are calculated once for sagging and once for hogging.
+     * Lever arms from flexure calculations are used, if these were not calculated 0.9d is assumed.
+     */
+    @Override
+    public void calculateShearCapacity() {
+        if (!isBeam) {
+            return;
+        }
+        if (fck > 50) {
+            fillErrors(shearErrors, UIText.WRONG_CONCRETE_CLASS);
+            return;
+        }
+        ShearLinks shearLinks = ((BeamReinforcement) reinforcement).getShearLinks();
+        double width = geometry.getWidth();
+        double yieldStrength = shearLinks.getYieldStrength();
+        double minimumShearReinforcement = materialContext.getMinimumShearReinforcementFactor() * width / yieldStrength * Constants.PER_MM_TO_PER_M; // Eq. 9.5N
+        double steelDesignStrength = yieldStrength / materialContext.getGammaS();
+
+        for (int i = 0; i < numberOfCombinations; i++) {
+            SectionProperties properties = getSectionProperties(UlsMoments[i]);
+            double effectiveDepth = properties.effectiveDepth;
+            double leverArm = leverArms[i] == 0 ? 0.9 * effectiveDepth : leverArms[i];
+            double UlsShear = UlsShears[i];
+            shearErrors[i] = null;
+
+            if (UlsShear > properties.concreteShearResistance) {
+                // Calculations if shear reinforcement is needed cl. 6.2.3
+                double maxShearResistance = width * leverArm * materialContext.getMaxShearStress() * Constants.N_TO_KN; // Eq. 6.9
+                if (UlsShear <= maxShearResistance) {
+                    double shearStress = UlsShear * 1000 / (width * leverArm);
+                    double angleOfCompressiveStrut = Math.toRadians(Math.max(0.5 * Math.asin(shearStress / materialContext.getStrutCrushingStress()), 21.8));
+                    requiredShearReinforcement[i] = Math.max(shearStress * width / (steelDesignStrength * 1 / Math.tan(angleOfCompressiveStrut)) * Constants.PER_MM_TO_PER_M, minimumShearReinforcement);
+                } else {
+                    requiredShearReinforcement[i] = 0;
+                    shearErrors[i] = UIText.REDESIGN_SECTION_DUE_TO_HIGH_SHEAR;
+                }
+            } else {
+                requiredShearReinforcement[i] = minimumShearReinforcement;
+            }
+        }
+    }
+
+    /**
+     * Calculates crack widths for all combinations in accordance with Eurocode 2, the same way as Beam and Slab classes.
+     * It requires flexure capacity to be calculated beforehand. Max bar spacing and diameter are taken once for each sign of SLS moment.
+     */
+    @Override
+    public void calculateCracking() {
+        int width = geometry.getWidth();
+        int depth = geometry.getDepth();
+        double[] maxSpacings = new double[2];
+        int[] maxBarDiameters = new int[2];
+        String[] tensileReinforcementErrors = new String[2];
+        boolean[] isTensileReinforcementCalculated = new boolean[2];
+
+        for (int i = 0; i < numberOfCombinations; i++) {
+            crackWidths[i] = 0;
+            crackingErrors[i] = null;
+            if (bendingCapacities[i] == 0) {
+                crackingErrors[i] = UIText.INVALID_BENDING_CAPACITY;
+                continue;
+            }
+            double SlsMoment = SlsMoments[i];
+            int face = SlsMoment >= 0 ? SAGGING : HOGGING;
+            if (!isTensileReinforcementCalculated[face]) {
+                isTensileReinforcementCalculated[face] = true;
+                try {
+                    maxSpacings[face] = isBeam ?
+                            ((BeamReinforcement) reinforcement).getMaxBarSpacingForTensileReinforcement(SlsMoment, designParameters, geometry.getSection()) :
+                            ((SlabReinforcement) reinforcement).getMaxBarSpacingForTensileReinforcement(SlsMoment);
+                    maxBarDiameters[face] = isBeam ?
+                            ((BeamReinforcement) reinforcement).getMaxBarDiameterForTensileReinforcement(SlsMoment) :
+                            ((SlabReinforcement) reinforcement).getMaxBarDiameterForTensileReinforcement(SlsMoment);
+                } catch (IllegalArgumentException e) {
+                    tensileReinforcementErrors[face] = e.getMessage();
+                }
+            }
+            if (tensileReinforcementErrors[face] != null) {
+                crackingErrors[i] = tensileReinforcementErrors[face];
+                continue;
+            }
+            SectionProperties properties = getSectionProperties(UlsMoments[i]);
+            double neutralAxis = getDepthOfPlasticNeutralAxis(properties.effectiveDepth, leverArms[i]);
+            if (!isCrackWidthCalculable(UlsMoments[i], SlsMoment, maxSpacings[face], maxBarDiameters[face], designParameters)) {
+                crackingErrors[i] = ReasonCode.BAR_SPACING_TOO_LARGE_FOR_CRACKING.getMessage();
+                continue;
+            }
+            crackWidths[i] = calculateCrackWidth(width, depth, properties.effectiveDepth, neutralAxis, UlsMoments[i], SlsMoment,
+                    maxSpacings[face], maxBarDiameters[face], properties.providedTensileReinforcement, requiredTensileReinforcement[i], concrete, designParameters);
+        }
+    }
+
+    /**
+     * Gets section properties for the sign of given ULS moment. These are calculated when first needed.
+     *
+     * @param UlsMoment ULS moment in kNm or kNm/m
+     * @return section properties for sagging or hogging
+     */
+    private SectionProperties getSectionProperties(double UlsMoment) {
+        int index = UlsMoment >= 0 ? SAGGING : HOGGING;
+        if (sectionProperties[index] == null) {
+            sectionProperties[index] = new SectionProperties(UlsMoment);
+        }
+        return sectionProperties[index];
+    }
+
+    /**
+     * Sets the same error message for all combinations.
+     *
+     * @param errors array of error messages
+     * @param error  error message
+     */
+    private void fillErrors(String[] errors, String error) {
+        for (int i = 0; i < numberOfCombinations; i++) {
+            errors[i] = error;
+        }
+    }
+
+    /**
+     * Gets index of the combination with the highest utilisation in given array. Combinations with an error always govern.
+     *
+     * @param utilisations array of utilisations
+     * @return index of governing combination
+     */
+    private static int getGoverningIndex(double[] utilisations) {
+        int governing = 0;
+        for (int i = 1; i < utilisations.length; i++) {
+            if (utilisations[i] > utilisations[governing]) {
+                governing = i;
+            }
+        }
+        return governing;
+    }
+
+    /**
+     * Gets utilisations for flexure check - ratio of ULS moment to bending capacity.
+     *
+     * @return array of utilisations, infinity for combinations with an error
+     */
+    public double[] getFlexureUtilisations() {
+        double[] utilisations = new double[numberOfCombinations];
+        for (int i = 0; i < numberOfCombinations; i++) {
+            utilisations[i] = flexureErrors[i] != null || bendingCapacities[i] <= 0 ?
+                    Double.POSITIVE_INFINITY :
+                    Math.abs(UlsMoments[i]) / bendingCapacities[i];
+        }
+        return utilisations;
+    }
+
+    /**
+     * Gets utilisations for shear check - ratio of required to provided shear reinforcement. All utilisations are 0 for slabs.
+     *
+     * @return array of utilisations, infinity for combinations with an error
+     */
+    public double[] getShearUtilisations() {
+        double[] utilisations = new double[numberOfCombinations];
+        if (!isBeam) {
+            return utilisations;
+        }
+        double providedShearReinforcement = ((BeamReinforcement) reinforcement).getShearLinks().getArea();
+        for (int i = 0; i < numberOfCombinations; i++) {
+            utilisations[i] = shearErrors[i] != null ?
+                    Double.POSITIVE_INFINITY :
+                    requiredShearReinforcement[i] / providedShearReinforcement;
+        }
+        return utilisations;
+    }
+
+    /**
+     * Gets utilisations for cracking check - ratio of crack width to crack width limit. All utilisations are 0 if cracking calculations are not included.
+     *
+     * @return array of utilisations, infinity for combinations with an error
+     */
+    public double[] getCrackingUtilisations() {
+        double[] utilisations = new double[numberOfCombinations];
+        if (!designParameters.isIncludeCrackingCalculations()) {
+            return utilisations;
+        }
+        double crackWidthLimit = designParameters.getCrackWidthLimit();
+        for (int i = 0; i < numberOfCombinations; i++) {
+            utilisations[i] = crackingErrors[i] != null ?
+                    Double.POSITIVE_INFINITY :
+                    crackWidths[i] / crackWidthLimit;
+        }
+        return utilisations;
+    }
+
+    /**
+     * Gets index of governing combination for flexure.
+     *
+     * @return index of governing combination
+     */
+    public int getGoverningFlexureCombination() {
+        return getGoverningIndex(getFlexureUtilisations());
+    }
+
+    /**
+     * Gets index of governing combination for shear.
+     *
+     * @return index of governing combination
+     */
+    public int getGoverningShearCombination() {
+        return getGoverningIndex(getShearUtilisations());
+    }
+
+    /**
+     * Gets index of governing combination for cracking.
+     *
+     * @return index of governing combination
+     */
+    public int getGoverningCrackingCombination() {
+        return getGoverningIndex(getCrackingUtilisations());
+    }
+
+    /**
+     * Checks if all checks pass for all combinations.
+     *
+     * @return true if section is adequate for the envelope
+     */
+    public boolean isPassed() {
+        return getFlexureUtilisations()[getGoverningFlexureCombination()] <= 1
+                && getShearUtilisations()[getGoverningShearCombination()] <= 1
+                && getCrackingUtilisations()[getGoverningCrackingCombination()] <= 1;
+    }
+
+    /**
+     * Getter for load combinations.
+     *
+     * @return list of load combinations
+     */
+    public List<LoadCombination> getCombinations() {
+        return combinations;
+    }
+
+    /**
+     * Gets load combination at given index.
+     *
+     * @param index combination index
+     * @return load combination
+     */
+    public LoadCombination getCombination(int index) {
+        return combinations.get(index);
+    }
+
+    /**
+     * Gets bending capacity for given combination.
+     *
+     * @param index combination index
+     * @return bending capacity in kNm or kNm/m
+     */
+    public double getBendingCapacity(int index) {
+        return bendingCapacities[index];
+    }
+
+    /**
+     * Gets required tensile reinforcement for given combination.
+     *
+     * @param index combination index
+     * @return required tensile reinforcement area
+     */
+    public double getRequiredTensileReinforcement(int index) {
+        return requiredTensileReinforcement[index];
+    }
+
+    /**
+     * Gets required compression reinforcement for given combination.
+     *
+     * @param index combination index
+     * @return required compression reinforcement area
+     */
+    public double getRequiredCompressionReinforcement(int index) {
+        return requiredCompressionReinforcement[index];
+    }
+
+    /**
+     * Gets flexure calculations error message for given combination.
+     *
+     * @param index combination index
+     * @return error message, null if no error
+     */
+    public String getFlexureError(int index) {
+        return flexureErrors[index];
+    }
+
+    /**
+     * Gets required shear reinforcement for given combination.
+     *
+     * @param index combination index
+     * @return required shear reinforcement in mm2/m
+     */
+    public double getRequiredShearReinforcement(int index) {
+        return requiredShearReinforcement[index];
+    }
+
+    /**
+     * Gets shear calculations error message for given combination.
+     *
+     * @param index combination index
+     * @return error message, null if no error
+     */
+    public String getShearError(int index) {
+        return shearErrors[index];
+    }
+
+    /**
+     * Gets crack width for given combination.
+     *
+     * @param index combination index
+     * @return crack width in mm
+     */
+    public double getCrackWidth(int index) {
+        return crackWidths[index];
+    }
+
+    /**
+     * Gets cracking calculations error message for given combination.
+     *
+     * @param index combination index
+     * @return error message, null if no error
+     */
+    public String getCrackingError(int index) {
+        return crackingErrors[index];
+    }
+
+    /**
+     * Section properties that depend only on the sign of ULS moment.
+     */
+    private class SectionProperties {
+        private final double effectiveDepth;
+        private final int widthInCompressionZone;
+        private final double minimumReinforcement;
+        private final double providedTensileReinforcement;
+        private final double centroidOfCompressionReinforcement;
+        private final double concreteShearResistance;
+
+        /**
+         * Constructor. Calculates section properties for the sign of given ULS moment.
+         *
+         * @param UlsMoment ULS moment in kNm or kNm/m
+         */
+        private SectionProperties(double UlsMoment) {
+            this.effectiveDepth = getEffectiveDepth(geometry.getDepth(), UlsMoment, reinforcement, designParameters);
+            this.widthInCompressionZone = geometry.getWidthInCompressionZone(UlsMoment);
+            this.minimumReinforcement = getMinimumReinforcement(UlsMoment, fctm, fy, effectiveDepth, geometry);
+            this.providedTensileReinforcement = (UlsMoment >= 0) ? reinforcement.getTotalAreaOfBottomReinforcement() : reinforcement.getTotalAreaOfTopReinforcement();
+            this.centroidOfCompressionReinforcement = getCentroidOfCompressionReinforcement(UlsMoment, reinforcement, designParameters);
+            this.concreteShearResistance = isBeam ? getConcreteShearResistance() : 0;
+        }
+
+        /**
+         * Calculates resistance for members not requiring shear reinforcement cl. 6.2.2.
+         *
+         * @return concrete shear resistance in kN
+         */
+        private double getConcreteShearResistance() {
+            double width = geometry.getWidth();
+            double reinforcementRatio = providedTensileReinforcement / (width * effectiveDepth);
+            double k = Math.min(1 + Math.sqrt(200 / effectiveDepth), 2.0);
+            double minimumConcreteShearResistance = materialContext.getMinimumConcreteShearStressFactor() * k * Math.sqrt(k);
+            return Math.max(materialContext.getShearResistanceCoefficient() * k * Math.pow(100 * reinforcementRatio * fck, 0.333), minimumConcreteShearResistance) * width * effectiveDepth * Constants.N_TO_KN; // Eq. 6.2
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.radsoltan.model;
+
+/**
+ * Immutable load combination for a single section. It holds ULS bending moment, ULS shear force and SLS bending moment.
+ * Positive moments cause sagging and negative moments cause hogging.
+ */
+public class LoadCombination {
+    private final String name;
+    private final double UlsMoment;
+    private final double UlsShear;
+    private final double SlsMoment;
+
+    /**
+     * Constructor.
+     *
+     * @param name      combination name, for example 'ULS 1'
+     * @param UlsMoment ULS bending moment in kNm or kNm/m
+     * @param UlsShear  ULS shear force in kN, ignored for slabs
+     * @param SlsMoment SLS bending moment in kNm or kNm/m
+     */
+    public LoadCombination(String name, double UlsMoment, double UlsShear, double SlsMoment) {
+        this.name = name;
+        this.UlsMoment = UlsMoment;
+        this.UlsShear = UlsShear;
+        this.SlsMoment = SlsMoment;
+    }
+
+    /**
+     * Getter for combination name.
+     *
+     * @return combination name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for ULS moment.
+     *
+     * @return ULS moment in kNm or kNm/m
+     */
+    public double getUlsMoment() {
+        return UlsMoment;
+    }
+
+    /**
+     * Getter for ULS shear force.
+     *
+     * @return ULS shear force in kN
+     */
+    public double getUlsShear() {
+        return UlsShear;
+    }
+
+    /**
+     * Getter for SLS moment.
+     *
+     * @return SLS moment in kNm or kNm/m
+     */
+    public double getSlsMoment() {
+        return SlsMoment;
+    }
+}
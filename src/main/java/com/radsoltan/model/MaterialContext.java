@@ -0,0 +1,266 @@
+package com.radsoltan.model;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable set of design constants derived from concrete class and design parameters that affect materials.
+ * Contexts are interned, so that constants are calculated once for each combination of concrete class, partial factors of safety,
+ * yield strength and moment redistribution ratio, and the same instance is shared by all Beam, Slab and LoadCaseEnvelope objects.
+ * Nominal covers and cracking parameters do not affect the constants and are not part of the key.
+ */
+public final class MaterialContext {
+
+    private static final Map<Key, MaterialContext> contexts = new ConcurrentHashMap<>();
+    private static final double MAX_ANGLE_OF_COMPRESSIVE_STRUT = Math.toRadians(45);
+    private static final double COEFFICIENT_FOR_STRESS_STATE = 1.0;
+
+    private final Concrete concrete;
+    private final int fck;
+    private final double fcd;
+    private final double fctm;
+    private final int fy;
+    private final double fyd;
+    private final double kDashFactor;
+    /* Shear */
+    private final double shearResistanceCoefficient;
+    private final double minimumConcreteShearStressFactor;
+    private final double minimumShearReinforcementFactor;
+    private final double strengthReductionFactor;
+    private final double strutCrushingStress;
+    private final double maxShearStress;
+    private final double gammaS;
+
+    /**
+     * Constructor. Calculates all derived constants.
+     *
+     * @param concrete         Concrete enum
+     * @param designParameters DesignParameters object
+     */
+    private MaterialContext(Concrete concrete, DesignParameters designParameters) {
+        double gammaC = designParameters.getPartialFactorOfSafetyForConcrete();
+        double squareRootOfFck = Math.sqrt(concrete.getCompressiveStrength());
+        double redistributionRatio = designParameters.getRedistributionRatio();
+
+        this.concrete = concrete;
+        this.fck = concrete.getCompressiveStrength();
+        this.fcd = concrete.getDesignCompressiveResistance(gammaC);
+        this.fctm = concrete.getMeanAxialTensileStrength();
+        this.fy = designParameters.getYieldStrength();
+        this.fyd = designParameters.getDesignYieldStrength();
+        this.gammaS = designParameters.getPartialFactorOfSafetyForSteel();
+        // Same as getKDashFactor in Flexure interface
+        this.kDashFactor = designParameters.isRecommendedRatio() ? 0.168 : 0.6 * redistributionRatio - 0.18 * redistributionRatio * redistributionRatio - 0.21;
+        this.shearResistanceCoefficient = 0.18 / gammaC;
+        this.minimumConcreteShearStressFactor = 0.035 * squareRootOfFck;
+        this.minimumShearReinforcementFactor = 0.08 * squareRootOfFck;
+        this.strengthReductionFactor = 0.6 * (1 - 0.004 * fck);
+        this.strutCrushingStress = 0.2 * fck * (1 - 0.004 * fck);
+        // Eq. 6.9 without width and lever arm
+        this.maxShearStress = COEFFICIENT_FOR_STRESS_STATE * strengthReductionFactor * fcd / (Math.tan(MAX_ANGLE_OF_COMPRESSIVE_STRUT) + 1 / Math.tan(MAX_ANGLE_OF_COMPRESSIVE_STRUT));
+    }
+
+    /**
+     * Gets interned material context for given concrete and design parameters. The context is created when first requested.
+     *
+     * @param concrete         Concrete enum
+     * @param designParameters DesignParameters object
+     * @return material context
+     */
+    public static MaterialContext of(Concrete concrete, DesignParameters designParameters) {
+        Key key = new Key(concrete, designParameters);
+        MaterialContext context = contexts.get(key);
+        if (context == null) {
+            context = contexts.computeIfAbsent(key, k -> new MaterialContext(concrete, designParameters));
+        }
+        return context;
+    }
+
+    /**
+     * Getter for concrete class.
+     *
+     * @return concrete
+     */
+    public Concrete getConcrete() {
+        return concrete;
+    }
+
+    /**
+     * Getter for characteristic compressive cylinder strength of concrete.
+     *
+     * @return fck in MPa
+     */
+    public int getFck() {
+        return fck;
+    }
+
+    /**
+     * Getter for design compressive resistance of concrete.
+     *
+     * @return fcd in MPa
+     */
+    public double getFcd() {
+        return fcd;
+    }
+
+    /**
+     * Getter for mean value of axial tensile strength of concrete.
+     *
+     * @return fctm in MPa
+     */
+    public double getFctm() {
+        return fctm;
+    }
+
+    /**
+     * Getter for reinforcement yield strength.
+     *
+     * @return fy in MPa
+     */
+    public int getFy() {
+        return fy;
+    }
+
+    /**
+     * Getter for reinforcement design yield strength.
+     *
+     * @return fyd in MPa
+     */
+    public double getFyd() {
+        return fyd;
+    }
+
+    /**
+     * Getter for K' factor.
+     *
+     * @return K' factor
+     */
+    public double getKDashFactor() {
+        return kDashFactor;
+    }
+
+    /**
+     * Getter for CRd,c coefficient, cl. 6.2.2 in EC2.
+     *
+     * @return 0.18 / gammaC
+     */
+    public double getShearResistanceCoefficient() {
+        return shearResistanceCoefficient;
+    }
+
+    /**
+     * Getter for material part of minimum concrete shear stress, Eq. 6.3N in EC2. It is multiplied by k^1.5 which depends on effective depth.
+     *
+     * @return 0.035 * fck^0.5
+     */
+    public double getMinimumConcreteShearStressFactor() {
+        return minimumConcreteShearStressFactor;
+    }
+
+    /**
+     * Getter for material part of minimum shear reinforcement, Eq. 9.5N in EC2. It is multiplied by width and divided by yield strength of shear links.
+     *
+     * @return 0.08 * fck^0.5
+     */
+    public double getMinimumShearReinforcementFactor() {
+        return minimumShearReinforcementFactor;
+    }
+
+    /**
+     * Getter for strength reduction factor for concrete cracked in shear, Eq. 6.6N in EC2.
+     *
+     * @return 0.6 * (1 - fck / 250)
+     */
+    public double getStrengthReductionFactor() {
+        return strengthReductionFactor;
+    }
+
+    /**
+     * Getter for shear stress that crushes the compressive strut, used to calculate angle of the strut.
+     *
+     * @return 0.2 * fck * (1 - fck / 250) in MPa
+     */
+    public double getStrutCrushingStress() {
+        return strutCrushingStress;
+    }
+
+    /**
+     * Getter for maximum shear stress limited by crushing of the compressive strut at 45 degrees, Eq. 6.9 in EC2.
+     * It is multiplied by width and lever arm to get maximum shear resistance.
+     *
+     * @return maximum shear stress in MPa
+     */
+    public double getMaxShearStress() {
+        return maxShearStress;
+    }
+
+    /**
+     * Getter for partial factor of safety for steel.
+     *
+     * @return gammaS
+     */
+    public double getGammaS() {
+        return gammaS;
+    }
+
+    /**
+     * Key used to intern material contexts.
+     */
+    private static final class Key {
+        private final Concrete concrete;
+        private final double gammaC;
+        private final double gammaS;
+        private final int yieldStrength;
+        private final double redistributionRatio;
+        private final boolean isRecommendedRatio;
+
+        /**
+         * Constructor.
+         *
+         * @param concrete         Concrete enum
+         * @param designParameters DesignParameters object
+         */
+        private Key(Concrete concrete, DesignParameters designParameters) {
+            this.concrete = concrete;
+            this.gammaC = designParameters.getPartialFactorOfSafetyForConcrete();
+            this.gammaS = designParameters.getPartialFactorOfSafetyForSteel();
+            this.yieldStrength = designParameters.getYieldStrength();
+            this.redistributionRatio = designParameters.getRedistributionRatio();
+            this.isRecommendedRatio = designParameters.isRecommendedRatio();
+        }
+
+        /**
+         * Checks if keys describe the same materials.
+         *
+         * @param o other object
+         * @return true if equal
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return concrete == key.concrete
+                    && Double.compare(gammaC, key.gammaC) == 0
+                    && Double.compare(gammaS, key.gammaS) == 0
+                    && yieldStrength == key.yieldStrength
+                    && Double.compare(redistributionRatio, key.redistributionRatio) == 0
+                    && isRecommendedRatio == key.isRecommendedRatio;
+        }
+
+        /**
+         * Calculates hash code of the key.
+         *
+         * @return hash code
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(concrete, gammaC, gammaS, yieldStrength, redistributionRatio, isRecommendedRatio);
+        }
+    }
+}
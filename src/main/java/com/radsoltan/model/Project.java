@@ -1,12 +1,7 @@
 package com.radsoltan.model;
 
 import com.radsoltan.model.geometry.Geometry;
-import com.radsoltan.model.geometry.Rectangle;
-import com.radsoltan.model.geometry.SlabStrip;
-import com.radsoltan.model.reinforcement.BeamReinforcement;
 import com.radsoltan.model.reinforcement.Reinforcement;
-import com.radsoltan.model.reinforcement.SlabReinforcement;
-import com.radsoltan.constants.UIText;
 
 import java.io.Serializable;
 
@@ -16,7 +11,9 @@ import java.io.Serializable;
  * - Reinforcement
  * - Design Parameters
  * - Concrete type
- * It uses all that information to calculate flexural and shear capacity and crack widths (if applicable). The class uses singleton pattern.
+ * It uses all that information to calculate flexural and shear capacity and crack widths (if applicable).
+ * Calculations are delegated to an immutable DesignRequest, so separate projects can be calculated concurrently.
+ * The GUI shares a single instance available through getInstance method.
  */
 public class Project implements Serializable {
     private String name;
@@ -47,13 +44,22 @@ public class Project implements Serializable {
     private String crackingCheckMessage;
     private String crackingResultsAdditionalMessage;
     private boolean isCrackingError;
+    private CheckResult flexureCheck;
+    private CheckResult shearCheck;
+    private CheckResult crackingCheck;
 
     private static Project project;
 
     private static final long serialVersionUID = 1L;
 
     /**
-     * Gets project instance. Singleton pattern.
+     * Constructor. Creates an empty project that is independent from the instance used by the GUI.
+     */
+    public Project() {
+    }
+
+    /**
+     * Gets project instance used by the GUI controllers. Other projects can be created with the constructor.
      *
      * @return project instance
      */
@@ -65,151 +71,60 @@ public class Project implements Serializable {
     }
 
     /**
-     * Handler for calculate button. It invokes method that depends on structural element type.
+     * Handler for calculate button. It creates an immutable design request from the project fields, calculates it and stores the results.
      */
     public void calculate() {
-        switch (elementType.toLowerCase()) {
-            case "slab":
-                calculateSlabProject();
-                break;
-            case "beam":
-                calculateBeamProject();
-                break;
-            default:
-                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
-        }
+        setResults(toDesignRequest().calculate());
     }
 
     /**
-     * Method used to calculate slab project.
-     * It calculates bending capacity and crack widths based on forces and parameters provided.
+     * Creates an immutable design request from the project fields. Analysis forces are parsed from strings.
+     * Shear force is only required for beams.
+     *
+     * @return design request
+     * @throws NumberFormatException if analysis forces are not valid numbers
      */
-    private void calculateSlabProject() {
-        if (!(geometry.getSection() instanceof SlabStrip)) {
-            throw new IllegalArgumentException(UIText.INVALID_SLAB_GEOMETRY);
-        }
-        if (!(reinforcement instanceof SlabReinforcement)) {
-            throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
-        }
-        // Getting slab section and slab reinforcement
-        SlabStrip slabStrip = (SlabStrip) geometry.getSection();
-        SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
-        // Getting moment values
+    public DesignRequest toDesignRequest() {
         double UlsMomentValue = Double.parseDouble(UlsMoment);
         double SlsMomentValue = Double.parseDouble(SlsMoment);
-        // Instantiating new slab
-        slab = new Slab(
-                UlsMomentValue,
-                SlsMomentValue,
-                slabStrip,
-                concrete,
-                slabReinforcement,
-                designParameters
-        );
-        try {
-            // Calculating bending capacity
-            slab.calculateBendingCapacity();
-            flexureCapacity = slab.getBendingCapacity();
-            flexureCapacityCheckMessage = (Math.abs(UlsMomentValue) <= flexureCapacity) ?
-                    String.format("%.2f kNm/m \u003c %.2f kNm/m", Math.abs(UlsMomentValue), flexureCapacity) :
-                    String.format("%.2f kNm/m \u003e %.2f kNm/m", Math.abs(UlsMomentValue), flexureCapacity);
-            flexureResultsAdditionalMessage = (Math.abs(UlsMomentValue) <= flexureCapacity) ? UIText.SECTION_ADEQUATE : UIText.FLEXURE_FAIL_MESSAGE;
-            isFlexureError = false;
-        } catch (IllegalArgumentException e) {
-            flexureCapacity = 0;
-            flexureCapacityCheckMessage = UIText.CALCULATIONS_ERROR;
-            flexureResultsAdditionalMessage = e.getMessage();
-            isFlexureError = true;
-        }
-        if (designParameters.isIncludeCrackingCalculations()) {
-            try {
-                // Calculate cracking
-                slab.calculateCracking();
-                crackWidth = slab.getCrackWidth();
-                crackWidthLimit = designParameters.getCrackWidthLimit();
-                crackingCheckMessage = (crackWidth < crackWidthLimit) ?
-                        String.format("%.3f mm \u003c %.3f mm", crackWidth, crackWidthLimit) :
-                        String.format("%.3f mm \u003e %.3f mm", crackWidth, crackWidthLimit);
-                crackingResultsAdditionalMessage = (crackWidth <= crackWidthLimit) ? UIText.SECTION_ADEQUATE : UIText.CRACKING_FAIL_MESSAGE;
-                isCrackingError = false;
-            } catch (IllegalArgumentException e) {
-                crackWidth = 0;
-                crackingCheckMessage = UIText.CALCULATIONS_ERROR;
-                crackingResultsAdditionalMessage = e.getMessage();
-                isCrackingError = true;
-            }
-        }
+        double UlsShearValue = (UlsShear != null && !UlsShear.isEmpty()) ? Double.parseDouble(UlsShear) : 0;
+
+        return new DesignRequest(id, elementType, geometry, reinforcement, designParameters, concrete, UlsMomentValue, SlsMomentValue, UlsShearValue);
     }
 
     /**
-     * Method used to calculate beam project.
-     * It calculates bending and shear capacity and crack widths based on forces and parameters provided.
+     * Stores design results in the project fields. Check messages shown in the results area are not created here,
+     * they are formatted by check results when requested by the GUI.
+     *
+     * @param result design result
      */
-    private void calculateBeamProject() {
-        if (!(geometry.getSection() instanceof Rectangle)) {
-            // Only rectangular sections are supported as of now
-            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
-        }
-        if (!(reinforcement instanceof BeamReinforcement)) {
-            throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
-        }
-        BeamReinforcement beamReinforcement = (BeamReinforcement) reinforcement;
-        // Getting forces
-        double UlsMomentValue = Double.parseDouble(UlsMoment);
-        double SlsMomentValue = Double.parseDouble(SlsMoment);
-        double UlsShearValue = Double.parseDouble(UlsShear);
-        // Instantiating new beam
-        beam = new Beam(UlsMomentValue, UlsShearValue, SlsMomentValue, geometry, concrete, beamReinforcement, designParameters);
-
-        try {
-            // Calculating bending capacity
-            beam.calculateBendingCapacity();
-            flexureCapacity = beam.getBendingCapacity();
-            flexureCapacityCheckMessage = (Math.abs(UlsMomentValue) <= flexureCapacity) ?
-                    String.format("%.2f kNm \u003c %.2f kNm", Math.abs(UlsMomentValue), flexureCapacity) :
-                    String.format("%.2f kNm \u003e %.2f kNm", Math.abs(UlsMomentValue), flexureCapacity);
-            flexureResultsAdditionalMessage = (Math.abs(UlsMomentValue) <= flexureCapacity) ? UIText.SECTION_ADEQUATE : UIText.FLEXURE_FAIL_MESSAGE;
-            isFlexureError = false;
-        } catch (IllegalArgumentException e) {
-            flexureCapacity = 0;
-            flexureCapacityCheckMessage = UIText.CALCULATIONS_ERROR;
-            flexureResultsAdditionalMessage = e.getMessage();
-            isFlexureError = true;
-        }
-        try {
-            // Calculating shear capacity
-            beam.calculateShearCapacity();
-            requiredShearReinforcement = beam.getRequiredShearReinforcement();
-            double providedShearReinforcement = beam.getProvidedShearReinforcement();
-            shearCapacityCheckMessage = (requiredShearReinforcement <= providedShearReinforcement) ?
-                    String.format("%.2f mm\u00b2/m \u003c %.2f mm\u00b2/m", requiredShearReinforcement, providedShearReinforcement) :
-                    String.format("%.2f mm\u00b2/m \u003e %.2f mm\u00b2/m", requiredShearReinforcement, providedShearReinforcement);
-            shearResultsAdditionalMessage = (requiredShearReinforcement <= providedShearReinforcement) ? UIText.SECTION_ADEQUATE : UIText.FLEXURE_FAIL_MESSAGE;
-            isShearError = false;
-        } catch (IllegalArgumentException e) {
-            requiredShearReinforcement = 0;
-            shearCapacityCheckMessage = UIText.CALCULATIONS_ERROR;
-            shearResultsAdditionalMessage = e.getMessage();
-            isShearError = true;
+    public void setResults(DesignResult result) {
+        beam = result.getBeam();
+        slab = result.getSlab();
+        // Flexure
+        flexureCheck = result.getFlexureCheck();
+        isFlexureError = flexureCheck.isError();
+        flexureCapacity = result.getFlexureCapacity();
+        flexureCapacityCheckMessage = null;
+        flexureResultsAdditionalMessage = null;
+        // Shear
+        if (result.isShearCalculated()) {
+            shearCheck = result.getShearCheck();
+            isShearError = shearCheck.isError();
+            requiredShearReinforcement = result.getRequiredShearReinforcement();
+            shearCapacityCheckMessage = null;
+            shearResultsAdditionalMessage = null;
         }
-
-        if (designParameters.isIncludeCrackingCalculations()) {
-            try {
-                // Calculate cracking
-                beam.calculateCracking();
-                crackWidth = beam.getCrackWidth();
-                crackWidthLimit = designParameters.getCrackWidthLimit();
-                crackingCheckMessage = (crackWidth < crackWidthLimit) ?
-                        String.format("%.3f mm \u003c %.3f mm", crackWidth, crackWidthLimit) :
-                        String.format("%.3f mm \u003e %.3f mm", crackWidth, crackWidthLimit);
-                crackingResultsAdditionalMessage = (crackWidth <= crackWidthLimit) ? UIText.SECTION_ADEQUATE : UIText.CRACKING_FAIL_MESSAGE;
-                isCrackingError = false;
-            } catch (IllegalArgumentException e) {
-                crackWidth = 0;
-                crackingCheckMessage = UIText.CALCULATIONS_ERROR;
-                crackingResultsAdditionalMessage = e.getMessage();
-                isCrackingError = true;
+        // Cracking
+        if (result.isCrackingCalculated()) {
+            crackingCheck = result.getCrackingCheck();
+            isCrackingError = crackingCheck.isError();
+            crackWidth = result.getCrackWidth();
+            if (!isCrackingError) {
+                crackWidthLimit = result.getCrackWidthLimit();
             }
+            crackingCheckMessage = null;
+            crackingResultsAdditionalMessage = null;
         }
     }
 
@@ -218,6 +133,9 @@ public class Project implements Serializable {
      * It also resets beam and slab member variables.
      */
     public void resetResults() {
+        flexureCheck = null;
+        shearCheck = null;
+        crackingCheck = null;
         setBeam(null);
         setSlab(null);
         setFlexureCapacity(0);
@@ -488,11 +406,15 @@ public class Project implements Serializable {
     }
 
     /**
-     * Getter for bending capacity calculation message.
+     * Getter for bending capacity calculation message. If results were calculated, the message is formatted from the flexure check result.
+     * Otherwise, for example for projects read from a file, the stored message is returned.
      *
      * @return calculation message
      */
     public String getFlexureCapacityCheckMessage() {
+        if (flexureCapacityCheckMessage == null && flexureCheck != null) {
+            return flexureCheck.getCheckMessage();
+        }
         return flexureCapacityCheckMessage;
     }
 
@@ -502,6 +424,9 @@ public class Project implements Serializable {
      * @return calculation message
      */
     public String getShearCapacityCheckMessage() {
+        if (shearCapacityCheckMessage == null && shearCheck != null) {
+            return shearCheck.getCheckMessage();
+        }
         return shearCapacityCheckMessage;
     }
 
@@ -511,6 +436,9 @@ public class Project implements Serializable {
      * @return calculation message
      */
     public String getCrackingCheckMessage() {
+        if (crackingCheckMessage == null && crackingCheck != null) {
+            return crackingCheck.getCheckMessage();
+        }
         return crackingCheckMessage;
     }
 
@@ -520,6 +448,9 @@ public class Project implements Serializable {
      * @return additional calculation message
      */
     public String getFlexureResultsAdditionalMessage() {
+        if (flexureResultsAdditionalMessage == null && flexureCheck != null) {
+            return flexureCheck.getAdditionalMessage();
+        }
         return flexureResultsAdditionalMessage;
     }
 
@@ -529,6 +460,9 @@ public class Project implements Serializable {
      * @return additional calculation message
      */
     public String getShearResultsAdditionalMessage() {
+        if (shearResultsAdditionalMessage == null && shearCheck != null) {
+            return shearCheck.getAdditionalMessage();
+        }
         return shearResultsAdditionalMessage;
     }
 
@@ -538,6 +472,9 @@ public class Project implements Serializable {
      * @return additional calculation message
      */
     public String getCrackingResultsAdditionalMessage() {
+        if (crackingResultsAdditionalMessage == null && crackingCheck != null) {
+            return crackingCheck.getAdditionalMessage();
+        }
         return crackingResultsAdditionalMessage;
     }
 
@@ -685,6 +622,33 @@ public class Project implements Serializable {
         isCrackingError = crackingError;
     }
 
+    /**
+     * Getter for result of flexure check.
+     *
+     * @return flexure check result, null if not calculated or project read from a file
+     */
+    public CheckResult getFlexureCheck() {
+        return flexureCheck;
+    }
+
+    /**
+     * Getter for result of shear check.
+     *
+     * @return shear check result, null if not calculated or project read from a file
+     */
+    public CheckResult getShearCheck() {
+        return shearCheck;
+    }
+
+    /**
+     * Getter for result of cracking check.
+     *
+     * @return cracking check result, null if not calculated or project read from a file
+     */
+    public CheckResult getCrackingCheck() {
+        return crackingCheck;
+    }
+
     /**
      * Getter for project beam object.
      */
@@ -0,0 +1,56 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.UIText;
+
+/**
+ * Enum with reasons why a design check could not be calculated. Each reason has a message shown in the results area.
+ * Design calculations return reason codes instead of throwing exceptions, so that failed sections are cheap in batch runs.
+ */
+public enum ReasonCode {
+    WRONG_CONCRETE_CLASS(UIText.WRONG_CONCRETE_CLASS),
+    HIGH_COMPRESSIVE_FORCE(UIText.REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE),
+    HIGH_SHEAR_FORCE(UIText.REDESIGN_SECTION_DUE_TO_HIGH_SHEAR),
+    BENDING_CAPACITY_NOT_CALCULATED(UIText.INVALID_BENDING_CAPACITY),
+    BAR_SPACING_TOO_LARGE_FOR_CRACKING(UIText.INVALID_BAR_SPACING_CRACKS),
+    INVALID_ELEMENT_TYPE(UIText.INVALID_ELEMENT_TYPE),
+    INVALID_BEAM_GEOMETRY(UIText.INVALID_BEAM_GEOMETRY),
+    INVALID_SLAB_GEOMETRY(UIText.INVALID_SLAB_GEOMETRY),
+    INVALID_BEAM_REINFORCEMENT(UIText.INVALID_BEAM_REINFORCEMENT),
+    INVALID_SLAB_REINFORCEMENT(UIText.INVALID_SLAB_REINFORCEMENT),
+    INVALID_SHEAR_LINKS(UIText.INVALID_SHEAR_LINKS);
+
+    private final String message;
+
+    /**
+     * Constructor.
+     *
+     * @param message message shown in the results area
+     */
+    ReasonCode(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Getter for reason message.
+     *
+     * @return message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets reason code for the message of an exception thrown by the model classes.
+     *
+     * @param message exception message
+     * @return reason code, null if there is no code for the message
+     */
+    public static ReasonCode fromMessage(String message) {
+        for (ReasonCode reasonCode : values()) {
+            if (reasonCode.message.equals(message)) {
+                return reasonCode;
+            }
+        }
+        return null;
+    }
+}
@@ -3,7 +3,7 @@ package com.radsoltan.model;
 import com.radsoltan.model.geometry.Geometry;
 import com.radsoltan.model.geometry.SlabStrip;
 import com.radsoltan.model.reinforcement.SlabReinforcement;
-import com.radsoltan.constants.UIText;
+import com.radsoltan.constants.Constants;
 
 import java.io.Serializable;
 
@@ -26,6 +26,7 @@ public class Slab implements Flexure, Cracking, Serializable {
     private final int fy;
     private final double fyd;
     private final double fctm;
+    private transient MaterialContext materialContext;
     /* Provided Reinforcement */
     private final double providedTensileReinforcement;
     /* Results */
@@ -57,15 +58,54 @@ public class Slab implements Flexure, Cracking, Serializable {
         this.designParameters = designParameters;
         this.geometry = new Geometry(slabStrip);
         this.concrete = concrete;
-        this.fck = concrete.getCompressiveStrength();
-        this.fctm = concrete.getMeanAxialTensileStrength();
-        this.fy = designParameters.getYieldStrength();
-        this.fyd = designParameters.getDesignYieldStrength();
+        this.materialContext = MaterialContext.of(concrete, designParameters);
+        this.fck = materialContext.getFck();
+        this.fctm = materialContext.getFctm();
+        this.fy = materialContext.getFy();
+        this.fyd = materialContext.getFyd();
         this.providedTensileReinforcement = (UlsMoment >= 0) ? reinforcement.getTotalAreaOfBottomReinforcement() : reinforcement.getTotalAreaOfTopReinforcement();
         this.effectiveDepth = getEffectiveDepth(geometry.getDepth(), UlsMoment, reinforcement, designParameters);
         this.maximumReinforcement = getMaximumReinforcement(geometry.getArea() - providedTensileReinforcement);
     }
 
+    /**
+     * Copy constructor used for incremental recalculations. It creates a slab with new SLS moment.
+     * Section properties and results of the given slab are copied. Flexure results depend only on ULS moment, so these remain valid.
+     *
+     * @param slab      slab to copy
+     * @param SlsMoment SLS bending moment in kNm/m
+     */
+    private Slab(Slab slab, double SlsMoment) {
+        this.UlsMoment = slab.UlsMoment;
+        this.SlsMoment = SlsMoment;
+        this.reinforcement = slab.reinforcement;
+        this.designParameters = slab.designParameters;
+        this.geometry = slab.geometry;
+        this.concrete = slab.concrete;
+        this.fck = slab.fck;
+        this.fctm = slab.fctm;
+        this.fy = slab.fy;
+        this.fyd = slab.fyd;
+        this.materialContext = slab.materialContext;
+        this.providedTensileReinforcement = slab.providedTensileReinforcement;
+        this.effectiveDepth = slab.effectiveDepth;
+        this.maximumReinforcement = slab.maximumReinforcement;
+        this.leverArm = slab.leverArm;
+        this.bendingCapacity = slab.bendingCapacity;
+        this.requiredTensileReinforcement = slab.requiredTensileReinforcement;
+        this.crackWidth = slab.crackWidth;
+    }
+
+    /**
+     * Creates a copy of the slab with different SLS moment. Flexure results are reused, so only cracking needs to be recalculated.
+     *
+     * @param SlsMoment SLS bending moment in kNm/m
+     * @return slab with new SLS moment
+     */
+    public Slab withSlsMoment(double SlsMoment) {
+        return new Slab(this, SlsMoment);
+    }
+
     /**
      * Calculates bending capacity of the slab in accordance with Eurocode 2. Calculations support only singly reinforced section and are valid for concrete with fck less than 50 MPa.
      * The method calculates required section properties such as minimum reinforcement, width in compression zone and lever arm.
@@ -75,21 +115,35 @@ public class Slab implements Flexure, Cracking, Serializable {
      */
     @Override
     public void calculateBendingCapacity() throws IllegalArgumentException {
+        ReasonCode reasonCode = checkBendingCapacity();
+        if (reasonCode != null) {
+            throw new IllegalArgumentException(reasonCode.getMessage());
+        }
+    }
+
+    /**
+     * Calculates bending capacity of the slab the same way as calculateBendingCapacity method, but errors are returned as reason codes rather than thrown.
+     * This is used in batch calculations, where allocating exceptions for sections that fail is too expensive.
+     *
+     * @return reason code if bending capacity could not be calculated, null if calculated
+     */
+    public ReasonCode checkBendingCapacity() {
         if (fck <= 50) {
             int widthInCompressiveZone = geometry.getWidthInCompressionZone(UlsMoment);
             double kFactor = getKFactor(UlsMoment, widthInCompressiveZone, effectiveDepth, fck);
-            double kDashFactor = getKDashFactor(designParameters.isRecommendedRatio(), designParameters.getRedistributionRatio());
+            double kDashFactor = getMaterialContext().getKDashFactor();
             double minimumReinforcement = getMinimumReinforcement(UlsMoment, fctm, fy, effectiveDepth, geometry);
             this.leverArm = getLeverArm(effectiveDepth, kFactor, kDashFactor);
             if (kFactor <= kDashFactor) {
-                this.requiredTensileReinforcement = Math.max(Math.abs(UlsMoment) * Math.pow(10, 6) / (fyd * leverArm), minimumReinforcement);
-                this.bendingCapacity = providedTensileReinforcement * leverArm * fyd * Math.pow(10, -6);
+                this.requiredTensileReinforcement = Math.max(Math.abs(UlsMoment) * Constants.KNM_TO_NMM / (fyd * leverArm), minimumReinforcement);
+                this.bendingCapacity = providedTensileReinforcement * leverArm * fyd * Constants.NMM_TO_KNM;
             } else {
-                throw new IllegalArgumentException(UIText.REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE);
+                return ReasonCode.HIGH_COMPRESSIVE_FORCE;
             }
         } else {
-            throw new IllegalArgumentException(UIText.WRONG_CONCRETE_CLASS);
+            return ReasonCode.WRONG_CONCRETE_CLASS;
         }
+        return null;
     }
 
     /**
@@ -98,16 +152,45 @@ public class Slab implements Flexure, Cracking, Serializable {
      */
     @Override
     public void calculateCracking() {
+        ReasonCode reasonCode = checkCracking();
+        if (reasonCode != null) {
+            throw new IllegalArgumentException(reasonCode.getMessage());
+        }
+    }
+
+    /**
+     * Calculates crack width the same way as calculateCracking method, but errors are returned as reason codes rather than thrown.
+     * Bar spacing is checked before the crack width is calculated.
+     *
+     * @return reason code if crack width could not be calculated, null if calculated
+     */
+    public ReasonCode checkCracking() {
         if (this.bendingCapacity == 0) {
-            throw new IllegalArgumentException(UIText.INVALID_BENDING_CAPACITY);
+            return ReasonCode.BENDING_CAPACITY_NOT_CALCULATED;
         }
         int width = geometry.getWidth();
         int depth = geometry.getDepth();
         double neutralAxis = getDepthOfPlasticNeutralAxis(effectiveDepth, leverArm);
         double maxSpacing = reinforcement.getMaxBarSpacingForTensileReinforcement(SlsMoment);
         int maxBarDiameter = reinforcement.getMaxBarDiameterForTensileReinforcement(SlsMoment);
+        if (!isCrackWidthCalculable(UlsMoment, SlsMoment, maxSpacing, maxBarDiameter, designParameters)) {
+            return ReasonCode.BAR_SPACING_TOO_LARGE_FOR_CRACKING;
+        }
 
         this.crackWidth = calculateCrackWidth(width, depth, effectiveDepth, neutralAxis, UlsMoment, SlsMoment, maxSpacing, maxBarDiameter, providedTensileReinforcement, requiredTensileReinforcement, concrete, designParameters);
+        return null;
+    }
+
+    /**
+     * Gets shared material context for concrete and design parameters of the slab. The context is not serialized, so it is looked up again after deserialization.
+     *
+     * @return material context
+     */
+    private MaterialContext getMaterialContext() {
+        if (materialContext == null) {
+            materialContext = MaterialContext.of(concrete, designParameters);
+        }
+        return materialContext;
     }
 
     /**
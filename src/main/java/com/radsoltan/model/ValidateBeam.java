@@ -7,203 +7,312 @@ import com.radsoltan.model.reinforcement.BeamReinforcement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * ValidateBeam class that implements Validation. It checks if beam geometry is valid.
  * It also checks if reinforcement spacings satisfy minimum rebar spacings required by Eurocode 2.
+ * Violated rules are stored as bits, see ValidationRule enum. Validation messages are created only when requested.
  */
 public class ValidateBeam implements Validation {
 
-    private final List<String> validationMessages;
+    private final Geometry geometry;
+    private final BeamReinforcement beamReinforcement;
+    private final DesignParameters designParameters;
+    private final long violations;
+    private List<String> validationMessages;
 
     /**
-     * Constructor. It invokes method to validate both horizontal and vertical bar spacings and method to validate beam depth.
-     * These methods add messages to the validationMessages list if some of the spacings or beam geometry is invalid.
+     * Constructor. It invokes method to validate both horizontal and vertical bar spacings and beam depth.
+     * Violated rules are stored as bits.
      *
      * @param geometry beam geometry object
      * @param beamReinforcement beam reinforcement object
      * @param designParameters design parameters object
      */
     public ValidateBeam(Geometry geometry, BeamReinforcement beamReinforcement, DesignParameters designParameters) {
-        this.validationMessages = new ArrayList<>();
-        setValidationMessagesForSpacings(geometry, beamReinforcement, designParameters);
-        setValidationMessagesForBeamDepth(geometry, beamReinforcement, designParameters);
+        this.geometry = geometry;
+        this.beamReinforcement = beamReinforcement;
+        this.designParameters = designParameters;
+        this.violations = getViolations(geometry, beamReinforcement, designParameters, false);
     }
 
     /**
-     * Method that sets validation messages for horizontal bar spacings and vertical bar spacings between rows.
-     * It invokes getValidationMessagesForVerticalSpacings and getValidationMessagesForHorizontalSpacings on top and bottom reinforcement rows.
-     * It adds all validation messages to the validationMessages field.
+     * Checks if beam is valid. It stops on the first violated rule and does not create any validation messages.
+     * This is used when only feasibility matters, for example by the optimizer.
      *
-     * @param geometry          beam geometry
+     * @param geometry          beam geometry object
      * @param beamReinforcement beam reinforcement object
      * @param designParameters  design parameters object
+     * @return true if beam is valid
+     */
+    public static boolean isValid(Geometry geometry, BeamReinforcement beamReinforcement, DesignParameters designParameters) {
+        return getViolations(geometry, beamReinforcement, designParameters, true) == 0;
+    }
+
+    /**
+     * Gets violated rules for horizontal bar spacings, vertical bar spacings between rows and beam depth.
+     *
+     * @param geometry            beam geometry
+     * @param beamReinforcement   beam reinforcement object
+     * @param designParameters    design parameters object
+     * @param isFirstViolationOnly true if the method should return after first violated rule
+     * @return bits of violated rules
+     * @throws IllegalArgumentException if a face has more rows than bits of a rule
      */
-    private void setValidationMessagesForSpacings(Geometry geometry, BeamReinforcement beamReinforcement, DesignParameters designParameters) {
+    private static long getViolations(Geometry geometry, BeamReinforcement beamReinforcement, DesignParameters designParameters, boolean isFirstViolationOnly) {
         List<List<Integer>> topDiameters = beamReinforcement.getTopDiameters();
         List<List<Integer>> bottomDiameters = beamReinforcement.getBottomDiameters();
         List<Integer> topVerticalSpacings = beamReinforcement.getTopVerticalSpacings();
         List<Integer> bottomVerticalSpacings = beamReinforcement.getBottomVerticalSpacings();
-        int width = geometry.getWidth();
+        double availableWidth = getAvailableWidth(geometry, beamReinforcement, designParameters);
         int aggregateSize = designParameters.getAggregateSize();
-        int nominalCoverSides = designParameters.getNominalCoverSides();
-        int shearLinksDiameter = beamReinforcement.getShearLinks().getDiameter();
+        ValidationRule.checkNumberOfRows(topDiameters.size());
+        ValidationRule.checkNumberOfRows(bottomDiameters.size());
 
-        validationMessages.addAll(getValidationMessagesForHorizontalSpacings(Constants.BEAM_TOP_FACE, width, aggregateSize, nominalCoverSides, shearLinksDiameter, topDiameters));
-        validationMessages.addAll(getValidationMessagesForHorizontalSpacings(Constants.BEAM_BOTTOM_FACE, width, aggregateSize, nominalCoverSides, shearLinksDiameter, bottomDiameters));
+        long violations = getHorizontalSpacingViolations(ValidationRule.TOP_HORIZONTAL_SPACING, availableWidth, aggregateSize, topDiameters, isFirstViolationOnly);
+        if (isFirstViolationOnly && violations != 0) {
+            return violations;
+        }
+        violations |= getHorizontalSpacingViolations(ValidationRule.BOTTOM_HORIZONTAL_SPACING, availableWidth, aggregateSize, bottomDiameters, isFirstViolationOnly);
+        if (isFirstViolationOnly && violations != 0) {
+            return violations;
+        }
         if (topVerticalSpacings.size() != 0) {
-            validationMessages.addAll(getValidationMessagesForVerticalSpacings(Constants.BEAM_TOP_FACE, aggregateSize, topVerticalSpacings, topDiameters));
+            violations |= getVerticalSpacingViolations(ValidationRule.TOP_VERTICAL_SPACING, aggregateSize, topVerticalSpacings, topDiameters, isFirstViolationOnly);
+            if (isFirstViolationOnly && violations != 0) {
+                return violations;
+            }
         }
         if (bottomVerticalSpacings.size() != 0) {
-            validationMessages.addAll(getValidationMessagesForVerticalSpacings(Constants.BEAM_BOTTOM_FACE, aggregateSize, bottomVerticalSpacings, bottomDiameters));
+            violations |= getVerticalSpacingViolations(ValidationRule.BOTTOM_VERTICAL_SPACING, aggregateSize, bottomVerticalSpacings, bottomDiameters, isFirstViolationOnly);
+            if (isFirstViolationOnly && violations != 0) {
+                return violations;
+            }
         }
+        if (geometry.getDepth() < getMinimumBeamDepth(beamReinforcement, designParameters)) {
+            violations |= ValidationRule.DEPTH.getBit(0);
+        }
+
+        return violations;
+    }
+
+    /**
+     * Gets width available for main bars, that is beam width less shear links and nominal cover on both sides.
+     *
+     * @param geometry          beam geometry
+     * @param beamReinforcement beam reinforcement object
+     * @param designParameters  design parameters object
+     * @return available width in mm
+     */
+    private static double getAvailableWidth(Geometry geometry, BeamReinforcement beamReinforcement, DesignParameters designParameters) {
+        return geometry.getWidth() - 2 * beamReinforcement.getShearLinks().getDiameter() - 2 * designParameters.getNominalCoverSides();
     }
 
     /**
-     * Gets validation messages for clear horizontal spacings between reinforcement bars in each row.
+     * Gets violations for clear horizontal spacings between reinforcement bars in each row.
      * The method calculates the clear spacing based on reinforcement, nominal cover and beam geometry. It than checks it against minimum spacing required by Eurocode 2.
      * The minimum spacing is maximum of 20 mm, aggregate size + 5mm or bar diameter.
-     * If spacing is less than minimum spacing a String message is added to the list that is returned.
+     * If spacing is less than minimum spacing, a bit for the row is set.
      *
-     * @param face               beam face top or bottom
-     * @param width              beam width in mm
-     * @param aggregateSize      aggregate size in mm
-     * @param nominalCoverSides  nominal cover for beam side in mm
-     * @param shearLinksDiameter shear links diameter in mm
-     * @param diameters          main bar diameters for given beam face
-     * @return List of validation messages for horizontal spacings
+     * @param rule                 rule for top or bottom face
+     * @param availableWidth       width available for main bars in mm
+     * @param aggregateSize        aggregate size in mm
+     * @param diameters            main bar diameters for given beam face
+     * @param isFirstViolationOnly true if the method should return after first violated rule
+     * @return bits of violated rules for horizontal spacings
      */
-    private List<String> getValidationMessagesForHorizontalSpacings(String face,
-                                                                    int width,
-                                                                    int aggregateSize,
-                                                                    int nominalCoverSides,
-                                                                    int shearLinksDiameter,
-                                                                    List<List<Integer>> diameters) {
-        List<String> validationMessages = new ArrayList<>();
-        String location = face.equals(Constants.BEAM_TOP_FACE) ? "top" : "bottom";
-        double availableWidth = width - 2 * shearLinksDiameter - 2 * nominalCoverSides;
-
-        IntStream.range(0, diameters.size()).forEach(i -> {
+    private static long getHorizontalSpacingViolations(ValidationRule rule, double availableWidth, int aggregateSize, List<List<Integer>> diameters, boolean isFirstViolationOnly) {
+        long violations = 0;
+
+        for (int i = 0; i < diameters.size(); i++) {
             List<Integer> rowDiameters = diameters.get(i);
             int numberOfBars = rowDiameters.size();
-            int sumOfDiameters = rowDiameters.stream().reduce(Integer::sum).orElse(0);
-            int maxDiameterInRow = Collections.max(rowDiameters);
-
+            int sumOfDiameters = 0;
+            for (int diameter : rowDiameters) {
+                sumOfDiameters += diameter;
+            }
             // clear spacing between main bars
             double clearSpacing = (availableWidth - sumOfDiameters) / (numberOfBars - 1);
 
-            int minSpacing = IntStream.of(20, aggregateSize + 5, maxDiameterInRow)
-                    .max()
-                    .orElse(0);
-
-            if (clearSpacing < minSpacing) {
-                validationMessages.add(String.format(
-                        "Horizontal spacing between bars in %s %s row is less than minimum required - %d mm.",
-                        Constants.ORDINAL_LABELS.get(i), location.toLowerCase(), minSpacing));
+            if (clearSpacing < getMinimumHorizontalSpacing(aggregateSize, rowDiameters)) {
+                violations |= rule.getBit(i);
+                if (isFirstViolationOnly) {
+                    return violations;
+                }
             }
-        });
+        }
 
+        return violations;
+    }
 
-        return validationMessages;
+    /**
+     * Gets minimum clear horizontal spacing between bars in a row.
+     *
+     * @param aggregateSize aggregate size in mm
+     * @param rowDiameters  bar diameters in the row
+     * @return minimum spacing in mm
+     */
+    private static int getMinimumHorizontalSpacing(int aggregateSize, List<Integer> rowDiameters) {
+        return Math.max(Math.max(20, aggregateSize + 5), Collections.max(rowDiameters));
     }
 
     /**
-     * Gets validation messages for clear vertical spacings between reinforcement rows.
+     * Gets violations for clear vertical spacings between reinforcement rows.
      * The method checks if clear vertical spacings are greater than minimum spacing required by Eurocode 2.
      * The minimum spacing is maximum of 20 mm, aggregate size + 5mm or bar diameter.
-     * If spacing is less than minimum spacing a String message is added to the list that is returned.
+     * If spacing is less than minimum spacing, a bit for the row is set.
      *
-     * @param face                  beam face top or bottom
+     * @param rule                  rule for top or bottom face
      * @param aggregateSize         aggregate size in mm
      * @param clearVerticalSpacings clear vertical spacings between reinforcement rows for given beam face
      * @param diameters             main bar diameters for given beam face
-     * @return List of validation messages for vertical spacings
+     * @param isFirstViolationOnly  true if the method should return after first violated rule
+     * @return bits of violated rules for vertical spacings
      */
-    private List<String> getValidationMessagesForVerticalSpacings(String face, int aggregateSize, List<Integer> clearVerticalSpacings, List<List<Integer>> diameters) {
-        List<String> validationMessages = new ArrayList<>();
-        String location = face.equals(Constants.BEAM_TOP_FACE) ? "top" : "bottom";
-
-        IntStream.range(1, diameters.size()).forEach(i -> {
-            List<Integer> diametersInPreviousRow = diameters.get(i - 1);
-            List<Integer> diametersInRow = diameters.get(i);
-            int maxDiameterInPreviousRow = Collections.max(diametersInPreviousRow);
-            int maxDiameterInRow = Collections.max(diametersInRow);
-
-            int minSpacing = IntStream.of(20, aggregateSize + 5, maxDiameterInPreviousRow, maxDiameterInRow)
-                    .max()
-                    .orElse(0);
-
-            if (clearVerticalSpacings.get(i - 1) < minSpacing) {
-                validationMessages.add(String.format(
-                        "Vertical spacing between %s and %s %s row is less than minimum required - %d mm.",
-                        Constants.ORDINAL_LABELS.get(i - 1), Constants.ORDINAL_LABELS.get(i), location.toLowerCase(), minSpacing));
+    private static long getVerticalSpacingViolations(ValidationRule rule, int aggregateSize, List<Integer> clearVerticalSpacings, List<List<Integer>> diameters, boolean isFirstViolationOnly) {
+        long violations = 0;
+
+        for (int i = 1; i < diameters.size(); i++) {
+            if (clearVerticalSpacings.get(i - 1) < getMinimumVerticalSpacing(aggregateSize, diameters, i)) {
+                violations |= rule.getBit(i);
+                if (isFirstViolationOnly) {
+                    return violations;
+                }
             }
-        });
+        }
 
-        return validationMessages;
+        return violations;
     }
 
     /**
-     * Method that sets validation message for beam depth.
-     * It checks whether beam defined in Geometry object is deep enough to accommodate vertical spacing between bars, bar diameters, nominal cover etc.
-     * If beam is not deep enough, a message is added to the validationMessages field to inform the user.
+     * Gets minimum clear vertical spacing between given row and previous row.
+     *
+     * @param aggregateSize aggregate size in mm
+     * @param diameters     main bar diameters for given beam face
+     * @param row           row index, greater than 0
+     * @return minimum spacing in mm
+     */
+    private static int getMinimumVerticalSpacing(int aggregateSize, List<List<Integer>> diameters, int row) {
+        int maxDiameterInPreviousRow = Collections.max(diameters.get(row - 1));
+        int maxDiameterInRow = Collections.max(diameters.get(row));
+
+        return Math.max(Math.max(20, aggregateSize + 5), Math.max(maxDiameterInPreviousRow, maxDiameterInRow));
+    }
+
+    /**
+     * Gets minimum beam depth. Beam needs to be deep enough to accommodate vertical spacing between bars, bar diameters, nominal cover etc.
      *
-     * @param geometry          beam geometry
      * @param beamReinforcement beam reinforcement defined using BeamReinforcement class
      * @param designParameters  design parameters used in project defined in DesignParameters class
+     * @return minimum beam depth in mm
      */
-    private void setValidationMessagesForBeamDepth(Geometry geometry,
-                                                   BeamReinforcement beamReinforcement,
-                                                   DesignParameters designParameters) {
-        int beamDepth = geometry.getDepth();
+    private static int getMinimumBeamDepth(BeamReinforcement beamReinforcement, DesignParameters designParameters) {
+        List<List<Integer>> topDiameters = beamReinforcement.getTopDiameters();
+        List<List<Integer>> bottomDiameters = beamReinforcement.getBottomDiameters();
+        int sumOfReinforcementZoneHeights = 0;
+        int sumOfClearSpacings = 0;
+
+        for (List<Integer> rowDiameters : topDiameters) {
+            sumOfReinforcementZoneHeights += Collections.max(rowDiameters);
+        }
+        for (List<Integer> rowDiameters : bottomDiameters) {
+            sumOfReinforcementZoneHeights += Collections.max(rowDiameters);
+        }
+        for (int spacing : beamReinforcement.getTopVerticalSpacings()) {
+            sumOfClearSpacings += spacing;
+        }
+        for (int spacing : beamReinforcement.getBottomVerticalSpacings()) {
+            sumOfClearSpacings += spacing;
+        }
+
+        int minimumSpacingBetweenTopAndBottomRows = Math.max(
+                Math.max(20, designParameters.getAggregateSize() + 5),
+                Math.max(Collections.max(topDiameters.get(topDiameters.size() - 1)), Collections.max(bottomDiameters.get(bottomDiameters.size() - 1))));
 
-        List<Integer> clearSpacings = new ArrayList<>();
-        clearSpacings.addAll(beamReinforcement.getTopVerticalSpacings());
-        clearSpacings.addAll(beamReinforcement.getBottomVerticalSpacings());
+        int shearLinksDiameter = beamReinforcement.getShearLinks().getDiameter();
+
+        return designParameters.getNominalCoverBottom() + 2 * shearLinksDiameter + sumOfReinforcementZoneHeights + sumOfClearSpacings + minimumSpacingBetweenTopAndBottomRows + designParameters.getNominalCoverTop();
+    }
 
+    /**
+     * Creates validation messages for violated rules. Minimum spacings and depth are calculated again for the messages.
+     *
+     * @return List of validation messages
+     */
+    private List<String> createValidationMessages() {
+        List<String> messages = new ArrayList<>();
+        int aggregateSize = designParameters.getAggregateSize();
         List<List<Integer>> topDiameters = beamReinforcement.getTopDiameters();
         List<List<Integer>> bottomDiameters = beamReinforcement.getBottomDiameters();
-        List<Integer> maxTopDiameters = topDiameters.stream().map(Collections::max).collect(Collectors.toList());
-        List<Integer> maxBottomDiameters = bottomDiameters.stream().map(Collections::max).collect(Collectors.toList());
-        List<Integer> diameters = new ArrayList<>();
-        diameters.addAll(maxTopDiameters);
-        diameters.addAll(maxBottomDiameters);
-
-
-        int sumOfReinforcementZoneHeights = diameters
-                .stream()
-                .reduce(Integer::sum)
-                .orElse(0);
-
-        int sumOfClearSpacings = clearSpacings
-                .stream()
-                .reduce(Integer::sum)
-                .orElse(0);
-
-        int minimumSpacingBetweenTopAndBottomRows = IntStream.of(
-                20,
-                designParameters.getAggregateSize() + 5,
-                maxTopDiameters.get(maxTopDiameters.size() - 1),
-                maxBottomDiameters.get(maxBottomDiameters.size() - 1))
-                .max().orElse(0);
 
-        int shearLinksDiameter = beamReinforcement.getShearLinks().getDiameter();
+        addHorizontalSpacingMessages(messages, ValidationRule.TOP_HORIZONTAL_SPACING, "top", aggregateSize, topDiameters);
+        addHorizontalSpacingMessages(messages, ValidationRule.BOTTOM_HORIZONTAL_SPACING, "bottom", aggregateSize, bottomDiameters);
+        addVerticalSpacingMessages(messages, ValidationRule.TOP_VERTICAL_SPACING, "top", aggregateSize, topDiameters);
+        addVerticalSpacingMessages(messages, ValidationRule.BOTTOM_VERTICAL_SPACING, "bottom", aggregateSize, bottomDiameters);
+        if (ValidationRule.DEPTH.isViolated(violations)) {
+            messages.add(String.format("Invalid beam depth for given reinforcement. Minimum beam depth: %d mm.", getMinimumBeamDepth(beamReinforcement, designParameters)));
+        }
 
-        int minimumBeamThickness = designParameters.getNominalCoverBottom() + 2 * shearLinksDiameter + sumOfReinforcementZoneHeights + sumOfClearSpacings + minimumSpacingBetweenTopAndBottomRows + designParameters.getNominalCoverTop();
+        return messages;
+    }
+
+    /**
+     * Adds messages for rows with violated horizontal spacing.
+     *
+     * @param messages      list of messages
+     * @param rule          rule for top or bottom face
+     * @param location      top or bottom
+     * @param aggregateSize aggregate size in mm
+     * @param diameters     main bar diameters for given beam face
+     */
+    private void addHorizontalSpacingMessages(List<String> messages, ValidationRule rule, String location, int aggregateSize, List<List<Integer>> diameters) {
+        for (int i = 0; i < diameters.size(); i++) {
+            if (rule.isViolated(violations, i)) {
+                messages.add(String.format(
+                        "Horizontal spacing between bars in %s %s row is less than minimum required - %d mm.",
+                        Constants.ORDINAL_LABELS.get(i), location, getMinimumHorizontalSpacing(aggregateSize, diameters.get(i))));
+            }
+        }
+    }
 
-        if (beamDepth < minimumBeamThickness) {
-            validationMessages.add(String.format("Invalid beam depth for given reinforcement. Minimum beam depth: %d mm.", minimumBeamThickness));
+    /**
+     * Adds messages for rows with violated vertical spacing.
+     *
+     * @param messages      list of messages
+     * @param rule          rule for top or bottom face
+     * @param location      top or bottom
+     * @param aggregateSize aggregate size in mm
+     * @param diameters     main bar diameters for given beam face
+     */
+    private void addVerticalSpacingMessages(List<String> messages, ValidationRule rule, String location, int aggregateSize, List<List<Integer>> diameters) {
+        for (int i = 1; i < diameters.size(); i++) {
+            if (rule.isViolated(violations, i)) {
+                messages.add(String.format(
+                        "Vertical spacing between %s and %s %s row is less than minimum required - %d mm.",
+                        Constants.ORDINAL_LABELS.get(i - 1), Constants.ORDINAL_LABELS.get(i), location, getMinimumVerticalSpacing(aggregateSize, diameters, i)));
+            }
         }
     }
 
     /**
-     * Getter for validation messages.
+     * Getter for validation messages. These are created when first requested.
      *
      * @return List of validation messages
      */
     public List<String> getValidationMessages() {
+        if (validationMessages == null) {
+            validationMessages = createValidationMessages();
+        }
         return validationMessages;
     }
+
+    /**
+     * Getter for violated rules.
+     *
+     * @return bits of violated rules, 0 if beam is valid
+     */
+    @Override
+    public long getViolations() {
+        return violations;
+    }
 }
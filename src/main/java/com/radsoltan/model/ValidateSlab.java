@@ -5,189 +5,321 @@ import com.radsoltan.constants.Constants;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * ValidateSlab class that implements Validation. It checks if a slab is geometrically valid.
  * It also checks if reinforcement spacings satisfy minimum rebar spacings required by Eurocode 2.
+ * Violated rules are stored as bits, see ValidationRule enum. Validation messages are created only when requested.
  */
 public class ValidateSlab implements Validation {
 
-    private final List<String> validationMessages;
+    private final SlabReinforcement slabReinforcement;
+    private final DesignParameters designParameters;
+    private final long violations;
+    private List<String> validationMessages;
 
     /**
-     * Constructor. It invokes method to validate both horizontal and vertical bar spacings and method to validate slab thickness.
-     * These methods add messages to the validationMessages list if some of the spacings or slab geometry is invalid.
+     * Constructor. It invokes method to validate both horizontal and vertical bar spacings and slab thickness.
+     * Violated rules are stored as bits.
      *
      * @param slabThickness     slab thickness in mm as an integer
      * @param slabReinforcement slab reinforcement defined using SlabReinforcement object
      * @param designParameters  design parameters used in project defined in DesignParameters object
      */
     public ValidateSlab(int slabThickness, SlabReinforcement slabReinforcement, DesignParameters designParameters) {
-        this.validationMessages = new ArrayList<>();
-        setValidationMessagesForSpacings(slabReinforcement, designParameters);
-        setValidateMessagesForSlabThickness(slabThickness, slabReinforcement, designParameters);
+        this.slabReinforcement = slabReinforcement;
+        this.designParameters = designParameters;
+        this.violations = getViolations(slabThickness, slabReinforcement, designParameters, false);
     }
 
     /**
-     * Method that sets validation messages for horizontal bar spacings and vertical bar spacings between layers.
-     * It invokes getValidationMessagesForHorizontalSpacings and getValidationMessagesForVerticalSpacings on top and bottom reinforcement layers.
-     * It adds all validation messages to the validationMessages field.
+     * Checks if slab is valid. It stops on the first violated rule and does not create any validation messages.
+     * This is used when only feasibility matters, for example by the optimizer.
      *
+     * @param slabThickness     slab thickness in mm as an integer
      * @param slabReinforcement slab reinforcement defined using SlabReinforcement object
      * @param designParameters  design parameters used in project defined in DesignParameters object
+     * @return true if slab is valid
+     */
+    public static boolean isValid(int slabThickness, SlabReinforcement slabReinforcement, DesignParameters designParameters) {
+        return getViolations(slabThickness, slabReinforcement, designParameters, true) == 0;
+    }
+
+    /**
+     * Gets violated rules for horizontal bar spacings, vertical bar spacings between layers and slab thickness.
+     *
+     * @param slabThickness        slab thickness in mm as an integer
+     * @param slabReinforcement    slab reinforcement defined using SlabReinforcement object
+     * @param designParameters     design parameters used in project defined in DesignParameters object
+     * @param isFirstViolationOnly true if the method should return after first violated rule
+     * @return bits of violated rules
+     * @throws IllegalArgumentException if a face has more layers than bits of a rule
      */
-    private void setValidationMessagesForSpacings(SlabReinforcement slabReinforcement, DesignParameters designParameters) {
+    private static long getViolations(int slabThickness, SlabReinforcement slabReinforcement, DesignParameters designParameters, boolean isFirstViolationOnly) {
         List<Integer> topDiameters = slabReinforcement.getTopDiameters();
         List<Integer> additionalTopDiameters = slabReinforcement.getAdditionalTopDiameters();
-        List<Integer> topSpacings = slabReinforcement.getTopSpacings();
         List<Integer> topVerticalSpacings = slabReinforcement.getTopVerticalSpacings();
         List<Integer> bottomDiameters = slabReinforcement.getBottomDiameters();
         List<Integer> additionalBottomDiameters = slabReinforcement.getAdditionalBottomDiameters();
-        List<Integer> bottomSpacings = slabReinforcement.getBottomSpacings();
         List<Integer> bottomVerticalSpacings = slabReinforcement.getBottomVerticalSpacings();
         int aggregateSize = designParameters.getAggregateSize();
+        ValidationRule.checkNumberOfRows(topDiameters.size());
+        ValidationRule.checkNumberOfRows(bottomDiameters.size());
 
-        validationMessages.addAll(getValidationMessagesForHorizontalSpacings(Constants.SLAB_TOP_FACE, topDiameters, additionalTopDiameters, topSpacings, aggregateSize));
-        validationMessages.addAll(getValidationMessagesForHorizontalSpacings(Constants.SLAB_BOTTOM_FACE, bottomDiameters, additionalBottomDiameters, bottomSpacings, aggregateSize));
+        long violations = getHorizontalSpacingViolations(ValidationRule.TOP_HORIZONTAL_SPACING, topDiameters, additionalTopDiameters, slabReinforcement.getTopSpacings(), aggregateSize, isFirstViolationOnly);
+        if (isFirstViolationOnly && violations != 0) {
+            return violations;
+        }
+        violations |= getHorizontalSpacingViolations(ValidationRule.BOTTOM_HORIZONTAL_SPACING, bottomDiameters, additionalBottomDiameters, slabReinforcement.getBottomSpacings(), aggregateSize, isFirstViolationOnly);
+        if (isFirstViolationOnly && violations != 0) {
+            return violations;
+        }
         if (topVerticalSpacings.size() != 0) {
-            validationMessages.addAll(getValidateMessagesForVerticalSpacings(Constants.SLAB_TOP_FACE, topDiameters, additionalTopDiameters, topVerticalSpacings, aggregateSize));
+            violations |= getVerticalSpacingViolations(ValidationRule.TOP_VERTICAL_SPACING, topDiameters, additionalTopDiameters, topVerticalSpacings, aggregateSize, isFirstViolationOnly);
+            if (isFirstViolationOnly && violations != 0) {
+                return violations;
+            }
         }
         if (bottomVerticalSpacings.size() != 0) {
-            validationMessages.addAll(getValidateMessagesForVerticalSpacings(Constants.SLAB_BOTTOM_FACE, bottomDiameters, additionalBottomDiameters, bottomVerticalSpacings, aggregateSize));
+            violations |= getVerticalSpacingViolations(ValidationRule.BOTTOM_VERTICAL_SPACING, bottomDiameters, additionalBottomDiameters, bottomVerticalSpacings, aggregateSize, isFirstViolationOnly);
+            if (isFirstViolationOnly && violations != 0) {
+                return violations;
+            }
+        }
+        if (slabThickness < getMinimumSlabThickness(slabReinforcement, designParameters)) {
+            violations |= ValidationRule.DEPTH.getBit(0);
         }
+
+        return violations;
     }
 
     /**
-     * Gets validation messages for clear horizontal spacings between reinforcement bars in each layer.
+     * Gets violations for clear horizontal spacings between reinforcement bars in each layer.
      * The method calculates the clear spacing based on spacing between bar centers. It than checks it against minimum spacing required by Eurocode 2.
      * The minimum spacing is maximum of 20 mm, aggregate size + 5mm or bar diameter.
-     * If spacing is less than minimum spacing a String message is added to the list that is returned.
+     * If spacing is less than minimum spacing, a bit for the layer is set.
      *
-     * @param face                slab face top or bottom
-     * @param diameters           main bar diameters in subsequent layers as a list
-     * @param additionalDiameters additional bar diameters in subsequent layers as a list
-     * @param spacings            spacings between main bar centers in subsequent layers as a list
-     * @param aggregateSize       aggregate size in mm
-     * @return List of validation messages for horizontal spacings
+     * @param rule                 rule for top or bottom face
+     * @param diameters            main bar diameters in subsequent layers as a list
+     * @param additionalDiameters  additional bar diameters in subsequent layers as a list
+     * @param spacings             spacings between main bar centers in subsequent layers as a list
+     * @param aggregateSize        aggregate size in mm
+     * @param isFirstViolationOnly true if the method should return after first violated rule
+     * @return bits of violated rules for horizontal spacings
      */
-    private List<String> getValidationMessagesForHorizontalSpacings(String face,
-                                                                    List<Integer> diameters,
-                                                                    List<Integer> additionalDiameters,
-                                                                    List<Integer> spacings,
-                                                                    int aggregateSize) {
-        List<String> validationMessages = new ArrayList<>();
-        String location = face.equals(Constants.SLAB_TOP_FACE) ? "top" : "bottom";
+    private static long getHorizontalSpacingViolations(ValidationRule rule,
+                                                       List<Integer> diameters,
+                                                       List<Integer> additionalDiameters,
+                                                       List<Integer> spacings,
+                                                       int aggregateSize,
+                                                       boolean isFirstViolationOnly) {
+        long violations = 0;
 
         for (int i = 0; i < diameters.size(); i++) {
-            int minSpacing = IntStream.of(20, aggregateSize + 5, diameters.get(i), additionalDiameters.get(i))
-                    .max()
-                    .orElse(0);
-
             double clearSpacing = (additionalDiameters.get(i) == 0) ?
                     spacings.get(i) - diameters.get(i) :
                     0.5 * spacings.get(i) - 0.5 * diameters.get(i) - 0.5 * additionalDiameters.get(i);
 
-            if (clearSpacing < minSpacing) {
-                validationMessages.add(String.format("Reinforcement spacing for the %s %s layer is less than minimum required - %d mm.", Constants.ORDINAL_LABELS.get(i), location.toLowerCase(), minSpacing));
+            if (clearSpacing < getMinimumHorizontalSpacing(aggregateSize, diameters.get(i), additionalDiameters.get(i))) {
+                violations |= rule.getBit(i);
+                if (isFirstViolationOnly) {
+                    return violations;
+                }
             }
         }
 
-        return validationMessages;
+        return violations;
+    }
+
+    /**
+     * Gets minimum clear horizontal spacing between bars in a layer.
+     *
+     * @param aggregateSize      aggregate size in mm
+     * @param diameter           main bar diameter in mm
+     * @param additionalDiameter additional bar diameter in mm
+     * @return minimum spacing in mm
+     */
+    private static int getMinimumHorizontalSpacing(int aggregateSize, int diameter, int additionalDiameter) {
+        return Math.max(Math.max(20, aggregateSize + 5), Math.max(diameter, additionalDiameter));
     }
 
     /**
-     * Gets validation messages for clear vertical spacings between reinforcement layers.
+     * Gets violations for clear vertical spacings between reinforcement layers.
      * The method checks if clear vertical spacings are greater than minimum spacing required by Eurocode 2.
      * The minimum spacing is maximum of 20 mm, aggregate size + 5mm or bar diameter.
-     * If spacing is less than minimum spacing a String message is added to the list that is returned.
+     * If spacing is less than minimum spacing, a bit for the layer is set.
      *
-     * @param face                slab face top or bottom
-     * @param diameters           main bar diameters in subsequent layers as a list
-     * @param additionalDiameters additional bar diameters in subsequent layers as a list
-     * @param verticalSpacings    clear vertical spacing between layers
-     * @param aggregateSize       aggregate size in mm
-     * @return List of validation messages for vertical spacings
+     * @param rule                 rule for top or bottom face
+     * @param diameters            main bar diameters in subsequent layers as a list
+     * @param additionalDiameters  additional bar diameters in subsequent layers as a list
+     * @param verticalSpacings     clear vertical spacing between layers
+     * @param aggregateSize        aggregate size in mm
+     * @param isFirstViolationOnly true if the method should return after first violated rule
+     * @return bits of violated rules for vertical spacings
      */
-    private List<String> getValidateMessagesForVerticalSpacings(String face,
-                                                                List<Integer> diameters,
-                                                                List<Integer> additionalDiameters,
-                                                                List<Integer> verticalSpacings,
-                                                                int aggregateSize) {
-        List<String> validationMessages = new ArrayList<>();
-        String location = face.equals(Constants.SLAB_TOP_FACE) ? "top" : "bottom";
+    private static long getVerticalSpacingViolations(ValidationRule rule,
+                                                     List<Integer> diameters,
+                                                     List<Integer> additionalDiameters,
+                                                     List<Integer> verticalSpacings,
+                                                     int aggregateSize,
+                                                     boolean isFirstViolationOnly) {
+        long violations = 0;
 
         for (int i = 1; i < diameters.size(); i++) {
-            int minSpacing = IntStream.of(20, aggregateSize + 5, diameters.get(i - 1), diameters.get(i), additionalDiameters.get(i - 1), additionalDiameters.get(i))
-                    .max()
-                    .orElse(0);
-            if (verticalSpacings.get(i - 1) < minSpacing) {
-                validationMessages.add(String.format("Vertical spacing between %s and %s %s layer is less than minimum required - %d mm.",
-                        Constants.ORDINAL_LABELS.get(i - 1), Constants.ORDINAL_LABELS.get(i), location.toLowerCase(), minSpacing));
+            if (verticalSpacings.get(i - 1) < getMinimumVerticalSpacing(aggregateSize, diameters, additionalDiameters, i)) {
+                violations |= rule.getBit(i);
+                if (isFirstViolationOnly) {
+                    return violations;
+                }
             }
         }
-        return validationMessages;
+
+        return violations;
     }
 
     /**
-     * Method that sets validation message for slab thickness.
-     * It checks whether slab defined in Geometry object is thick enough to accommodate vertical spacing between bars, bar diameters, nominal cover etc.
-     * If slab is not thick enough, a message is added to the validationMessages field to inform the user.
+     * Gets minimum clear vertical spacing between given layer and previous layer.
+     *
+     * @param aggregateSize       aggregate size in mm
+     * @param diameters           main bar diameters in subsequent layers as a list
+     * @param additionalDiameters additional bar diameters in subsequent layers as a list
+     * @param layer               layer index, greater than 0
+     * @return minimum spacing in mm
+     */
+    private static int getMinimumVerticalSpacing(int aggregateSize, List<Integer> diameters, List<Integer> additionalDiameters, int layer) {
+        int maxDiameter = Math.max(
+                Math.max(diameters.get(layer - 1), diameters.get(layer)),
+                Math.max(additionalDiameters.get(layer - 1), additionalDiameters.get(layer)));
+
+        return Math.max(Math.max(20, aggregateSize + 5), maxDiameter);
+    }
+
+    /**
+     * Gets minimum slab thickness. Slab needs to be thick enough to accommodate vertical spacing between bars, bar diameters, nominal cover etc.
      *
-     * @param slabThickness     slab thickness in mm as an integer
      * @param slabReinforcement slab reinforcement defined using SlabReinforcement class
      * @param designParameters  design parameters used in project defined in DesignParameters class
+     * @return minimum slab thickness in mm
+     */
+    private static int getMinimumSlabThickness(SlabReinforcement slabReinforcement, DesignParameters designParameters) {
+        List<Integer> topDiameters = slabReinforcement.getTopDiameters();
+        List<Integer> additionalTopDiameters = slabReinforcement.getAdditionalTopDiameters();
+        List<Integer> bottomDiameters = slabReinforcement.getBottomDiameters();
+        List<Integer> additionalBottomDiameters = slabReinforcement.getAdditionalBottomDiameters();
+        int sumOfReinforcementZoneHeights = 0;
+        int sumOfClearSpacings = 0;
+
+        for (int i = 0; i < topDiameters.size(); i++) {
+            sumOfReinforcementZoneHeights += Math.max(topDiameters.get(i), additionalTopDiameters.get(i));
+        }
+        for (int i = 0; i < bottomDiameters.size(); i++) {
+            sumOfReinforcementZoneHeights += Math.max(bottomDiameters.get(i), additionalBottomDiameters.get(i));
+        }
+        for (int spacing : slabReinforcement.getTopVerticalSpacings()) {
+            sumOfClearSpacings += spacing;
+        }
+        for (int spacing : slabReinforcement.getBottomVerticalSpacings()) {
+            sumOfClearSpacings += spacing;
+        }
+
+        // Spacing between top and bottom layers is only required if both faces have bars
+        int minimumSpacingBetweenTopAndBottomLayers = 0;
+        if (!topDiameters.isEmpty() && !bottomDiameters.isEmpty()) {
+            int lastTop = topDiameters.size() - 1;
+            int lastBottom = bottomDiameters.size() - 1;
+            minimumSpacingBetweenTopAndBottomLayers = Math.max(
+                    Math.max(20, designParameters.getAggregateSize() + 5),
+                    Math.max(
+                            Math.max(topDiameters.get(lastTop), additionalTopDiameters.get(additionalTopDiameters.size() - 1)),
+                            Math.max(bottomDiameters.get(lastBottom), additionalBottomDiameters.get(additionalBottomDiameters.size() - 1))));
+        }
+
+        return designParameters.getNominalCoverBottom() + sumOfReinforcementZoneHeights + sumOfClearSpacings + minimumSpacingBetweenTopAndBottomLayers + designParameters.getNominalCoverTop();
+    }
+
+    /**
+     * Creates validation messages for violated rules. Minimum spacings and thickness are calculated again for the messages.
+     *
+     * @return List of validation messages
      */
-    private void setValidateMessagesForSlabThickness(int slabThickness, SlabReinforcement slabReinforcement, DesignParameters designParameters) {
-        List<Integer> clearSpacings = new ArrayList<>();
-        clearSpacings.addAll(slabReinforcement.getTopVerticalSpacings());
-        clearSpacings.addAll(slabReinforcement.getBottomVerticalSpacings());
+    private List<String> createValidationMessages() {
+        List<String> messages = new ArrayList<>();
+        int aggregateSize = designParameters.getAggregateSize();
         List<Integer> topDiameters = slabReinforcement.getTopDiameters();
         List<Integer> additionalTopDiameters = slabReinforcement.getAdditionalTopDiameters();
         List<Integer> bottomDiameters = slabReinforcement.getBottomDiameters();
         List<Integer> additionalBottomDiameters = slabReinforcement.getAdditionalBottomDiameters();
-        List<Integer> diameters = new ArrayList<>();
-        diameters.addAll(topDiameters);
-        diameters.addAll(bottomDiameters);
-        List<Integer> additionalDiameters = new ArrayList<>();
-        additionalDiameters.addAll(additionalTopDiameters);
-        additionalDiameters.addAll(additionalBottomDiameters);
-
-        List<Integer> reinforcementZonesHeights = IntStream
-                .range(0, diameters.size())
-                .mapToObj(i -> Math.max(diameters.get(i), additionalDiameters.get(i)))
-                .collect(Collectors.toList());
-
-        int sumOfReinforcementZoneHeights = reinforcementZonesHeights
-                .stream()
-                .reduce(Integer::sum)
-                .orElse(0);
-
-        int sumOfClearSpacings = clearSpacings.stream()
-                .reduce(Integer::sum)
-                .orElse(0);
-
-        int minimumSpacingBetweenTopAndBottomLayers = IntStream.of(
-                20, designParameters.getAggregateSize() + 5,
-                topDiameters.get(topDiameters.size() - 1),
-                additionalTopDiameters.get(additionalTopDiameters.size() - 1),
-                bottomDiameters.get(bottomDiameters.size() - 1),
-                additionalBottomDiameters.get(additionalBottomDiameters.size() - 1)).max().orElse(0);
-
-        int minimumSlabThickness = designParameters.getNominalCoverBottom() + sumOfReinforcementZoneHeights + sumOfClearSpacings + minimumSpacingBetweenTopAndBottomLayers + designParameters.getNominalCoverTop();
-
-        if (slabThickness < minimumSlabThickness) {
-            validationMessages.add(String.format("Invalid slab thickness. Minimum slab thickness: %d mm.", minimumSlabThickness));
+
+        addHorizontalSpacingMessages(messages, ValidationRule.TOP_HORIZONTAL_SPACING, "top", aggregateSize, topDiameters, additionalTopDiameters);
+        addHorizontalSpacingMessages(messages, ValidationRule.BOTTOM_HORIZONTAL_SPACING, "bottom", aggregateSize, bottomDiameters, additionalBottomDiameters);
+        addVerticalSpacingMessages(messages, ValidationRule.TOP_VERTICAL_SPACING, "top", aggregateSize, topDiameters, additionalTopDiameters);
+        addVerticalSpacingMessages(messages, ValidationRule.BOTTOM_VERTICAL_SPACING, "bottom", aggregateSize, bottomDiameters, additionalBottomDiameters);
+        if (ValidationRule.DEPTH.isViolated(violations)) {
+            messages.add(String.format("Invalid slab thickness. Minimum slab thickness: %d mm.", getMinimumSlabThickness(slabReinforcement, designParameters)));
         }
+
+        return messages;
     }
 
     /**
-     * Getter for validationMessages.
+     * Adds messages for layers with violated horizontal spacing.
+     *
+     * @param messages            list of messages
+     * @param rule                rule for top or bottom face
+     * @param location            top or bottom
+     * @param aggregateSize       aggregate size in mm
+     * @param diameters           main bar diameters in subsequent layers as a list
+     * @param additionalDiameters additional bar diameters in subsequent layers as a list
+     */
+    private void addHorizontalSpacingMessages(List<String> messages, ValidationRule rule, String location, int aggregateSize,
+                                              List<Integer> diameters, List<Integer> additionalDiameters) {
+        for (int i = 0; i < diameters.size(); i++) {
+            if (rule.isViolated(violations, i)) {
+                messages.add(String.format("Reinforcement spacing for the %s %s layer is less than minimum required - %d mm.",
+                        Constants.ORDINAL_LABELS.get(i), location, getMinimumHorizontalSpacing(aggregateSize, diameters.get(i), additionalDiameters.get(i))));
+            }
+        }
+    }
+
+    /**
+     * Adds messages for layers with violated vertical spacing.
+     *
+     * @param messages            list of messages
+     * @param rule                rule for top or bottom face
+     * @param location            top or bottom
+     * @param aggregateSize       aggregate size in mm
+     * @param diameters           main bar diameters in subsequent layers as a list
+     * @param additionalDiameters additional bar diameters in subsequent layers as a list
+     */
+    private void addVerticalSpacingMessages(List<String> messages, ValidationRule rule, String location, int aggregateSize,
+                                            List<Integer> diameters, List<Integer> additionalDiameters) {
+        for (int i = 1; i < diameters.size(); i++) {
+            if (rule.isViolated(violations, i)) {
+                messages.add(String.format("Vertical spacing between %s and %s %s layer is less than minimum required - %d mm.",
+                        Constants.ORDINAL_LABELS.get(i - 1), Constants.ORDINAL_LABELS.get(i), location, getMinimumVerticalSpacing(aggregateSize, diameters, additionalDiameters, i)));
+            }
+        }
+    }
+
+    /**
+     * Getter for validationMessages. These are created when first requested.
      *
      * @return List of validation messages
      */
     public List<String> getValidationMessages() {
+        if (validationMessages == null) {
+            validationMessages = createValidationMessages();
+        }
         return validationMessages;
     }
+
+    /**
+     * Getter for violated rules.
+     *
+     * @return bits of violated rules, 0 if slab is valid
+     */
+    @Override
+    public long getViolations() {
+        return violations;
+    }
 }
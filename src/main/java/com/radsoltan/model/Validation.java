@@ -12,4 +12,18 @@ public interface Validation {
      * @return List of validation messages
      */
     List<String> getValidationMessages();
+
+    /**
+     * Method to return violated validation rules as bits, see ValidationRule enum.
+     * @return bits of violated rules, 0 if element is valid
+     */
+    long getViolations();
+
+    /**
+     * Checks if element is valid without creating validation messages.
+     * @return true if no rule is violated
+     */
+    default boolean isValid() {
+        return getViolations() == 0;
+    }
 }
@@ -0,0 +1,65 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.UIText;
+
+/**
+ * Enum with rules checked by ValidateBeam and ValidateSlab. Violated rules are stored as bits of a long value,
+ * so that validation does not need to build messages. Each rule has 8 bits, one for each reinforcement row or layer.
+ * The GUI limits number of rows and layers, but JSON and schedule input do not, so more rows or layers are rejected rather than setting bits of other rules.
+ */
+public enum ValidationRule {
+    TOP_HORIZONTAL_SPACING,
+    BOTTOM_HORIZONTAL_SPACING,
+    TOP_VERTICAL_SPACING,
+    BOTTOM_VERTICAL_SPACING,
+    DEPTH;
+
+    private static final int BITS_PER_RULE = 8;
+
+    /**
+     * Checks that each row or layer of a reinforcement face has its own bit.
+     *
+     * @param numberOfRows number of rows or layers of a reinforcement face
+     * @throws IllegalArgumentException if there are more rows or layers than bits of a rule
+     */
+    public static void checkNumberOfRows(int numberOfRows) {
+        if (numberOfRows > BITS_PER_RULE) {
+            throw new IllegalArgumentException(UIText.INVALID_NUMBER_OF_ROWS + BITS_PER_RULE);
+        }
+    }
+
+    /**
+     * Gets bit of the rule for given reinforcement row or layer.
+     *
+     * @param index row or layer index, 0 for depth rule
+     * @return bit of the rule
+     * @throws IllegalArgumentException if index is out of range of bits of the rule
+     */
+    public long getBit(int index) {
+        if (index < 0 || index >= BITS_PER_RULE) {
+            throw new IllegalArgumentException(UIText.INVALID_NUMBER_OF_ROWS + BITS_PER_RULE);
+        }
+        return 1L << (ordinal() * BITS_PER_RULE + index);
+    }
+
+    /**
+     * Checks if the rule is violated for given reinforcement row or layer.
+     *
+     * @param violations bits of violated rules
+     * @param index      row or layer index, 0 for depth rule
+     * @return true if violated
+     */
+    public boolean isViolated(long violations, int index) {
+        return (violations & getBit(index)) != 0;
+    }
+
+    /**
+     * Checks if the rule is violated for any reinforcement row or layer.
+     *
+     * @param violations bits of violated rules
+     * @return true if violated
+     */
+    public boolean isViolated(long violations) {
+        return (violations & (0xFFL << (ordinal() * BITS_PER_RULE))) != 0;
+    }
+}
@@ -1,6 +1,6 @@
 package com.radsoltan.model.geometry;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.radsoltan.drawing.Renderer;
 import javafx.scene.transform.Rotate;
 
 /**
@@ -24,74 +24,74 @@ public abstract class DimensionLine implements Drawable {
     /**
      * Abstract method to draw end limiting lines of the dimension line.
      *
-     * @param graphicsContext graphics context to draw on
+     * @param renderer        renderer to draw on
      * @param x               x coordinate of the centre of the line
      * @param y               y coordinate of the centre of the line
      * @param scale           dimension line scale
      */
-    protected abstract void drawEndLine(GraphicsContext graphicsContext, double x, double y, double scale);
+    protected abstract void drawEndLine(Renderer renderer, double x, double y, double scale);
 
     /**
      * Abstract method to draw dimension line text.
      *
      * @param text            text to be displayed
-     * @param graphicsContext graphics context to draw text one
+     * @param renderer        renderer to draw text one
      * @param x               x coordinate of the text
      * @param y               y coordinate of the text
      * @param scale           dimension line scale
      */
-    protected abstract void drawText(String text, GraphicsContext graphicsContext, double x, double y, double scale);
+    protected abstract void drawText(String text, Renderer renderer, double x, double y, double scale);
 
     /**
      * Draws line between two points.
      *
-     * @param graphicsContext graphics context to draw line on
+     * @param renderer        renderer to draw line with
      * @param startX          x coordinate of the start point
      * @param startY          y coordinate of the start point
      * @param endX            x coordinate of the end point
      * @param endY            y coordinate of the end point
      */
-    protected void drawLine(GraphicsContext graphicsContext, double startX, double startY, double endX, double endY) {
-        graphicsContext.beginPath();
-        graphicsContext.moveTo(startX, startY);
-        graphicsContext.lineTo(endX, endY);
-        graphicsContext.stroke();
-        graphicsContext.closePath();
+    protected void drawLine(Renderer renderer, double startX, double startY, double endX, double endY) {
+        renderer.beginPath();
+        renderer.moveTo(startX, startY);
+        renderer.lineTo(endX, endY);
+        renderer.stroke();
+        renderer.closePath();
     }
 
     /**
      * Draws a dimension line tick in a given point.
      *
-     * @param graphicsContext graphics context to draw tick on
+     * @param renderer        renderer to draw tick with
      * @param x               x coordinate of the point
      * @param y               y coordinate of the point
      * @param scale           dimension line scale
      */
-    protected void drawTick(GraphicsContext graphicsContext, double x, double y, double scale) {
+    protected void drawTick(Renderer renderer, double x, double y, double scale) {
         double width = DEFAULT_TICK_WIDTH * scale;
         double length = DEFAULT_TICK_LENGTH * scale;
 
-        graphicsContext.beginPath();
-        rotate(graphicsContext, 45, x, y);
-        graphicsContext.translate(-width * 0.5, -length * 0.5);
-        graphicsContext.rect(x, y, width, length);
-        graphicsContext.fill();
+        renderer.beginPath();
+        rotate(renderer, 45, x, y);
+        renderer.translate(-width * 0.5, -length * 0.5);
+        renderer.rect(x, y, width, length);
+        renderer.fill();
         // Clean up
-        graphicsContext.translate(width * 0.5, length * 0.5);
-        rotate(graphicsContext, 0, x, y);
-        graphicsContext.closePath();
+        renderer.translate(width * 0.5, length * 0.5);
+        rotate(renderer, 0, x, y);
+        renderer.closePath();
     }
 
     /**
-     * Helper method that rotates graphics context around x and y point by specified angle.
+     * Helper method that rotates renderer transform around x and y point by specified angle.
      *
-     * @param graphicsContext graphics context to be rotated
+     * @param renderer        renderer to be rotated
      * @param angle           angle in degrees
      * @param x               x coordinate of the centre of rotation
      * @param y               y coordinate of the centre of rotation
      */
-    protected void rotate(GraphicsContext graphicsContext, double angle, double x, double y) {
+    protected void rotate(Renderer renderer, double angle, double x, double y) {
         Rotate rotate = new Rotate(angle, x, y);
-        graphicsContext.setTransform(rotate.getMxx(), rotate.getMyx(), rotate.getMxy(), rotate.getMyy(), rotate.getTx(), rotate.getTy());
+        renderer.setTransform(rotate.getMxx(), rotate.getMyx(), rotate.getMxy(), rotate.getMyy(), rotate.getTx(), rotate.getTy());
     }
 }
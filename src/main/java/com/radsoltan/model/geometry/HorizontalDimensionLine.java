@@ -1,9 +1,8 @@
 package com.radsoltan.model.geometry;
 
 import com.radsoltan.constants.UIText;
-import javafx.scene.canvas.GraphicsContext;
+import com.radsoltan.drawing.Renderer;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 /**
@@ -13,7 +12,7 @@ public class HorizontalDimensionLine extends DimensionLine {
 
     private final String text;
     private final Color color;
-    private final GraphicsContext graphicsContext;
+    private final Renderer renderer;
     private final double startX;
     private final double endX;
     private final double y;
@@ -25,17 +24,17 @@ public class HorizontalDimensionLine extends DimensionLine {
      *
      * @param text            text to be displayed above the dimension line
      * @param color           dimension line colour
-     * @param graphicsContext graphics context to draw the dimension line on
+     * @param renderer        renderer to draw the dimension line with
      * @param startX          dimension line start point - x coordinate
      * @param endX            dimension line end point - x coordinate
      * @param y               dimension line y coordinate
      * @param offsetY         offset in y direction from y coordinate
      * @param scale           dimension line scale
      */
-    public HorizontalDimensionLine(String text, Color color, GraphicsContext graphicsContext, double startX, double endX, double y, double offsetY, double scale) {
+    public HorizontalDimensionLine(String text, Color color, Renderer renderer, double startX, double endX, double y, double offsetY, double scale) {
         this.text = text;
         this.color = color;
-        this.graphicsContext = graphicsContext;
+        this.renderer = renderer;
         this.startX = startX;
         this.endX = endX;
         this.y = y;
@@ -48,45 +47,44 @@ public class HorizontalDimensionLine extends DimensionLine {
      *
      * @param text            text to be displayed above the dimension line
      * @param color           dimension line colour
-     * @param graphicsContext graphics context to draw the dimension line on
+     * @param renderer        renderer to draw the dimension line with
      * @param startX          dimension line start point - x coordinate
      * @param endX            dimension line end point - y coordinate
      * @param y               dimension line y coordinate
      */
-    public HorizontalDimensionLine(String text, Color color, GraphicsContext graphicsContext, double startX, double endX, double y) {
-        this(text, color, graphicsContext, startX, endX, y, DimensionLine.DEFAULT_OFFSET, DimensionLine.DEFAULT_SCALE);
+    public HorizontalDimensionLine(String text, Color color, Renderer renderer, double startX, double endX, double y) {
+        this(text, color, renderer, startX, endX, y, DimensionLine.DEFAULT_OFFSET, DimensionLine.DEFAULT_SCALE);
     }
 
     /**
      * Draws a vertical limiting end line.
      *
-     * @param graphicsContext graphics context to draw on
+     * @param renderer        renderer to draw on
      * @param x               x coordinate of the centre of the line
      * @param y               y coordinate of the centre of the line
      * @param scale           dimension line scale
      */
     @Override
-    protected void drawEndLine(GraphicsContext graphicsContext, double x, double y, double scale) {
-        this.drawLine(graphicsContext, x, y + 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale, x, y - 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale);
+    protected void drawEndLine(Renderer renderer, double x, double y, double scale) {
+        this.drawLine(renderer, x, y + 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale, x, y - 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale);
     }
 
     /**
      * Draws text above the dimension line.
      *
      * @param text            text to be displayed
-     * @param graphicsContext graphics context to draw text one
+     * @param renderer        renderer to draw text one
      * @param x               x coordinate of the text
      * @param y               y coordinate of the text
      * @param scale           dimension line scale
      */
     @Override
-    protected void drawText(String text, GraphicsContext graphicsContext, double x, double y, double scale) {
-        graphicsContext.beginPath();
-        Font font = new Font(DimensionLine.DEFAULT_TEXT_FONT, DimensionLine.DEFAULT_TEXT_SIZE * scale);
-        graphicsContext.setFont(font);
-        graphicsContext.setTextAlign(TextAlignment.CENTER);
-        graphicsContext.fillText(text, x, y);
-        graphicsContext.closePath();
+    protected void drawText(String text, Renderer renderer, double x, double y, double scale) {
+        renderer.beginPath();
+        renderer.setFont(DimensionLine.DEFAULT_TEXT_FONT, DimensionLine.DEFAULT_TEXT_SIZE * scale);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText(text, x, y);
+        renderer.closePath();
     }
 
     /**
@@ -100,21 +98,21 @@ public class HorizontalDimensionLine extends DimensionLine {
             throw new IllegalArgumentException(UIText.INVALID_DIMENSION_LINE);
         }
 
-        graphicsContext.setStroke(color);
-        graphicsContext.setFill(color);
+        renderer.setStroke(color);
+        renderer.setFill(color);
 
         this.drawLine(
-                graphicsContext,
+                renderer,
                 startX - DimensionLine.DEFAULT_MAIN_LINE_EXTENSION * scale,
                 y + offsetY,
                 endX + DimensionLine.DEFAULT_MAIN_LINE_EXTENSION * scale,
                 y + offsetY
         );
-        this.drawEndLine(graphicsContext, startX, y + offsetY, scale);
-        this.drawEndLine(graphicsContext, endX, y + offsetY, scale);
-        this.drawTick(graphicsContext, startX, y + offsetY, scale);
-        this.drawTick(graphicsContext, endX, y + offsetY, scale);
-        this.drawText(text, graphicsContext, 0.5 * (startX + endX), y + offsetY - DimensionLine.DEFAULT_TEXT_OFFSET * scale, scale);
+        this.drawEndLine(renderer, startX, y + offsetY, scale);
+        this.drawEndLine(renderer, endX, y + offsetY, scale);
+        this.drawTick(renderer, startX, y + offsetY, scale);
+        this.drawTick(renderer, endX, y + offsetY, scale);
+        this.drawText(text, renderer, 0.5 * (startX + endX), y + offsetY - DimensionLine.DEFAULT_TEXT_OFFSET * scale, scale);
     }
 
     /**
@@ -124,6 +122,6 @@ public class HorizontalDimensionLine extends DimensionLine {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(graphicsContext == null || color == null || scale == 0);
+        return !(renderer == null || color == null || scale == 0);
     }
 }
@@ -8,6 +8,8 @@ package com.radsoltan.model.geometry;
  */
 public class LSection extends TSection {
 
+    private static final long serialVersionUID = 5567826321752558164L;
+
     /**
      * Constructor. It uses T section constructor.
      *
@@ -1,7 +1,7 @@
 package com.radsoltan.model.geometry;
 
 import com.radsoltan.constants.UIText;
-import javafx.scene.canvas.GraphicsContext;
+import com.radsoltan.drawing.Renderer;
 import javafx.scene.paint.Color;
 
 /**
@@ -11,27 +11,29 @@ public class Rectangle extends Section {
 
     private final int width;
     private final int depth;
-    private final GraphicsContext graphicsContext;
+    private final Renderer renderer;
     private final Color stroke;
     private final Color fill;
     private final double startX;
     private final double startY;
 
+    private static final long serialVersionUID = 8064576879025871316L;
+
     /**
      * Constructor used for drawing the section. It takes additional parameters that allows for drawing the section.
      *
      * @param width           width of the rectangle
      * @param depth           depth of the rectangle
-     * @param graphicsContext graphics context to draw the rectangle on
+     * @param renderer        renderer to draw the rectangle with
      * @param stroke          stroke to draw rectangle with
      * @param fill            fill to fill the rectangle with
      * @param startX          drawing start point, x coordinate
      * @param startY          drawing start point, y coordinate
      */
-    public Rectangle(int width, int depth, GraphicsContext graphicsContext, Color stroke, Color fill, double startX, double startY) {
+    public Rectangle(int width, int depth, Renderer renderer, Color stroke, Color fill, double startX, double startY) {
         this.width = width;
         this.depth = depth;
-        this.graphicsContext = graphicsContext;
+        this.renderer = renderer;
         this.stroke = stroke;
         this.fill = fill;
         this.startX = startX;
@@ -108,6 +110,17 @@ public class Rectangle extends Section {
         return width * Math.pow(depth, 3) / 12;
     }
 
+    /**
+     * Gets width of the rectangle at given distance from the top edge.
+     *
+     * @param distanceFromTop distance from the top edge in mm
+     * @return width in mm, 0 if outside of the section
+     */
+    @Override
+    public int getWidthAtDistanceFromTop(double distanceFromTop) {
+        return (distanceFromTop >= 0 && distanceFromTop <= depth) ? width : 0;
+    }
+
     /**
      * Gets width in compression zone.
      *
@@ -180,13 +193,13 @@ public class Rectangle extends Section {
     }
 
     /**
-     * Getter for graphics context that section is drawn on.
+     * Getter for renderer that section is drawn with.
      *
-     * @return graphics context
+     * @return renderer
      */
     @Override
-    public GraphicsContext getGraphicsContext() {
-        return graphicsContext;
+    public Renderer getRenderer() {
+        return renderer;
     }
 
     /**
@@ -230,11 +243,11 @@ public class Rectangle extends Section {
     }
 
     /**
-     * Draws the rectangle on provided graphics context.
+     * Draws the rectangle with provided renderer.
      */
     @Override
     public void draw() {
-        GraphicsContext graphicsContext = getGraphicsContext();
+        Renderer renderer = getRenderer();
         Color fill = getFill();
         Color stroke = getStroke();
 
@@ -249,24 +262,24 @@ public class Rectangle extends Section {
         double rightEdgeX = leftEdgeX + width;
         double bottomEdgeY = topEdgeY + depth;
 
-        graphicsContext.setFill(fill);
-        graphicsContext.setStroke(stroke);
+        renderer.setFill(fill);
+        renderer.setStroke(stroke);
 
         // Drawing Slab
-        graphicsContext.beginPath();
+        renderer.beginPath();
         // Top Edge
-        graphicsContext.moveTo(leftEdgeX, topEdgeY);
-        graphicsContext.lineTo(rightEdgeX, topEdgeY);
+        renderer.moveTo(leftEdgeX, topEdgeY);
+        renderer.lineTo(rightEdgeX, topEdgeY);
         // Right Edge
-        graphicsContext.lineTo(rightEdgeX, bottomEdgeY);
+        renderer.lineTo(rightEdgeX, bottomEdgeY);
         // Bottom Edge
-        graphicsContext.lineTo(leftEdgeX, bottomEdgeY);
+        renderer.lineTo(leftEdgeX, bottomEdgeY);
         // Left Edge
-        graphicsContext.lineTo(leftEdgeX, topEdgeY);
+        renderer.lineTo(leftEdgeX, topEdgeY);
         // Draw Slab and clean up
-        graphicsContext.stroke();
-        graphicsContext.fill();
-        graphicsContext.closePath();
+        renderer.stroke();
+        renderer.fill();
+        renderer.closePath();
     }
 
     /**
@@ -276,6 +289,6 @@ public class Rectangle extends Section {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(getGraphicsContext() == null || getStroke() == null || getFill() == null);
+        return !(getRenderer() == null || getStroke() == null || getFill() == null);
     }
 }
@@ -1,6 +1,6 @@
 package com.radsoltan.model.geometry;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.radsoltan.drawing.Renderer;
 import javafx.scene.paint.Color;
 
 import java.io.Serializable;
@@ -55,6 +55,14 @@ public abstract class Section implements Drawable, Serializable {
      */
     public abstract double getSecondMomentOfArea();
 
+    /**
+     * Gets width of the section at given distance from the top edge. It is used to discretise the section into fibers.
+     *
+     * @param distanceFromTop distance from the top edge in mm
+     * @return width in mm, 0 if outside of the section
+     */
+    public abstract int getWidthAtDistanceFromTop(double distanceFromTop);
+
     /**
      * Gets width of the section in compression zone.
      *
@@ -103,11 +111,11 @@ public abstract class Section implements Drawable, Serializable {
     public abstract String getDescription();
 
     /**
-     * Getter for graphics context that section is drawn on.
+     * Getter for renderer that section is drawn with.
      *
-     * @return graphics context
+     * @return renderer
      */
-    public abstract GraphicsContext getGraphicsContext();
+    public abstract Renderer getRenderer();
 
     /**
      * Getter of the stroke that the section is drawn with.
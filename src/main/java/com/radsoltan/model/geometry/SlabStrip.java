@@ -1,7 +1,7 @@
 package com.radsoltan.model.geometry;
 
 import com.radsoltan.constants.UIText;
-import javafx.scene.canvas.GraphicsContext;
+import com.radsoltan.drawing.Renderer;
 import javafx.scene.paint.Color;
 
 /**
@@ -15,20 +15,22 @@ public class SlabStrip extends Rectangle {
 
     private final int endArchDepth;
 
+    private static final long serialVersionUID = -1677756089351221813L;
+
     /**
      * Constructor used for drawing the slab.  It takes additional parameters that allows for drawing the section.
      *
      * @param width           width of the slab strip
      * @param thickness       slab thickness
-     * @param graphicsContext graphics context to draw the slab strip on
+     * @param renderer        renderer to draw the slab strip with
      * @param stroke          stroke to draw slab strip with
      * @param fill            fill to fill the slab strip with
      * @param startX          slab top left corner, x coordinate
      * @param startY          slab top left corner, y coordinate
      * @param endArchDepth    end arch that is used to mark end of the slab on the drawing
      */
-    public SlabStrip(int width, int thickness, GraphicsContext graphicsContext, Color stroke, Color fill, double startX, double startY, int endArchDepth) {
-        super(width, thickness, graphicsContext, stroke, fill, startX, startY);
+    public SlabStrip(int width, int thickness, Renderer renderer, Color stroke, Color fill, double startX, double startY, int endArchDepth) {
+        super(width, thickness, renderer, stroke, fill, startX, startY);
         this.endArchDepth = endArchDepth;
     }
 
@@ -37,14 +39,14 @@ public class SlabStrip extends Rectangle {
      *
      * @param width           width of the slab strip
      * @param thickness       slab thickness
-     * @param graphicsContext graphics context to draw the slab strip on
+     * @param renderer        renderer to draw the slab strip with
      * @param stroke          stroke to draw slab strip with
      * @param fill            fill to fill the slab strip with
      * @param startX          slab top left corner, x coordinate
      * @param startY          slab top left corner, y coordinate
      */
-    public SlabStrip(int width, int thickness, GraphicsContext graphicsContext, Color stroke, Color fill, double startX, double startY) {
-        this(width, thickness, graphicsContext, stroke, fill, startX, startY, DEFAULT_END_ARCH_DEPTH);
+    public SlabStrip(int width, int thickness, Renderer renderer, Color stroke, Color fill, double startX, double startY) {
+        this(width, thickness, renderer, stroke, fill, startX, startY, DEFAULT_END_ARCH_DEPTH);
     }
 
     /**
@@ -78,11 +80,11 @@ public class SlabStrip extends Rectangle {
     }
 
     /**
-     * Draws slab on provided graphics context.
+     * Draws slab with provided renderer.
      */
     @Override
     public void draw() throws IllegalArgumentException {
-        GraphicsContext graphicsContext = getGraphicsContext();
+        Renderer renderer = getRenderer();
         Color fill = getFill();
         Color stroke = getStroke();
 
@@ -98,26 +100,26 @@ public class SlabStrip extends Rectangle {
         double bottomEdgeY = topEdgeY + depth;
         double endArchDepth = getEndArchDepth();
 
-        graphicsContext.setFill(fill);
-        graphicsContext.setStroke(stroke);
+        renderer.setFill(fill);
+        renderer.setStroke(stroke);
 
         // Drawing Slab
-        graphicsContext.beginPath();
+        renderer.beginPath();
         // Top Edge
-        graphicsContext.moveTo(leftEdgeX, topEdgeY);
-        graphicsContext.lineTo(rightEdgeX, topEdgeY);
+        renderer.moveTo(leftEdgeX, topEdgeY);
+        renderer.lineTo(rightEdgeX, topEdgeY);
         // Right Edge
-        graphicsContext.quadraticCurveTo(rightEdgeX - endArchDepth, topEdgeY + 0.25 * depth, rightEdgeX, topEdgeY + 0.5 * depth);
-        graphicsContext.quadraticCurveTo(rightEdgeX + endArchDepth, topEdgeY + 0.75 * depth, rightEdgeX, bottomEdgeY);
+        renderer.quadraticCurveTo(rightEdgeX - endArchDepth, topEdgeY + 0.25 * depth, rightEdgeX, topEdgeY + 0.5 * depth);
+        renderer.quadraticCurveTo(rightEdgeX + endArchDepth, topEdgeY + 0.75 * depth, rightEdgeX, bottomEdgeY);
         // Bottom Edge
-        graphicsContext.lineTo(leftEdgeX, bottomEdgeY);
+        renderer.lineTo(leftEdgeX, bottomEdgeY);
         // Left Edge
-        graphicsContext.quadraticCurveTo(leftEdgeX + endArchDepth, bottomEdgeY - 0.25 * depth, leftEdgeX, bottomEdgeY - 0.5 * depth);
-        graphicsContext.quadraticCurveTo(leftEdgeX - endArchDepth, bottomEdgeY - 0.75 * depth, leftEdgeX, topEdgeY);
+        renderer.quadraticCurveTo(leftEdgeX + endArchDepth, bottomEdgeY - 0.25 * depth, leftEdgeX, bottomEdgeY - 0.5 * depth);
+        renderer.quadraticCurveTo(leftEdgeX - endArchDepth, bottomEdgeY - 0.75 * depth, leftEdgeX, topEdgeY);
         // Draw Slab and clean up
-        graphicsContext.stroke();
-        graphicsContext.fill();
-        graphicsContext.closePath();
+        renderer.stroke();
+        renderer.fill();
+        renderer.closePath();
     }
 
     /**
@@ -127,6 +129,6 @@ public class SlabStrip extends Rectangle {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(getGraphicsContext() == null || getStroke() == null || getFill() == null);
+        return !(getRenderer() == null || getStroke() == null || getFill() == null);
     }
 }
@@ -1,6 +1,6 @@
 package com.radsoltan.model.geometry;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.radsoltan.drawing.Renderer;
 import javafx.scene.paint.Color;
 
 /**
@@ -16,6 +16,8 @@ public class TSection extends Section implements Flanged {
     private final int flangeWidth;
     private final int flangeThickness;
 
+    private static final long serialVersionUID = 1757759574808109060L;
+
     /**
      * Constructor.
      *
@@ -69,6 +71,20 @@ public class TSection extends Section implements Flanged {
                 webWidth * downstandDepth * Math.pow(centroid - (0.5 * downstandDepth + flangeThickness), 2);
     }
 
+    /**
+     * Gets width of the section at given distance from the top edge. It is flange width within the flange and web width below.
+     *
+     * @param distanceFromTop distance from the top edge in mm
+     * @return width in mm, 0 if outside of the section
+     */
+    @Override
+    public int getWidthAtDistanceFromTop(double distanceFromTop) {
+        if (distanceFromTop < 0 || distanceFromTop > depth) {
+            return 0;
+        }
+        return distanceFromTop <= flangeThickness ? flangeWidth : webWidth;
+    }
+
     /**
      * Gets width of the section in compression zone.
      *
@@ -241,12 +257,12 @@ public class TSection extends Section implements Flanged {
     }
 
     /**
-     * Getter for graphics context that section is drawn on.
+     * Getter for renderer that section is drawn with.
      *
-     * @return graphics context
+     * @return renderer
      */
     @Override
-    public GraphicsContext getGraphicsContext() {
+    public Renderer getRenderer() {
         return null;
     }
 
@@ -1,10 +1,9 @@
 package com.radsoltan.model.geometry;
 
 import com.radsoltan.constants.UIText;
+import com.radsoltan.drawing.Renderer;
 import javafx.geometry.VPos;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 /**
@@ -14,7 +13,7 @@ public class VerticalDimensionLine extends DimensionLine {
 
     private final String text;
     private final Color color;
-    private final GraphicsContext graphicsContext;
+    private final Renderer renderer;
     private final double startY;
     private final double endY;
     private final double x;
@@ -27,7 +26,7 @@ public class VerticalDimensionLine extends DimensionLine {
      *
      * @param text            text to be displayed next to dimension line
      * @param color           dimension line colour
-     * @param graphicsContext graphics context to draw the dimension line on
+     * @param renderer        renderer to draw the dimension line with
      * @param startY          dimension line start point - y coordinate
      * @param endY            dimension line end point - y coordinate
      * @param x               dimension line x coordinate
@@ -35,10 +34,10 @@ public class VerticalDimensionLine extends DimensionLine {
      * @param scale           dimension line scale
      * @param isTextAligned   specifies whether the text should be aligned with the dimension line (vertical) or horizontal
      */
-    public VerticalDimensionLine(String text, Color color, GraphicsContext graphicsContext, double startY, double endY, double x, double offsetX, double scale, boolean isTextAligned) {
+    public VerticalDimensionLine(String text, Color color, Renderer renderer, double startY, double endY, double x, double offsetX, double scale, boolean isTextAligned) {
         this.text = text;
         this.color = color;
-        this.graphicsContext = graphicsContext;
+        this.renderer = renderer;
         this.startY = startY;
         this.endY = endY;
         this.x = x;
@@ -52,26 +51,26 @@ public class VerticalDimensionLine extends DimensionLine {
      *
      * @param text            text to be displayed next to dimension line
      * @param color           dimension line colour
-     * @param graphicsContext graphics context to draw the dimension line on
+     * @param renderer        renderer to draw the dimension line with
      * @param startY          dimension line start point - y coordinate
      * @param endY            dimension line end point - y coordinate
      * @param x               dimension line x coordinate
      */
-    public VerticalDimensionLine(String text, Color color, GraphicsContext graphicsContext, double startY, double endY, double x) {
-        this(text, color, graphicsContext, startY, endY, x, DimensionLine.DEFAULT_OFFSET, DimensionLine.DEFAULT_SCALE, true);
+    public VerticalDimensionLine(String text, Color color, Renderer renderer, double startY, double endY, double x) {
+        this(text, color, renderer, startY, endY, x, DimensionLine.DEFAULT_OFFSET, DimensionLine.DEFAULT_SCALE, true);
     }
 
     /**
      * Draws a horizontal limiting end line.
      *
-     * @param graphicsContext graphics context to draw on
+     * @param renderer        renderer to draw on
      * @param x               x coordinate of the centre of the line
      * @param y               y coordinate of the centre of the line
      * @param scale           dimension line scale
      */
     @Override
-    protected void drawEndLine(GraphicsContext graphicsContext, double x, double y, double scale) {
-        this.drawLine(graphicsContext, x + 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale, y, x - 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale, y);
+    protected void drawEndLine(Renderer renderer, double x, double y, double scale) {
+        this.drawLine(renderer, x + 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale, y, x - 0.5 * DimensionLine.DEFAULT_END_LINE_LENGTH * scale, y);
     }
 
     /**
@@ -79,28 +78,27 @@ public class VerticalDimensionLine extends DimensionLine {
      * If text is aligned, it rotates the text and displays it vertically, otherwise the text is horizontal.
      *
      * @param text            text to be displayed
-     * @param graphicsContext graphics context to draw text one
+     * @param renderer        renderer to draw text one
      * @param x               x coordinate of the text
      * @param y               y coordinate of the text
      * @param scale           dimension line scale
      */
     @Override
-    protected void drawText(String text, GraphicsContext graphicsContext, double x, double y, double scale) {
-        graphicsContext.beginPath();
-        Font font = new Font(DimensionLine.DEFAULT_TEXT_FONT, DimensionLine.DEFAULT_TEXT_SIZE * scale);
-        graphicsContext.setFont(font);
+    protected void drawText(String text, Renderer renderer, double x, double y, double scale) {
+        renderer.beginPath();
+        renderer.setFont(DimensionLine.DEFAULT_TEXT_FONT, DimensionLine.DEFAULT_TEXT_SIZE * scale);
         if (isTextAligned) {
-            rotate(graphicsContext, -90, x, y);
-            graphicsContext.setTextAlign(TextAlignment.CENTER);
+            rotate(renderer, -90, x, y);
+            renderer.setTextAlign(TextAlignment.CENTER);
         } else {
-            graphicsContext.setTextBaseline(VPos.CENTER);
+            renderer.setTextBaseline(VPos.CENTER);
         }
-        graphicsContext.fillText(text, x, y);
+        renderer.fillText(text, x, y);
         if (isTextAligned) {
             // clean up
-            rotate(graphicsContext, 0, x, y);
+            rotate(renderer, 0, x, y);
         }
-        graphicsContext.closePath();
+        renderer.closePath();
     }
 
     /**
@@ -113,21 +111,21 @@ public class VerticalDimensionLine extends DimensionLine {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_DIMENSION_LINE);
         }
-        graphicsContext.setStroke(color);
-        graphicsContext.setFill(color);
+        renderer.setStroke(color);
+        renderer.setFill(color);
 
         this.drawLine(
-                graphicsContext,
+                renderer,
                 x + offsetX,
                 startY - DimensionLine.DEFAULT_MAIN_LINE_EXTENSION * scale,
                 x + offsetX,
                 endY + DimensionLine.DEFAULT_MAIN_LINE_EXTENSION * scale
         );
-        this.drawEndLine(graphicsContext, x + offsetX, startY, scale);
-        this.drawEndLine(graphicsContext, x + offsetX, endY, scale);
-        this.drawTick(graphicsContext, x + offsetX, startY, scale);
-        this.drawTick(graphicsContext, x + offsetX, endY, scale);
-        this.drawText(text, graphicsContext, x + offsetX - DimensionLine.DEFAULT_TEXT_OFFSET * scale, 0.5 * (startY + endY), scale);
+        this.drawEndLine(renderer, x + offsetX, startY, scale);
+        this.drawEndLine(renderer, x + offsetX, endY, scale);
+        this.drawTick(renderer, x + offsetX, startY, scale);
+        this.drawTick(renderer, x + offsetX, endY, scale);
+        this.drawText(text, renderer, x + offsetX - DimensionLine.DEFAULT_TEXT_OFFSET * scale, 0.5 * (startY + endY), scale);
     }
 
     /**
@@ -137,6 +135,6 @@ public class VerticalDimensionLine extends DimensionLine {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(graphicsContext == null || color == null || scale == 0);
+        return !(renderer == null || color == null || scale == 0);
     }
 }
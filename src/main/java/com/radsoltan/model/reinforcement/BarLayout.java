@@ -0,0 +1,198 @@
+package com.radsoltan.model.reinforcement;
+
+import java.util.List;
+
+/**
+ * Packed representation of beam reinforcement rows for one beam face - top or bottom.
+ * Bar diameters are stored in a flat int array with row offsets. Per row areas and first moments of area are calculated once on creation,
+ * so that areas and centroids can be obtained without any allocations.
+ * <p>
+ * First moments of area are calculated against the line of nominal cover, as position of each bar relative to that line does not depend on the cover.
+ * Centroid measured from the beam edge is then: nominalCover + firstMomentOfArea / area.
+ */
+final class BarLayout {
+    private final int[] diameters;
+    private final int[] rowOffsets;
+    private final int[] rowMaxDiameters;
+    private final int[] rowSumsOfDiameters;
+    private final double[] rowCentreLines;
+    private final int shearLinkDiameter;
+    private final double[] rowAreas;
+    private final double[] rowFirstMomentsOfArea;
+    private final double totalArea;
+    private final double totalFirstMomentOfArea;
+
+    /**
+     * Constructor. Packs reinforcement rows and calculates areas and first moments of area for each row.
+     * First row bars are tied to shear links, so each of them is placed at shearLinkDiameter + 0.5 * barDiameter from the cover line.
+     * Subsequent rows are placed on one centre line below the largest bar of the first row, separated by clear vertical spacings.
+     *
+     * @param diameters             list of reinforcement rows, each row is a list with bar diameters in mm
+     * @param clearVerticalSpacings clear vertical spacings between rows in mm
+     * @param shearLinkDiameter     shear link diameter in mm
+     */
+    BarLayout(List<List<Integer>> diameters, List<Integer> clearVerticalSpacings, int shearLinkDiameter) {
+        int numberOfRows = diameters.size();
+        this.rowOffsets = new int[numberOfRows + 1];
+        for (int i = 0; i < numberOfRows; i++) {
+            rowOffsets[i + 1] = rowOffsets[i] + diameters.get(i).size();
+        }
+        this.diameters = new int[rowOffsets[numberOfRows]];
+        this.rowMaxDiameters = new int[numberOfRows];
+        this.rowSumsOfDiameters = new int[numberOfRows];
+        this.rowCentreLines = new double[numberOfRows];
+        this.shearLinkDiameter = shearLinkDiameter;
+        this.rowAreas = new double[numberOfRows];
+        this.rowFirstMomentsOfArea = new double[numberOfRows];
+
+        double area = 0;
+        double firstMomentOfArea = 0;
+        double rowCentreLine = 0;
+        for (int i = 0; i < numberOfRows; i++) {
+            List<Integer> row = diameters.get(i);
+            int maxDiameter = 0;
+            int sumOfDiameters = 0;
+            for (int j = 0; j < row.size(); j++) {
+                int diameter = row.get(j);
+                this.diameters[rowOffsets[i] + j] = diameter;
+                maxDiameter = Math.max(maxDiameter, diameter);
+                sumOfDiameters += diameter;
+            }
+            rowMaxDiameters[i] = maxDiameter;
+            rowSumsOfDiameters[i] = sumOfDiameters;
+
+            if (i == 0) {
+                rowCentreLine = shearLinkDiameter + 0.5 * maxDiameter;
+            } else {
+                rowCentreLine += clearVerticalSpacings.get(i - 1) + 0.5 * rowMaxDiameters[i - 1] + 0.5 * maxDiameter;
+            }
+            rowCentreLines[i] = rowCentreLine;
+
+            double rowArea = 0;
+            double rowFirstMomentOfArea = 0;
+            for (int j = rowOffsets[i]; j < rowOffsets[i + 1]; j++) {
+                double barArea = this.diameters[j] * this.diameters[j] * Math.PI * 0.25;
+                // First row bars are not on one centre line
+                double distance = (i == 0) ? shearLinkDiameter + 0.5 * this.diameters[j] : rowCentreLine;
+                rowArea += barArea;
+                rowFirstMomentOfArea += barArea * distance;
+            }
+            rowAreas[i] = rowArea;
+            rowFirstMomentsOfArea[i] = rowFirstMomentOfArea;
+            area += rowArea;
+            firstMomentOfArea += rowFirstMomentOfArea;
+        }
+        this.totalArea = area;
+        this.totalFirstMomentOfArea = firstMomentOfArea;
+    }
+
+    /**
+     * Calculates centroid of reinforcement measured from the beam edge.
+     *
+     * @param nominalCover nominal cover for given beam's edge in mm
+     * @return centroid of reinforcement in mm
+     */
+    double getCentroid(int nominalCover) {
+        return nominalCover + totalFirstMomentOfArea / totalArea;
+    }
+
+    /**
+     * Gets number of reinforcement rows.
+     *
+     * @return number of rows
+     */
+    int getNumberOfRows() {
+        return rowAreas.length;
+    }
+
+    /**
+     * Gets number of bars in a row.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @return number of bars
+     */
+    int getNumberOfBars(int row) {
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    /**
+     * Gets diameter of a bar.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @param bar bar index within the row
+     * @return bar diameter in mm
+     */
+    int getDiameter(int row, int bar) {
+        return diameters[rowOffsets[row] + bar];
+    }
+
+    /**
+     * Gets the largest bar diameter in a row.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @return max bar diameter in mm
+     */
+    int getMaxDiameter(int row) {
+        return rowMaxDiameters[row];
+    }
+
+    /**
+     * Gets sum of bar diameters in a row.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @return sum of diameters in mm
+     */
+    int getSumOfDiameters(int row) {
+        return rowSumsOfDiameters[row];
+    }
+
+    /**
+     * Gets distance from centre of a bar to the nominal cover line.
+     * First row bars are tied to shear links, bars in subsequent rows lie on the row centre line.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @param bar bar index within the row
+     * @return distance in mm
+     */
+    double getDistanceToCoverLine(int row, int bar) {
+        return (row == 0) ? shearLinkDiameter + 0.5 * getDiameter(row, bar) : rowCentreLines[row];
+    }
+
+    /**
+     * Gets area of bars in a row.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @return row area in mm2
+     */
+    double getRowArea(int row) {
+        return rowAreas[row];
+    }
+
+    /**
+     * Gets first moment of area of bars in a row, calculated against the nominal cover line.
+     *
+     * @param row row index, 0 is the row closest to the edge
+     * @return row first moment of area in mm3
+     */
+    double getRowFirstMomentOfArea(int row) {
+        return rowFirstMomentsOfArea[row];
+    }
+
+    /**
+     * Getter for total area of reinforcement.
+     *
+     * @return total area in mm2
+     */
+    double getTotalArea() {
+        return totalArea;
+    }
+
+    /**
+     * Getter for total first moment of area, calculated against the nominal cover line.
+     *
+     * @return first moment of area in mm3
+     */
+    double getTotalFirstMomentOfArea() {
+        return totalFirstMomentOfArea;
+    }
+}
@@ -2,12 +2,11 @@ package com.radsoltan.model.reinforcement;
 
 import com.radsoltan.constants.Constants;
 import com.radsoltan.constants.UIText;
+import com.radsoltan.drawing.Renderer;
 import com.radsoltan.model.DesignParameters;
 import com.radsoltan.model.geometry.Rectangle;
 import com.radsoltan.model.geometry.Section;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 import java.util.*;
@@ -16,7 +15,7 @@ import java.util.stream.IntStream;
 
 /**
  * Model for beam reinforcement. It is used to create an object that describes beam reinforcement that can be used in structural calculations.
- * In addition, allows for beam reinforcement on graphics context.
+ * In addition, allows for drawing beam reinforcement with renderer.
  */
 public class BeamReinforcement extends Reinforcement {
 
@@ -27,13 +26,19 @@ public class BeamReinforcement extends Reinforcement {
     private final ShearLinks shearLinks;
     private final DesignParameters designParameters;
     private final Section section;
-    private final GraphicsContext graphicsContext;
+    private final Renderer renderer;
     private final Color colour;
     private final double beamImageScale;
+    // Packed layouts used in calculations, created on first use
+    private transient BarLayout topLayout;
+    private transient BarLayout bottomLayout;
     // Constants used in drawing beam reinforcement
     public static final int DEFAULT_TEXT_SIZE = 10;
     public static final int DEFAULT_TEXT_OFFSET = 5;
 
+    // Value generated for the original class to keep project files compatible
+    private static final long serialVersionUID = 2783502378137961949L;
+
     /**
      * Constructor. Used in structural calculations.
      * <p>
@@ -96,7 +101,7 @@ public class BeamReinforcement extends Reinforcement {
 
     /**
      * Constructor. Used in structural calculations.
-     * In addition, it takes arguments that allow for drawing the beam reinforcement on graphics context.
+     * In addition, it takes arguments that allow for drawing the beam reinforcement with renderer.
      *
      * @param topDiameters           contains top bar diameters in mm
      * @param topVerticalSpacings    clear vertical spacings between top rows in mm
@@ -105,7 +110,7 @@ public class BeamReinforcement extends Reinforcement {
      * @param shearLinks             shear links object
      * @param designParameters       DesignParameters object
      * @param section                beam section in scale that is to be drawn
-     * @param graphicsContext        graphics context to draw beam on
+     * @param renderer               renderer to draw beam with
      * @param colour                 colour to draw the reinforcement with
      * @param beamImageScale         beam image scale that section is drawn with
      */
@@ -116,7 +121,7 @@ public class BeamReinforcement extends Reinforcement {
                              ShearLinks shearLinks,
                              DesignParameters designParameters,
                              Section section,
-                             GraphicsContext graphicsContext,
+                             Renderer renderer,
                              Color colour,
                              double beamImageScale) {
 
@@ -127,23 +132,42 @@ public class BeamReinforcement extends Reinforcement {
         this.shearLinks = shearLinks;
         this.designParameters = designParameters;
         this.section = section;
-        this.graphicsContext = graphicsContext;
+        this.renderer = renderer;
         this.colour = colour;
         this.beamImageScale = beamImageScale;
     }
 
     /**
-     * Method is used to calculate a list of lists that stores areas of each reinforcement bar.
+     * Gets packed layout of top reinforcement. The layout is created on first use.
      *
-     * @param diameters list of reinforcement rows, each row is a list with bar diameters in mm
-     * @return List of reinforcement rows, each row is list that stores area (in mm2) of each bar in that row
+     * @return top reinforcement layout
+     */
+    private BarLayout getTopLayout() {
+        if (topLayout == null) {
+            topLayout = new BarLayout(topDiameters, topVerticalSpacings, getShearLinkDiameter());
+        }
+        return topLayout;
+    }
+
+    /**
+     * Gets packed layout of bottom reinforcement. The layout is created on first use.
+     *
+     * @return bottom reinforcement layout
      */
-    private List<List<Double>> getAreaOfReinforcementBars(List<List<Integer>> diameters) {
-        return diameters.stream()
-                .map(row -> row.stream()
-                        .map(diameter -> diameter * diameter * Math.PI * 0.25)
-                        .collect(Collectors.toList()))
-                .collect(Collectors.toList());
+    private BarLayout getBottomLayout() {
+        if (bottomLayout == null) {
+            bottomLayout = new BarLayout(bottomDiameters, bottomVerticalSpacings, getShearLinkDiameter());
+        }
+        return bottomLayout;
+    }
+
+    /**
+     * Gets shear link diameter. Returns 0 if shear links are not defined.
+     *
+     * @return shear link diameter in mm
+     */
+    private int getShearLinkDiameter() {
+        return (shearLinks != null) ? shearLinks.getDiameter() : 0;
     }
 
     /**
@@ -153,10 +177,7 @@ public class BeamReinforcement extends Reinforcement {
      */
     @Override
     public double getTotalAreaOfTopReinforcement() {
-        return getAreaOfReinforcementBars(topDiameters).stream()
-                .flatMap(Collection::stream)
-                .mapToDouble(Double::doubleValue)
-                .sum();
+        return getTopLayout().getTotalArea();
     }
 
     /**
@@ -166,140 +187,102 @@ public class BeamReinforcement extends Reinforcement {
      */
     @Override
     public double getTotalAreaOfBottomReinforcement() {
-        return getAreaOfReinforcementBars(bottomDiameters).stream()
-                .flatMap(Collection::stream)
-                .mapToDouble(Double::doubleValue)
-                .sum();
+        return getBottomLayout().getTotalArea();
     }
 
     /**
-     * Calculates distances from each bar to the beam edge - top/bottom.
-     * <p>
-     * First row bars are considered separately as their distance to the edge is: nominalCover + shearLinkDiameter + 0.5 * barDiameter.
-     * This is because first row bars are tied to shear links and don't lie on one horizontal centre line (unless they have the same diameters).
-     * <p>
-     * Subsequent rows are placed on one horizontal centre line and are separated from other rows by a clear vertical spacing.
-     * <p>
-     * The result is a list of lists, the outer list size corresponds to number of rows.
-     * The values of inner lists are distances from centre of a bar to the beam edge. For example a result of [[50, 40, 50], [125, 125, 125], [185, 185]] means that:
-     * - 1st row: 3 bars in total, 2 of them are 50 mm from the edge and one is 40 mm from the edge
-     * - 2nd row: 3 bars in total, all of them are 125 mm from the beam's edge
-     * - 3rd row: 2 bars in total, all of them are 185 mm from the beam's edge
+     * Calculates centroid of top reinforcement in mm.
      *
-     * @param diameters             list of reinforcement rows, each row is a list with bar diameters in mm
-     * @param clearVerticalSpacings clear vertical spacings between rows in mm
-     * @param nominalCover          nominal cover for given beam's edge in mm
-     * @return List of reinforcement rows, each row is list that stores distances from centre of each bar to the beam's edge
+     * @param nominalCoverTop nominal cover for the top face of the element in mm
+     * @return Centroid of top reinforcement in mm
      */
-    private List<List<Double>> getDistanceFromCentreOfEachBarToEdge(List<List<Integer>> diameters, List<Integer> clearVerticalSpacings, int nominalCover) {
-        List<List<Double>> distanceFromCentroidOfEachBarToEdge = new ArrayList<>();
-
-        // Distances for first row bars
-        List<Double> distanceForBarsInFirstRow = diameters.get(0).stream()
-                .map(diameter -> diameter * 0.5 + nominalCover + shearLinks.getDiameter())
-                .collect(Collectors.toList());
-
-        distanceFromCentroidOfEachBarToEdge.add(distanceForBarsInFirstRow);
-
-        // Distances for subsequent rows
-        double largestDistanceForFirstRow = Collections.max(distanceForBarsInFirstRow);
-
-        // Max diameters for each row
-        List<Integer> maxDiametersForEachRow = diameters.stream()
-                .map(Collections::max)
-                .collect(Collectors.toList());
-
-        // Converting clear spacings to vertical spacings
-        List<Double> verticalSpacings = IntStream
-                .range(0, clearVerticalSpacings.size())
-                .mapToObj(i -> clearVerticalSpacings.get(i) + 0.5 * maxDiametersForEachRow.get(i) + 0.5 * maxDiametersForEachRow.get(i + 1))
-                .collect(Collectors.toList());
-
-        // Calculating distances from centroid of each row to edge
-        List<Double> distancesForSubsequentRows = IntStream
-                .range(0, verticalSpacings.size())
-                .mapToObj(i -> largestDistanceForFirstRow + verticalSpacings.get(i) + verticalSpacings.stream().limit(i).reduce(0.0, Double::sum))
-                .collect(Collectors.toList());
-
-        // Starting from the second row
-        List<List<Double>> distanceForBarsInSubsequentRows = IntStream.range(1, diameters.size())
-                .mapToObj(i -> IntStream
-                        .range(0, diameters.get(i).size())
-                        .mapToObj(distance -> distancesForSubsequentRows.get(i - 1))
-                        .collect(Collectors.toList()))
-                .collect(Collectors.toList());
-
-        distanceFromCentroidOfEachBarToEdge.addAll(distanceForBarsInSubsequentRows);
-
-        return distanceFromCentroidOfEachBarToEdge;
+    @Override
+    public double getCentroidOfTopReinforcement(int nominalCoverTop) {
+        return getTopLayout().getCentroid(nominalCoverTop);
     }
 
     /**
-     * Method is used to calculate a list of lists that stores first moment of area for each reinforcement bar.
-     * First moment of areas are calculated against the closest beam edge.
+     * Calculates centroid of bottom reinforcement in mm.
      *
-     * @param areasOfReinforcementBars list of reinforcement rows, each row is a list that stores area of each bar in mm2
-     * @param diameters                list of reinforcement rows, each row is a list with bar diameters in mm
-     * @param clearVerticalSpacings    clear vertical spacings between rows in mm
-     * @param nominalCover             nominal cover for given beam's edge in mm
-     * @return List of reinforcement rows, each row is list that stores first moment of area (in mm3) of each bar in that row
+     * @param nominalCoverBottom nominal cover for the bottom face of the element in mm
+     * @return Centroid of bottom reinforcement in mm
      */
-    private List<List<Double>> getFirstMomentOfAreaForReinforcementBars(List<List<Double>> areasOfReinforcementBars, List<List<Integer>> diameters, List<Integer> clearVerticalSpacings, int nominalCover) {
-
-        List<List<Double>> distanceFromCentreOfEachBarToEdge = getDistanceFromCentreOfEachBarToEdge(diameters, clearVerticalSpacings, nominalCover);
+    @Override
+    public double getCentroidOfBottomReinforcement(int nominalCoverBottom) {
+        return getBottomLayout().getCentroid(nominalCoverBottom);
+    }
 
-        return IntStream
-                .range(0, distanceFromCentreOfEachBarToEdge.size())
-                .mapToObj(i -> IntStream
-                        .range(0, distanceFromCentreOfEachBarToEdge.get(i).size())
-                        .mapToObj(j -> distanceFromCentreOfEachBarToEdge.get(i).get(j) * areasOfReinforcementBars.get(i).get(j))
-                        .collect(Collectors.toList()))
-                .collect(Collectors.toList());
+    /**
+     * Gets areas of top reinforcement rows.
+     *
+     * @return areas of top rows in mm2
+     */
+    @Override
+    public double[] getAreasOfTopRows() {
+        return getAreasOfRows(getTopLayout());
     }
 
     /**
-     * Calculates centroid of top reinforcement in mm.
+     * Gets distances from centroid of each top reinforcement row to the top edge.
      *
      * @param nominalCoverTop nominal cover for the top face of the element in mm
-     * @return Centroid of top reinforcement in mm
+     * @return distances of top rows to the top edge in mm
      */
     @Override
-    public double getCentroidOfTopReinforcement(int nominalCoverTop) {
-        List<List<Double>> areaOfTopBars = getAreaOfReinforcementBars(topDiameters);
-        List<List<Double>> firstMomentOfAreaForTopBars = getFirstMomentOfAreaForReinforcementBars(areaOfTopBars, topDiameters, topVerticalSpacings, nominalCoverTop);
-
-        double sumOfAreas = getTotalAreaOfTopReinforcement();
-        double sumOfFirstMomentsOfArea = firstMomentOfAreaForTopBars.stream()
-                .flatMap(Collection::stream)
-                .mapToDouble(Double::doubleValue)
-                .sum();
+    public double[] getDistancesOfTopRowsToEdge(int nominalCoverTop) {
+        return getDistancesOfRowsToEdge(getTopLayout(), nominalCoverTop);
+    }
 
-        return sumOfFirstMomentsOfArea / sumOfAreas;
+    /**
+     * Gets areas of bottom reinforcement rows.
+     *
+     * @return areas of bottom rows in mm2
+     */
+    @Override
+    public double[] getAreasOfBottomRows() {
+        return getAreasOfRows(getBottomLayout());
     }
 
     /**
-     * Calculates centroid of bottom reinforcement in mm.
+     * Gets distances from centroid of each bottom reinforcement row to the bottom edge.
      *
      * @param nominalCoverBottom nominal cover for the bottom face of the element in mm
-     * @return Centroid of bottom reinforcement in mm
+     * @return distances of bottom rows to the bottom edge in mm
      */
     @Override
-    public double getCentroidOfBottomReinforcement(int nominalCoverBottom) {
-        List<List<Double>> areaOfBottomBars = getAreaOfReinforcementBars(bottomDiameters);
-        List<List<Double>> firstMomentOfAreaForBottomBars = getFirstMomentOfAreaForReinforcementBars(areaOfBottomBars, bottomDiameters, bottomVerticalSpacings, nominalCoverBottom);
+    public double[] getDistancesOfBottomRowsToEdge(int nominalCoverBottom) {
+        return getDistancesOfRowsToEdge(getBottomLayout(), nominalCoverBottom);
+    }
 
-        double sumOfAreas = getTotalAreaOfBottomReinforcement();
-        double sumOfFirstMomentsOfArea = firstMomentOfAreaForBottomBars.stream()
-                .flatMap(Collection::stream)
-                .mapToDouble(Double::doubleValue)
-                .sum();
+    /**
+     * Gets areas of all rows in a bar layout.
+     *
+     * @param layout bar layout for top or bottom face
+     * @return areas of rows in mm2
+     */
+    private static double[] getAreasOfRows(BarLayout layout) {
+        return IntStream.range(0, layout.getNumberOfRows())
+                .mapToDouble(layout::getRowArea)
+                .toArray();
+    }
 
-        return sumOfFirstMomentsOfArea / sumOfAreas;
+    /**
+     * Gets distances from centroid of each row in a bar layout to the beam edge.
+     *
+     * @param layout       bar layout for top or bottom face
+     * @param nominalCover nominal cover for given beam's edge in mm
+     * @return distances of rows to the edge in mm
+     */
+    private static double[] getDistancesOfRowsToEdge(BarLayout layout, int nominalCover) {
+        return IntStream.range(0, layout.getNumberOfRows())
+                .mapToDouble(row -> nominalCover + layout.getRowFirstMomentOfArea(row) / layout.getRowArea(row))
+                .toArray();
     }
 
     /**
      * Gets max horizontal spacing between reinforcement bars for tensile reinforcement.
      * This is measured between bar centres for the first bar row - closes to the beam edge.
+     * It uses design parameters and section the reinforcement was created with.
      *
      * @param SlsMoment SLS moment in kNm
      * @return max bar spacing for tensile reinforcement
@@ -310,7 +293,21 @@ public class BeamReinforcement extends Reinforcement {
             throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
         }
 
-        List<List<Integer>> diameters = (SlsMoment >= 0) ? bottomDiameters : topDiameters;
+        return getMaxBarSpacingForTensileReinforcement(SlsMoment, designParameters, section);
+    }
+
+    /**
+     * Gets max horizontal spacing between reinforcement bars for tensile reinforcement for given design parameters and section.
+     * This is measured between bar centres for the first bar row - closes to the beam edge.
+     * Allows for SLS calculations without creating a copy of the reinforcement with design parameters and section.
+     *
+     * @param SlsMoment        SLS moment in kNm
+     * @param designParameters DesignParameters object
+     * @param section          beam section
+     * @return max bar spacing for tensile reinforcement
+     */
+    public double getMaxBarSpacingForTensileReinforcement(double SlsMoment, DesignParameters designParameters, Section section) {
+        BarLayout layout = (SlsMoment >= 0) ? getBottomLayout() : getTopLayout();
 
         int nominalCover = designParameters.getNominalCoverSides();
         int shearLinkDiameter = shearLinks.getDiameter();
@@ -318,12 +315,10 @@ public class BeamReinforcement extends Reinforcement {
 
         double availableWidth = width - 2 * nominalCover - 2 * shearLinkDiameter;
 
-        List<Integer> firstRow = diameters.get(0);
-
-        int numberOfBars = firstRow.size();
+        int numberOfBars = layout.getNumberOfBars(0);
 
         // Spacings between bar centres
-        return (availableWidth - firstRow.get(0)) / (numberOfBars - 1);
+        return (availableWidth - layout.getDiameter(0, 0)) / (numberOfBars - 1);
     }
 
     /**
@@ -335,10 +330,9 @@ public class BeamReinforcement extends Reinforcement {
      */
     @Override
     public int getMaxBarDiameterForTensileReinforcement(double SlsMoment) {
-        List<List<Integer>> diameters = (SlsMoment >= 0) ? bottomDiameters : topDiameters;
-        List<Integer> firstRow = diameters.get(0);
+        BarLayout layout = (SlsMoment >= 0) ? getBottomLayout() : getTopLayout();
 
-        return Collections.max(firstRow);
+        return layout.getMaxDiameter(0);
     }
 
     /**
@@ -438,214 +432,212 @@ public class BeamReinforcement extends Reinforcement {
     /**
      * Draws reinforcement description for given beam face top or bottom.
      * Reinforcement description is placed to the right of the beam image and at similar level as reinforcement rows.
-     * It uses getDescriptionForReinforcementRows method to get distance from each bar to the edge.
+     * It uses bar layout to get distance from each bar to the edge.
      * It then calculates the average distance in scale for each row. Description labels are places at these distances.
      *
-     * @param diameters list of reinforcement rows, each row is a list with bar diameters in mm
-     * @param clearVerticalSpacings clear vertical spacings between rows in mm
-     * @param nominalCover nominal cover in mm
-     * @param font font that the description should be drawn with
+     * @param layout         bar layout for given beam face
+     * @param diameters      list of reinforcement rows, each row is a list with bar diameters in mm
+     * @param nominalCover   nominal cover in mm
      * @param beamRightEdgeX X coordinate of the right edge of the beam
-     * @param beamEdgeY Y coordinate of the edge top/bottom
-     * @param beamFace beam face top or bottom
+     * @param beamEdgeY      Y coordinate of the edge top/bottom
+     * @param beamFace       beam face top or bottom
      */
-    private void drawReinforcementDescriptionForReinforcementRows(List<List<Integer>> diameters, List<Integer> clearVerticalSpacings, int nominalCover, Font font, double beamRightEdgeX, double beamEdgeY, String beamFace) {
+    private void drawReinforcementDescriptionForReinforcementRows(BarLayout layout, List<List<Integer>> diameters, int nominalCover, double beamRightEdgeX, double beamEdgeY, String beamFace) {
         if (!beamFace.equals(Constants.BEAM_BOTTOM_FACE) && !beamFace.equals(Constants.BEAM_TOP_FACE)) {
             throw new IllegalArgumentException(UIText.INVALID_BEAM_FACE);
         }
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
         }
-        graphicsContext.beginPath();
+        renderer.beginPath();
 
         String description = getDescriptionForReinforcementRows(diameters, false);
 
-        List<String> descriptionList = Arrays.asList(description.replaceAll(",  ", ",").replaceAll(" ", "+").split(","));
-
-        List<List<Double>> distanceFromCentreToEdge = getDistanceFromCentreOfEachBarToEdge(diameters, clearVerticalSpacings, nominalCover);
+        String[] descriptionList = description.replaceAll(",  ", ",").replaceAll(" ", "+").split(",");
 
-        // Average distances from centre of each row to beam edge
-        List<Double> averageDistanceInScale = distanceFromCentreToEdge
-                .stream()
-                .map(row -> row
-                        .stream()
-                        .mapToDouble(x -> x * beamImageScale)
-                        .average()
-                        .orElse(0)
-                ).collect(Collectors.toList());
-
-        graphicsContext.setFont(font);
-        graphicsContext.setTextAlign(TextAlignment.LEFT);
+        renderer.setTextAlign(TextAlignment.LEFT);
 
         // Drawing description for each row of given beam face
-        IntStream.range(0, descriptionList.size()).forEach(i -> {
-            String rowDescription = descriptionList.get(i).substring(1); // Removing first character (space that was replaced to +)
-            double coordinateY = beamFace.equals(Constants.BEAM_TOP_FACE)
-                    ? beamEdgeY + averageDistanceInScale.get(i)
-                    : beamEdgeY - averageDistanceInScale.get(i);
-
-            graphicsContext.fillText(rowDescription, beamRightEdgeX + BeamReinforcement.DEFAULT_TEXT_OFFSET, coordinateY);
-        });
+        for (int i = 0; i < descriptionList.length; i++) {
+            // Average distance from centre of the row to beam edge
+            int numberOfBars = layout.getNumberOfBars(i);
+            double sumOfDistances = 0;
+            for (int j = 0; j < numberOfBars; j++) {
+                sumOfDistances += nominalCover + layout.getDistanceToCoverLine(i, j);
+            }
+            double averageDistanceInScale = sumOfDistances / numberOfBars * beamImageScale;
 
-        graphicsContext.closePath();
-    }
+            String rowDescription = descriptionList[i].substring(1); // Removing first character (space that was replaced to +)
+            double coordinateY = beamFace.equals(Constants.BEAM_TOP_FACE)
+                    ? beamEdgeY + averageDistanceInScale
+                    : beamEdgeY - averageDistanceInScale;
 
-    /**
-     * Draws reinforcement description for top and bottom face.
-     */
-    private void drawReinforcementDescription(double beamRightEdge, double beamTopEdgeY, double beamBottomEdgeY) {
-        if (!isSetupToBeDrawn()) {
-            throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
+            renderer.fillText(rowDescription, beamRightEdgeX + BeamReinforcement.DEFAULT_TEXT_OFFSET, coordinateY);
         }
 
-        Font font = new Font(Reinforcement.DEFAULT_TEXT_FONT, BeamReinforcement.DEFAULT_TEXT_SIZE);
-
-        drawReinforcementDescriptionForReinforcementRows(topDiameters, topVerticalSpacings, designParameters.getNominalCoverTop(), font, beamRightEdge, beamTopEdgeY, Constants.BEAM_TOP_FACE);
-        drawReinforcementDescriptionForReinforcementRows(bottomDiameters, bottomVerticalSpacings, designParameters.getNominalCoverBottom(), font, beamRightEdge, beamBottomEdgeY, Constants.BEAM_BOTTOM_FACE);
+        renderer.closePath();
     }
 
     /**
-     * Gets Y coordinates of top edge of each reinforcement bar. It uses getDistanceFromCentreOfEachBarToEdge method.
+     * Gets coordinates of top left edge of each reinforcement bar for given beam face.
+     * Bars are spread evenly across the width available between shear links, so X coordinate of a bar depends on
+     * the running sum of diameters of preceding bars in the row. Coordinates are calculated once into flat arrays,
+     * in the same order as bars in the bar layout.
      *
-     * @param diameters             list of reinforcement rows, each row is a list with bar diameters in mm
-     * @param clearVerticalSpacings clear vertical spacings between rows in mm
-     * @param beamEdgeY             beam edge top or bottom Y coordinate
-     * @param beamFace              beam face (top or bottom)
-     * @return Two dimensional list with Y coordinates
+     * @param layout        bar layout for given beam face
+     * @param realWidth     beam real width in mm
+     * @param beamLeftEdgeX beam left edge X coordinate
+     * @param beamEdgeY     beam edge top or bottom Y coordinate
+     * @param beamFace      beam face (top or bottom)
+     * @return two arrays - X coordinates and Y coordinates of bars
      */
-    private List<List<Double>> getYCoordinateForReinforcement(List<List<Integer>> diameters, List<Integer> clearVerticalSpacings, double beamEdgeY, String beamFace) {
-        List<List<Double>> distanceFromCentreToEdge;
+    private double[][] getCoordinatesForReinforcement(BarLayout layout, double realWidth, double beamLeftEdgeX, double beamEdgeY, String beamFace) {
+        int nominalCover;
         double distanceSign; // distances from bar centre to edge must be subtracted from beam edge coordinate if bottom face
 
-        // Calculating distance from centre of bar to edge
         switch (beamFace) {
             case Constants.BEAM_TOP_FACE:
-                distanceFromCentreToEdge = getDistanceFromCentreOfEachBarToEdge(diameters, clearVerticalSpacings, designParameters.getNominalCoverTop());
+                nominalCover = designParameters.getNominalCoverTop();
                 distanceSign = 1;
                 break;
             case Constants.BEAM_BOTTOM_FACE:
-                distanceFromCentreToEdge = getDistanceFromCentreOfEachBarToEdge(diameters, clearVerticalSpacings, designParameters.getNominalCoverBottom());
+                nominalCover = designParameters.getNominalCoverBottom();
                 distanceSign = -1;
                 break;
             default:
                 throw new IllegalArgumentException(UIText.INVALID_BEAM_FACE);
         }
 
-        return IntStream.range(0, diameters.size()).mapToObj(i -> {
-            List<Integer> diametersInRow = diameters.get(i);
-            List<Double> distancesToEdgeInRow = distanceFromCentreToEdge.get(i);
-
-            return IntStream.range(0, diameters.get(i).size()).mapToObj(j ->
-                    beamEdgeY + (distanceSign * distancesToEdgeInRow.get(j) - diametersInRow.get(j) * 0.5) * beamImageScale
-            ).collect(Collectors.toList());
-        }).collect(Collectors.toList());
-    }
-
-    /**
-     * Gets X coordinates of left edge of each reinforcement bar.
-     *
-     * @param diameters     list of reinforcement rows, each row is a list with bar diameters in mm
-     * @param realWidth     beam real width in mm
-     * @param beamLeftEdgeX beam left edge X coordinate
-     * @return Two dimensional list with X coordinates
-     */
-    private List<List<Double>> getXCoordinateForReinforcement(List<List<Integer>> diameters, double realWidth, double beamLeftEdgeX) {
-        List<List<Double>> reinforcementX;
-        int nominalCover = designParameters.getNominalCoverSides();
+        int nominalCoverSides = designParameters.getNominalCoverSides();
         int shearLinkDiameter = shearLinks.getDiameter();
 
         // Available width to accommodate main reinforcement
-        double availableWidth = realWidth - 2 * shearLinkDiameter - 2 * nominalCover;
+        double availableWidth = realWidth - 2 * shearLinkDiameter - 2 * nominalCoverSides;
 
-        reinforcementX = diameters
-                .stream()
-                .map(row -> {
-                    int numberOfBars = row.size();
-                    int totalSumOfDiameters = row.stream().reduce(Integer::sum).orElse(0);
+        int numberOfBars = 0;
+        for (int i = 0; i < layout.getNumberOfRows(); i++) {
+            numberOfBars += layout.getNumberOfBars(i);
+        }
+        double[] coordinatesX = new double[numberOfBars];
+        double[] coordinatesY = new double[numberOfBars];
 
-                    // clear spacing between main bars
-                    double clearSpacing = (availableWidth - totalSumOfDiameters) / (numberOfBars - 1);
+        int index = 0;
+        for (int i = 0; i < layout.getNumberOfRows(); i++) {
+            int numberOfBarsInRow = layout.getNumberOfBars(i);
 
-                    return IntStream.range(0, row.size()).mapToObj(i -> {
-                        int sumOfDiameters = row.stream().limit(i).reduce(Integer::sum).orElse(0);
-                        double sumOfSpacings = clearSpacing * i;
+            // clear spacing between main bars
+            double clearSpacing = (availableWidth - layout.getSumOfDiameters(i)) / (numberOfBarsInRow - 1);
 
-                        return beamLeftEdgeX + (nominalCover + shearLinkDiameter + sumOfSpacings + sumOfDiameters) * beamImageScale;
-                    }).collect(Collectors.toList());
-                }).collect(Collectors.toList());
+            int sumOfDiameters = 0;
+            for (int j = 0; j < numberOfBarsInRow; j++, index++) {
+                int diameter = layout.getDiameter(i, j);
+                double distanceToEdge = nominalCover + layout.getDistanceToCoverLine(i, j);
 
-        return reinforcementX;
+                coordinatesX[index] = beamLeftEdgeX + (nominalCoverSides + shearLinkDiameter + clearSpacing * j + sumOfDiameters) * beamImageScale;
+                coordinatesY[index] = beamEdgeY + (distanceSign * distanceToEdge - diameter * 0.5) * beamImageScale;
+                sumOfDiameters += diameter;
+            }
+        }
+
+        return new double[][]{coordinatesX, coordinatesY};
     }
 
     /**
      * Draws reinforcement rows for given beam face. It gets X and Y coordinates of top left edge of each reinforcement bar.
-     * It uses these coordinates to draw rebar using fillOval on graphics context.
+     * It uses these coordinates to draw rebar using fillOval with renderer.
      *
-     * @param realWidth             beam real width in mmm
-     * @param beamLeftEdgeX         beam left edge X coordinate
-     * @param beamEdgeY             beam edge top or bottom Y coordinate
-     * @param diameters             list of reinforcement rows, each row is a list with bar diameters in mm
-     * @param clearVerticalSpacings clear vertical spacings between rows in mm
-     * @param beamFace              beam face (top or bottom)
+     * @param layout        bar layout for given beam face
+     * @param realWidth     beam real width in mmm
+     * @param beamLeftEdgeX beam left edge X coordinate
+     * @param beamEdgeY     beam edge top or bottom Y coordinate
+     * @param beamFace      beam face (top or bottom)
      */
-    private void drawReinforcementRows(double realWidth, double beamLeftEdgeX, double beamEdgeY, List<List<Integer>> diameters, List<Integer> clearVerticalSpacings, String beamFace) {
+    private void drawReinforcementRows(BarLayout layout, double realWidth, double beamLeftEdgeX, double beamEdgeY, String beamFace) {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
         }
-        graphicsContext.beginPath();
+        renderer.beginPath();
 
         // Getting X and Y coordinates of top left edge of each reinforcement bar
-        List<List<Double>> coordinatesX = getXCoordinateForReinforcement(diameters, realWidth, beamLeftEdgeX);
-        List<List<Double>> coordinatesY = getYCoordinateForReinforcement(diameters, clearVerticalSpacings, beamEdgeY, beamFace);
-
-        IntStream.range(0, diameters.size())
-                .forEach(i -> {
-                    List<Double> rowX = coordinatesX.get(i);
-                    List<Double> rowY = coordinatesY.get(i);
-                    List<Integer> rowDiameters = diameters.get(i);
-
-                    // Drawing rebar
-                    IntStream.range(0, rowDiameters.size())
-                            .forEach(j -> graphicsContext.fillOval(rowX.get(j), rowY.get(j), rowDiameters.get(j) * beamImageScale, rowDiameters.get(j) * beamImageScale));
-                });
+        double[][] coordinates = getCoordinatesForReinforcement(layout, realWidth, beamLeftEdgeX, beamEdgeY, beamFace);
+        double[] coordinatesX = coordinates[0];
+        double[] coordinatesY = coordinates[1];
+
+        int index = 0;
+        for (int i = 0; i < layout.getNumberOfRows(); i++) {
+            for (int j = 0; j < layout.getNumberOfBars(i); j++, index++) {
+                // Drawing rebar
+                double diameterInScale = layout.getDiameter(i, j) * beamImageScale;
+                renderer.fillOval(coordinatesX[index], coordinatesY[index], diameterInScale, diameterInScale);
+            }
+        }
 
-        graphicsContext.closePath();
+        renderer.closePath();
     }
 
     /**
-     * Draws main beam reinforcement and main reinforcement description. It uses drawReinforcementRows method.
+     * Gets beam section in scale the reinforcement is drawn in.
+     *
+     * @return rectangular beam section
      */
-    @Override
-    public void draw() {
+    private Rectangle getRectangleToDraw() {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
         }
-        if (section instanceof Rectangle) {
+        if (!(section instanceof Rectangle)) {
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
+        }
+        return (Rectangle) section;
+    }
 
-            graphicsContext.beginPath();
-            graphicsContext.setFill(colour);
-            Rectangle rectangle = (Rectangle) section;
+    /**
+     * Draws main beam reinforcement bars. It uses drawReinforcementRows method.
+     */
+    public void drawBars() {
+        Rectangle rectangle = getRectangleToDraw();
 
-            double widthInScale = section.getWidth();
-            double realWidth = widthInScale / beamImageScale;
-            double beamLeftEdgeX = rectangle.getStartX();
-            double beamRightEdge = beamLeftEdgeX + section.getWidth();
-            double beamTopEdgeY = rectangle.getStartY();
-            double beamBottomEdgeY = beamTopEdgeY + rectangle.getDepth();
+        renderer.beginPath();
+        renderer.setFill(colour);
 
-            // Drawing main reinforcement
-            drawReinforcementRows(realWidth, beamLeftEdgeX, beamTopEdgeY, topDiameters, topVerticalSpacings, Constants.BEAM_TOP_FACE);
-            drawReinforcementRows(realWidth, beamLeftEdgeX, beamBottomEdgeY, bottomDiameters, bottomVerticalSpacings, Constants.BEAM_BOTTOM_FACE);
+        double realWidth = rectangle.getWidth() / beamImageScale;
+        double beamLeftEdgeX = rectangle.getStartX();
+        double beamTopEdgeY = rectangle.getStartY();
+        double beamBottomEdgeY = beamTopEdgeY + rectangle.getDepth();
 
-            // Drawing main reinforcement description
-            drawReinforcementDescription(beamRightEdge, beamTopEdgeY, beamBottomEdgeY);
+        drawReinforcementRows(getTopLayout(), realWidth, beamLeftEdgeX, beamTopEdgeY, Constants.BEAM_TOP_FACE);
+        drawReinforcementRows(getBottomLayout(), realWidth, beamLeftEdgeX, beamBottomEdgeY, Constants.BEAM_BOTTOM_FACE);
 
-            graphicsContext.closePath();
-        } else {
-            throw new IllegalArgumentException(UIText.INVALID_BEAM_GEOMETRY);
-        }
+        renderer.closePath();
     }
 
+    /**
+     * Draws main reinforcement description for top and bottom face.
+     */
+    public void drawDescription() {
+        Rectangle rectangle = getRectangleToDraw();
+
+        renderer.beginPath();
+        renderer.setFill(colour);
+        renderer.setFont(Reinforcement.DEFAULT_TEXT_FONT, BeamReinforcement.DEFAULT_TEXT_SIZE);
+
+        double beamRightEdgeX = rectangle.getStartX() + rectangle.getWidth();
+        double beamTopEdgeY = rectangle.getStartY();
+        double beamBottomEdgeY = beamTopEdgeY + rectangle.getDepth();
+
+        drawReinforcementDescriptionForReinforcementRows(getTopLayout(), topDiameters, designParameters.getNominalCoverTop(), beamRightEdgeX, beamTopEdgeY, Constants.BEAM_TOP_FACE);
+        drawReinforcementDescriptionForReinforcementRows(getBottomLayout(), bottomDiameters, designParameters.getNominalCoverBottom(), beamRightEdgeX, beamBottomEdgeY, Constants.BEAM_BOTTOM_FACE);
+
+        renderer.closePath();
+    }
+
+    /**
+     * Draws main beam reinforcement and main reinforcement description. It uses drawBars and drawDescription methods.
+     */
+    @Override
+    public void draw() {
+        drawBars();
+        drawDescription();
+    }
 
     /**
      * Checks if reinforcement can be drawn and all necessary fields are set up.
@@ -654,6 +646,6 @@ public class BeamReinforcement extends Reinforcement {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(designParameters == null || section == null || graphicsContext == null || colour == null || beamImageScale == 0);
+        return !(designParameters == null || section == null || renderer == null || colour == null || beamImageScale == 0);
     }
 }
@@ -0,0 +1,163 @@
+package com.radsoltan.model.reinforcement;
+
+import java.util.List;
+
+/**
+ * Packed representation of slab reinforcement layers for one slab face - top or bottom.
+ * Layer properties are stored in primitive arrays. Distances of layers to the nominal cover line are calculated once on creation
+ * as running sums of layer diameters and clear vertical spacings, so that areas and centroids can be obtained without any allocations.
+ * <p>
+ * First moments of area are calculated against the line of nominal cover, as position of each layer relative to that line does not depend on the cover.
+ * Centroid measured from the slab edge is then: nominalCover + firstMomentOfArea / area.
+ */
+final class LayerLayout {
+    private final int[] diameters;
+    private final int[] additionalDiameters;
+    private final int[] spacings;
+    private final int[] maxDiameters;
+    private final double[] layerAreas;
+    private final double[] layerCentreLines;
+    private final double totalArea;
+    private final double totalFirstMomentOfArea;
+
+    /**
+     * Constructor. Packs reinforcement layers and calculates area and distance to the nominal cover line for each layer.
+     * Each layer is placed directly below the previous one, separated by clear vertical spacing. Largest bar in a layer determines its thickness.
+     *
+     * @param diameters           main bar diameters in subsequent layers
+     * @param additionalDiameters additional bar diameters in subsequent layers
+     * @param spacings            bar spacings in subsequent layers
+     * @param verticalSpacings    clear spacings between layers
+     */
+    LayerLayout(List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> spacings, List<Integer> verticalSpacings) {
+        int numberOfLayers = diameters.size();
+        this.diameters = new int[numberOfLayers];
+        this.additionalDiameters = new int[numberOfLayers];
+        this.spacings = new int[numberOfLayers];
+        this.maxDiameters = new int[numberOfLayers];
+        this.layerAreas = new double[numberOfLayers];
+        this.layerCentreLines = new double[numberOfLayers];
+
+        double area = 0;
+        double firstMomentOfArea = 0;
+        // Distance from the cover line to the top of the current layer
+        double layerEdge = 0;
+        for (int i = 0; i < numberOfLayers; i++) {
+            int diameter = diameters.get(i);
+            int additionalDiameter = additionalDiameters.get(i);
+            int spacing = spacings.get(i);
+            this.diameters[i] = diameter;
+            this.additionalDiameters[i] = additionalDiameter;
+            this.spacings[i] = spacing;
+            maxDiameters[i] = Math.max(diameter, additionalDiameter);
+
+            if (i > 0) {
+                layerEdge += maxDiameters[i - 1] + verticalSpacings.get(i - 1);
+            }
+            layerCentreLines[i] = layerEdge + 0.5 * maxDiameters[i];
+            layerAreas[i] = 0.25 * Math.PI * (diameter * diameter + additionalDiameter * additionalDiameter) * 1000 / spacing;
+
+            area += layerAreas[i];
+            firstMomentOfArea += layerAreas[i] * layerCentreLines[i];
+        }
+        this.totalArea = area;
+        this.totalFirstMomentOfArea = firstMomentOfArea;
+    }
+
+    /**
+     * Calculates centroid of reinforcement measured from the slab edge.
+     *
+     * @param nominalCover nominal cover for given slab face in mm
+     * @return centroid of reinforcement in mm
+     */
+    double getCentroid(int nominalCover) {
+        return nominalCover + totalFirstMomentOfArea / totalArea;
+    }
+
+    /**
+     * Gets number of reinforcement layers.
+     *
+     * @return number of layers
+     */
+    int getNumberOfLayers() {
+        return layerAreas.length;
+    }
+
+    /**
+     * Gets main bar diameter in a layer.
+     *
+     * @param layer layer index, 0 is the layer closest to the edge
+     * @return bar diameter in mm
+     */
+    int getDiameter(int layer) {
+        return diameters[layer];
+    }
+
+    /**
+     * Gets additional bar diameter in a layer.
+     *
+     * @param layer layer index, 0 is the layer closest to the edge
+     * @return additional bar diameter in mm, 0 if there are no additional bars
+     */
+    int getAdditionalDiameter(int layer) {
+        return additionalDiameters[layer];
+    }
+
+    /**
+     * Gets bar spacing in a layer.
+     *
+     * @param layer layer index, 0 is the layer closest to the edge
+     * @return spacing between bar centres in mm
+     */
+    int getSpacing(int layer) {
+        return spacings[layer];
+    }
+
+    /**
+     * Gets the largest bar diameter in a layer.
+     *
+     * @param layer layer index, 0 is the layer closest to the edge
+     * @return max bar diameter in mm
+     */
+    int getMaxDiameter(int layer) {
+        return maxDiameters[layer];
+    }
+
+    /**
+     * Gets area of a layer per 1 m of the slab.
+     *
+     * @param layer layer index, 0 is the layer closest to the edge
+     * @return layer area in mm2/m
+     */
+    double getLayerArea(int layer) {
+        return layerAreas[layer];
+    }
+
+    /**
+     * Gets distance from centre of a layer to the nominal cover line.
+     *
+     * @param layer layer index, 0 is the layer closest to the edge
+     * @return distance in mm
+     */
+    double getDistanceToCoverLine(int layer) {
+        return layerCentreLines[layer];
+    }
+
+    /**
+     * Getter for total area of reinforcement per 1 m of the slab.
+     *
+     * @return total area in mm2/m
+     */
+    double getTotalArea() {
+        return totalArea;
+    }
+
+    /**
+     * Getter for total first moment of area, calculated against the nominal cover line.
+     *
+     * @return first moment of area in mm3/m
+     */
+    double getTotalFirstMomentOfArea() {
+        return totalFirstMomentOfArea;
+    }
+}
@@ -44,6 +44,36 @@ public abstract class Reinforcement implements Drawable, Serializable {
      */
     public abstract double getCentroidOfBottomReinforcement(int nominalCoverBottom);
 
+    /**
+     * Gets areas of top reinforcement rows or layers, starting from the one closest to the top edge.
+     *
+     * @return areas of top rows in mm2 or mm2/m
+     */
+    public abstract double[] getAreasOfTopRows();
+
+    /**
+     * Gets distances from centroid of each top reinforcement row or layer to the top edge.
+     *
+     * @param nominalCoverTop nominal cover for the top face of the element in mm
+     * @return distances of top rows to the top edge in mm
+     */
+    public abstract double[] getDistancesOfTopRowsToEdge(int nominalCoverTop);
+
+    /**
+     * Gets areas of bottom reinforcement rows or layers, starting from the one closest to the bottom edge.
+     *
+     * @return areas of bottom rows in mm2 or mm2/m
+     */
+    public abstract double[] getAreasOfBottomRows();
+
+    /**
+     * Gets distances from centroid of each bottom reinforcement row or layer to the bottom edge.
+     *
+     * @param nominalCoverBottom nominal cover for the bottom face of the element in mm
+     * @return distances of bottom rows to the bottom edge in mm
+     */
+    public abstract double[] getDistancesOfBottomRowsToEdge(int nominalCoverBottom);
+
     /**
      * Gets max horizontal spacing between reinforcement bars for tensile reinforcement. This is measured between bar centres.
      *
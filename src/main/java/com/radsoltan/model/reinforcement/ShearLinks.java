@@ -1,13 +1,12 @@
 package com.radsoltan.model.reinforcement;
 
 import com.radsoltan.constants.UIText;
+import com.radsoltan.drawing.Renderer;
 import com.radsoltan.model.DesignParameters;
 import com.radsoltan.model.geometry.Drawable;
 import com.radsoltan.model.geometry.Rectangle;
 import com.radsoltan.model.geometry.Section;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 import java.io.Serializable;
@@ -23,7 +22,7 @@ public class ShearLinks implements Drawable, Serializable {
     private final int legs;
     private final DesignParameters designParameters;
     private final Section section;
-    private final GraphicsContext graphicsContext;
+    private final Renderer renderer;
     private final Color colour;
     private final double beamImageScale;
     // Constants used in drawing shear links
@@ -47,7 +46,7 @@ public class ShearLinks implements Drawable, Serializable {
 
     /**
      * Constructor. Used in structural calculations.
-     * In addition, it takes arguments that allow for drawing shear links on graphics context.
+     * In addition, it takes arguments that allow for drawing shear links with renderer.
      *
      * @param fyw              field strength in MPa
      * @param diameter         shear links diameter in mm
@@ -55,7 +54,7 @@ public class ShearLinks implements Drawable, Serializable {
      * @param legs             number of legs
      * @param designParameters DesignParameters object
      * @param section          beam section in scale that is to be drawn
-     * @param graphicsContext  graphics context to draw beam on
+     * @param renderer         renderer to draw beam with
      * @param colour           colour to draw the reinforcement with
      * @param beamImageScale   beam image scale that section is drawn with
      */
@@ -65,7 +64,7 @@ public class ShearLinks implements Drawable, Serializable {
                       int legs,
                       DesignParameters designParameters,
                       Section section,
-                      GraphicsContext graphicsContext,
+                      Renderer renderer,
                       Color colour,
                       double beamImageScale) {
         this.fyw = fyw;
@@ -74,7 +73,7 @@ public class ShearLinks implements Drawable, Serializable {
         this.legs = legs;
         this.designParameters = designParameters;
         this.section = section;
-        this.graphicsContext = graphicsContext;
+        this.renderer = renderer;
         this.colour = colour;
         this.beamImageScale = beamImageScale;
     }
@@ -143,18 +142,16 @@ public class ShearLinks implements Drawable, Serializable {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
         }
-        graphicsContext.beginPath();
+        renderer.beginPath();
 
         String description = getShearLinksDescription(false);
 
-        Font font = new Font(ShearLinks.DEFAULT_TEXT_FONT, ShearLinks.DEFAULT_TEXT_SIZE);
+        renderer.setFont(ShearLinks.DEFAULT_TEXT_FONT, ShearLinks.DEFAULT_TEXT_SIZE);
+        renderer.setTextAlign(TextAlignment.LEFT);
 
-        graphicsContext.setFont(font);
-        graphicsContext.setTextAlign(TextAlignment.LEFT);
+        renderer.fillText(description, beamRightEdgeX + ShearLinks.DEFAULT_TEXT_OFFSET, 0.5 * (beamTopEdgeY + beamBottomEdgeY));
 
-        graphicsContext.fillText(description, beamRightEdgeX + ShearLinks.DEFAULT_TEXT_OFFSET, 0.5 * (beamTopEdgeY + beamBottomEdgeY));
-
-        graphicsContext.closePath();
+        renderer.closePath();
     }
 
     /**
@@ -162,13 +159,37 @@ public class ShearLinks implements Drawable, Serializable {
      */
     @Override
     public void draw() {
+        drawLinks();
+        drawDescription();
+    }
+
+    /**
+     * Draws shear links description to the right of the beam image.
+     */
+    public void drawDescription() {
+        if (!isSetupToBeDrawn()) {
+            throw new IllegalArgumentException(UIText.INVALID_SHEAR_LINKS);
+        }
+        if (section instanceof Rectangle) {
+            Rectangle rectangle = (Rectangle) section;
+            double beamTopEdgeY = rectangle.getStartY();
+
+            renderer.setFill(colour);
+            drawShearLinksDescription(rectangle.getStartX() + rectangle.getWidth(), beamTopEdgeY, beamTopEdgeY + rectangle.getDepth());
+        }
+    }
+
+    /**
+     * Draws shear links.
+     */
+    public void drawLinks() {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_SHEAR_LINKS);
         }
         if (section instanceof Rectangle) {
-            graphicsContext.beginPath();
-            graphicsContext.setStroke(colour);
-            graphicsContext.setLineWidth(diameter * beamImageScale);
+            renderer.beginPath();
+            renderer.setStroke(colour);
+            renderer.setLineWidth(diameter * beamImageScale);
 
             Rectangle rectangle = (Rectangle) section;
 
@@ -183,16 +204,16 @@ public class ShearLinks implements Drawable, Serializable {
             double archRadius = 1.5 * diameterInScale;
 
             // Top line
-            graphicsContext.moveTo(
+            renderer.moveTo(
                     beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale + archRadius,
                     beamTopEdgeY + nominalCoverTopScaled + 0.5 * diameterInScale
             );
-            graphicsContext.lineTo(
+            renderer.lineTo(
                     beamRightEdgeX - nominalCoverSidesScaled - 0.5 * diameterInScale - archRadius,
                     beamTopEdgeY + nominalCoverTopScaled + 0.5 * diameterInScale
             );
             // Top right arch
-            graphicsContext.arc(
+            renderer.arc(
                     beamRightEdgeX - nominalCoverSidesScaled - 0.5 * diameterInScale - archRadius,
                     beamTopEdgeY + nominalCoverTopScaled + 0.5 * diameterInScale + archRadius,
                     archRadius,
@@ -201,9 +222,9 @@ public class ShearLinks implements Drawable, Serializable {
                     -90
             );
             // Right edge
-            graphicsContext.lineTo(beamRightEdgeX - nominalCoverSidesScaled - 0.5 * diameterInScale, beamBottomEdgeY - nominalCoverBottomScaled - 0.5 * diameterInScale - archRadius);
+            renderer.lineTo(beamRightEdgeX - nominalCoverSidesScaled - 0.5 * diameterInScale, beamBottomEdgeY - nominalCoverBottomScaled - 0.5 * diameterInScale - archRadius);
             // Bottom right arch
-            graphicsContext.arc(
+            renderer.arc(
                     beamRightEdgeX - nominalCoverSidesScaled - 0.5 * diameterInScale - archRadius,
                     beamBottomEdgeY - nominalCoverBottomScaled - 0.5 * diameterInScale - archRadius,
                     archRadius,
@@ -212,9 +233,9 @@ public class ShearLinks implements Drawable, Serializable {
                     -90
             );
             // Bottom edge
-            graphicsContext.lineTo(beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale + archRadius, beamBottomEdgeY - nominalCoverBottomScaled - 0.5 * diameterInScale);
+            renderer.lineTo(beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale + archRadius, beamBottomEdgeY - nominalCoverBottomScaled - 0.5 * diameterInScale);
             // Bottom left arch
-            graphicsContext.arc(
+            renderer.arc(
                     beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale + archRadius,
                     beamBottomEdgeY - nominalCoverBottomScaled - 0.5 * diameterInScale - archRadius,
                     archRadius,
@@ -223,9 +244,9 @@ public class ShearLinks implements Drawable, Serializable {
                     -90
             );
             // Left edge
-            graphicsContext.lineTo(beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale, beamTopEdgeY + nominalCoverTopScaled + 0.5 * diameterInScale + archRadius);
+            renderer.lineTo(beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale, beamTopEdgeY + nominalCoverTopScaled + 0.5 * diameterInScale + archRadius);
             // Top left arch
-            graphicsContext.arc(
+            renderer.arc(
                     beamLeftEdgeX + nominalCoverSidesScaled + 0.5 * diameterInScale + archRadius,
                     beamTopEdgeY + nominalCoverTopScaled + 0.5 * diameterInScale + archRadius,
                     archRadius,
@@ -233,12 +254,9 @@ public class ShearLinks implements Drawable, Serializable {
                     180,
                     -90
             );
-            graphicsContext.stroke();
-
-            // Drawing shear links description
-            drawShearLinksDescription(beamRightEdgeX, beamTopEdgeY, beamBottomEdgeY);
+            renderer.stroke();
 
-            graphicsContext.closePath();
+            renderer.closePath();
         }
     }
 
@@ -249,6 +267,6 @@ public class ShearLinks implements Drawable, Serializable {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(designParameters == null || section == null || graphicsContext == null || colour == null || beamImageScale == 0);
+        return !(designParameters == null || section == null || renderer == null || colour == null || beamImageScale == 0);
     }
 }
@@ -2,21 +2,19 @@ package com.radsoltan.model.reinforcement;
 
 import com.radsoltan.constants.Constants;
 import com.radsoltan.constants.UIText;
+import com.radsoltan.drawing.Renderer;
 import com.radsoltan.model.DesignParameters;
 import com.radsoltan.model.geometry.SlabStrip;
 import javafx.geometry.VPos;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * Model for slab reinforcement. It is used to create an object that describes slab reinforcement that can be used in structural calculations.
- * In addition, allows for drawing slab reinforcement on graphics context.
+ * In addition, allows for drawing slab reinforcement with renderer.
  */
 public class SlabReinforcement extends Reinforcement {
 
@@ -32,13 +30,19 @@ public class SlabReinforcement extends Reinforcement {
     // Fields required to draw slab reinforcement
     private final DesignParameters designParameters;
     private final SlabStrip slabStrip;
-    private final GraphicsContext graphicsContext;
+    private final Renderer renderer;
     private final Color colour;
     private final double slabImageScale;
+    // Packed layouts used in calculations, created on first use
+    private transient LayerLayout topLayout;
+    private transient LayerLayout bottomLayout;
     // Constants used in drawing slab reinforcement
     public static final int DEFAULT_TEXT_SIZE = 10;
     public static final int DEFAULT_TEXT_OFFSET = 5;
 
+    // Value generated for the original class to keep project files compatible
+    private static final long serialVersionUID = 1629368882363317450L;
+
 
     /**
      * Basic constructor. Used in structural calculations.
@@ -79,7 +83,7 @@ public class SlabReinforcement extends Reinforcement {
 
     /**
      * Constructor. Includes all information required for structural calculations.
-     * In addition, it takes arguments that allow for drawing the slab reinforcement on graphics context.
+     * In addition, it takes arguments that allow for drawing the slab reinforcement with renderer.
      *
      * @param topDiameters              main top bar diameters in subsequent layers
      * @param additionalTopDiameters    additional top bar diameters placed between main bars in subsequent layers
@@ -91,7 +95,7 @@ public class SlabReinforcement extends Reinforcement {
      * @param bottomVerticalSpacings    clear spacings between bottom layers
      * @param designParameters          DesignParameters object
      * @param slabStrip                 SlabStrip object - created using constructor that allows for drawing the slab strip
-     * @param graphicsContext           graphics context to draw slab on
+     * @param renderer                  renderer to draw slab with
      * @param colour                    colour to draw the reinforcement with
      * @param slabImageScale            slab image scale that slabStrip is drawn with
      */
@@ -105,7 +109,7 @@ public class SlabReinforcement extends Reinforcement {
                              List<Integer> bottomVerticalSpacings,
                              DesignParameters designParameters,
                              SlabStrip slabStrip,
-                             GraphicsContext graphicsContext,
+                             Renderer renderer,
                              Color colour,
                              double slabImageScale
     ) {
@@ -119,7 +123,7 @@ public class SlabReinforcement extends Reinforcement {
         this.bottomVerticalSpacings = bottomVerticalSpacings;
         this.designParameters = designParameters;
         this.slabStrip = slabStrip;
-        this.graphicsContext = graphicsContext;
+        this.renderer = renderer;
         this.colour = colour;
         this.slabImageScale = slabImageScale;
     }
@@ -206,135 +210,140 @@ public class SlabReinforcement extends Reinforcement {
     }
 
     /**
-     * It creates a list for given slab face that contains area of each reinforcement layer.
-     * This is the area per 1 m of the slab.
+     * Gets packed layout of top reinforcement. The layout is created on first use.
      *
-     * @param diameters           main bar diameters in subsequent layers
-     * @param additionalDiameters additional bar diameters in subsequent layers
-     * @param spacings            bar spacings in subsequent layers
-     * @return list of areas of reinforcement layers
+     * @return top reinforcement layout
      */
-    private List<Double> getAreaOfReinforcementLayers(List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> spacings) {
-
-        return IntStream.range(0, diameters.size())
-                .mapToObj(i -> 0.25 * Math.PI * (diameters.get(i) * diameters.get(i) + additionalDiameters.get(i) * additionalDiameters.get(i)) * 1000 / spacings.get(i))
-                .collect(Collectors.toList());
+    private LayerLayout getTopLayout() {
+        if (topLayout == null) {
+            topLayout = new LayerLayout(topDiameters, additionalTopDiameters, topSpacings, topVerticalSpacings);
+        }
+        return topLayout;
     }
 
     /**
-     * It creates a list of max diameters in each reinforcement layer for given slab face.
+     * Gets packed layout of bottom reinforcement. The layout is created on first use.
      *
-     * @param diameters           main bar diameters in subsequent layers
-     * @param additionalDiameters additional bar diameters in subsequent layers
-     * @return list of max diameters in each reinforcement layer
+     * @return bottom reinforcement layout
      */
-    private List<Integer> getMaxDiametersForEachLayer(List<Integer> diameters, List<Integer> additionalDiameters) {
-        return IntStream
-                .range(0, diameters.size())
-                .mapToObj(i -> Math.max(diameters.get(i), additionalDiameters.get(i)))
-                .collect(Collectors.toList());
+    private LayerLayout getBottomLayout() {
+        if (bottomLayout == null) {
+            bottomLayout = new LayerLayout(bottomDiameters, additionalBottomDiameters, bottomSpacings, bottomVerticalSpacings);
+        }
+        return bottomLayout;
     }
 
     /**
-     * It creates a list for given slab face that contains distances from center of each layer to the edge.
+     * Gets total area of top reinforcement per 1 m of the slab.
      *
-     * @param diameters           main bar diameters in subsequent layers
-     * @param additionalDiameters additional bar diameters in subsequent layers
-     * @param verticalSpacings    clear spacings between layers
-     * @param nominalCover        nominal cover in mm
-     * @return list of distances of each layer to the edge
+     * @return total area of top reinforcement
      */
-    private List<Double> getDistanceFromCentreOfEachLayerToEdge(List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> verticalSpacings, int nominalCover) {
-
-        List<Integer> maxDiameters = getMaxDiametersForEachLayer(diameters, additionalDiameters);
+    @Override
+    public double getTotalAreaOfTopReinforcement() {
+        return getTopLayout().getTotalArea();
+    }
 
-        return IntStream
-                .range(0, maxDiameters.size())
-                .mapToObj(i -> nominalCover + 0.5 * maxDiameters.get(i)
-                        + verticalSpacings.stream().limit(i).reduce(0, Integer::sum)
-                        + maxDiameters.stream().limit(i).reduce(0, Integer::sum))
-                .collect(Collectors.toList());
+    /**
+     * Calculates centroid of the top reinforcement relative to the top edge.
+     *
+     * @param nominalCoverTop nominal cover for the top face of the element in mm
+     * @return centroid of the top reinforcement
+     */
+    @Override
+    public double getCentroidOfTopReinforcement(int nominalCoverTop) {
+        return getTopLayout().getCentroid(nominalCoverTop);
     }
 
     /**
-     * It creates a list for given slab face that contains first moment of area for each layer in relation to the edge.
+     * Gets total area of bottom reinforcement per 1 m of the slab.
      *
-     * @param areaOfReinforcementLayers areas per 1 m of the slab of subsequent reinforcement layers
-     * @param diameters                 main bar diameters in subsequent layers
-     * @param additionalDiameters       additional bar diameters in subsequent layers
-     * @param verticalSpacings          clear spacings between layers
-     * @param nominalCover              nominal cover in mm
-     * @return list of first moment of area for each layer
+     * @return total area of bottom reinforcement
      */
-    private List<Double> getFirstMomentOfAreaReinforcementLayers(List<Double> areaOfReinforcementLayers, List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> verticalSpacings, int nominalCover) {
-        List<Double> distanceFromEachLayerToEdge = getDistanceFromCentreOfEachLayerToEdge(diameters, additionalDiameters, verticalSpacings, nominalCover);
+    @Override
+    public double getTotalAreaOfBottomReinforcement() {
+        return getBottomLayout().getTotalArea();
+    }
 
-        return IntStream
-                .range(0, distanceFromEachLayerToEdge.size())
-                .mapToObj(i -> areaOfReinforcementLayers.get(i) * distanceFromEachLayerToEdge.get(i))
-                .collect(Collectors.toList());
+    /**
+     * Calculates centroid of the bottom reinforcement relative to the top edge.
+     *
+     * @param nominalCoverBottom nominal cover fore the bottom face of the element in mm
+     * @return centroid of the bottom reinforcement
+     */
+    @Override
+    public double getCentroidOfBottomReinforcement(int nominalCoverBottom) {
+        return getBottomLayout().getCentroid(nominalCoverBottom);
     }
 
     /**
-     * Calculates total area of top reinforcement. Invokes getAreaOfReinforcementLayers method.
+     * Gets areas of top reinforcement layers per 1 m of the slab.
      *
-     * @return total area of top reinforcement
+     * @return areas of top layers in mm2/m
      */
     @Override
-    public double getTotalAreaOfTopReinforcement() {
-        return getAreaOfReinforcementLayers(topDiameters, additionalTopDiameters, topSpacings).stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+    public double[] getAreasOfTopRows() {
+        return getAreasOfLayers(getTopLayout());
     }
 
     /**
-     * Calculates centroid of the top reinforcement relative to the top edge.
+     * Gets distances from centre of each top reinforcement layer to the top edge.
      *
      * @param nominalCoverTop nominal cover for the top face of the element in mm
-     * @return centroid of the top reinforcement
+     * @return distances of top layers to the top edge in mm
      */
     @Override
-    public double getCentroidOfTopReinforcement(int nominalCoverTop) {
-        List<Double> areaOfTopLayers = getAreaOfReinforcementLayers(topDiameters, additionalTopDiameters, topSpacings);
-        List<Double> firstMomentOfAreaOfTopLayers = getFirstMomentOfAreaReinforcementLayers(areaOfTopLayers, topDiameters, additionalTopDiameters, topVerticalSpacings, nominalCoverTop);
-
-        double sumOfAreas = getTotalAreaOfTopReinforcement();
-        double sumOfFirstMomentsOfArea = firstMomentOfAreaOfTopLayers.stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
-
-        return sumOfFirstMomentsOfArea / sumOfAreas;
+    public double[] getDistancesOfTopRowsToEdge(int nominalCoverTop) {
+        return getDistancesOfLayersToEdge(getTopLayout(), nominalCoverTop);
     }
 
     /**
-     * Calculates total area of bottom reinforcement. Invokes getAreaOfReinforcementLayers method.
+     * Gets areas of bottom reinforcement layers per 1 m of the slab.
      *
-     * @return total area of bottom reinforcement
+     * @return areas of bottom layers in mm2/m
      */
     @Override
-    public double getTotalAreaOfBottomReinforcement() {
-        return getAreaOfReinforcementLayers(bottomDiameters, additionalBottomDiameters, bottomSpacings).stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+    public double[] getAreasOfBottomRows() {
+        return getAreasOfLayers(getBottomLayout());
     }
 
     /**
-     * Calculates centroid of the bottom reinforcement relative to the top edge.
+     * Gets distances from centre of each bottom reinforcement layer to the bottom edge.
      *
-     * @param nominalCoverBottom nominal cover fore the bottom face of the element in mm
-     * @return centroid of the bottom reinforcement
+     * @param nominalCoverBottom nominal cover for the bottom face of the element in mm
+     * @return distances of bottom layers to the bottom edge in mm
      */
     @Override
-    public double getCentroidOfBottomReinforcement(int nominalCoverBottom) {
-        List<Double> areaOfBottomLayers = getAreaOfReinforcementLayers(bottomDiameters, additionalBottomDiameters, bottomSpacings);
-        List<Double> firstMomentOfAreaOfBottomLayers = getFirstMomentOfAreaReinforcementLayers(areaOfBottomLayers, bottomDiameters, additionalBottomDiameters, bottomVerticalSpacings, nominalCoverBottom);
+    public double[] getDistancesOfBottomRowsToEdge(int nominalCoverBottom) {
+        return getDistancesOfLayersToEdge(getBottomLayout(), nominalCoverBottom);
+    }
 
-        double sumOfAreas = getTotalAreaOfBottomReinforcement();
-        double sumOfFirstMomentsOfArea = firstMomentOfAreaOfBottomLayers.stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+    /**
+     * Gets areas of all layers in a layer layout.
+     *
+     * @param layout layer layout for top or bottom face
+     * @return areas of layers in mm2/m
+     */
+    private static double[] getAreasOfLayers(LayerLayout layout) {
+        double[] areas = new double[layout.getNumberOfLayers()];
+        for (int i = 0; i < areas.length; i++) {
+            areas[i] = layout.getLayerArea(i);
+        }
+        return areas;
+    }
 
-        return sumOfFirstMomentsOfArea / sumOfAreas;
+    /**
+     * Gets distances from centre of each layer in a layer layout to the slab edge.
+     *
+     * @param layout       layer layout for top or bottom face
+     * @param nominalCover nominal cover for given slab face in mm
+     * @return distances of layers to the edge in mm
+     */
+    private static double[] getDistancesOfLayersToEdge(LayerLayout layout, int nominalCover) {
+        double[] distances = new double[layout.getNumberOfLayers()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = nominalCover + layout.getDistanceToCoverLine(i);
+        }
+        return distances;
     }
 
     /**
@@ -346,13 +355,12 @@ public class SlabReinforcement extends Reinforcement {
      */
     @Override
     public double getMaxBarSpacingForTensileReinforcement(double SlsMoment) {
-        List<Integer> spacings = SlsMoment >= 0 ? bottomSpacings : topSpacings;
-        List<Integer> additionalReinforcement = SlsMoment >= 0 ? additionalBottomDiameters : additionalTopDiameters;
-        if (additionalReinforcement.get(0) == 0) {
+        LayerLayout layout = (SlsMoment >= 0) ? getBottomLayout() : getTopLayout();
+        if (layout.getAdditionalDiameter(0) == 0) {
             // No additional reinforcement
-            return spacings.get(0);
+            return layout.getSpacing(0);
         } else {
-            return 0.5 * spacings.get(0);
+            return 0.5 * layout.getSpacing(0);
         }
     }
 
@@ -365,10 +373,9 @@ public class SlabReinforcement extends Reinforcement {
      */
     @Override
     public int getMaxBarDiameterForTensileReinforcement(double SlsMoment) {
-        List<Integer> mainReinforcement = SlsMoment >= 0 ? bottomDiameters : topDiameters;
-        List<Integer> additionalReinforcement = SlsMoment >= 0 ? additionalBottomDiameters : additionalTopDiameters;
+        LayerLayout layout = (SlsMoment >= 0) ? getBottomLayout() : getTopLayout();
 
-        return Math.max(mainReinforcement.get(0), additionalReinforcement.get(0));
+        return layout.getMaxDiameter(0);
     }
 
     /**
@@ -411,35 +418,21 @@ public class SlabReinforcement extends Reinforcement {
     }
 
     /**
-     * It creates a list that contains distances from top of each top reinforcement layer to the top edge.
-     *
-     * @param nominalCoverTop nominal cover for the top face of the element in mm
-     * @return list of distances from top of each top reinforcement layer to the top edge
-     */
-    private List<Double> getDistanceFromTopOfTopLayersToTopEdge(int nominalCoverTop) {
-        List<Double> distanceFromCentreOfEachLayer = getDistanceFromCentreOfEachLayerToEdge(topDiameters, additionalTopDiameters, topVerticalSpacings, nominalCoverTop);
-        List<Integer> maxDiameters = getMaxDiametersForEachLayer(topDiameters, additionalTopDiameters);
-
-        return IntStream
-                .range(0, distanceFromCentreOfEachLayer.size())
-                .mapToObj(i -> distanceFromCentreOfEachLayer.get(i) - 0.5 * maxDiameters.get(i))
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * It creates a list that contains distances from top of each bottom reinforcement layer to the bottom edge.
+     * Gets distances from top of each reinforcement layer to the slab edge of given face (top or bottom).
      *
-     * @param nominalCoverBottom nominal cover for the bottom face of the element in mm
-     * @return list of distances from top of each bottom reinforcement layer to the bottom edge
+     * @param layout       layer layout for top or bottom face
+     * @param nominalCover nominal cover for given slab face in mm
+     * @param slabFace     slab face (top or bottom)
+     * @return array of distances from top of each reinforcement layer to the edge
      */
-    private List<Double> getDistanceFromTopOBottomLayersToBottomEdge(int nominalCoverBottom) {
-        List<Double> distanceFromCentreOfEachLayer = getDistanceFromCentreOfEachLayerToEdge(bottomDiameters, additionalBottomDiameters, bottomVerticalSpacings, nominalCoverBottom);
-        List<Integer> maxDiameters = getMaxDiametersForEachLayer(bottomDiameters, additionalBottomDiameters);
-
-        return IntStream
-                .range(0, distanceFromCentreOfEachLayer.size())
-                .mapToObj(i -> distanceFromCentreOfEachLayer.get(i) + 0.5 * maxDiameters.get(i))
-                .collect(Collectors.toList());
+    private static double[] getDistancesFromTopOfLayersToEdge(LayerLayout layout, int nominalCover, String slabFace) {
+        // Top of the layer is half of the largest bar above its centre, which is towards the edge for the top face
+        double sign = slabFace.equals(Constants.SLAB_TOP_FACE) ? -0.5 : 0.5;
+        double[] distances = new double[layout.getNumberOfLayers()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = nominalCover + layout.getDistanceToCoverLine(i) + sign * layout.getMaxDiameter(i);
+        }
+        return distances;
     }
 
     /**
@@ -454,24 +447,23 @@ public class SlabReinforcement extends Reinforcement {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
         }
-        graphicsContext.beginPath();
+        renderer.beginPath();
 
         String descriptionTopLayers = "Top layers:\n" + getDescriptionForReinforcementLayers(topDiameters, additionalTopDiameters, topSpacings).replaceAll(",  ", "\n");
         String descriptionBottomLayers = "Bottom layers:\n" + getDescriptionForReinforcementLayers(bottomDiameters, additionalBottomDiameters, bottomSpacings).replaceAll(",  ", "\n");
 
-        Font font = new Font(Reinforcement.DEFAULT_TEXT_FONT, SlabReinforcement.DEFAULT_TEXT_SIZE);
-        graphicsContext.setFont(font);
-        graphicsContext.setTextAlign(TextAlignment.LEFT);
+        renderer.setFont(Reinforcement.DEFAULT_TEXT_FONT, SlabReinforcement.DEFAULT_TEXT_SIZE);
+        renderer.setTextAlign(TextAlignment.LEFT);
 
         // Drawings bottom reinforcement description
-        graphicsContext.setTextBaseline(VPos.BOTTOM);
-        graphicsContext.fillText(descriptionTopLayers, slabLeftEdgeX, slabTopEdgeY - SlabReinforcement.DEFAULT_TEXT_OFFSET);
+        renderer.setTextBaseline(VPos.BOTTOM);
+        renderer.fillText(descriptionTopLayers, slabLeftEdgeX, slabTopEdgeY - SlabReinforcement.DEFAULT_TEXT_OFFSET);
 
         // Drawings top reinforcement description
-        graphicsContext.setTextBaseline(VPos.TOP);
-        graphicsContext.fillText(descriptionBottomLayers, slabLeftEdgeX, slabBottomEdgeY + SlabReinforcement.DEFAULT_TEXT_OFFSET);
+        renderer.setTextBaseline(VPos.TOP);
+        renderer.fillText(descriptionBottomLayers, slabLeftEdgeX, slabBottomEdgeY + SlabReinforcement.DEFAULT_TEXT_OFFSET);
 
-        graphicsContext.closePath();
+        renderer.closePath();
     }
 
     /**
@@ -489,18 +481,17 @@ public class SlabReinforcement extends Reinforcement {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
         }
-        graphicsContext.beginPath();
+        renderer.beginPath();
 
         double barDiameterInScale = diameter * slabImageScale;
+        double spacingInScale = spacing * slabImageScale;
 
-        // Creates a list of x coordinates of left edges of the reinforcement bars
-        List<Double> barCoordinatesX = IntStream.range(0, numberOfBars)
-                .mapToObj(i -> layerX + i * spacing * slabImageScale)
-                .collect(Collectors.toList());
-
-        barCoordinatesX.forEach(x -> graphicsContext.fillOval(x, layerY, barDiameterInScale, barDiameterInScale));
+        // Bars are spaced evenly, starting from left edge of the first bar
+        for (int i = 0; i < numberOfBars; i++) {
+            renderer.fillOval(layerX + i * spacingInScale, layerY, barDiameterInScale, barDiameterInScale);
+        }
 
-        graphicsContext.closePath();
+        renderer.closePath();
     }
 
     /**
@@ -509,12 +500,12 @@ public class SlabReinforcement extends Reinforcement {
      * @param realWidth      real width of the slab (not in scale) in mm
      * @param slabLeftEdgeX  slab image left edge x coordinate
      * @param slabEdgeY      slab image top edge y coordinate
-     * @param reinforcementY list that contains distances from top of each main reinforcement layer to the edge
+     * @param reinforcementY array that contains distances from top of each main reinforcement layer to the edge
      * @param diameters      list with main bar diameters
      * @param spacings       list with bar spacings
      * @param slabFace       slab face (top or bottom)
      */
-    private void drawMainReinforcementLayers(double realWidth, double slabLeftEdgeX, double slabEdgeY, List<Double> reinforcementY, List<Integer> diameters, List<Integer> spacings, String slabFace) {
+    private void drawMainReinforcementLayers(double realWidth, double slabLeftEdgeX, double slabEdgeY, double[] reinforcementY, List<Integer> diameters, List<Integer> spacings, String slabFace) {
         if (!slabFace.equals(Constants.SLAB_BOTTOM_FACE) && !slabFace.equals(Constants.SLAB_TOP_FACE)) {
             throw new IllegalArgumentException(UIText.INVALID_SLAB_FACE);
         }
@@ -539,8 +530,8 @@ public class SlabReinforcement extends Reinforcement {
                     double layerX = slabLeftEdgeX + (0.5 * remainder) * slabImageScale + slabEndArchDepth;
                     // Y coordinate of the top edge of the reinforcement layer
                     double layerY = slabFace.equals(Constants.SLAB_TOP_FACE)
-                            ? slabEdgeY + reinforcementY.get(i) * slabImageScale
-                            : slabEdgeY - reinforcementY.get(i) * slabImageScale;
+                            ? slabEdgeY + reinforcementY[i] * slabImageScale
+                            : slabEdgeY - reinforcementY[i] * slabImageScale;
 
                     int numberOfBars = quotient + 1;
 
@@ -555,13 +546,13 @@ public class SlabReinforcement extends Reinforcement {
      * @param realWidth           real width of the slab (not in scale) in mm
      * @param slabLeftEdgeX       slab image left edge x coordinate
      * @param slabEdgeY           slab image top edge y coordinate
-     * @param reinforcementY      list that contains distances from top of each additional reinforcement layer to the edge
+     * @param reinforcementY      array that contains distances from top of each additional reinforcement layer to the edge
      * @param diameters           list with main bar diameters
      * @param additionalDiameters list with additional bar diameters
      * @param spacings            list with bar spacings
      * @param slabFace            slab face (top or bottom)
      */
-    private void drawAdditionalReinforcementLayers(double realWidth, double slabLeftEdgeX, double slabEdgeY, List<Double> reinforcementY, List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> spacings, String slabFace) {
+    private void drawAdditionalReinforcementLayers(double realWidth, double slabLeftEdgeX, double slabEdgeY, double[] reinforcementY, List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> spacings, String slabFace) {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
         }
@@ -585,8 +576,8 @@ public class SlabReinforcement extends Reinforcement {
                     double layerX = slabLeftEdgeX + (0.5 * remainder + 0.5 * diameter + 0.5 * spacing - 0.5 * additionalDiameter) * slabImageScale + slabEndArchDepth;
                     // Y coordinate of the top edge of the reinforcement layer
                     double layerY = slabFace.equals(Constants.SLAB_TOP_FACE)
-                            ? slabEdgeY + reinforcementY.get(i) * slabImageScale
-                            : slabEdgeY - reinforcementY.get(i) * slabImageScale;
+                            ? slabEdgeY + reinforcementY[i] * slabImageScale
+                            : slabEdgeY - reinforcementY[i] * slabImageScale;
 
                     int quotient = (int) (widthForAdditionalRebar / spacing);
 
@@ -603,11 +594,19 @@ public class SlabReinforcement extends Reinforcement {
      */
     @Override
     public void draw() throws IllegalArgumentException {
+        drawBars();
+        drawDescription();
+    }
+
+    /**
+     * Draws main and additional reinforcement bars for both top and bottom edge.
+     */
+    public void drawBars() {
         if (!isSetupToBeDrawn()) {
             throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
         }
-        graphicsContext.beginPath();
-        graphicsContext.setFill(colour);
+        renderer.beginPath();
+        renderer.setFill(colour);
 
         double widthInScale = slabStrip.getWidth();
         double realWidth = widthInScale / slabImageScale;
@@ -615,9 +614,9 @@ public class SlabReinforcement extends Reinforcement {
         double slabTopEdgeY = slabStrip.getStartY();
         double slabBottomEdgeY = slabTopEdgeY + slabStrip.getDepth();
 
-        // Lists that contain distances from top of each layer to the edge (top/bottom)
-        List<Double> topReinforcementY = getDistanceFromTopOfTopLayersToTopEdge(designParameters.getNominalCoverTop());
-        List<Double> bottomReinforcementY = getDistanceFromTopOBottomLayersToBottomEdge(designParameters.getNominalCoverBottom());
+        // Arrays that contain distances from top of each layer to the edge (top/bottom)
+        double[] topReinforcementY = getDistancesFromTopOfLayersToEdge(getTopLayout(), designParameters.getNominalCoverTop(), Constants.SLAB_TOP_FACE);
+        double[] bottomReinforcementY = getDistancesFromTopOfLayersToEdge(getBottomLayout(), designParameters.getNominalCoverBottom(), Constants.SLAB_BOTTOM_FACE);
 
         // Drawing main reinforcement
         drawMainReinforcementLayers(realWidth, slabLeftEdgeX, slabTopEdgeY, topReinforcementY, topDiameters, topSpacings, Constants.SLAB_TOP_FACE);
@@ -627,10 +626,20 @@ public class SlabReinforcement extends Reinforcement {
         drawAdditionalReinforcementLayers(realWidth, slabLeftEdgeX, slabTopEdgeY, topReinforcementY, topDiameters, additionalTopDiameters, topSpacings, Constants.SLAB_TOP_FACE);
         drawAdditionalReinforcementLayers(realWidth, slabLeftEdgeX, slabBottomEdgeY, bottomReinforcementY, bottomDiameters, additionalBottomDiameters, bottomSpacings, Constants.SLAB_BOTTOM_FACE);
 
-        // Drawing reinforcement description
-        drawReinforcementDescription(slabLeftEdgeX, slabTopEdgeY, slabBottomEdgeY);
+        renderer.closePath();
+    }
+
+    /**
+     * Draws reinforcement description above and below the slab image.
+     */
+    public void drawDescription() {
+        if (!isSetupToBeDrawn()) {
+            throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
+        }
+        renderer.setFill(colour);
 
-        graphicsContext.closePath();
+        double slabTopEdgeY = slabStrip.getStartY();
+        drawReinforcementDescription(slabStrip.getStartX(), slabTopEdgeY, slabTopEdgeY + slabStrip.getDepth());
     }
 
     /**
@@ -640,6 +649,6 @@ public class SlabReinforcement extends Reinforcement {
      */
     @Override
     public boolean isSetupToBeDrawn() {
-        return !(designParameters == null || slabStrip == null || graphicsContext == null || colour == null || slabImageScale == 0);
+        return !(designParameters == null || slabStrip == null || renderer == null || colour == null || slabImageScale == 0);
     }
 }
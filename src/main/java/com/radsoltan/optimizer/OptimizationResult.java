@@ -0,0 +1,105 @@
+package com.radsoltan.optimizer;
+
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.reinforcement.Reinforcement;
+
+/**
+ * Result of reinforcement optimization. It includes design result for the lightest reinforcement that passes all the checks
+ * along with number of candidates that were generated, pruned by spacing rules and calculated.
+ */
+public class OptimizationResult {
+    private final DesignResult bestResult;
+    private final double areaOfTensileReinforcement;
+    private final int numberOfCandidates;
+    private final long numberOfPrunedCandidates;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param bestResult                 design result for the lightest passing reinforcement, null if none of the candidates passes
+     * @param areaOfTensileReinforcement area of tensile reinforcement of the best candidate in mm2 or mm2/m
+     * @param numberOfCandidates         number of generated candidates
+     * @param numberOfPrunedCandidates   number of candidates rejected by spacing rules before calculations
+     * @param elapsedNanos               elapsed time in nanoseconds
+     */
+    public OptimizationResult(DesignResult bestResult, double areaOfTensileReinforcement, int numberOfCandidates, long numberOfPrunedCandidates, long elapsedNanos) {
+        this.bestResult = bestResult;
+        this.areaOfTensileReinforcement = areaOfTensileReinforcement;
+        this.numberOfCandidates = numberOfCandidates;
+        this.numberOfPrunedCandidates = numberOfPrunedCandidates;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Checks if any of the candidates passes all the checks.
+     *
+     * @return true if passing reinforcement was found
+     */
+    public boolean isFound() {
+        return bestResult != null;
+    }
+
+    /**
+     * Gets the lightest passing reinforcement.
+     *
+     * @return reinforcement, null if not found
+     */
+    public Reinforcement getReinforcement() {
+        return isFound() ? bestResult.getRequest().getReinforcement() : null;
+    }
+
+    /**
+     * Gets number of candidates that were calculated.
+     *
+     * @return number of calculated candidates
+     */
+    public long getNumberOfCalculatedCandidates() {
+        return numberOfCandidates - numberOfPrunedCandidates;
+    }
+
+    /**
+     * Getter for the best design result.
+     *
+     * @return design result, null if not found
+     */
+    public DesignResult getBestResult() {
+        return bestResult;
+    }
+
+    /**
+     * Getter for area of tensile reinforcement of the best candidate.
+     *
+     * @return area of tensile reinforcement in mm2 or mm2/m
+     */
+    public double getAreaOfTensileReinforcement() {
+        return areaOfTensileReinforcement;
+    }
+
+    /**
+     * Getter for number of candidates.
+     *
+     * @return number of generated candidates
+     */
+    public int getNumberOfCandidates() {
+        return numberOfCandidates;
+    }
+
+    /**
+     * Getter for number of pruned candidates.
+     *
+     * @return number of candidates rejected by spacing rules
+     */
+    public long getNumberOfPrunedCandidates() {
+        return numberOfPrunedCandidates;
+    }
+
+    /**
+     * Getter for elapsed time.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
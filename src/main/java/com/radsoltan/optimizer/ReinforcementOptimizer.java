@@ -0,0 +1,282 @@
+package com.radsoltan.optimizer;
+
+import com.radsoltan.batch.BatchDesignEngine;
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Beam;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.Slab;
+import com.radsoltan.model.ValidateBeam;
+import com.radsoltan.model.ValidateSlab;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import com.radsoltan.util.Utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Searches for the lightest tensile reinforcement that passes flexure, shear and cracking checks.
+ * <p>
+ * Reinforcement provided in the design request is used as a template. Only the tensile face is changed, compression reinforcement and shear links are kept.
+ * Beam candidates have 1 to MAX_NUMBER_OF_ROWS rows with the same number of bars of the same diameter in each row.
+ * Slab candidates have a single layer of bars with spacings from SLAB_MIN_BAR_SPACING to SLAB_MAX_BAR_SPACING.
+ * Candidates that do not satisfy minimum spacing rules from ValidateBeam and ValidateSlab are pruned before calculations.
+ * Remaining candidates are calculated in parallel in a fork join pool.
+ */
+public class ReinforcementOptimizer {
+    private final int parallelism;
+
+    /**
+     * Constructor. Uses all available processors.
+     */
+    public ReinforcementOptimizer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism number of worker threads
+     */
+    public ReinforcementOptimizer(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_PARALLELISM);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Finds the lightest passing reinforcement for the section described by the design request.
+     *
+     * @param request design request, its reinforcement is used as a template
+     * @return optimization result
+     */
+    public OptimizationResult optimize(DesignRequest request) {
+        switch (request.getElementType().toLowerCase()) {
+            case Constants.ELEMENT_TYPE_SLAB:
+                return search(request, getSlabCandidates(request), candidate -> isValidSlab(request, (SlabReinforcement) candidate));
+            case Constants.ELEMENT_TYPE_BEAM:
+                return search(request, getBeamCandidates(request), candidate -> isValidBeam(request, (BeamReinforcement) candidate));
+            default:
+                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+        }
+    }
+
+    /**
+     * Generates beam reinforcement candidates. Each candidate has 1 to MAX_NUMBER_OF_ROWS tensile rows of bars with the same diameter.
+     * Number of bars in a row is limited by the width available between shear links. Rows are separated by minimum clear vertical spacing.
+     *
+     * @param request design request with BeamReinforcement template
+     * @return list of beam reinforcement candidates
+     */
+    public List<BeamReinforcement> getBeamCandidates(DesignRequest request) {
+        if (!(request.getReinforcement() instanceof BeamReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_BEAM_REINFORCEMENT);
+        }
+        BeamReinforcement template = (BeamReinforcement) request.getReinforcement();
+        DesignParameters designParameters = request.getDesignParameters();
+        Geometry geometry = request.getGeometry();
+        boolean isBottomInTension = request.getUlsMoment() >= 0;
+        double availableWidth = geometry.getWidth() - 2 * designParameters.getNominalCoverSides() - 2 * template.getShearLinks().getDiameter();
+        List<BeamReinforcement> candidates = new ArrayList<>();
+
+        for (int diameter : Constants.BAR_DIAMETERS) {
+            int verticalSpacing = IntStream.of(20, designParameters.getAggregateSize() + 5, diameter).max().orElse(0);
+            for (int numberOfBars = Constants.BEAM_ROW_MAIN_BAR_MIN_COUNT;
+                 numberOfBars <= Constants.BEAM_ROW_BAR_MAX_COUNT && numberOfBars * diameter <= availableWidth;
+                 numberOfBars++) {
+                for (int numberOfRows = 1; numberOfRows <= Constants.MAX_NUMBER_OF_ROWS; numberOfRows++) {
+                    List<List<Integer>> diameters = Collections.nCopies(numberOfRows, Collections.nCopies(numberOfBars, diameter));
+                    List<Integer> verticalSpacings = Collections.nCopies(numberOfRows - 1, verticalSpacing);
+                    candidates.add(new BeamReinforcement(
+                            isBottomInTension ? template.getTopDiameters() : diameters,
+                            isBottomInTension ? template.getTopVerticalSpacings() : verticalSpacings,
+                            isBottomInTension ? diameters : template.getBottomDiameters(),
+                            isBottomInTension ? verticalSpacings : template.getBottomVerticalSpacings(),
+                            template.getShearLinks()
+                    ));
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Generates slab reinforcement candidates. Each candidate has a single tensile layer of bars with given diameter and spacing.
+     *
+     * @param request design request with SlabReinforcement template
+     * @return list of slab reinforcement candidates
+     */
+    public List<SlabReinforcement> getSlabCandidates(DesignRequest request) {
+        if (!(request.getReinforcement() instanceof SlabReinforcement)) {
+            throw new IllegalArgumentException(UIText.INVALID_SLAB_REINFORCEMENT);
+        }
+        SlabReinforcement template = (SlabReinforcement) request.getReinforcement();
+        boolean isBottomInTension = request.getUlsMoment() >= 0;
+        List<SlabReinforcement> candidates = new ArrayList<>();
+
+        for (int diameter : Constants.BAR_DIAMETERS) {
+            for (int spacing = Constants.SLAB_MIN_BAR_SPACING; spacing <= Constants.SLAB_MAX_BAR_SPACING; spacing += Constants.SLAB_BAR_SPACING_STEP) {
+                List<Integer> diameters = List.of(diameter);
+                List<Integer> additionalDiameters = List.of(0);
+                List<Integer> spacings = List.of(spacing);
+                List<Integer> verticalSpacings = Collections.emptyList();
+                candidates.add(new SlabReinforcement(
+                        isBottomInTension ? template.getTopDiameters() : diameters,
+                        isBottomInTension ? template.getAdditionalTopDiameters() : additionalDiameters,
+                        isBottomInTension ? template.getTopSpacings() : spacings,
+                        isBottomInTension ? template.getTopVerticalSpacings() : verticalSpacings,
+                        isBottomInTension ? diameters : template.getBottomDiameters(),
+                        isBottomInTension ? additionalDiameters : template.getAdditionalBottomDiameters(),
+                        isBottomInTension ? spacings : template.getBottomSpacings(),
+                        isBottomInTension ? verticalSpacings : template.getBottomVerticalSpacings()
+                ));
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Prunes invalid candidates, calculates the remaining ones in parallel and picks the one with the smallest area of tensile reinforcement.
+     *
+     * @param request    design request used as a template
+     * @param candidates reinforcement candidates
+     * @param isValid    spacing rules used to prune candidates
+     * @return optimization result
+     */
+    private OptimizationResult search(DesignRequest request, List<? extends Reinforcement> candidates, Predicate<Reinforcement> isValid) {
+        double UlsMoment = request.getUlsMoment();
+        LongAdder pruned = new LongAdder();
+        long start = System.nanoTime();
+
+        Optional<DesignResult> best = Utility.invokeInForkJoinPool(parallelism, () -> candidates.parallelStream()
+                .filter(candidate -> {
+                    if (isValid.test(candidate)) {
+                        return true;
+                    }
+                    pruned.increment();
+                    return false;
+                })
+                .map(candidate -> new DesignRequest(request.getId(), request.getElementType(), request.getGeometry(), candidate,
+                        request.getDesignParameters(), request.getConcrete(), UlsMoment, request.getSlsMoment(), request.getUlsShear()))
+                .map(BatchDesignEngine::design)
+                .filter(ReinforcementOptimizer::isAdequate)
+                .min(Comparator.comparingDouble(result -> getAreaOfTensileReinforcement(result.getRequest().getReinforcement(), UlsMoment))));
+        long elapsed = System.nanoTime() - start;
+
+        return best
+                .map(result -> new OptimizationResult(result, getAreaOfTensileReinforcement(result.getRequest().getReinforcement(), UlsMoment), candidates.size(), pruned.sum(), elapsed))
+                .orElseGet(() -> new OptimizationResult(null, 0, candidates.size(), pruned.sum(), elapsed));
+    }
+
+    /**
+     * Gets slab candidates that satisfy spacing rules, sorted by area of tensile reinforcement, lightest first.
+     * Candidates with the same area keep the order of bar diameters, smaller bars first.
+     *
+     * @param request design request with SlabReinforcement template
+     * @return list of valid slab reinforcement candidates
+     */
+    public List<SlabReinforcement> getValidSlabCandidatesByArea(DesignRequest request) {
+        double UlsMoment = request.getUlsMoment();
+
+        return getSlabCandidates(request).stream()
+                .filter(candidate -> isValidSlab(request, candidate))
+                .sorted(Comparator.comparingDouble(candidate -> getAreaOfTensileReinforcement(candidate, UlsMoment)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the lightest adequate reinforcement in the calling thread. Candidates are designed one by one, lightest first,
+     * and the search stops at the first adequate one. It is meant for designing many sections in parallel, where each section is searched sequentially.
+     *
+     * @param request          design request used as a template
+     * @param candidatesByArea valid reinforcement candidates sorted by area of tensile reinforcement
+     * @return design result for the lightest adequate reinforcement, empty if none of the candidates is adequate
+     */
+    public static Optional<DesignResult> findLightest(DesignRequest request, List<? extends Reinforcement> candidatesByArea) {
+        for (Reinforcement candidate : candidatesByArea) {
+            DesignResult result = BatchDesignEngine.design(new DesignRequest(request.getId(), request.getElementType(), request.getGeometry(), candidate,
+                    request.getDesignParameters(), request.getConcrete(), request.getUlsMoment(), request.getSlsMoment(), request.getUlsShear()));
+            if (isAdequate(result)) {
+                return Optional.of(result);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if design result passes all the checks and tensile reinforcement does not exceed maximum area.
+     * For beams, it also checks if provided compression reinforcement is sufficient.
+     *
+     * @param result design result
+     * @return true if the candidate is adequate
+     */
+    private static boolean isAdequate(DesignResult result) {
+        if (!result.isPassed()) {
+            return false;
+        }
+        Beam beam = result.getBeam();
+        if (beam != null) {
+            return beam.getProvidedTensileReinforcement() <= beam.getMaximumReinforcement()
+                    && beam.getRequiredCompressionReinforcement() <= beam.getProvidedCompressiveReinforcement();
+        }
+        Slab slab = result.getSlab();
+        return slab != null && slab.getProvidedTensileReinforcement() <= slab.getMaximumReinforcement();
+    }
+
+    /**
+     * Checks beam candidate against minimum bar spacing and beam depth rules.
+     *
+     * @param request   design request
+     * @param candidate beam reinforcement candidate
+     * @return true if no rule is violated
+     */
+    private static boolean isValidBeam(DesignRequest request, BeamReinforcement candidate) {
+        return ValidateBeam.isValid(request.getGeometry(), candidate, request.getDesignParameters());
+    }
+
+    /**
+     * Checks slab candidate against minimum bar spacing and slab thickness rules.
+     *
+     * @param request   design request
+     * @param candidate slab reinforcement candidate
+     * @return true if no rule is violated
+     */
+    private static boolean isValidSlab(DesignRequest request, SlabReinforcement candidate) {
+        return ValidateSlab.isValid(request.getGeometry().getDepth(), candidate, request.getDesignParameters());
+    }
+
+    /**
+     * Gets area of tensile reinforcement based on the sign of ULS moment.
+     *
+     * @param reinforcement reinforcement
+     * @param UlsMoment     ULS moment
+     * @return area of tensile reinforcement in mm2 or mm2/m
+     */
+    private static double getAreaOfTensileReinforcement(Reinforcement reinforcement, double UlsMoment) {
+        return (UlsMoment >= 0) ? reinforcement.getTotalAreaOfBottomReinforcement() : reinforcement.getTotalAreaOfTopReinforcement();
+    }
+
+    /**
+     * Getter for parallelism.
+     *
+     * @return number of worker threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,111 @@
+package com.radsoltan.panel;
+
+import com.radsoltan.constants.UIText;
+
+/**
+ * Bending moments over a slab panel, for example exported from a finite element model.
+ * Moments are given at points of a regular grid with the origin at the panel corner. Points are stored row by row in flat arrays,
+ * the point in column i and row j has index j * numberOfColumns + i. Column index increases along X axis and row index along Y axis.
+ * <p>
+ * Moments are per metre width of the slab in kNm/m. Mx bends the slab in X direction and is resisted by reinforcement running along X,
+ * My is resisted by reinforcement running along Y. Positive moments are sagging (bottom face in tension), negative are hogging.
+ */
+public class MomentField {
+    private final int numberOfColumns;
+    private final int numberOfRows;
+    private final double spacingX;
+    private final double spacingY;
+    private final double[] UlsMomentsX;
+    private final double[] UlsMomentsY;
+    private final double[] SlsMomentsX;
+    private final double[] SlsMomentsY;
+
+    /**
+     * Constructor. Arrays are not copied and must not be modified afterwards.
+     *
+     * @param numberOfColumns number of grid points along X axis
+     * @param numberOfRows    number of grid points along Y axis
+     * @param spacingX        distance between grid points along X axis in mm
+     * @param spacingY        distance between grid points along Y axis in mm
+     * @param UlsMomentsX     ULS moments Mx in kNm/m
+     * @param UlsMomentsY     ULS moments My in kNm/m
+     * @param SlsMomentsX     SLS moments Mx in kNm/m
+     * @param SlsMomentsY     SLS moments My in kNm/m
+     */
+    public MomentField(int numberOfColumns, int numberOfRows, double spacingX, double spacingY,
+                       double[] UlsMomentsX, double[] UlsMomentsY, double[] SlsMomentsX, double[] SlsMomentsY) {
+        int size = numberOfColumns * numberOfRows;
+        if (numberOfColumns < 1 || numberOfRows < 1 || !(spacingX > 0) || !(spacingY > 0)
+                || UlsMomentsX.length != size || UlsMomentsY.length != size || SlsMomentsX.length != size || SlsMomentsY.length != size) {
+            throw new IllegalArgumentException(UIText.INVALID_MOMENT_FIELD);
+        }
+        this.numberOfColumns = numberOfColumns;
+        this.numberOfRows = numberOfRows;
+        this.spacingX = spacingX;
+        this.spacingY = spacingY;
+        this.UlsMomentsX = UlsMomentsX;
+        this.UlsMomentsY = UlsMomentsY;
+        this.SlsMomentsX = SlsMomentsX;
+        this.SlsMomentsY = SlsMomentsY;
+    }
+
+    /**
+     * Gets ULS moment at a grid point for given direction.
+     *
+     * @param direction strip direction
+     * @param column    column index
+     * @param row       row index
+     * @return ULS moment in kNm/m
+     */
+    public double getUlsMoment(StripDirection direction, int column, int row) {
+        return (direction == StripDirection.X ? UlsMomentsX : UlsMomentsY)[row * numberOfColumns + column];
+    }
+
+    /**
+     * Gets SLS moment at a grid point for given direction.
+     *
+     * @param direction strip direction
+     * @param column    column index
+     * @param row       row index
+     * @return SLS moment in kNm/m
+     */
+    public double getSlsMoment(StripDirection direction, int column, int row) {
+        return (direction == StripDirection.X ? SlsMomentsX : SlsMomentsY)[row * numberOfColumns + column];
+    }
+
+    /**
+     * Getter for number of grid points along X axis.
+     *
+     * @return number of columns
+     */
+    public int getNumberOfColumns() {
+        return numberOfColumns;
+    }
+
+    /**
+     * Getter for number of grid points along Y axis.
+     *
+     * @return number of rows
+     */
+    public int getNumberOfRows() {
+        return numberOfRows;
+    }
+
+    /**
+     * Getter for distance between grid points along X axis.
+     *
+     * @return spacing in mm
+     */
+    public double getSpacingX() {
+        return spacingX;
+    }
+
+    /**
+     * Getter for distance between grid points along Y axis.
+     *
+     * @return spacing in mm
+     */
+    public double getSpacingY() {
+        return spacingY;
+    }
+}
@@ -0,0 +1,101 @@
+package com.radsoltan.panel;
+
+import com.radsoltan.constants.Constants;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Result of slab panel design. It includes designed strips, reinforcement zones for both directions and faces,
+ * number of unique strip designs that were calculated and elapsed time.
+ */
+public class PanelDesign {
+    private final List<PanelStrip> strips;
+    private final List<ReinforcementZone> zones;
+    private final int numberOfUniqueDesigns;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param strips                designed strips, X strips first, each direction ordered by strip index
+     * @param zones                 reinforcement zones
+     * @param numberOfUniqueDesigns number of distinct strip designs that were calculated
+     * @param elapsedNanos          elapsed time in nanoseconds
+     */
+    public PanelDesign(List<PanelStrip> strips, List<ReinforcementZone> zones, int numberOfUniqueDesigns, long elapsedNanos) {
+        this.strips = strips;
+        this.zones = zones;
+        this.numberOfUniqueDesigns = numberOfUniqueDesigns;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Checks if adequate reinforcement was found for all strips.
+     *
+     * @return true if all strips pass on both faces
+     */
+    public boolean isPassed() {
+        return strips.stream().allMatch(strip -> strip.isPassed(Constants.SLAB_BOTTOM_FACE) && strip.isPassed(Constants.SLAB_TOP_FACE));
+    }
+
+    /**
+     * Writes reinforcement zoning map as comma separated values, one line per zone.
+     * Columns are: direction, face, first and last strip index, zone start and end in mm, reinforcement and governing ULS moment in kNm/m.
+     *
+     * @param writer writer, it is flushed but not closed
+     * @throws IOException if zoning map can't be written
+     */
+    public void writeZoningMap(Writer writer) throws IOException {
+        StringBuilder buffer = new StringBuilder("direction,face,first strip,last strip,start,end,reinforcement,moment\n");
+        for (ReinforcementZone zone : zones) {
+            buffer.append(zone.getDirection()).append(',')
+                    .append(zone.getSlabFace().equals(Constants.SLAB_BOTTOM_FACE) ? "bottom" : "top").append(',')
+                    .append(zone.getFirstStrip()).append(',')
+                    .append(zone.getLastStrip()).append(',')
+                    .append(zone.getStart()).append(',')
+                    .append(zone.getEnd()).append(',')
+                    .append(zone.getReinforcement()).append(',')
+                    .append(zone.getUlsMoment()).append('\n');
+        }
+        writer.append(buffer);
+        writer.flush();
+    }
+
+    /**
+     * Getter for designed strips.
+     *
+     * @return list of strips
+     */
+    public List<PanelStrip> getStrips() {
+        return strips;
+    }
+
+    /**
+     * Getter for reinforcement zones.
+     *
+     * @return list of zones
+     */
+    public List<ReinforcementZone> getZones() {
+        return zones;
+    }
+
+    /**
+     * Getter for number of distinct strip designs that were calculated.
+     *
+     * @return number of unique designs
+     */
+    public int getNumberOfUniqueDesigns() {
+        return numberOfUniqueDesigns;
+    }
+
+    /**
+     * Getter for elapsed time.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,156 @@
+package com.radsoltan.panel;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignResult;
+
+/**
+ * Slab strip of a panel with its design moments and design results for bottom and top face.
+ * Design moments are the envelope of moments along the strip, averaged across the strip width.
+ * Bottom face is designed for the largest sagging moment and top face for the largest hogging moment.
+ * A face without moment of the corresponding sign is not designed.
+ */
+public class PanelStrip {
+    private final StripDirection direction;
+    private final int index;
+    private final double start;
+    private final double end;
+    private final double saggingUlsMoment;
+    private final double saggingSlsMoment;
+    private final double hoggingUlsMoment;
+    private final double hoggingSlsMoment;
+    private final DesignResult bottomResult;
+    private final DesignResult topResult;
+
+    /**
+     * Constructor.
+     *
+     * @param direction        strip direction
+     * @param index            index of the strip in its direction, starting from 0 at the panel edge
+     * @param start            coordinate of the strip edge closer to the origin in mm, measured across the strip
+     * @param end              coordinate of the other strip edge in mm
+     * @param saggingUlsMoment ULS design moment for the bottom face in kNm/m, 0 if there is no sagging moment
+     * @param saggingSlsMoment SLS design moment for the bottom face in kNm/m
+     * @param hoggingUlsMoment ULS design moment for the top face in kNm/m, 0 if there is no hogging moment
+     * @param hoggingSlsMoment SLS design moment for the top face in kNm/m
+     * @param bottomResult     design result for the lightest adequate bottom reinforcement, null if not designed or not found
+     * @param topResult        design result for the lightest adequate top reinforcement, null if not designed or not found
+     */
+    public PanelStrip(StripDirection direction, int index, double start, double end,
+                      double saggingUlsMoment, double saggingSlsMoment, double hoggingUlsMoment, double hoggingSlsMoment,
+                      DesignResult bottomResult, DesignResult topResult) {
+        this.direction = direction;
+        this.index = index;
+        this.start = start;
+        this.end = end;
+        this.saggingUlsMoment = saggingUlsMoment;
+        this.saggingSlsMoment = saggingSlsMoment;
+        this.hoggingUlsMoment = hoggingUlsMoment;
+        this.hoggingSlsMoment = hoggingSlsMoment;
+        this.bottomResult = bottomResult;
+        this.topResult = topResult;
+    }
+
+    /**
+     * Gets ULS design moment for given slab face.
+     *
+     * @param slabFace slab face (top or bottom)
+     * @return ULS design moment in kNm/m, positive for bottom face and negative for top face
+     */
+    public double getUlsMoment(String slabFace) {
+        return isBottomFace(slabFace) ? saggingUlsMoment : hoggingUlsMoment;
+    }
+
+    /**
+     * Gets SLS design moment for given slab face.
+     *
+     * @param slabFace slab face (top or bottom)
+     * @return SLS design moment in kNm/m
+     */
+    public double getSlsMoment(String slabFace) {
+        return isBottomFace(slabFace) ? saggingSlsMoment : hoggingSlsMoment;
+    }
+
+    /**
+     * Gets design result for given slab face.
+     *
+     * @param slabFace slab face (top or bottom)
+     * @return design result for the lightest adequate reinforcement, null if face was not designed or no adequate reinforcement was found
+     */
+    public DesignResult getResult(String slabFace) {
+        return isBottomFace(slabFace) ? bottomResult : topResult;
+    }
+
+    /**
+     * Checks if given slab face has design moment and has to be designed.
+     *
+     * @param slabFace slab face (top or bottom)
+     * @return true if face has a design moment
+     */
+    public boolean isDesigned(String slabFace) {
+        return getUlsMoment(slabFace) != 0;
+    }
+
+    /**
+     * Checks if adequate reinforcement was found for given slab face or face did not have to be designed.
+     *
+     * @param slabFace slab face (top or bottom)
+     * @return true if face passes
+     */
+    public boolean isPassed(String slabFace) {
+        return !isDesigned(slabFace) || getResult(slabFace) != null;
+    }
+
+    /**
+     * Checks if slab face is the bottom face.
+     *
+     * @param slabFace slab face (top or bottom)
+     * @return true for bottom face
+     */
+    private static boolean isBottomFace(String slabFace) {
+        switch (slabFace) {
+            case Constants.SLAB_BOTTOM_FACE:
+                return true;
+            case Constants.SLAB_TOP_FACE:
+                return false;
+            default:
+                throw new IllegalArgumentException(UIText.INVALID_SLAB_FACE);
+        }
+    }
+
+    /**
+     * Getter for strip direction.
+     *
+     * @return strip direction
+     */
+    public StripDirection getDirection() {
+        return direction;
+    }
+
+    /**
+     * Getter for strip index.
+     *
+     * @return index of the strip in its direction
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Getter for coordinate of the strip edge closer to the origin.
+     *
+     * @return start coordinate in mm
+     */
+    public double getStart() {
+        return start;
+    }
+
+    /**
+     * Getter for coordinate of the other strip edge.
+     *
+     * @return end coordinate in mm
+     */
+    public double getEnd() {
+        return end;
+    }
+}
@@ -0,0 +1,111 @@
+package com.radsoltan.panel;
+
+/**
+ * Zone of a slab panel with the same tensile reinforcement on one face. It consists of consecutive strips in one direction.
+ */
+public class ReinforcementZone {
+    private final StripDirection direction;
+    private final String slabFace;
+    private final int firstStrip;
+    private final int lastStrip;
+    private final double start;
+    private final double end;
+    private final String reinforcement;
+    private final double UlsMoment;
+
+    /**
+     * Constructor.
+     *
+     * @param direction     strip direction
+     * @param slabFace      slab face (top or bottom)
+     * @param firstStrip    index of the first strip in the zone
+     * @param lastStrip     index of the last strip in the zone
+     * @param start         coordinate of the zone edge closer to the origin in mm
+     * @param end           coordinate of the other zone edge in mm
+     * @param reinforcement description of tensile reinforcement, for example '\u03c612@200'
+     * @param UlsMoment     governing ULS design moment in the zone in kNm/m
+     */
+    public ReinforcementZone(StripDirection direction, String slabFace, int firstStrip, int lastStrip,
+                             double start, double end, String reinforcement, double UlsMoment) {
+        this.direction = direction;
+        this.slabFace = slabFace;
+        this.firstStrip = firstStrip;
+        this.lastStrip = lastStrip;
+        this.start = start;
+        this.end = end;
+        this.reinforcement = reinforcement;
+        this.UlsMoment = UlsMoment;
+    }
+
+    /**
+     * Getter for strip direction.
+     *
+     * @return strip direction
+     */
+    public StripDirection getDirection() {
+        return direction;
+    }
+
+    /**
+     * Getter for slab face.
+     *
+     * @return slab face (top or bottom)
+     */
+    public String getSlabFace() {
+        return slabFace;
+    }
+
+    /**
+     * Getter for index of the first strip in the zone.
+     *
+     * @return strip index
+     */
+    public int getFirstStrip() {
+        return firstStrip;
+    }
+
+    /**
+     * Getter for index of the last strip in the zone.
+     *
+     * @return strip index
+     */
+    public int getLastStrip() {
+        return lastStrip;
+    }
+
+    /**
+     * Getter for coordinate of the zone edge closer to the origin.
+     *
+     * @return start coordinate in mm
+     */
+    public double getStart() {
+        return start;
+    }
+
+    /**
+     * Getter for coordinate of the other zone edge.
+     *
+     * @return end coordinate in mm
+     */
+    public double getEnd() {
+        return end;
+    }
+
+    /**
+     * Getter for description of tensile reinforcement.
+     *
+     * @return reinforcement description
+     */
+    public String getReinforcement() {
+        return reinforcement;
+    }
+
+    /**
+     * Getter for governing ULS design moment in the zone.
+     *
+     * @return ULS moment in kNm/m
+     */
+    public double getUlsMoment() {
+        return UlsMoment;
+    }
+}
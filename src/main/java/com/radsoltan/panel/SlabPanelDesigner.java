@@ -0,0 +1,367 @@
+package com.radsoltan.panel;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import com.radsoltan.optimizer.ReinforcementOptimizer;
+import com.radsoltan.util.Utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Designs reinforcement for a whole slab panel from a moment field.
+ * <p>
+ * Panel is divided into strips of given width in both directions. Design moments of a strip are obtained by averaging moments
+ * across the strip width at each grid point along the strip and taking the largest sagging and hogging values.
+ * SLS moments are enveloped in the same way. Moments are rounded up to a multiple of moment step, so that similar strips share the same design.
+ * <p>
+ * Each distinct combination of direction, face and design moments is designed once. Distinct designs are calculated in parallel in a fork join pool,
+ * each one as a sequential search for the lightest adequate single layer of bars, using the candidates generated by ReinforcementOptimizer.
+ * Consecutive strips with the same tensile reinforcement are merged into reinforcement zones.
+ */
+public class SlabPanelDesigner {
+    private static final List<String> SLAB_FACES = List.of(Constants.SLAB_BOTTOM_FACE, Constants.SLAB_TOP_FACE);
+    private static final String NOT_REQUIRED = "-";
+
+    private final int parallelism;
+    private final double stripWidth;
+    private final double momentStep;
+
+    /**
+     * Constructor. Uses all available processors, 1 m wide strips and does not round moments.
+     */
+    public SlabPanelDesigner() {
+        this(Runtime.getRuntime().availableProcessors(), 1000, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism number of worker threads
+     * @param stripWidth  width of strips in mm
+     * @param momentStep  step in kNm/m that design moments are rounded up to, 0 to design for exact moments
+     */
+    public SlabPanelDesigner(int parallelism, double stripWidth, double momentStep) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_PARALLELISM);
+        }
+        if (!(stripWidth > 0) || !(momentStep >= 0)) {
+            throw new IllegalArgumentException(UIText.INVALID_STRIP_WIDTH);
+        }
+        this.parallelism = parallelism;
+        this.stripWidth = stripWidth;
+        this.momentStep = momentStep;
+    }
+
+    /**
+     * Designs the panel using the same template for both directions.
+     *
+     * @param field    moment field
+     * @param template slab design request used as a template for geometry, reinforcement, design parameters and concrete
+     * @return panel design
+     */
+    public PanelDesign design(MomentField field, DesignRequest template) {
+        return design(field, template, template);
+    }
+
+    /**
+     * Designs the panel. Templates for each direction may differ, for example by slab depth or reinforcement in the other face.
+     * Only tensile face of the template reinforcement is changed in each design.
+     *
+     * @param field     moment field
+     * @param templateX slab design request used as a template for strips in X direction
+     * @param templateY slab design request used as a template for strips in Y direction
+     * @return panel design
+     */
+    public PanelDesign design(MomentField field, DesignRequest templateX, DesignRequest templateY) {
+        long start = System.nanoTime();
+        Map<StripDirection, DesignRequest> templates = new EnumMap<>(StripDirection.class);
+        templates.put(StripDirection.X, templateX);
+        templates.put(StripDirection.Y, templateY);
+
+        // Valid candidates depend only on the template and the tensile face, so they are generated once per direction and face
+        ReinforcementOptimizer optimizer = new ReinforcementOptimizer(parallelism);
+        Map<StripDirection, Map<String, List<SlabReinforcement>>> candidates = new EnumMap<>(StripDirection.class);
+        for (StripDirection direction : StripDirection.values()) {
+            DesignRequest template = templates.get(direction);
+            if (!template.getElementType().toLowerCase().equals(Constants.ELEMENT_TYPE_SLAB)) {
+                throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+            }
+            candidates.put(direction, Map.of(
+                    Constants.SLAB_BOTTOM_FACE, optimizer.getValidSlabCandidatesByArea(getRequest(template, 1, 1)),
+                    Constants.SLAB_TOP_FACE, optimizer.getValidSlabCandidatesByArea(getRequest(template, -1, -1))
+            ));
+        }
+
+        Map<StripDirection, double[][]> envelopes = new EnumMap<>(StripDirection.class);
+        Set<Key> keys = new LinkedHashSet<>();
+        for (StripDirection direction : StripDirection.values()) {
+            double[][] stripEnvelopes = getStripEnvelopes(field, direction);
+            envelopes.put(direction, stripEnvelopes);
+            for (double[] envelope : stripEnvelopes) {
+                if (envelope[2] != 0) {
+                    keys.add(new Key(direction, Constants.SLAB_BOTTOM_FACE, envelope[2], envelope[3]));
+                }
+                if (envelope[4] != 0) {
+                    keys.add(new Key(direction, Constants.SLAB_TOP_FACE, envelope[4], envelope[5]));
+                }
+            }
+        }
+
+        Map<Key, Optional<DesignResult>> designs = Utility.invokeInForkJoinPool(parallelism, () -> keys.parallelStream()
+                .collect(Collectors.toConcurrentMap(key -> key, key -> ReinforcementOptimizer.findLightest(
+                        getRequest(templates.get(key.direction), key.UlsMoment, key.SlsMoment),
+                        candidates.get(key.direction).get(key.slabFace)))));
+
+        List<PanelStrip> strips = new ArrayList<>();
+        for (StripDirection direction : StripDirection.values()) {
+            double[][] stripEnvelopes = envelopes.get(direction);
+            for (int i = 0; i < stripEnvelopes.length; i++) {
+                double[] envelope = stripEnvelopes[i];
+                DesignResult bottomResult = envelope[2] != 0
+                        ? designs.get(new Key(direction, Constants.SLAB_BOTTOM_FACE, envelope[2], envelope[3])).orElse(null)
+                        : null;
+                DesignResult topResult = envelope[4] != 0
+                        ? designs.get(new Key(direction, Constants.SLAB_TOP_FACE, envelope[4], envelope[5])).orElse(null)
+                        : null;
+                strips.add(new PanelStrip(direction, i, envelope[0], envelope[1], envelope[2], envelope[3], envelope[4], envelope[5], bottomResult, topResult));
+            }
+        }
+
+        return new PanelDesign(strips, getZones(strips), keys.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Divides the panel into strips in given direction and calculates design moments for each strip.
+     * Grid lines running along the strips are assigned to the strip they lie in. If a strip does not contain any grid line,
+     * because grid spacing is larger than strip width, the grid line closest to the strip centre is used.
+     *
+     * @param field     moment field
+     * @param direction strip direction
+     * @return for each strip: start, end, sagging ULS, sagging SLS, hogging ULS and hogging SLS moment
+     */
+    private double[][] getStripEnvelopes(MomentField field, StripDirection direction) {
+        boolean isX = direction == StripDirection.X;
+        int numberOfLines = isX ? field.getNumberOfRows() : field.getNumberOfColumns();
+        int numberOfPoints = isX ? field.getNumberOfColumns() : field.getNumberOfRows();
+        double spacing = isX ? field.getSpacingY() : field.getSpacingX();
+        double panelWidth = (numberOfLines - 1) * spacing;
+        // Tolerance prevents a sliver strip when the panel width is a multiple of the strip width
+        int numberOfStrips = Math.max(1, (int) Math.ceil(panelWidth / stripWidth - 1e-9));
+
+        int[] firstLines = new int[numberOfStrips];
+        int[] lastLines = new int[numberOfStrips];
+        Arrays.fill(firstLines, -1);
+        for (int line = 0; line < numberOfLines; line++) {
+            int strip = Math.min((int) (line * spacing / stripWidth), numberOfStrips - 1);
+            if (firstLines[strip] < 0) {
+                firstLines[strip] = line;
+            }
+            lastLines[strip] = line;
+        }
+
+        double[][] envelopes = new double[numberOfStrips][];
+        for (int strip = 0; strip < numberOfStrips; strip++) {
+            double start = strip * stripWidth;
+            double end = Math.min(start + stripWidth, panelWidth);
+            if (firstLines[strip] < 0) {
+                int closestLine = (int) Math.min(Math.round(0.5 * (start + end) / spacing), numberOfLines - 1);
+                firstLines[strip] = closestLine;
+                lastLines[strip] = closestLine;
+            }
+            int numberOfStripLines = lastLines[strip] - firstLines[strip] + 1;
+
+            double saggingUlsMoment = 0;
+            double saggingSlsMoment = 0;
+            double hoggingUlsMoment = 0;
+            double hoggingSlsMoment = 0;
+            for (int point = 0; point < numberOfPoints; point++) {
+                double sumOfUlsMoments = 0;
+                double sumOfSlsMoments = 0;
+                for (int line = firstLines[strip]; line <= lastLines[strip]; line++) {
+                    int column = isX ? point : line;
+                    int row = isX ? line : point;
+                    sumOfUlsMoments += field.getUlsMoment(direction, column, row);
+                    sumOfSlsMoments += field.getSlsMoment(direction, column, row);
+                }
+                double UlsMoment = sumOfUlsMoments / numberOfStripLines;
+                double SlsMoment = sumOfSlsMoments / numberOfStripLines;
+                saggingUlsMoment = Math.max(saggingUlsMoment, UlsMoment);
+                saggingSlsMoment = Math.max(saggingSlsMoment, SlsMoment);
+                hoggingUlsMoment = Math.min(hoggingUlsMoment, UlsMoment);
+                hoggingSlsMoment = Math.min(hoggingSlsMoment, SlsMoment);
+            }
+
+            envelopes[strip] = new double[]{start, end,
+                    roundUp(saggingUlsMoment), roundUp(saggingSlsMoment), roundUp(hoggingUlsMoment), roundUp(hoggingSlsMoment)};
+        }
+
+        return envelopes;
+    }
+
+    /**
+     * Rounds moment magnitude up to a multiple of moment step, keeping its sign.
+     *
+     * @param moment moment in kNm/m
+     * @return rounded moment in kNm/m
+     */
+    private double roundUp(double moment) {
+        if (momentStep == 0 || moment == 0) {
+            return moment;
+        }
+        return Math.signum(moment) * Math.ceil(Math.abs(moment) / momentStep) * momentStep;
+    }
+
+    /**
+     * Creates design request from a template with given design moments.
+     *
+     * @param template  slab design request used as a template
+     * @param UlsMoment ULS moment in kNm/m, positive for sagging
+     * @param SlsMoment SLS moment in kNm/m
+     * @return design request
+     */
+    private static DesignRequest getRequest(DesignRequest template, double UlsMoment, double SlsMoment) {
+        return new DesignRequest(template.getId(), template.getElementType(), template.getGeometry(), template.getReinforcement(),
+                template.getDesignParameters(), template.getConcrete(), UlsMoment, SlsMoment, template.getUlsShear());
+    }
+
+    /**
+     * Merges consecutive strips with the same tensile reinforcement into zones, separately for each direction and face.
+     *
+     * @param strips designed strips, each direction ordered by strip index
+     * @return list of reinforcement zones
+     */
+    private static List<ReinforcementZone> getZones(List<PanelStrip> strips) {
+        List<ReinforcementZone> zones = new ArrayList<>();
+        for (StripDirection direction : StripDirection.values()) {
+            List<PanelStrip> stripsInDirection = strips.stream()
+                    .filter(strip -> strip.getDirection() == direction)
+                    .collect(Collectors.toList());
+            for (String slabFace : SLAB_FACES) {
+                int first = 0;
+                String reinforcement = getReinforcementDescription(stripsInDirection.get(0), slabFace);
+                double UlsMoment = 0;
+                for (int i = 0; i < stripsInDirection.size(); i++) {
+                    PanelStrip strip = stripsInDirection.get(i);
+                    String stripReinforcement = getReinforcementDescription(strip, slabFace);
+                    if (!stripReinforcement.equals(reinforcement)) {
+                        zones.add(getZone(stripsInDirection, slabFace, first, i - 1, reinforcement, UlsMoment));
+                        first = i;
+                        reinforcement = stripReinforcement;
+                        UlsMoment = 0;
+                    }
+                    if (Math.abs(strip.getUlsMoment(slabFace)) > Math.abs(UlsMoment)) {
+                        UlsMoment = strip.getUlsMoment(slabFace);
+                    }
+                }
+                zones.add(getZone(stripsInDirection, slabFace, first, stripsInDirection.size() - 1, reinforcement, UlsMoment));
+            }
+        }
+        return zones;
+    }
+
+    /**
+     * Creates reinforcement zone spanning given strips.
+     *
+     * @param strips        strips in one direction
+     * @param slabFace      slab face (top or bottom)
+     * @param first         index of the first strip in the zone
+     * @param last          index of the last strip in the zone
+     * @param reinforcement description of tensile reinforcement
+     * @param UlsMoment     governing ULS moment in kNm/m
+     * @return reinforcement zone
+     */
+    private static ReinforcementZone getZone(List<PanelStrip> strips, String slabFace, int first, int last, String reinforcement, double UlsMoment) {
+        PanelStrip firstStrip = strips.get(first);
+        return new ReinforcementZone(firstStrip.getDirection(), slabFace, first, last,
+                firstStrip.getStart(), strips.get(last).getEnd(), reinforcement, UlsMoment);
+    }
+
+    /**
+     * Gets description of tensile reinforcement for a strip face.
+     *
+     * @param strip    designed strip
+     * @param slabFace slab face (top or bottom)
+     * @return bar diameter and spacing, '-' if face does not need reinforcement or information that no adequate reinforcement was found
+     */
+    private static String getReinforcementDescription(PanelStrip strip, String slabFace) {
+        if (!strip.isDesigned(slabFace)) {
+            return NOT_REQUIRED;
+        }
+        DesignResult result = strip.getResult(slabFace);
+        if (result == null) {
+            return UIText.NO_ADEQUATE_REINFORCEMENT;
+        }
+        SlabReinforcement reinforcement = (SlabReinforcement) result.getRequest().getReinforcement();
+        return slabFace.equals(Constants.SLAB_BOTTOM_FACE)
+                ? String.format("\u03c6%d@%d", reinforcement.getBottomDiameters().get(0), reinforcement.getBottomSpacings().get(0))
+                : String.format("\u03c6%d@%d", reinforcement.getTopDiameters().get(0), reinforcement.getTopSpacings().get(0));
+    }
+
+    /**
+     * Key used to group strips with identical design.
+     */
+    private static final class Key {
+        private final StripDirection direction;
+        private final String slabFace;
+        private final double UlsMoment;
+        private final double SlsMoment;
+
+        /**
+         * Constructor.
+         *
+         * @param direction strip direction
+         * @param slabFace  slab face (top or bottom)
+         * @param UlsMoment ULS design moment in kNm/m
+         * @param SlsMoment SLS design moment in kNm/m
+         */
+        private Key(StripDirection direction, String slabFace, double UlsMoment, double SlsMoment) {
+            this.direction = direction;
+            this.slabFace = slabFace;
+            this.UlsMoment = UlsMoment;
+            this.SlsMoment = SlsMoment;
+        }
+
+        /**
+         * Checks if keys describe the same design.
+         *
+         * @param o other object
+         * @return true if equal
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return direction == key.direction
+                    && slabFace.equals(key.slabFace)
+                    && Double.compare(UlsMoment, key.UlsMoment) == 0
+                    && Double.compare(SlsMoment, key.SlsMoment) == 0;
+        }
+
+        /**
+         * Calculates hash code of the key.
+         *
+         * @return hash code
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(direction, slabFace, UlsMoment, SlsMoment);
+        }
+    }
+}
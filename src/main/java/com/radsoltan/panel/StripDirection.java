@@ -0,0 +1,10 @@
+package com.radsoltan.panel;
+
+/**
+ * Direction of slab strips, that is direction the strip spans and its reinforcement runs in.
+ * Strips in X direction are designed for Mx moments and are laid side by side along Y axis.
+ */
+public enum StripDirection {
+    X,
+    Y
+}
@@ -0,0 +1,326 @@
+package com.radsoltan.service;
+
+import com.radsoltan.batch.ScheduleColumn;
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.CheckResult;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import com.radsoltan.util.Json;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps JSON sections to design requests and design results to JSON. Section fields have the same names as section schedule columns,
+ * see ScheduleColumn. Bar diameters of beams are arrays of rows, e.g. [[25, 25, 25], [16, 16]], slab diameters and spacings are arrays of layers.
+ * Design parameter fields are optional, missing values are taken from default design parameters.
+ */
+public class DesignJson {
+
+    /**
+     * Private constructor. Class with static methods only.
+     */
+    private DesignJson() {
+    }
+
+    /**
+     * Creates design request from a JSON section.
+     *
+     * @param section           parsed JSON object
+     * @param elementType       element type - 'beam' or 'slab'
+     * @param defaultParameters default design parameters, shared by sections that do not override them
+     * @return design request
+     * @throws IllegalArgumentException if a field is missing or invalid
+     */
+    public static DesignRequest toDesignRequest(Map<String, Object> section, String elementType, DesignParameters defaultParameters) {
+        String id = section.get(ScheduleColumn.ID.getName()) instanceof String ? (String) section.get(ScheduleColumn.ID.getName()) : "";
+        DesignParameters designParameters = getDesignParameters(section, defaultParameters);
+        Concrete concrete = getConcrete(section);
+        double UlsMoment = getNumber(section, ScheduleColumn.ULS_MOMENT);
+        double SlsMoment = getNumber(section, ScheduleColumn.SLS_MOMENT, 0);
+        int depth = getInt(section, ScheduleColumn.DEPTH);
+
+        if (Constants.ELEMENT_TYPE_SLAB.equals(elementType)) {
+            List<Integer> topDiameters = getIntegers(section, ScheduleColumn.TOP_DIAMETERS);
+            List<Integer> additionalTopDiameters = getIntegers(section, ScheduleColumn.ADDITIONAL_TOP_DIAMETERS, Collections.nCopies(topDiameters.size(), 0));
+            List<Integer> topSpacings = getIntegers(section, ScheduleColumn.TOP_SPACINGS);
+            List<Integer> topVerticalSpacings = getIntegers(section, ScheduleColumn.TOP_VERTICAL_SPACINGS, Collections.emptyList());
+            List<Integer> bottomDiameters = getIntegers(section, ScheduleColumn.BOTTOM_DIAMETERS);
+            List<Integer> additionalBottomDiameters = getIntegers(section, ScheduleColumn.ADDITIONAL_BOTTOM_DIAMETERS, Collections.nCopies(bottomDiameters.size(), 0));
+            List<Integer> bottomSpacings = getIntegers(section, ScheduleColumn.BOTTOM_SPACINGS);
+            List<Integer> bottomVerticalSpacings = getIntegers(section, ScheduleColumn.BOTTOM_VERTICAL_SPACINGS, Collections.emptyList());
+            checkLayers(topDiameters, additionalTopDiameters, topSpacings, topVerticalSpacings, ScheduleColumn.TOP_DIAMETERS);
+            checkLayers(bottomDiameters, additionalBottomDiameters, bottomSpacings, bottomVerticalSpacings, ScheduleColumn.BOTTOM_DIAMETERS);
+            SlabReinforcement reinforcement = new SlabReinforcement(topDiameters, additionalTopDiameters, topSpacings, topVerticalSpacings,
+                    bottomDiameters, additionalBottomDiameters, bottomSpacings, bottomVerticalSpacings);
+            return new DesignRequest(id, Constants.ELEMENT_TYPE_SLAB, new Geometry(new SlabStrip(depth)), reinforcement,
+                    designParameters, concrete, UlsMoment, SlsMoment, 0);
+        }
+        if (Constants.ELEMENT_TYPE_BEAM.equals(elementType)) {
+            int width = getInt(section, ScheduleColumn.WIDTH);
+            int flangeWidth = (int) getNumber(section, ScheduleColumn.FLANGE_WIDTH, 0);
+            Geometry geometry = flangeWidth > 0 ?
+                    new Geometry(new TSection(width, depth, flangeWidth, getInt(section, ScheduleColumn.FLANGE_THICKNESS))) :
+                    new Geometry(new Rectangle(width, depth));
+            ShearLinks shearLinks = new ShearLinks(
+                    (int) getNumber(section, ScheduleColumn.LINK_YIELD_STRENGTH, designParameters.getYieldStrength()),
+                    getInt(section, ScheduleColumn.LINK_DIAMETER),
+                    getInt(section, ScheduleColumn.LINK_SPACING),
+                    (int) getNumber(section, ScheduleColumn.LINK_LEGS, 2));
+            List<List<Integer>> topDiameters = getRows(section, ScheduleColumn.TOP_DIAMETERS);
+            List<Integer> topVerticalSpacings = getIntegers(section, ScheduleColumn.TOP_VERTICAL_SPACINGS, Collections.emptyList());
+            List<List<Integer>> bottomDiameters = getRows(section, ScheduleColumn.BOTTOM_DIAMETERS);
+            List<Integer> bottomVerticalSpacings = getIntegers(section, ScheduleColumn.BOTTOM_VERTICAL_SPACINGS, Collections.emptyList());
+            if (topVerticalSpacings.size() != topDiameters.size() - 1) {
+                throw invalidField(ScheduleColumn.TOP_VERTICAL_SPACINGS);
+            }
+            if (bottomVerticalSpacings.size() != bottomDiameters.size() - 1) {
+                throw invalidField(ScheduleColumn.BOTTOM_VERTICAL_SPACINGS);
+            }
+            BeamReinforcement reinforcement = new BeamReinforcement(topDiameters, topVerticalSpacings, bottomDiameters, bottomVerticalSpacings, shearLinks);
+            return new DesignRequest(id, Constants.ELEMENT_TYPE_BEAM, geometry, reinforcement, designParameters, concrete,
+                    UlsMoment, SlsMoment, getNumber(section, ScheduleColumn.ULS_SHEAR, 0));
+        }
+        throw new IllegalArgumentException(UIText.INVALID_ELEMENT_TYPE);
+    }
+
+    /**
+     * Appends design result as JSON object with section id, passed flag and results of flexure, shear and cracking checks.
+     *
+     * @param builder string builder
+     * @param result  design result
+     */
+    public static void appendResult(StringBuilder builder, DesignResult result) {
+        builder.append("{\"id\":");
+        Json.appendString(builder, result.getRequest().getId());
+        builder.append(",\"passed\":").append(result.isPassed());
+        builder.append(",\"flexure\":");
+        appendCheck(builder, result.getFlexureCheck());
+        builder.append(",\"shear\":");
+        appendCheck(builder, result.getShearCheck());
+        builder.append(",\"cracking\":");
+        appendCheck(builder, result.getCrackingCheck());
+        builder.append('}');
+    }
+
+    /**
+     * Appends JSON object for a section that could not be designed.
+     *
+     * @param builder string builder
+     * @param id      section id
+     * @param message error message
+     */
+    public static void appendError(StringBuilder builder, String id, String message) {
+        builder.append("{\"id\":");
+        Json.appendString(builder, id);
+        builder.append(",\"passed\":false,\"error\":");
+        Json.appendString(builder, message);
+        builder.append('}');
+    }
+
+    /**
+     * Appends check result as JSON object. Non finite values, e.g. utilisation of checks with an error, are written as null.
+     *
+     * @param builder string builder
+     * @param check   check result
+     */
+    private static void appendCheck(StringBuilder builder, CheckResult check) {
+        builder.append("{\"status\":\"").append(check.getStatus()).append("\",\"demand\":");
+        Json.appendNumber(builder, check.getDemand());
+        builder.append(",\"capacity\":");
+        Json.appendNumber(builder, check.getCapacity());
+        builder.append(",\"utilisation\":");
+        Json.appendNumber(builder, check.getUtilisation());
+        builder.append(",\"error\":");
+        Json.appendString(builder, check.getErrorMessage());
+        builder.append('}');
+    }
+
+    /**
+     * Gets design parameters of the section. Default parameters are returned if the section does not override any value.
+     *
+     * @param section           JSON section
+     * @param defaultParameters default design parameters
+     * @return design parameters
+     */
+    private static DesignParameters getDesignParameters(Map<String, Object> section, DesignParameters defaultParameters) {
+        boolean hasDesignParameters = section.containsKey(ScheduleColumn.COVER_TOP.getName()) || section.containsKey(ScheduleColumn.COVER_SIDES.getName())
+                || section.containsKey(ScheduleColumn.COVER_BOTTOM.getName()) || section.containsKey(ScheduleColumn.YIELD_STRENGTH.getName())
+                || section.containsKey(ScheduleColumn.AGGREGATE_SIZE.getName()) || section.containsKey(ScheduleColumn.CRACK_WIDTH_LIMIT.getName());
+        if (!hasDesignParameters) {
+            return defaultParameters;
+        }
+        return new DesignParameters(
+                (int) getNumber(section, ScheduleColumn.COVER_TOP, defaultParameters.getNominalCoverTop()),
+                (int) getNumber(section, ScheduleColumn.COVER_SIDES, defaultParameters.getNominalCoverSides()),
+                (int) getNumber(section, ScheduleColumn.COVER_BOTTOM, defaultParameters.getNominalCoverBottom()),
+                (int) getNumber(section, ScheduleColumn.YIELD_STRENGTH, defaultParameters.getYieldStrength()),
+                (int) getNumber(section, ScheduleColumn.AGGREGATE_SIZE, defaultParameters.getAggregateSize()),
+                defaultParameters.getPartialFactorOfSafetyForConcrete(), defaultParameters.getPartialFactorOfSafetyForSteel(),
+                defaultParameters.getRedistributionRatio(), defaultParameters.isRecommendedRatio(),
+                defaultParameters.isIncludeCrackingCalculations(),
+                getNumber(section, ScheduleColumn.CRACK_WIDTH_LIMIT, defaultParameters.getCrackWidthLimit()));
+    }
+
+    /**
+     * Gets concrete class. Both enum names, e.g. C30_37, and class names, e.g. C30/37, are accepted.
+     *
+     * @param section JSON section
+     * @return concrete class
+     */
+    private static Concrete getConcrete(Map<String, Object> section) {
+        Object value = section.get(ScheduleColumn.CONCRETE.getName());
+        if (value instanceof String) {
+            try {
+                return Concrete.valueOf(((String) value).replace('/', '_').toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw invalidField(ScheduleColumn.CONCRETE);
+            }
+        }
+        throw invalidField(ScheduleColumn.CONCRETE);
+    }
+
+    /**
+     * Checks that a face of slab reinforcement has the same number of diameters, additional diameters and spacings, and one vertical spacing less.
+     *
+     * @param diameters           diameters of main bars
+     * @param additionalDiameters diameters of additional bars
+     * @param spacings            bar spacings
+     * @param verticalSpacings    vertical spacings between layers
+     * @param column              diameters field, used in error message
+     */
+    private static void checkLayers(List<Integer> diameters, List<Integer> additionalDiameters, List<Integer> spacings,
+                                    List<Integer> verticalSpacings, ScheduleColumn column) {
+        if (additionalDiameters.size() != diameters.size()
+                || spacings.size() != diameters.size() || verticalSpacings.size() != diameters.size() - 1) {
+            throw invalidField(column);
+        }
+    }
+
+    /**
+     * Gets beam reinforcement rows. Rows must not be empty.
+     *
+     * @param section JSON section
+     * @param column  field
+     * @return list of rows
+     */
+    private static List<List<Integer>> getRows(Map<String, Object> section, ScheduleColumn column) {
+        Object value = section.get(column.getName());
+        if (!(value instanceof List) || ((List<?>) value).isEmpty()) {
+            throw invalidField(column);
+        }
+        return ((List<?>) value).stream()
+                .map(row -> {
+                    List<Integer> diameters = toIntegers(row, column);
+                    if (diameters.isEmpty()) {
+                        throw invalidField(column);
+                    }
+                    return diameters;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets required list of integers.
+     *
+     * @param section JSON section
+     * @param column  field
+     * @return list of integers
+     */
+    private static List<Integer> getIntegers(Map<String, Object> section, ScheduleColumn column) {
+        return toIntegers(section.get(column.getName()), column);
+    }
+
+    /**
+     * Gets optional list of integers.
+     *
+     * @param section      JSON section
+     * @param column       field
+     * @param defaultValue list used if the field is missing
+     * @return list of integers
+     */
+    private static List<Integer> getIntegers(Map<String, Object> section, ScheduleColumn column, List<Integer> defaultValue) {
+        return section.get(column.getName()) == null ? defaultValue : getIntegers(section, column);
+    }
+
+    /**
+     * Converts JSON array of numbers to list of integers.
+     *
+     * @param value  JSON value
+     * @param column field, used in error message
+     * @return list of integers
+     */
+    private static List<Integer> toIntegers(Object value, ScheduleColumn column) {
+        if (!(value instanceof List)) {
+            throw invalidField(column);
+        }
+        return ((List<?>) value).stream()
+                .map(element -> {
+                    if (!(element instanceof Double)) {
+                        throw invalidField(column);
+                    }
+                    return ((Double) element).intValue();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets required integer value.
+     *
+     * @param section JSON section
+     * @param column  field
+     * @return value
+     */
+    private static int getInt(Map<String, Object> section, ScheduleColumn column) {
+        return (int) getNumber(section, column);
+    }
+
+    /**
+     * Gets required number.
+     *
+     * @param section JSON section
+     * @param column  field
+     * @return value
+     */
+    private static double getNumber(Map<String, Object> section, ScheduleColumn column) {
+        Object value = section.get(column.getName());
+        if (!(value instanceof Double)) {
+            throw invalidField(column);
+        }
+        return (Double) value;
+    }
+
+    /**
+     * Gets optional number.
+     *
+     * @param section      JSON section
+     * @param column       field
+     * @param defaultValue value used if the field is missing
+     * @return value
+     */
+    private static double getNumber(Map<String, Object> section, ScheduleColumn column, double defaultValue) {
+        return section.get(column.getName()) == null ? defaultValue : getNumber(section, column);
+    }
+
+    /**
+     * Creates exception for missing or invalid field.
+     *
+     * @param column field
+     * @return exception
+     */
+    private static IllegalArgumentException invalidField(ScheduleColumn column) {
+        return new IllegalArgumentException(UIText.INVALID_JSON_FIELD + column.getName());
+    }
+}
@@ -0,0 +1,288 @@
+package com.radsoltan.service;
+
+import com.radsoltan.batch.BatchDesignEngine;
+import com.radsoltan.batch.ScheduleColumn;
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.util.Json;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Embedded HTTP server that runs beam and slab design checks without JavaFX. It uses the JDK HttpServer and the same Beam and Slab
+ * classes as the GUI, so material properties are shared through MaterialContext and sections without overrides share default design parameters.
+ * <p>
+ * Endpoints:
+ * <pre>
+ * POST /api/beam     JSON section or array of sections, returns result object or array of results in the same order
+ * POST /api/slab     as above, for slabs
+ * GET  /api/metrics  number of requests and checks, rejected requests and p50/p99 latency in ms of the most recent requests
+ * </pre>
+ * Requests are handled by a bounded worker pool. When the queue is full the request is handled on the dispatcher thread,
+ * which stops accepting new connections until there is capacity. Large batches are designed in parallel in a shared fork join pool.
+ */
+public class DesignServer {
+    public static final String BEAM_PATH = "/api/beam";
+    public static final String SLAB_PATH = "/api/slab";
+    public static final String METRICS_PATH = "/api/metrics";
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final int PARALLEL_BATCH_SIZE = 256;
+    private static final int LATENCY_SAMPLES = 8192;
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+    private final ForkJoinPool batchPool;
+    private final DesignParameters defaultParameters;
+    private final LatencyRecorder latencyRecorder;
+    private final LongAdder numberOfChecks;
+    private final LongAdder numberOfRejectedRequests;
+
+    /**
+     * Constructor. Server is created but not started.
+     *
+     * @param address           address to bind, port 0 picks a free port
+     * @param numberOfWorkers   number of worker threads
+     * @param queueCapacity     max number of requests waiting for a worker
+     * @param defaultParameters design parameters used if sections do not override them
+     * @throws IOException if server can't be bound to the address
+     */
+    public DesignServer(InetSocketAddress address, int numberOfWorkers, int queueCapacity, DesignParameters defaultParameters) throws IOException {
+        if (numberOfWorkers < 1) {
+            throw new IllegalArgumentException(UIText.INVALID_PARALLELISM);
+        }
+        this.defaultParameters = defaultParameters;
+        this.latencyRecorder = new LatencyRecorder(LATENCY_SAMPLES);
+        this.numberOfChecks = new LongAdder();
+        this.numberOfRejectedRequests = new LongAdder();
+        this.executor = new ThreadPoolExecutor(numberOfWorkers, numberOfWorkers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.batchPool = new ForkJoinPool(numberOfWorkers);
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext(BEAM_PATH, exchange -> handleDesign(exchange, Constants.ELEMENT_TYPE_BEAM));
+        server.createContext(SLAB_PATH, exchange -> handleDesign(exchange, Constants.ELEMENT_TYPE_SLAB));
+        server.createContext(METRICS_PATH, this::handleMetrics);
+    }
+
+    /**
+     * Starts the server with default design parameters. Port can be passed as the first argument, 8080 by default.
+     *
+     * @param args command line arguments
+     * @throws IOException if server can't be started
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int numberOfWorkers = Runtime.getRuntime().availableProcessors();
+        DesignParameters designParameters = new DesignParameters(30, 30, 30, 500, Constants.DEFAULT_AGGREGATE_SIZE,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                Constants.DEFAULT_REDISTRIBUTION_RATIO, true, true, 0.3);
+        DesignServer designServer = new DesignServer(new InetSocketAddress(port), numberOfWorkers, 64 * numberOfWorkers, designParameters);
+        Runtime.getRuntime().addShutdownHook(new Thread(designServer::stop));
+        designServer.start();
+        System.out.println("Design service listening on port " + designServer.getPort());
+    }
+
+    /**
+     * Starts the server.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server and shuts down worker pools. Requests in progress are given one second to complete.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        batchPool.shutdown();
+    }
+
+    /**
+     * Gets port the server is bound to.
+     *
+     * @return port number
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles design request. Body can be a single section or an array of sections.
+     * Sections that can't be parsed are returned with an error message and do not stop the other ones.
+     *
+     * @param exchange    HTTP exchange
+     * @param elementType element type - 'beam' or 'slab'
+     * @throws IOException if response can't be sent
+     */
+    private void handleDesign(HttpExchange exchange, String elementType) throws IOException {
+        long start = System.nanoTime();
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                numberOfRejectedRequests.increment();
+                sendError(exchange, 405, UIText.INVALID_HTTP_METHOD);
+                return;
+            }
+            Object body;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                body = Json.parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                numberOfRejectedRequests.increment();
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+            StringBuilder response = new StringBuilder();
+            if (body instanceof List) {
+                List<?> sections = (List<?>) body;
+                String[] results = designSections(sections, elementType);
+                response.append('[');
+                for (int i = 0; i < results.length; i++) {
+                    response.append(i > 0 ? "," : "").append(results[i]);
+                }
+                response.append(']');
+            } else {
+                response.append(designSection(body, elementType));
+            }
+            send(exchange, 200, response.toString());
+        } finally {
+            exchange.close();
+            latencyRecorder.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Designs sections of a batch. Large batches are designed in parallel, results are returned in the same order as the sections.
+     *
+     * @param sections    list of JSON sections
+     * @param elementType element type
+     * @return array of JSON results
+     */
+    private String[] designSections(List<?> sections, String elementType) {
+        String[] results = new String[sections.size()];
+        IntStream indices = IntStream.range(0, sections.size());
+        if (sections.size() < PARALLEL_BATCH_SIZE) {
+            indices.forEach(i -> results[i] = designSection(sections.get(i), elementType));
+        } else {
+            batchPool.submit(() -> indices.parallel().forEach(i -> results[i] = designSection(sections.get(i), elementType))).join();
+        }
+        return results;
+    }
+
+    /**
+     * Designs a single section.
+     *
+     * @param section     JSON section
+     * @param elementType element type
+     * @return JSON result
+     */
+    @SuppressWarnings("unchecked")
+    private String designSection(Object section, String elementType) {
+        StringBuilder builder = new StringBuilder(512);
+        if (!(section instanceof Map)) {
+            DesignJson.appendError(builder, null, UIText.INVALID_JSON_SECTION);
+            return builder.toString();
+        }
+        Map<String, Object> fields = (Map<String, Object>) section;
+        DesignRequest request;
+        try {
+            request = DesignJson.toDesignRequest(fields, elementType, defaultParameters);
+        } catch (IllegalArgumentException e) {
+            Object id = fields.get(ScheduleColumn.ID.getName());
+            DesignJson.appendError(builder, id instanceof String ? (String) id : null, e.getMessage());
+            return builder.toString();
+        }
+        DesignResult result = BatchDesignEngine.design(request);
+        numberOfChecks.increment();
+        DesignJson.appendResult(builder, result);
+        return builder.toString();
+    }
+
+    /**
+     * Handles metrics request.
+     *
+     * @param exchange HTTP exchange
+     * @throws IOException if response can't be sent
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            String metrics = String.format(Locale.ROOT,
+                    "{\"requests\":%d,\"checks\":%d,\"rejectedRequests\":%d,\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"workers\":%d,\"queuedRequests\":%d}",
+                    latencyRecorder.getCount(), numberOfChecks.sum(), numberOfRejectedRequests.sum(),
+                    latencyRecorder.getPercentileMillis(50), latencyRecorder.getPercentileMillis(99),
+                    executor.getPoolSize(), executor.getQueue().size());
+            send(exchange, 200, metrics);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sends JSON error response.
+     *
+     * @param exchange   HTTP exchange
+     * @param statusCode HTTP status code
+     * @param message    error message
+     * @throws IOException if response can't be sent
+     */
+    private static void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        StringBuilder builder = new StringBuilder("{\"error\":");
+        Json.appendString(builder, message);
+        builder.append('}');
+        send(exchange, statusCode, builder.toString());
+    }
+
+    /**
+     * Sends JSON response.
+     *
+     * @param exchange   HTTP exchange
+     * @param statusCode HTTP status code
+     * @param body       JSON body
+     * @throws IOException if response can't be sent
+     */
+    private static void send(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    /**
+     * Gets number of designed sections.
+     *
+     * @return number of checks since the server was created
+     */
+    public long getNumberOfChecks() {
+        return numberOfChecks.sum();
+    }
+
+    /**
+     * Getter for latency recorder.
+     *
+     * @return latency recorder
+     */
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+}
@@ -0,0 +1,73 @@
+package com.radsoltan.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records request latencies in a fixed size ring buffer and calculates percentiles of the most recent requests.
+ * Recording is lock free and does not allocate, so it can be called from all worker threads.
+ */
+public class LatencyRecorder {
+    private final AtomicLongArray latencies;
+    private final AtomicLong count;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity number of most recent latencies used for percentiles
+     */
+    public LatencyRecorder(int capacity) {
+        this.latencies = new AtomicLongArray(capacity);
+        this.count = new AtomicLong();
+    }
+
+    /**
+     * Records latency of a request.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        latencies.set((int) (index % latencies.length()), nanos);
+    }
+
+    /**
+     * Calculates percentile of recorded latencies using nearest rank method.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, 0 if nothing was recorded
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] sorted = getSortedLatencies();
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1e6;
+    }
+
+    /**
+     * Copies and sorts the recorded latencies.
+     *
+     * @return sorted latencies in nanoseconds
+     */
+    private long[] getSortedLatencies() {
+        int size = (int) Math.min(count.get(), latencies.length());
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Gets number of recorded requests.
+     *
+     * @return number of requests since the recorder was created
+     */
+    public long getCount() {
+        return count.get();
+    }
+}
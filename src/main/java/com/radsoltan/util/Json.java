@@ -0,0 +1,332 @@
+package com.radsoltan.util;
+
+import com.radsoltan.constants.UIText;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON parser and writer helpers used by the design service, so that no external library is required.
+ * Objects are parsed to LinkedHashMap, arrays to ArrayList, numbers to Double, and true, false and null to Boolean and null values.
+ * Nesting of objects and arrays is limited, so that deeply nested text is rejected as invalid rather than overflowing the stack.
+ */
+public class Json {
+    private static final int MAX_DEPTH = 64;
+
+    private final String text;
+    private int position;
+    private int depth;
+
+    /**
+     * Private constructor. Use parse method.
+     *
+     * @param text JSON text
+     */
+    private Json(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses JSON text.
+     *
+     * @param text JSON text
+     * @return parsed value
+     * @throws IllegalArgumentException if text is not valid JSON
+     */
+    public static Object parse(String text) {
+        Json json = new Json(text);
+        json.skipWhitespace();
+        Object value = json.readValue();
+        json.skipWhitespace();
+        if (json.position != text.length()) {
+            throw json.error();
+        }
+        return value;
+    }
+
+    /**
+     * Appends string as JSON string literal, null is written as null.
+     *
+     * @param builder string builder
+     * @param value   string value
+     */
+    public static void appendString(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Appends number. Infinite and NaN values are not valid in JSON, these are written as null.
+     *
+     * @param builder string builder
+     * @param value   number
+     */
+    public static void appendNumber(StringBuilder builder, double value) {
+        if (Double.isFinite(value)) {
+            builder.append(value);
+        } else {
+            builder.append("null");
+        }
+    }
+
+    /**
+     * Reads value at current position.
+     *
+     * @return parsed value
+     */
+    private Object readValue() {
+        if (position >= text.length()) {
+            throw error();
+        }
+        char character = text.charAt(position);
+        switch (character) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                return readLiteral("true", Boolean.TRUE);
+            case 'f':
+                return readLiteral("false", Boolean.FALSE);
+            case 'n':
+                return readLiteral("null", null);
+            default:
+                return readNumber();
+        }
+    }
+
+    /**
+     * Reads JSON object.
+     *
+     * @return map with object members
+     */
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        enter();
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            depth--;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error();
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect('}');
+                depth--;
+                return object;
+            }
+        }
+    }
+
+    /**
+     * Reads JSON array.
+     *
+     * @return list with array elements
+     */
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        enter();
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            depth--;
+            return array;
+        }
+        while (true) {
+            skipWhitespace();
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                depth--;
+                return array;
+            }
+        }
+    }
+
+    /**
+     * Moves past the opening bracket of an object or array and increases nesting depth.
+     *
+     * @throws IllegalArgumentException if maximum depth is exceeded
+     */
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw new IllegalArgumentException(UIText.INVALID_JSON_DEPTH + MAX_DEPTH);
+        }
+        position++;
+    }
+
+    /**
+     * Reads JSON string including escape sequences.
+     *
+     * @return string value
+     */
+    private String readString() {
+        position++;
+        StringBuilder builder = new StringBuilder();
+        while (position < text.length()) {
+            char character = text.charAt(position++);
+            if (character == '"') {
+                return builder.toString();
+            }
+            if (character != '\\') {
+                builder.append(character);
+                continue;
+            }
+            if (position >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (position + 4 > text.length()) {
+                        throw error();
+                    }
+                    try {
+                        builder.append((char) Integer.parseInt(text, position, position + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw error();
+                    }
+                    position += 4;
+                    break;
+                default:
+                    builder.append(escaped);
+            }
+        }
+        throw error();
+    }
+
+    /**
+     * Reads JSON number.
+     *
+     * @return number as double
+     */
+    private Double readNumber() {
+        int start = position;
+        while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) != -1) {
+            position++;
+        }
+        try {
+            return Double.valueOf(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error();
+        }
+    }
+
+    /**
+     * Reads literal value.
+     *
+     * @param literal literal text
+     * @param value   value of the literal
+     * @return value
+     */
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, position)) {
+            throw error();
+        }
+        position += literal.length();
+        return value;
+    }
+
+    /**
+     * Checks that current character is the expected one and moves to the next one.
+     *
+     * @param character expected character
+     */
+    private void expect(char character) {
+        if (peek() != character) {
+            throw error();
+        }
+        position++;
+    }
+
+    /**
+     * Gets current character without moving the position.
+     *
+     * @return current character, 0 at the end of the text
+     */
+    private char peek() {
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    /**
+     * Moves position to the next character that is not a whitespace.
+     */
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * Creates exception for invalid JSON at current position.
+     *
+     * @return exception
+     */
+    private IllegalArgumentException error() {
+        return new IllegalArgumentException(UIText.INVALID_JSON + position);
+    }
+}
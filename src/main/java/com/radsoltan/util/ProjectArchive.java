@@ -0,0 +1,220 @@
+package com.radsoltan.util;
+
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Project;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archive that stores many projects in a single file, for example all elements of a building.
+ * Projects are encoded with ProjectBinaryFormat and followed by an offset index.
+ * The archive is read via memory mapped file, so that a single project can be fetched without decoding the others.
+ * <p>
+ * Layout, all values big endian:
+ * <pre>
+ * header  int magic "RCDA", short version, int number of projects, long index offset
+ * records ProjectBinaryFormat record for each project
+ * index   for each project: string project id, long record offset, int record length
+ * </pre>
+ */
+public class ProjectArchive {
+    public static final int MAGIC = 0x52434441;
+    public static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final String[] ids;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final Map<String, Integer> indexById;
+
+    /**
+     * Constructor. Reads archive index from the mapped buffer.
+     *
+     * @param buffer buffer with mapped archive file
+     * @throws IOException if header or index is invalid
+     */
+    private ProjectArchive(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new StreamCorruptedException("Invalid project archive header.");
+            }
+            short version = buffer.getShort(Integer.BYTES);
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported project archive version: " + version);
+            }
+            int numberOfProjects = buffer.getInt(Integer.BYTES + Short.BYTES);
+            long indexOffset = buffer.getLong(Integer.BYTES + Short.BYTES + Integer.BYTES);
+            if (numberOfProjects < 0 || indexOffset < HEADER_SIZE || indexOffset > buffer.limit()) {
+                throw new StreamCorruptedException("Invalid project archive index.");
+            }
+
+            this.ids = new String[numberOfProjects];
+            this.offsets = new long[numberOfProjects];
+            this.lengths = new int[numberOfProjects];
+            this.indexById = new HashMap<>();
+
+            ByteBuffer index = buffer.duplicate().position((int) indexOffset);
+            for (int i = 0; i < numberOfProjects; i++) {
+                ids[i] = ProjectBinaryFormat.readString(index);
+                offsets[i] = index.getLong();
+                lengths[i] = index.getInt();
+                if (offsets[i] < HEADER_SIZE || lengths[i] < 0 || offsets[i] + lengths[i] > indexOffset) {
+                    throw new StreamCorruptedException("Invalid project archive record: " + i);
+                }
+                if (ids[i] != null) {
+                    // First project wins if ids are duplicated
+                    indexById.putIfAbsent(ids[i], i);
+                }
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new StreamCorruptedException("Invalid project archive: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes projects to an archive file. Existing file is overwritten.
+     *
+     * @param file     file to write to
+     * @param projects list of projects
+     * @throws IOException Exception for failed or interrupted I/O operation
+     */
+    public static void write(File file, List<Project> projects) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[projects.size() + 2];
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(projects.size() * 32);
+        DataOutputStream index = new DataOutputStream(byteArrayOutputStream);
+
+        long offset = HEADER_SIZE;
+        for (int i = 0; i < projects.size(); i++) {
+            ByteBuffer record = ProjectBinaryFormat.encode(projects.get(i));
+            buffers[i + 1] = record;
+            ProjectBinaryFormat.writeString(index, projects.get(i).getId());
+            index.writeLong(offset);
+            index.writeInt(record.remaining());
+            offset += record.remaining();
+        }
+        index.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putInt(projects.size()).putLong(offset).flip();
+        buffers[0] = header;
+        buffers[buffers.length - 1] = ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+    }
+
+    /**
+     * Opens an archive file. The file is mapped into memory and only the index is read.
+     * The mapping stays valid after the channel is closed.
+     *
+     * @param file archive file
+     * @return project archive
+     * @throws IOException if file can't be read or it is not a valid archive
+     */
+    public static ProjectArchive open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new StreamCorruptedException("Invalid project archive header.");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Project archive is too large: " + size);
+            }
+            return new ProjectArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Gets number of projects in the archive.
+     *
+     * @return number of projects
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Gets ids of all projects in archive order.
+     *
+     * @return list of project ids, null entries for projects without id
+     */
+    public List<String> getIds() {
+        return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+
+    /**
+     * Checks if archive includes project with given id.
+     *
+     * @param id project id
+     * @return true if project is in the archive
+     */
+    public boolean contains(String id) {
+        return indexById.containsKey(id);
+    }
+
+    /**
+     * Reads project at given position in the archive. Only that project's record is decoded.
+     *
+     * @param index project index
+     * @return project
+     * @throws IOException if project record is invalid
+     */
+    public Project read(int index) throws IOException {
+        ByteBuffer record = buffer.duplicate()
+                .position((int) offsets[index])
+                .limit((int) offsets[index] + lengths[index])
+                .slice();
+        return ProjectBinaryFormat.decode(record);
+    }
+
+    /**
+     * Reads project with given id. If the id is duplicated, the first project is returned.
+     *
+     * @param id project id
+     * @return project
+     * @throws IOException              if project record is invalid
+     * @throws IllegalArgumentException if there is no project with given id
+     */
+    public Project read(String id) throws IOException {
+        Integer index = indexById.get(id);
+        if (index == null) {
+            throw new IllegalArgumentException(UIText.PROJECT_NOT_IN_ARCHIVE);
+        }
+        return read(index);
+    }
+
+    /**
+     * Reads all projects in archive order.
+     *
+     * @return list of projects
+     * @throws IOException if any project record is invalid
+     */
+    public List<Project> readAll() throws IOException {
+        List<Project> projects = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            projects.add(read(i));
+        }
+        return projects;
+    }
+}
@@ -0,0 +1,478 @@
+package com.radsoltan.util;
+
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.Project;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.LSection;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.Section;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.Reinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact, versioned binary format for project files. Only project inputs and results summary are stored, Beam and Slab objects are not.
+ * <p>
+ * Schema - version 1, all values big endian:
+ * <pre>
+ * header        int magic "RCDB", short version
+ * project       string name, id, description, author, UlsMoment, SlsMoment, UlsShear, elementType
+ * geometry      byte tag (0 - none, 1 - rectangle, 2 - slab strip, 3 - T section, 4 - L section), int dimensions
+ *               rectangle: width, depth; slab strip: thickness; T and L section: web width, depth, flange width, flange thickness
+ * reinforcement byte tag (0 - none, 1 - beam, 2 - slab)
+ *               beam: rows top, short list top vertical spacings, rows bottom, short list bottom vertical spacings, shear links
+ *               slab: short lists top diameters, additional top diameters, top spacings, top vertical spacings, then the same for bottom
+ * shear links   byte present, int yield strength, diameter, spacing, legs
+ * parameters    byte present, int cover top, cover sides, cover bottom, yield strength, aggregate size,
+ *               double gamma C, gamma S, redistribution ratio, byte recommended ratio, byte include cracking, double crack width limit
+ * concrete      string enum name
+ * results       double flexure capacity, string flexure messages x2, byte flexure error,
+ *               double required shear reinforcement, string shear messages x2, byte shear error,
+ *               double crack width, double crack width limit, string cracking messages x2, byte cracking error
+ * </pre>
+ * Strings are written as int length followed by UTF-8 bytes, length of -1 denotes null. Short lists are written as short size followed by short values.
+ * Rows are written as short number of rows followed by short list for each row.
+ */
+public class ProjectBinaryFormat {
+    public static final int MAGIC = 0x52434442;
+    public static final short VERSION = 1;
+
+    private static final byte NONE = 0;
+    private static final byte RECTANGLE = 1;
+    private static final byte SLAB_STRIP = 2;
+    private static final byte T_SECTION = 3;
+    private static final byte L_SECTION = 4;
+    private static final byte BEAM_REINFORCEMENT = 1;
+    private static final byte SLAB_REINFORCEMENT = 2;
+
+    /**
+     * Checks if the buffer starts with binary format header. Buffer position is not changed.
+     *
+     * @param buffer buffer with file contents
+     * @return true if binary format
+     */
+    public static boolean isBinaryFormat(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    /**
+     * Encodes project to a byte buffer ready to be written to a channel.
+     *
+     * @param project project to encode
+     * @return buffer with encoded project
+     * @throws IOException if project can't be encoded
+     */
+    public static ByteBuffer encode(Project project) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(512);
+        DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        // Project
+        writeString(output, project.getName());
+        writeString(output, project.getId());
+        writeString(output, project.getDescription());
+        writeString(output, project.getAuthor());
+        writeString(output, project.getUlsMoment());
+        writeString(output, project.getSlsMoment());
+        writeString(output, project.getUlsShear());
+        writeString(output, project.getElementType());
+        writeGeometry(output, project.getGeometry());
+        writeReinforcement(output, project.getReinforcement());
+        writeDesignParameters(output, project.getDesignParameters());
+        writeString(output, project.getConcrete() != null ? project.getConcrete().name() : null);
+        // Flexure results
+        output.writeDouble(project.getFlexureCapacity());
+        writeString(output, project.getFlexureCapacityCheckMessage());
+        writeString(output, project.getFlexureResultsAdditionalMessage());
+        output.writeBoolean(project.getIsFlexureError());
+        // Shear results
+        output.writeDouble(project.getRequiredShearReinforcement());
+        writeString(output, project.getShearCapacityCheckMessage());
+        writeString(output, project.getShearResultsAdditionalMessage());
+        output.writeBoolean(project.getIsShearError());
+        // Cracking results
+        output.writeDouble(project.getCrackWidth());
+        output.writeDouble(project.getCrackWidthLimit());
+        writeString(output, project.getCrackingCheckMessage());
+        writeString(output, project.getCrackingResultsAdditionalMessage());
+        output.writeBoolean(project.getIsCrackingError());
+        output.flush();
+
+        return ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+    }
+
+    /**
+     * Decodes project from a byte buffer. The buffer position is moved to the end of the project record.
+     *
+     * @param buffer buffer with encoded project
+     * @return decoded project
+     * @throws IOException if header is invalid, version is not supported or buffer is truncated
+     */
+    public static Project decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("Invalid project file header.");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported project file version: " + version);
+            }
+            Project project = new Project();
+            project.setName(readString(buffer));
+            project.setId(readString(buffer));
+            project.setDescription(readString(buffer));
+            project.setAuthor(readString(buffer));
+            project.setUlsMoment(readString(buffer));
+            project.setSlsMoment(readString(buffer));
+            project.setUlsShear(readString(buffer));
+            project.setElementType(readString(buffer));
+            project.setGeometry(readGeometry(buffer));
+            project.setReinforcement(readReinforcement(buffer));
+            project.setDesignParameters(readDesignParameters(buffer));
+            String concrete = readString(buffer);
+            project.setConcrete(concrete != null ? Concrete.valueOf(concrete) : null);
+            // Flexure results
+            project.setFlexureCapacity(buffer.getDouble());
+            project.setFlexureCapacityCheckMessage(readString(buffer));
+            project.setFlexureResultsAdditionalMessage(readString(buffer));
+            project.setFlexureError(buffer.get() != 0);
+            // Shear results
+            project.setRequiredShearReinforcement(buffer.getDouble());
+            project.setShearCapacityCheckMessage(readString(buffer));
+            project.setShearResultsAdditionalMessage(readString(buffer));
+            project.setShearError(buffer.get() != 0);
+            // Cracking results
+            project.setCrackWidth(buffer.getDouble());
+            project.setCrackWidthLimit(buffer.getDouble());
+            project.setCrackingCheckMessage(readString(buffer));
+            project.setCrackingResultsAdditionalMessage(readString(buffer));
+            project.setCrackingError(buffer.get() != 0);
+
+            return project;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new StreamCorruptedException("Invalid project file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes geometry. Subclasses are checked first - slab strip before rectangle and L section before T section.
+     *
+     * @param output   output to write to
+     * @param geometry geometry, can be null
+     * @throws IOException if geometry can't be written
+     */
+    private static void writeGeometry(DataOutputStream output, Geometry geometry) throws IOException {
+        Section section = geometry != null ? geometry.getSection() : null;
+        if (section instanceof SlabStrip) {
+            output.writeByte(SLAB_STRIP);
+            output.writeInt(section.getDepth());
+        } else if (section instanceof Rectangle) {
+            output.writeByte(RECTANGLE);
+            output.writeInt(section.getWidth());
+            output.writeInt(section.getDepth());
+        } else if (section instanceof TSection) {
+            TSection tSection = (TSection) section;
+            output.writeByte(section instanceof LSection ? L_SECTION : T_SECTION);
+            output.writeInt(tSection.getWebWidth());
+            output.writeInt(tSection.getDepth());
+            output.writeInt(tSection.getFlangeWidth());
+            output.writeInt(tSection.getFlangeThickness());
+        } else {
+            output.writeByte(NONE);
+        }
+    }
+
+    /**
+     * Reads geometry.
+     *
+     * @param buffer buffer to read from
+     * @return geometry, null if not set up
+     * @throws IOException if geometry tag is invalid
+     */
+    private static Geometry readGeometry(ByteBuffer buffer) throws IOException {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NONE:
+                return null;
+            case SLAB_STRIP:
+                return new Geometry(new SlabStrip(buffer.getInt()));
+            case RECTANGLE:
+                return new Geometry(new Rectangle(buffer.getInt(), buffer.getInt()));
+            case T_SECTION:
+                return new Geometry(new TSection(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            case L_SECTION:
+                return new Geometry(new LSection(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            default:
+                throw new StreamCorruptedException("Invalid geometry tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes beam or slab reinforcement.
+     *
+     * @param output        output to write to
+     * @param reinforcement reinforcement, can be null
+     * @throws IOException if reinforcement can't be written
+     */
+    private static void writeReinforcement(DataOutputStream output, Reinforcement reinforcement) throws IOException {
+        if (reinforcement instanceof BeamReinforcement) {
+            BeamReinforcement beamReinforcement = (BeamReinforcement) reinforcement;
+            output.writeByte(BEAM_REINFORCEMENT);
+            writeRows(output, beamReinforcement.getTopDiameters());
+            writeShortList(output, beamReinforcement.getTopVerticalSpacings());
+            writeRows(output, beamReinforcement.getBottomDiameters());
+            writeShortList(output, beamReinforcement.getBottomVerticalSpacings());
+            writeShearLinks(output, beamReinforcement.getShearLinks());
+        } else if (reinforcement instanceof SlabReinforcement) {
+            SlabReinforcement slabReinforcement = (SlabReinforcement) reinforcement;
+            output.writeByte(SLAB_REINFORCEMENT);
+            writeShortList(output, slabReinforcement.getTopDiameters());
+            writeShortList(output, slabReinforcement.getAdditionalTopDiameters());
+            writeShortList(output, slabReinforcement.getTopSpacings());
+            writeShortList(output, slabReinforcement.getTopVerticalSpacings());
+            writeShortList(output, slabReinforcement.getBottomDiameters());
+            writeShortList(output, slabReinforcement.getAdditionalBottomDiameters());
+            writeShortList(output, slabReinforcement.getBottomSpacings());
+            writeShortList(output, slabReinforcement.getBottomVerticalSpacings());
+        } else {
+            output.writeByte(NONE);
+        }
+    }
+
+    /**
+     * Reads beam or slab reinforcement.
+     *
+     * @param buffer buffer to read from
+     * @return reinforcement, null if not set up
+     * @throws IOException if reinforcement tag is invalid
+     */
+    private static Reinforcement readReinforcement(ByteBuffer buffer) throws IOException {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NONE:
+                return null;
+            case BEAM_REINFORCEMENT:
+                List<List<Integer>> topDiameters = readRows(buffer);
+                List<Integer> topVerticalSpacings = readShortList(buffer);
+                List<List<Integer>> bottomDiameters = readRows(buffer);
+                List<Integer> bottomVerticalSpacings = readShortList(buffer);
+                return new BeamReinforcement(topDiameters, topVerticalSpacings, bottomDiameters, bottomVerticalSpacings, readShearLinks(buffer));
+            case SLAB_REINFORCEMENT:
+                return new SlabReinforcement(
+                        readShortList(buffer),
+                        readShortList(buffer),
+                        readShortList(buffer),
+                        readShortList(buffer),
+                        readShortList(buffer),
+                        readShortList(buffer),
+                        readShortList(buffer),
+                        readShortList(buffer)
+                );
+            default:
+                throw new StreamCorruptedException("Invalid reinforcement tag: " + tag);
+        }
+    }
+
+    /**
+     * Writes shear links.
+     *
+     * @param output     output to write to
+     * @param shearLinks shear links, can be null
+     * @throws IOException if shear links can't be written
+     */
+    private static void writeShearLinks(DataOutputStream output, ShearLinks shearLinks) throws IOException {
+        output.writeBoolean(shearLinks != null);
+        if (shearLinks != null) {
+            output.writeInt(shearLinks.getYieldStrength());
+            output.writeInt(shearLinks.getDiameter());
+            output.writeInt(shearLinks.getSpacing());
+            output.writeInt(shearLinks.getLegs());
+        }
+    }
+
+    /**
+     * Reads shear links.
+     *
+     * @param buffer buffer to read from
+     * @return shear links, null if not set up
+     */
+    private static ShearLinks readShearLinks(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return new ShearLinks(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+    }
+
+    /**
+     * Writes design parameters.
+     *
+     * @param output           output to write to
+     * @param designParameters design parameters, can be null
+     * @throws IOException if design parameters can't be written
+     */
+    private static void writeDesignParameters(DataOutputStream output, DesignParameters designParameters) throws IOException {
+        output.writeBoolean(designParameters != null);
+        if (designParameters != null) {
+            output.writeInt(designParameters.getNominalCoverTop());
+            output.writeInt(designParameters.getNominalCoverSides());
+            output.writeInt(designParameters.getNominalCoverBottom());
+            output.writeInt(designParameters.getYieldStrength());
+            output.writeInt(designParameters.getAggregateSize());
+            output.writeDouble(designParameters.getPartialFactorOfSafetyForConcrete());
+            output.writeDouble(designParameters.getPartialFactorOfSafetyForSteel());
+            output.writeDouble(designParameters.getRedistributionRatio());
+            output.writeBoolean(designParameters.isRecommendedRatio());
+            output.writeBoolean(designParameters.isIncludeCrackingCalculations());
+            output.writeDouble(designParameters.getCrackWidthLimit());
+        }
+    }
+
+    /**
+     * Reads design parameters.
+     *
+     * @param buffer buffer to read from
+     * @return design parameters, null if not set up
+     */
+    private static DesignParameters readDesignParameters(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return new DesignParameters(
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.getDouble(),
+                buffer.get() != 0,
+                buffer.get() != 0,
+                buffer.getDouble()
+        );
+    }
+
+    /**
+     * Writes beam reinforcement rows.
+     *
+     * @param output output to write to
+     * @param rows   list of rows, each row is a list of bar diameters
+     * @throws IOException if rows can't be written
+     */
+    private static void writeRows(DataOutputStream output, List<List<Integer>> rows) throws IOException {
+        writeShort(output, rows.size());
+        for (List<Integer> row : rows) {
+            writeShortList(output, row);
+        }
+    }
+
+    /**
+     * Reads beam reinforcement rows.
+     *
+     * @param buffer buffer to read from
+     * @return list of rows, each row is a list of bar diameters
+     */
+    private static List<List<Integer>> readRows(ByteBuffer buffer) {
+        int numberOfRows = buffer.getShort();
+        List<List<Integer>> rows = new ArrayList<>(numberOfRows);
+        for (int i = 0; i < numberOfRows; i++) {
+            rows.add(readShortList(buffer));
+        }
+        return rows;
+    }
+
+    /**
+     * Writes list of integers as short values. Used for bar diameters and spacings.
+     *
+     * @param output output to write to
+     * @param values list of values
+     * @throws IOException if values can't be written or are out of range of short values
+     */
+    private static void writeShortList(DataOutputStream output, List<Integer> values) throws IOException {
+        writeShort(output, values.size());
+        for (int value : values) {
+            writeShort(output, value);
+        }
+    }
+
+    /**
+     * Writes integer as short value. Values out of range are not truncated, so that the project is not saved with different bars.
+     *
+     * @param output output to write to
+     * @param value  value
+     * @throws IOException if value can't be written or is out of range of short values
+     */
+    private static void writeShort(DataOutputStream output, int value) throws IOException {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IOException("Value out of range of project file: " + value);
+        }
+        output.writeShort(value);
+    }
+
+    /**
+     * Reads list of integers written as short values.
+     *
+     * @param buffer buffer to read from
+     * @return list of values
+     */
+    private static List<Integer> readShortList(ByteBuffer buffer) {
+        int size = buffer.getShort();
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add((int) buffer.getShort());
+        }
+        return values;
+    }
+
+    /**
+     * Writes nullable string as length and UTF-8 bytes.
+     *
+     * @param output output to write to
+     * @param value  string, can be null
+     * @throws IOException if string can't be written
+     */
+    static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads nullable string.
+     *
+     * @param buffer buffer to read from
+     * @return string or null
+     * @throws IllegalArgumentException if length is invalid, so that corrupted length does not allocate a large array
+     */
+    static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -3,42 +3,72 @@ package com.radsoltan.util;
 import com.radsoltan.model.Project;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Helper class used to save project to a file and read a project instance from a file.
+ * Projects are saved in the compact binary format described in ProjectBinaryFormat.
+ * Files saved by earlier versions of the app with Java serialization can still be opened.
  */
 public class ProjectFile {
 
     /**
-     * Saves project to a file. It uses FileOutputStream that is used to instantiate ObjectOutputStream.
+     * Saves project to a file. Project is encoded to a buffer which is then written to the file channel.
      *
-     * @param file file object to save to
+     * @param file    file object to save to
      * @param project instance of the project
      * @throws IOException Exception for failed or interrupted I/O operation
      */
     public static void save(File file, Project project) throws IOException {
-        FileOutputStream fileOutputStream = new FileOutputStream(file);
-        ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-        objectOutputStream.writeObject(project);
-        fileOutputStream.close();
-        objectOutputStream.close();
+        ByteBuffer buffer = ProjectBinaryFormat.encode(project);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
     }
 
     /**
-     * Reads project from a file. It uses FileInputStream that is used to instantiate ObjectInputStream.
+     * Reads project from a file. The whole file is read into a buffer with a single channel read.
+     * If the file starts with binary format header it is decoded, otherwise it is read as a legacy serialized project.
      *
      * @param file file to read project object from
      * @return instance of the Project read from file
-     * @throws IOException Exception for failed or interrupted I/O operation
+     * @throws IOException            Exception for failed or interrupted I/O operation
      * @throws ClassNotFoundException Exception for occurs when an application tries to load a class through its fully-qualified name and can not find its definition on the classpath
-     * @throws ClassCastException Exception raised when improperly casting class from one type to another
+     * @throws ClassCastException     Exception raised when improperly casting class from one type to another
      */
     public static Project open(File file) throws IOException, ClassNotFoundException, ClassCastException {
-        FileInputStream fileInputStream = new FileInputStream(file);
-        ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
-        Object object = objectInputStream.readObject();
-        fileInputStream.close();
-        objectInputStream.close();
-        return (Project) object;
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // Reading until buffer is full
+            }
+        }
+        buffer.flip();
+
+        if (ProjectBinaryFormat.isBinaryFormat(buffer)) {
+            return ProjectBinaryFormat.decode(buffer);
+        }
+        return openLegacy(buffer);
+    }
+
+    /**
+     * Reads project saved with Java serialization by earlier versions of the app.
+     *
+     * @param buffer buffer with file contents
+     * @return instance of the Project
+     * @throws IOException            Exception for failed or interrupted I/O operation
+     * @throws ClassNotFoundException if serialized class can't be found
+     * @throws ClassCastException     if serialized object is not a project
+     */
+    private static Project openLegacy(ByteBuffer buffer) throws IOException, ClassNotFoundException, ClassCastException {
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(buffer.array(), buffer.position(), buffer.remaining());
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(byteArrayInputStream)) {
+            return (Project) objectInputStream.readObject();
+        }
     }
 }
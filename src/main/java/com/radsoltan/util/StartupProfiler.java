@@ -0,0 +1,177 @@
+package com.radsoltan.util;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records timings of application startup phases. Each phase is measured from the previous mark and from the start of the JVM process.
+ * Profiling is enabled with -Drc.startup.profile=true system property, when disabled marks are ignored.
+ * With -Drc.startup.exit=true app closes after the first frame is shown and setup views are preloaded,
+ * which is used to generate class data sharing archive in jlink build.
+ */
+public class StartupProfiler {
+
+    public static final String PROFILE_PROPERTY = "rc.startup.profile";
+    public static final String EXIT_PROPERTY = "rc.startup.exit";
+
+    private final boolean isEnabled;
+    private final long processStartOffsetNanos;
+    private final long startNanos;
+    private final List<Phase> phases;
+    private long lastMarkNanos;
+
+    /**
+     * Constructor. Profiler starts measuring time when created.
+     *
+     * @param isEnabled true if phases are to be recorded
+     */
+    public StartupProfiler(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        this.startNanos = System.nanoTime();
+        this.lastMarkNanos = startNanos;
+        this.processStartOffsetNanos = isEnabled ? getProcessStartOffsetNanos() : 0;
+        this.phases = new ArrayList<>();
+    }
+
+    /**
+     * Creates profiler based on system properties.
+     *
+     * @return startup profiler
+     */
+    public static StartupProfiler fromSystemProperties() {
+        return new StartupProfiler(Boolean.getBoolean(PROFILE_PROPERTY) || Boolean.getBoolean(EXIT_PROPERTY));
+    }
+
+    /**
+     * Gets time between start of the JVM process and creation of the profiler. It includes JVM boot and class loading before the app starts.
+     *
+     * @return offset in nanoseconds, 0 if process start time is not available
+     */
+    private static long getProcessStartOffsetNanos() {
+        return ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()).toNanos())
+                .filter(offset -> offset > 0)
+                .orElse(0L);
+    }
+
+    /**
+     * Marks end of a startup phase. It can be called from any thread, thread name is recorded with the phase.
+     *
+     * @param name phase name
+     */
+    public synchronized void mark(String name) {
+        if (!isEnabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        phases.add(new Phase(name, Thread.currentThread().getName(), now - lastMarkNanos, now - startNanos + processStartOffsetNanos));
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Gets recorded phases in order in which they were marked.
+     *
+     * @return list of phases
+     */
+    public synchronized List<Phase> getPhases() {
+        return Collections.unmodifiableList(new ArrayList<>(phases));
+    }
+
+    /**
+     * Prints recorded phases in a table. Nothing is printed if profiling is disabled.
+     *
+     * @param out stream to print to
+     */
+    public synchronized void report(PrintStream out) {
+        if (!isEnabled) {
+            return;
+        }
+        out.printf(Locale.ROOT, "%-32s %-24s %10s %10s%n", "Startup phase", "Thread", "Phase ms", "Total ms");
+        phases.forEach(phase -> out.printf(Locale.ROOT, "%-32s %-24s %10.1f %10.1f%n",
+                phase.getName(), phase.getThreadName(), phase.getDurationMillis(), phase.getElapsedMillis()));
+    }
+
+    /**
+     * Checks if profiling is enabled.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Checks if app should exit after showing the first frame and preloading setup views.
+     *
+     * @return true if app should exit after startup
+     */
+    public boolean isExitAfterStartup() {
+        return Boolean.getBoolean(EXIT_PROPERTY);
+    }
+
+    /**
+     * Startup phase with its duration and time elapsed since the JVM process started.
+     */
+    public static class Phase {
+        private final String name;
+        private final String threadName;
+        private final long durationNanos;
+        private final long elapsedNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param name          phase name
+         * @param threadName    name of the thread that marked the phase
+         * @param durationNanos time since previous mark in nanoseconds
+         * @param elapsedNanos  time since JVM process start in nanoseconds
+         */
+        private Phase(String name, String threadName, long durationNanos, long elapsedNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.durationNanos = durationNanos;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Getter for phase name.
+         *
+         * @return phase name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Getter for thread name.
+         *
+         * @return thread name
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Gets time since previous mark.
+         *
+         * @return duration in milliseconds
+         */
+        public double getDurationMillis() {
+            return durationNanos / 1e6;
+        }
+
+        /**
+         * Gets time since JVM process start.
+         *
+         * @return elapsed time in milliseconds
+         */
+        public double getElapsedMillis() {
+            return elapsedNanos / 1e6;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.radsoltan.util;
 
+import com.radsoltan.constants.UIText;
+
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -29,4 +34,31 @@ public class Utility {
     public static List<Integer> indexOfMultiple(List<Integer> list, int number) {
         return IntStream.range(0, list.size()).boxed().filter(i -> number == list.get(i)).collect(Collectors.toList());
     }
+
+    /**
+     * Runs a task in a new fork join pool with given parallelism. Parallel streams started by the task use that pool instead of the common pool.
+     * The pool is shut down once the task completes, fails or is interrupted, and tasks that are still queued are cancelled,
+     * so that no work is left running in the background. Runtime exceptions thrown by the task are rethrown.
+     *
+     * @param parallelism number of worker threads
+     * @param task        task to run
+     * @param <T>         type of task result
+     * @return task result
+     */
+    public static <T> T invokeInForkJoinPool(int parallelism, Callable<T> task) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(UIText.CALCULATIONS_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
 }
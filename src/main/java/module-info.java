@@ -3,6 +3,8 @@ module com.radsoltan {
     requires javafx.fxml;
     requires javafx.media;
     requires javafx.swing;
+    requires java.desktop;
+    requires jdk.httpserver;
 
     opens com.radsoltan to javafx.fxml;
     opens com.radsoltan.controllers to javafx.fxml;
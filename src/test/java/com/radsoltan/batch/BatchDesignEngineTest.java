@@ -0,0 +1,124 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.Project;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchDesignEngineTest {
+
+    private static List<DesignRequest> requests;
+    private static BatchDesignEngine engine;
+
+    @BeforeAll
+    static void beforeAll() {
+        engine = new BatchDesignEngine(4);
+        DesignParameters designParameters = new DesignParameters(25, 0, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        SlabReinforcement reinforcement = new SlabReinforcement(
+                List.of(12),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList(),
+                List.of(16),
+                List.of(0),
+                List.of(150),
+                Collections.emptyList()
+        );
+        // Moments from 10 to 500 kNm/m, larger ones fail
+        requests = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> new DesignRequest("S" + i, Constants.ELEMENT_TYPE_SLAB, new Geometry(new SlabStrip(250)),
+                        reinforcement, designParameters, Concrete.C30_37, 10 * i, 7 * i, 0))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void resultsAreReturnedInRequestOrder() {
+        BatchReport report = engine.run(requests);
+
+        assertEquals(requests.size(), report.getNumberOfSections());
+        for (int i = 0; i < requests.size(); i++) {
+            assertSame(requests.get(i), report.getResults().get(i).getRequest());
+        }
+    }
+
+    @Test
+    void failedSectionsAreCounted() {
+        BatchReport report = engine.run(requests);
+        long failed = report.getResults().stream().filter(result -> !result.isPassed()).count();
+
+        assertEquals(failed, report.getNumberOfFailedSections());
+        assertTrue(report.getNumberOfFailedSections() > 0);
+        assertTrue(report.getNumberOfFailedSections() < report.getNumberOfSections());
+    }
+
+    @Test
+    void streamedResultsArePassedToConsumer() {
+        ConcurrentLinkedQueue<DesignResult> results = new ConcurrentLinkedQueue<>();
+        BatchReport report = engine.run(requests.stream(), results::add);
+
+        assertEquals(requests.size(), results.size());
+        assertEquals(requests.size(), report.getNumberOfSections());
+        assertTrue(report.getResults().isEmpty());
+        assertTrue(report.getSectionsPerSecond() > 0);
+    }
+
+    @Test
+    void invalidRequestDoesNotStopBatch() {
+        DesignRequest invalid = new DesignRequest("X1", "column", requests.get(0).getGeometry(), requests.get(0).getReinforcement(),
+                requests.get(0).getDesignParameters(), Concrete.C30_37, 10, 7, 0);
+        BatchReport report = engine.run(List.of(requests.get(0), invalid));
+
+        assertEquals(2, report.getNumberOfSections());
+        assertEquals(UIText.INVALID_ELEMENT_TYPE, report.getResults().get(1).getFlexureError());
+        assertFalse(report.getResults().get(1).isPassed());
+    }
+
+    @Test
+    void projectsAreCalculatedIndependently() {
+        List<Project> projects = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> {
+                    DesignRequest request = requests.get(i - 1);
+                    Project project = new Project();
+                    project.setId(request.getId());
+                    project.setElementType(request.getElementType());
+                    project.setUlsMoment(String.valueOf(request.getUlsMoment()));
+                    project.setSlsMoment(String.valueOf(request.getSlsMoment()));
+                    project.setGeometry(request.getGeometry());
+                    project.setReinforcement(request.getReinforcement());
+                    project.setDesignParameters(request.getDesignParameters());
+                    project.setConcrete(request.getConcrete());
+                    return project;
+                })
+                .collect(Collectors.toList());
+        engine.runProjects(projects);
+
+        for (int i = 0; i < projects.size(); i++) {
+            assertEquals(BatchDesignEngine.design(requests.get(i)).getFlexureCapacity(), projects.get(i).getFlexureCapacity());
+            assertNotSame(Project.getInstance(), projects.get(i));
+        }
+    }
+
+    @Test
+    void invalidParallelismThrowsException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new BatchDesignEngine(0));
+        assertEquals(UIText.INVALID_PARALLELISM, exception.getMessage());
+    }
+}
@@ -0,0 +1,199 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParametricSweepTest {
+
+    private static DesignRequest beamRequest;
+    private static DesignRequest slabRequest;
+    private static BatchDesignEngine engine;
+
+    @BeforeAll
+    static void beforeAll() {
+        engine = new BatchDesignEngine(4);
+        beamRequest = new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM,
+                new Geometry(new Rectangle(300, 500)),
+                new BeamReinforcement(
+                        List.of(List.of(16, 16)),
+                        Collections.emptyList(),
+                        List.of(List.of(20, 20, 20)),
+                        Collections.emptyList(),
+                        new ShearLinks(500, 8, 200, 2)
+                ),
+                new DesignParameters(35, 25, 35, 500, 20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85, true, true, 0.3),
+                Concrete.C30_37,
+                150, 100, 100);
+        slabRequest = new DesignRequest("S1", Constants.ELEMENT_TYPE_SLAB,
+                new Geometry(new SlabStrip(250)),
+                new SlabReinforcement(List.of(12), List.of(0), List.of(200), Collections.emptyList(),
+                        List.of(16), List.of(0), List.of(150), Collections.emptyList()),
+                new DesignParameters(25, 0, 35, 500, 20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85, true, true, 0.3),
+                Concrete.C30_37,
+                100, 70, 0);
+    }
+
+    @Test
+    void gridPointsAreEvaluatedInOrder() {
+        ParametricSweep sweep = new ParametricSweep(beamRequest, List.of(250, 300), List.of(400, 500, 600),
+                null, null, List.of(16, 20), List.of(2, 3, 4), List.of(100.0, 200.0));
+        SweepBlock block = new SweepBlock(1);
+        block.reset(0, 1);
+
+        assertEquals(72, sweep.getSize());
+        sweep.evaluate(71, block, 0);
+        assertEquals(300, block.getInt(SweepColumn.WIDTH, 0));
+        assertEquals(600, block.getInt(SweepColumn.DEPTH, 0));
+        assertEquals(Concrete.C30_37.ordinal(), block.getInt(SweepColumn.CONCRETE, 0));
+        assertEquals(35, block.getInt(SweepColumn.COVER, 0));
+        assertEquals(20, block.getInt(SweepColumn.BAR_DIAMETER, 0));
+        assertEquals(4, block.getInt(SweepColumn.NUMBER_OF_BARS, 0));
+        assertEquals(200.0, block.getDouble(SweepColumn.ULS_MOMENT, 0));
+    }
+
+    @Test
+    void utilisationDecreasesWithSectionDepth() {
+        ParametricSweep sweep = new ParametricSweep(slabRequest, null, List.of(200, 250, 300),
+                null, null, null, null, null);
+        SweepBlock block = new SweepBlock(3);
+        block.reset(0, 3);
+        for (int i = 0; i < 3; i++) {
+            sweep.evaluate(i, block, i);
+        }
+
+        assertTrue(block.getDouble(SweepColumn.FLEXURE_UTILISATION, 0) > block.getDouble(SweepColumn.FLEXURE_UTILISATION, 1));
+        assertTrue(block.getDouble(SweepColumn.FLEXURE_UTILISATION, 1) > block.getDouble(SweepColumn.FLEXURE_UTILISATION, 2));
+        assertEquals(BatchDesignEngine.design(slabRequest).getFlexureCheck().getUtilisation(), block.getDouble(SweepColumn.FLEXURE_UTILISATION, 1));
+    }
+
+    @Test
+    void reinforcementThatDoesNotFitIsNotCalculated() {
+        ParametricSweep sweep = new ParametricSweep(beamRequest, null, null, null, null, List.of(32), List.of(8), null);
+        SweepBlock block = new SweepBlock(1);
+        block.reset(0, 1);
+        sweep.evaluate(0, block, 0);
+
+        assertEquals(0, block.getInt(SweepColumn.FEASIBLE, 0));
+        assertFalse(block.isPassed(0));
+        assertTrue(Double.isNaN(block.getDouble(SweepColumn.FLEXURE_UTILISATION, 0)));
+    }
+
+    @Test
+    void slabBarSpacingIsKeptWhenOnlyDiametersAreVaried() {
+        // Base spacing of 150 mm would become 166 mm if converted to number of bars and back
+        ParametricSweep sweep = new ParametricSweep(slabRequest, null, null, null, null, List.of(12, 16), null, null);
+        SweepBlock block = new SweepBlock(2);
+        block.reset(0, 2);
+        sweep.evaluate(0, block, 0);
+        sweep.evaluate(1, block, 1);
+
+        assertEquals(BatchDesignEngine.design(slabRequest).getFlexureCheck().getUtilisation(), block.getDouble(SweepColumn.FLEXURE_UTILISATION, 1));
+        assertTrue(block.getDouble(SweepColumn.FLEXURE_UTILISATION, 0) > block.getDouble(SweepColumn.FLEXURE_UTILISATION, 1));
+    }
+
+    @Test
+    void slabWithoutTopBarsIsSwept() throws IOException {
+        DesignRequest request = new DesignRequest("S2", Constants.ELEMENT_TYPE_SLAB, slabRequest.getGeometry(),
+                new SlabReinforcement(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                        List.of(16), List.of(0), List.of(150), Collections.emptyList()),
+                slabRequest.getDesignParameters(), Concrete.C30_37, 100, 70, 0);
+        ParametricSweep sweep = new ParametricSweep(request, null, null, null, null, null, null, List.of(20.0, 25.0));
+        StringWriter csv = new StringWriter();
+        BatchReport report;
+        try (CsvSweepWriter csvWriter = new CsvSweepWriter(csv)) {
+            report = engine.runSweep(sweep, 1, List.of(csvWriter));
+        }
+        String[] lines = csv.toString().split("\n");
+
+        assertEquals(2, report.getNumberOfSections());
+        assertEquals(0, report.getNumberOfFailedSections());
+        assertEquals("1", lines[1].split(",")[8]);
+        assertEquals("1", lines[2].split(",")[8]);
+
+        // Hogging moment with varied bars adds a layer to the top face
+        ParametricSweep hoggingSweep = new ParametricSweep(request, null, null, null, null, List.of(12), List.of(5), List.of(-20.0));
+        SweepBlock block = new SweepBlock(1);
+        block.reset(0, 1);
+        hoggingSweep.evaluate(0, block, 0);
+        assertEquals(1, block.getInt(SweepColumn.FEASIBLE, 0));
+    }
+
+    @Test
+    void nonPositiveNumberOfBarsThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ParametricSweep(slabRequest, null, null, null, null, null, List.of(5, 0), null));
+        assertEquals(UIText.INVALID_SWEEP_NUMBER_OF_BARS, exception.getMessage());
+    }
+
+    @Test
+    void sweepResultsAreWrittenToCsvAndColumnarFile() throws IOException {
+        ParametricSweep sweep = new ParametricSweep(beamRequest, List.of(250, 300, 350), List.of(400, 500, 600),
+                List.of(Concrete.C25_30, Concrete.C30_37), List.of(25, 35), List.of(16, 20, 25), List.of(2, 3),
+                List.of(50.0, 150.0, 250.0, -100.0));
+        StringWriter csv = new StringWriter();
+        ByteArrayOutputStream columnar = new ByteArrayOutputStream();
+        BatchReport report;
+        try (CsvSweepWriter csvWriter = new CsvSweepWriter(csv);
+             ColumnarSweepWriter columnarWriter = new ColumnarSweepWriter(columnar)) {
+            report = engine.runSweep(sweep, 100, List.of(csvWriter, columnarWriter));
+        }
+        String[] lines = csv.toString().split("\n");
+
+        assertEquals(sweep.getSize(), report.getNumberOfSections());
+        assertEquals(sweep.getSize() + 1, lines.length);
+        assertTrue(lines[0].startsWith("index,width,depth,concrete"));
+        assertTrue(lines[1].startsWith("0,250,400,C25_30,25,16,2,50.0,1,"));
+        assertEquals(report.getNumberOfFailedSections(), List.of(lines).subList(1, lines.length).stream()
+                .filter(line -> line.split(",")[9].equals("0"))
+                .count());
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(columnar.toByteArray()));
+        assertEquals(ColumnarSweepWriter.MAGIC, input.readInt());
+        assertEquals(ColumnarSweepWriter.VERSION, input.readShort());
+        assertEquals(SweepColumn.values().length, input.readShort());
+        for (SweepColumn column : SweepColumn.values()) {
+            assertEquals(column.getName(), input.readUTF());
+            assertEquals(column.isInteger(), input.readBoolean());
+        }
+        long rows = 0;
+        int rowGroupSize;
+        while ((rowGroupSize = input.readInt()) > 0) {
+            assertEquals(rows, input.readLong());
+            input.skipBytes(rowGroupSize * (8 * Integer.BYTES + 4 * Double.BYTES));
+            rows += rowGroupSize;
+        }
+        assertEquals(sweep.getSize(), rows);
+    }
+
+    @Test
+    void slabWidthCannotBeVaried() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new ParametricSweep(slabRequest, List.of(1000), null, null, null, null, null, null));
+        assertEquals(UIText.INVALID_SWEEP_WIDTH, exception.getMessage());
+    }
+}
@@ -0,0 +1,137 @@
+package com.radsoltan.batch;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleReaderTest {
+
+    private static final String HEADER = "id,elementType,width,depth,flangeWidth,flangeThickness,concrete,UlsMoment,SlsMoment,UlsShear," +
+            "topDiameters,topSpacings,topVerticalSpacings,bottomDiameters,bottomSpacings,bottomVerticalSpacings,linkDiameter,linkSpacing,coverBottom\n";
+    private static DesignParameters designParameters;
+
+    @BeforeAll
+    static void beforeAll() {
+        designParameters = new DesignParameters(30, 25, 30, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+    }
+
+    @Test
+    void linesAreParsedIntoDesignRequests() throws IOException {
+        String schedule = HEADER +
+                "B1,beam,300,500,,,C30/37,150,100,80,16 16,,,25 25 25|16 16,,50,8,200,\n" +
+                "\"T1, level 2\",Beam,300,600,1000,150,C32_40,250,180,120,12 12,,,20 20 20 20,,,10,150,35\n" +
+                "S1,slab,,250,,,C25/30,-60,-40,,12,200,,10 10,250 250,40,,,\n";
+        try (ScheduleReader reader = new ScheduleReader(new StringReader(schedule), designParameters)) {
+            String[] lines = new String[5];
+            assertEquals(3, reader.read(lines));
+
+            DesignRequest beam = reader.parse(lines[0]);
+            BeamReinforcement beamReinforcement = (BeamReinforcement) beam.getReinforcement();
+            assertEquals("B1", beam.getId());
+            assertTrue(beam.getGeometry().getSection() instanceof Rectangle);
+            assertEquals(Concrete.C30_37, beam.getConcrete());
+            assertEquals(List.of(List.of(25, 25, 25), List.of(16, 16)), beamReinforcement.getBottomDiameters());
+            assertEquals(List.of(50), beamReinforcement.getBottomVerticalSpacings());
+            assertEquals(8, beamReinforcement.getShearLinks().getDiameter());
+            assertSame(designParameters, beam.getDesignParameters());
+
+            DesignRequest flangedBeam = reader.parse(lines[1]);
+            assertEquals("T1, level 2", flangedBeam.getId());
+            assertTrue(flangedBeam.getGeometry().getSection() instanceof TSection);
+            assertEquals(Concrete.C32_40, flangedBeam.getConcrete());
+            assertEquals(35, flangedBeam.getDesignParameters().getNominalCoverBottom());
+            assertEquals(30, flangedBeam.getDesignParameters().getNominalCoverTop());
+
+            DesignRequest slab = reader.parse(lines[2]);
+            SlabReinforcement slabReinforcement = (SlabReinforcement) slab.getReinforcement();
+            assertTrue(slab.getGeometry().getSection() instanceof SlabStrip);
+            assertEquals(-60, slab.getUlsMoment());
+            assertEquals(List.of(10, 10), slabReinforcement.getBottomDiameters());
+            assertEquals(List.of(0, 0), slabReinforcement.getAdditionalBottomDiameters());
+            assertEquals(List.of(250, 250), slabReinforcement.getBottomSpacings());
+        }
+    }
+
+    @Test
+    void invalidValueThrowsException() throws IOException {
+        try (ScheduleReader reader = new ScheduleReader(new StringReader(HEADER), designParameters)) {
+            Exception exception = assertThrows(IllegalArgumentException.class,
+                    () -> reader.parse("B1,beam,300,5x0,,,C30/37,150,100,80,16 16,,,25 25 25,,,8,200,"));
+            assertEquals(UIText.INVALID_SCHEDULE_VALUE + ScheduleColumn.DEPTH.getName(), exception.getMessage());
+        }
+    }
+
+    @Test
+    void malformedReinforcementIsReportedForItsRow() throws IOException {
+        String schedule = HEADER +
+                "B1,beam,300,500,,,C30/37,150,100,80,16 16,,,25 25||16 16,,50,8,200,\n" +
+                "B2,beam,300,500,,,C30/37,150,100,80,16 16,,,25 25 25|16 16,,50 50,8,200,\n" +
+                "S1,slab,,250,,,C25/30,60,40,,12,200,,10 10,250,,,,\n" +
+                "B3,beam,300,500,,,C30/37,150,100,80,16 16,,,25 25 25|16 16,,50,8,200,\n";
+        StringWriter output = new StringWriter();
+        BatchReport report;
+        try (ScheduleReader reader = new ScheduleReader(new StringReader(schedule), designParameters);
+             ScheduleResultWriter writer = new ScheduleResultWriter(output)) {
+            report = new BatchDesignEngine(2).runSchedule(reader, writer, 2);
+        }
+        String[] lines = output.toString().split("\n");
+
+        assertEquals(4, report.getNumberOfSections());
+        assertEquals(5, lines.length);
+        assertTrue(lines[1].endsWith(UIText.INVALID_SCHEDULE_VALUE + ScheduleColumn.BOTTOM_DIAMETERS.getName()));
+        assertTrue(lines[2].endsWith(UIText.INVALID_SCHEDULE_VALUE + ScheduleColumn.BOTTOM_VERTICAL_SPACINGS.getName()));
+        assertTrue(lines[3].endsWith(UIText.INVALID_SCHEDULE_VALUE + ScheduleColumn.BOTTOM_DIAMETERS.getName()));
+        assertTrue(lines[4].startsWith("4,B3,beam,"));
+    }
+
+    @Test
+    void missingColumnThrowsException() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new ScheduleReader(new StringReader("id,elementType,depth\n"), designParameters));
+        assertEquals(UIText.MISSING_SCHEDULE_COLUMN + ScheduleColumn.CONCRETE.getName(), exception.getMessage());
+    }
+
+    @Test
+    void resultsAreWrittenInScheduleOrder() throws IOException {
+        StringBuilder schedule = new StringBuilder(HEADER);
+        for (int i = 1; i <= 500; i++) {
+            schedule.append(String.format("S%d,slab,,250,,,C30/37,%d,%d,,12,200,,16,150,,,,\n", i, i, i / 2));
+            if (i % 100 == 0) {
+                schedule.append("X").append(i).append(",column,,250,,,C30/37,10,5,,12,200,,16,150,,,,\n");
+            }
+        }
+        StringWriter output = new StringWriter();
+        BatchReport report;
+        try (ScheduleReader reader = new ScheduleReader(new StringReader(schedule.toString()), designParameters);
+             ScheduleResultWriter writer = new ScheduleResultWriter(output)) {
+            report = new BatchDesignEngine(4).runSchedule(reader, writer, 64);
+        }
+        String[] lines = output.toString().split("\n");
+
+        assertEquals(505, report.getNumberOfSections());
+        assertEquals(506, lines.length);
+        assertTrue(lines[1].startsWith("1,S1,slab,1,"));
+        assertTrue(lines[101].startsWith("101,X100,,0,"));
+        assertTrue(lines[101].endsWith(UIText.INVALID_ELEMENT_TYPE));
+        assertTrue(lines[505].startsWith("505,X500,"));
+        assertTrue(report.getNumberOfFailedSections() >= 5);
+    }
+}
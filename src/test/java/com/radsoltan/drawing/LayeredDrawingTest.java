@@ -0,0 +1,83 @@
+package com.radsoltan.drawing;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayeredDrawingTest {
+
+    private Map<DrawingLayer, SvgRenderer> renderers;
+    private LayeredDrawing layeredDrawing;
+    private Geometry geometry;
+    private DesignParameters designParameters;
+
+    @BeforeEach
+    void setUp() {
+        renderers = new EnumMap<>(DrawingLayer.class);
+        for (DrawingLayer layer : DrawingLayer.values()) {
+            renderers.put(layer, new SvgRenderer(400, 300));
+        }
+        layeredDrawing = new LayeredDrawing(new EnumMap<>(renderers), 400, 300);
+        geometry = new Geometry(new Rectangle(300, 500));
+        designParameters = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+    }
+
+    private static BeamReinforcement getReinforcement(int diameter) {
+        return new BeamReinforcement(
+                List.of(List.of(16, 16)),
+                Collections.emptyList(),
+                List.of(List.of(diameter, diameter, diameter)),
+                Collections.emptyList(),
+                new ShearLinks(500, 8, 200, 2)
+        );
+    }
+
+    private SectionDrawing getDrawing(Geometry geometry, BeamReinforcement reinforcement) {
+        return new SectionDrawing(Constants.ELEMENT_TYPE_BEAM, geometry, reinforcement, designParameters, 400, 300);
+    }
+
+    @Test
+    void onlyChangedLayersAreRedrawn() {
+        BeamReinforcement reinforcement = getReinforcement(20);
+
+        assertEquals(EnumSet.allOf(DrawingLayer.class), layeredDrawing.update(getDrawing(geometry, reinforcement)));
+        assertEquals(EnumSet.noneOf(DrawingLayer.class), layeredDrawing.update(getDrawing(geometry, reinforcement)));
+        assertEquals(EnumSet.of(DrawingLayer.REINFORCEMENT, DrawingLayer.ANNOTATIONS), layeredDrawing.update(getDrawing(geometry, getReinforcement(25))));
+
+        String reinforcementLayer = renderers.get(DrawingLayer.REINFORCEMENT).toSvg();
+        assertEquals(5, reinforcementLayer.split("<ellipse ").length - 1);
+        assertFalse(reinforcementLayer.contains("<text"));
+        assertTrue(renderers.get(DrawingLayer.ANNOTATIONS).toSvg().contains("3\u03c625"));
+        assertTrue(renderers.get(DrawingLayer.DIMENSIONS).toSvg().contains(">500</tspan>"));
+    }
+
+    @Test
+    void layersAreClearedIfSectionCannotBeDrawn() {
+        layeredDrawing.update(getDrawing(geometry, getReinforcement(20)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> layeredDrawing.update(getDrawing(new Geometry(new TSection(300, 500, 1000, 150)), getReinforcement(20))));
+        assertEquals(UIText.INVALID_BEAM_GEOMETRY, exception.getMessage());
+        renderers.values().forEach(renderer -> assertFalse(renderer.toSvg().contains("<path")));
+
+        // All layers are redrawn once the section is valid again
+        assertEquals(EnumSet.allOf(DrawingLayer.class), layeredDrawing.update(getDrawing(geometry, getReinforcement(20))));
+    }
+}
@@ -0,0 +1,154 @@
+package com.radsoltan.drawing;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SectionDrawingTest {
+
+    private static DesignRequest beamRequest;
+    private static DesignRequest slabRequest;
+
+    @BeforeAll
+    static void beforeAll() {
+        DesignParameters designParameters = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        BeamReinforcement beamReinforcement = new BeamReinforcement(
+                List.of(List.of(16, 16)),
+                Collections.emptyList(),
+                List.of(List.of(20, 20, 20)),
+                Collections.emptyList(),
+                new ShearLinks(500, 8, 200, 2)
+        );
+        SlabReinforcement slabReinforcement = new SlabReinforcement(
+                List.of(12),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList(),
+                List.of(16),
+                List.of(0),
+                List.of(150),
+                Collections.emptyList()
+        );
+        beamRequest = new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM, new Geometry(new Rectangle(300, 500)),
+                beamReinforcement, designParameters, Concrete.C30_37, 150, 80, 100);
+        slabRequest = new DesignRequest("S1", Constants.ELEMENT_TYPE_SLAB, new Geometry(new SlabStrip(250)),
+                slabReinforcement, designParameters, Concrete.C30_37, 50, 30, 0);
+    }
+
+    @Test
+    void beamIsDrawnAsSvg() {
+        SvgRenderer renderer = new SvgRenderer(600, 400);
+        new SectionDrawing(beamRequest, 600, 400).draw(renderer);
+        String svg = renderer.toSvg();
+
+        assertTrue(svg.startsWith("<?xml"));
+        assertTrue(svg.contains("viewBox=\"0 0 600 400\""));
+        // 2 top bars and 3 bottom bars
+        assertEquals(5, svg.split("<ellipse ").length - 1);
+        // Dimension lines and reinforcement description
+        assertTrue(svg.contains(">500</tspan>"));
+        assertTrue(svg.contains(">300</tspan>"));
+        assertTrue(svg.contains("<path ") && svg.contains("fill=\"none\""));
+        // Rotated dimension line ticks
+        assertTrue(svg.contains("transform=\"matrix("));
+    }
+
+    @Test
+    void slabIsDrawnOnRasterImage() {
+        RasterRenderer renderer = new RasterRenderer(600, 400);
+        new SectionDrawing(slabRequest, 600, 400).draw(renderer);
+        BufferedImage image = renderer.getImage();
+
+        assertEquals(600, image.getWidth());
+        assertEquals(0xFFFFFF, image.getRGB(2, 2) & 0xFFFFFF);
+        // Slab fill in the middle of the image is light gray
+        java.awt.Color centre = new java.awt.Color(image.getRGB(300, 200));
+        assertEquals(211, centre.getRed(), 1);
+        assertEquals(centre.getRed(), centre.getBlue());
+    }
+
+    @Test
+    void sectionsAreExportedInParallel() throws IOException {
+        Path directory = Files.createTempDirectory("drawings");
+        DesignRequest flangedBeam = new DesignRequest("T/1", Constants.ELEMENT_TYPE_BEAM, new Geometry(new TSection(300, 500, 1000, 150)),
+                beamRequest.getReinforcement(), beamRequest.getDesignParameters(), Concrete.C30_37, 150, 80, 100);
+        List<DesignRequest> requests = IntStream.range(0, 20)
+                .mapToObj(i -> new DesignRequest("B" + i, i % 2 == 0 ? Constants.ELEMENT_TYPE_BEAM : Constants.ELEMENT_TYPE_SLAB,
+                        i % 2 == 0 ? beamRequest.getGeometry() : slabRequest.getGeometry(),
+                        i % 2 == 0 ? beamRequest.getReinforcement() : slabRequest.getReinforcement(),
+                        beamRequest.getDesignParameters(), Concrete.C30_37, 100, 50, 50))
+                .collect(Collectors.toList());
+        requests.add(flangedBeam);
+
+        DrawingExporter exporter = new DrawingExporter(DrawingFormat.PNG, 400, 300, 4);
+        Map<String, String> errors = exporter.export(requests, directory);
+        List<String> files = Files.list(directory).map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+
+        assertEquals(Map.of("T_1.png", UIText.INVALID_BEAM_GEOMETRY), errors);
+        assertEquals(20, files.size());
+        assertTrue(files.contains("B19.png"));
+        byte[] png = Files.readAllBytes(directory.resolve("B0.png"));
+        assertEquals((byte) 0x89, png[0]);
+        assertEquals('P', png[1]);
+
+        for (File file : directory.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void duplicateIdsAreExportedToSeparateFiles() throws IOException {
+        Path directory = Files.createTempDirectory("drawings");
+        DesignRequest invalidBeam = new DesignRequest("B1/2", Constants.ELEMENT_TYPE_BEAM, new Geometry(new TSection(300, 500, 1000, 150)),
+                beamRequest.getReinforcement(), beamRequest.getDesignParameters(), Concrete.C30_37, 150, 80, 100);
+        DesignRequest otherInvalidBeam = new DesignRequest("B1:2", Constants.ELEMENT_TYPE_BEAM, new Geometry(new TSection(300, 500, 1000, 150)),
+                beamRequest.getReinforcement(), beamRequest.getDesignParameters(), Concrete.C30_37, 150, 80, 100);
+        List<DesignRequest> requests = List.of(beamRequest, slabRequest, beamRequest, invalidBeam, otherInvalidBeam);
+
+        DrawingExporter exporter = new DrawingExporter(DrawingFormat.SVG, 400, 300, 2);
+        Map<String, String> errors = exporter.export(requests, directory);
+        List<String> files = Files.list(directory).map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+
+        assertEquals(List.of("B1.svg", "S1.svg", "B1-3.svg", "B1_2.svg", "B1_2-5.svg"), exporter.getFileNames(requests));
+        assertEquals(List.of("B1-3.svg", "B1.svg", "S1.svg"), files);
+        assertEquals(List.of("B1_2.svg", "B1_2-5.svg"), List.copyOf(errors.keySet()));
+
+        for (File file : directory.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void invalidDrawingSizeThrowsException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new DrawingExporter(DrawingFormat.SVG, 0, 300));
+        assertEquals(UIText.INVALID_DRAWING_SIZE, exception.getMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.UIText;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckResultTest {
+
+    @Test
+    void calculatedCheckHasStatusAndUtilisation() {
+        CheckResult passed = CheckResult.calculated(CheckType.FLEXURE, 150, 200, UIText.UNIT_MOMENT_BEAM);
+        CheckResult failed = CheckResult.calculated(CheckType.SHEAR, 400, 200, UIText.UNIT_SHEAR_REINFORCEMENT);
+
+        assertEquals(CheckStatus.PASS, passed.getStatus());
+        assertEquals(0.75, passed.getUtilisation());
+        assertTrue(passed.isPassed());
+        assertNull(passed.getErrorMessage());
+        assertEquals(CheckStatus.FAIL, failed.getStatus());
+        assertEquals(2.0, failed.getUtilisation());
+        assertFalse(failed.isPassed());
+    }
+
+    @Test
+    void messagesAreFormattedFromCheckResult() {
+        CheckResult flexure = CheckResult.calculated(CheckType.FLEXURE, 150, 200, UIText.UNIT_MOMENT_SLAB);
+        CheckResult shear = CheckResult.calculated(CheckType.SHEAR, 400, 200, UIText.UNIT_SHEAR_REINFORCEMENT);
+        CheckResult cracking = CheckResult.calculated(CheckType.CRACKING, 0.3, 0.3, UIText.UNIT_CRACK_WIDTH);
+
+        assertEquals(String.format("%.2f kNm/m < %.2f kNm/m", 150.0, 200.0), flexure.getCheckMessage());
+        assertEquals(UIText.SECTION_ADEQUATE, flexure.getAdditionalMessage());
+        assertEquals(String.format("%.2f mm\u00b2/m > %.2f mm\u00b2/m", 400.0, 200.0), shear.getCheckMessage());
+        assertEquals(UIText.FLEXURE_FAIL_MESSAGE, shear.getAdditionalMessage());
+        assertEquals(String.format("%.3f mm > %.3f mm", 0.3, 0.3), cracking.getCheckMessage());
+        assertEquals(UIText.SECTION_ADEQUATE, cracking.getAdditionalMessage());
+    }
+
+    @Test
+    void errorCheckHasReasonCode() {
+        CheckResult error = CheckResult.error(CheckType.SHEAR, ReasonCode.HIGH_SHEAR_FORCE);
+        CheckResult errorFromMessage = CheckResult.error(CheckType.FLEXURE, UIText.INVALID_ELEMENT_TYPE);
+        CheckResult errorWithoutCode = CheckResult.error(CheckType.FLEXURE, "Unknown error");
+
+        assertEquals(CheckStatus.ERROR, error.getStatus());
+        assertEquals(Double.POSITIVE_INFINITY, error.getUtilisation());
+        assertEquals(UIText.CALCULATIONS_ERROR, error.getCheckMessage());
+        assertEquals(UIText.REDESIGN_SECTION_DUE_TO_HIGH_SHEAR, error.getAdditionalMessage());
+        assertEquals(ReasonCode.INVALID_ELEMENT_TYPE, errorFromMessage.getReasonCode());
+        assertNull(errorWithoutCode.getReasonCode());
+        assertEquals("Unknown error", errorWithoutCode.getErrorMessage());
+    }
+
+    @Test
+    void notCalculatedCheckPassesWithoutMessages() {
+        CheckResult check = CheckResult.notCalculated(CheckType.CRACKING);
+
+        assertTrue(check.isPassed());
+        assertFalse(check.isError());
+        assertEquals(0, check.getUtilisation());
+        assertNull(check.getCheckMessage());
+        assertNull(check.getAdditionalMessage());
+    }
+}
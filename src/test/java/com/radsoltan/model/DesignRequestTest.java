@@ -0,0 +1,174 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DesignRequestTest {
+
+    private static DesignRequest slabRequest;
+    private static DesignRequest beamRequest;
+    private static DecimalFormat decimalFormat;
+
+    @BeforeAll
+    static void beforeAll() {
+        decimalFormat = new DecimalFormat("##.000");
+        slabRequest = new DesignRequest(
+                "S1",
+                Constants.ELEMENT_TYPE_SLAB,
+                new Geometry(new SlabStrip(300)),
+                new SlabReinforcement(
+                        List.of(25),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList(),
+                        List.of(32),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList()
+                ),
+                new DesignParameters(25, 0, 35, 500, 20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85, true, true, 0.3),
+                Concrete.C32_40,
+                150, 80, 0
+        );
+        beamRequest = new DesignRequest(
+                "B1",
+                Constants.ELEMENT_TYPE_BEAM,
+                new Geometry(new Rectangle(300, 650)),
+                new BeamReinforcement(
+                        List.of(List.of(25, 25, 25)),
+                        Collections.emptyList(),
+                        List.of(List.of(20, 20, 20, 20)),
+                        Collections.emptyList(),
+                        new ShearLinks(500, 8, 200, 2)
+                ),
+                new DesignParameters(35, 25, 35, 500, 20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85, true, true, 0.3),
+                Concrete.C30_37,
+                180, 90, 150
+        );
+    }
+
+    @Test
+    void slabResultsAreSameAsSlabCalculations() {
+        DesignResult result = slabRequest.calculate();
+        Slab slab = new Slab(150, 80, new SlabStrip(300), Concrete.C32_40,
+                (SlabReinforcement) slabRequest.getReinforcement(), slabRequest.getDesignParameters());
+        slab.calculateBendingCapacity();
+        slab.calculateCracking();
+
+        assertEquals(decimalFormat.format(slab.getBendingCapacity()), decimalFormat.format(result.getFlexureCapacity()));
+        assertEquals(decimalFormat.format(slab.getCrackWidth()), decimalFormat.format(result.getCrackWidth()));
+        assertNull(result.getFlexureError());
+        assertFalse(result.isShearCalculated());
+        assertTrue(result.isShearPassed());
+        assertNotNull(result.getSlab());
+        assertNull(result.getBeam());
+    }
+
+    @Test
+    void beamResultsAreSameAsBeamCalculations() {
+        DesignResult result = beamRequest.calculate();
+        Beam beam = new Beam(180, 150, 90, beamRequest.getGeometry(), Concrete.C30_37,
+                (BeamReinforcement) beamRequest.getReinforcement(), beamRequest.getDesignParameters());
+        beam.calculateBendingCapacity();
+        beam.calculateShearCapacity();
+        beam.calculateCracking();
+
+        assertEquals(decimalFormat.format(beam.getBendingCapacity()), decimalFormat.format(result.getFlexureCapacity()));
+        assertEquals(decimalFormat.format(beam.getRequiredShearReinforcement()), decimalFormat.format(result.getRequiredShearReinforcement()));
+        assertEquals(decimalFormat.format(beam.getProvidedShearReinforcement()), decimalFormat.format(result.getProvidedShearReinforcement()));
+        assertEquals(decimalFormat.format(beam.getCrackWidth()), decimalFormat.format(result.getCrackWidth()));
+        assertTrue(result.isShearCalculated());
+        assertEquals(0.3, result.getCrackWidthLimit());
+        assertEquals(result.isFlexurePassed() && result.isShearPassed() && result.isCrackingPassed(), result.isPassed());
+    }
+
+    @Test
+    void recalculatedBeamResultsAreSameAsFullCalculations() {
+        DesignResult previous = beamRequest.calculate();
+        DesignRequest request = new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM, beamRequest.getGeometry(), beamRequest.getReinforcement(),
+                beamRequest.getDesignParameters(), Concrete.C30_37, 180, 120, 250);
+        DesignResult recalculated = request.recalculate(previous);
+        DesignResult calculated = request.calculate();
+
+        assertEquals(previous.getFlexureCapacity(), recalculated.getFlexureCapacity());
+        assertEquals(decimalFormat.format(calculated.getRequiredShearReinforcement()), decimalFormat.format(recalculated.getRequiredShearReinforcement()));
+        assertEquals(decimalFormat.format(calculated.getCrackWidth()), decimalFormat.format(recalculated.getCrackWidth()));
+        assertEquals(calculated.getBeam().getRequiredTensileReinforcement(), recalculated.getBeam().getRequiredTensileReinforcement());
+        assertNotEquals(previous.getCrackWidth(), recalculated.getCrackWidth());
+    }
+
+    @Test
+    void recalculatedSlabResultsAreSameAsFullCalculations() {
+        DesignResult previous = slabRequest.calculate();
+        DesignRequest request = new DesignRequest("S1", Constants.ELEMENT_TYPE_SLAB, slabRequest.getGeometry(), slabRequest.getReinforcement(),
+                slabRequest.getDesignParameters(), Concrete.C32_40, 150, 110, 0);
+        DesignResult recalculated = request.recalculate(previous);
+        DesignResult calculated = request.calculate();
+
+        assertEquals(previous.getFlexureCapacity(), recalculated.getFlexureCapacity());
+        assertEquals(decimalFormat.format(calculated.getCrackWidth()), decimalFormat.format(recalculated.getCrackWidth()));
+        assertNotEquals(previous.getCrackWidth(), recalculated.getCrackWidth());
+    }
+
+    @Test
+    void changedUlsMomentRunsAllCalculations() {
+        DesignResult previous = beamRequest.calculate();
+        DesignRequest request = new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM, beamRequest.getGeometry(), beamRequest.getReinforcement(),
+                beamRequest.getDesignParameters(), Concrete.C30_37, -120, 90, 150);
+        DesignResult recalculated = request.recalculate(previous);
+
+        assertEquals(request.calculate().getFlexureCapacity(), recalculated.getFlexureCapacity());
+        assertNotEquals(previous.getFlexureCapacity(), recalculated.getFlexureCapacity());
+        assertEquals(beamRequest.calculate().getFlexureCapacity(), beamRequest.recalculate(null).getFlexureCapacity());
+    }
+
+    @Test
+    void designErrorsAreStoredAsReasonCodes() {
+        DesignRequest request = new DesignRequest("B2", Constants.ELEMENT_TYPE_BEAM, beamRequest.getGeometry(), beamRequest.getReinforcement(),
+                beamRequest.getDesignParameters(), Concrete.C30_37, 180, 90, 2000);
+        DesignResult result = request.calculate();
+
+        assertEquals(CheckStatus.ERROR, result.getShearCheck().getStatus());
+        assertEquals(ReasonCode.HIGH_SHEAR_FORCE, result.getShearCheck().getReasonCode());
+        assertEquals(UIText.REDESIGN_SECTION_DUE_TO_HIGH_SHEAR, result.getShearError());
+        assertEquals(CheckStatus.PASS, result.getFlexureCheck().getStatus());
+        assertFalse(result.isPassed());
+    }
+
+    @Test
+    void invalidElementTypeThrowsException() {
+        DesignRequest request = new DesignRequest("X1", "column", slabRequest.getGeometry(), slabRequest.getReinforcement(),
+                slabRequest.getDesignParameters(), Concrete.C32_40, 100, 50, 0);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, request::calculate);
+        assertEquals(UIText.INVALID_ELEMENT_TYPE, exception.getMessage());
+    }
+
+    @Test
+    void invalidGeometryThrowsException() {
+        DesignRequest request = new DesignRequest("X2", Constants.ELEMENT_TYPE_BEAM, new Geometry(new TSection(300, 650, 1000, 150)), beamRequest.getReinforcement(),
+                beamRequest.getDesignParameters(), Concrete.C30_37, 100, 50, 50);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, request::calculate);
+        assertEquals(UIText.INVALID_BEAM_GEOMETRY, exception.getMessage());
+    }
+}
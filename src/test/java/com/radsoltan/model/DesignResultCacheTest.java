@@ -0,0 +1,107 @@
+package com.radsoltan.model;
+
+import com.radsoltan.batch.BatchDesignEngine;
+import com.radsoltan.batch.BatchReport;
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DesignResultCacheTest {
+
+    private static DesignRequest getSlabRequest(String id, double UlsMoment) {
+        // New objects each time, so that keys are compared by value
+        DesignParameters designParameters = new DesignParameters(25, 0, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        SlabReinforcement reinforcement = new SlabReinforcement(
+                List.of(12),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList(),
+                List.of(16),
+                List.of(0),
+                List.of(150),
+                Collections.emptyList()
+        );
+        return new DesignRequest(id, Constants.ELEMENT_TYPE_SLAB, new Geometry(new SlabStrip(250)),
+                reinforcement, designParameters, Concrete.C30_37, UlsMoment, 0.7 * UlsMoment, 0);
+    }
+
+    @Test
+    void equalSectionsShareCachedResult() {
+        DesignResultCache cache = new DesignResultCache(10);
+        DesignRequest request = getSlabRequest("S1", 60);
+        DesignRequest equalRequest = getSlabRequest("S2", 60);
+
+        DesignResult result = cache.calculate(request);
+        DesignResult cachedResult = cache.calculate(equalRequest);
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertSame(equalRequest, cachedResult.getRequest());
+        assertSame(result.getSlab(), cachedResult.getSlab());
+        assertEquals(result.getFlexureCapacity(), cachedResult.getFlexureCapacity());
+        assertSame(result, cache.calculate(request));
+
+        cache.calculate(getSlabRequest("S1", 61));
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    void leastRecentlyUsedResultIsEvicted() {
+        DesignResultCache cache = new DesignResultCache(2);
+
+        cache.calculate(getSlabRequest("A", 40));
+        cache.calculate(getSlabRequest("B", 50));
+        cache.calculate(getSlabRequest("A", 40));
+        cache.calculate(getSlabRequest("C", 60));
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getSize());
+        // A was used more recently than B, so B was evicted
+        cache.calculate(getSlabRequest("A", 40));
+        assertEquals(2, cache.getHits());
+        cache.calculate(getSlabRequest("B", 50));
+        assertEquals(4, cache.getMisses());
+        assertEquals(2.0 / 6, cache.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void cacheIsSharedByBatchWorkers() {
+        DesignResultCache cache = new DesignResultCache(Constants.DESIGN_RESULT_CACHE_SIZE);
+        BatchDesignEngine engine = new BatchDesignEngine(4, cache);
+        // 1000 sections with 10 distinct moments
+        List<DesignRequest> requests = IntStream.range(0, 1000)
+                .mapToObj(i -> getSlabRequest("S" + i, 10 + 10 * (i % 10)))
+                .collect(Collectors.toList());
+
+        BatchReport report = engine.run(requests);
+        BatchReport uncachedReport = new BatchDesignEngine(4).run(requests);
+
+        assertEquals(1000, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getMisses() >= 10);
+        assertEquals(10, cache.getSize());
+        assertEquals(uncachedReport.getNumberOfFailedSections(), report.getNumberOfFailedSections());
+        for (int i = 0; i < requests.size(); i++) {
+            assertSame(requests.get(i), report.getResults().get(i).getRequest());
+            assertEquals(uncachedReport.getResults().get(i).getFlexureCapacity(), report.getResults().get(i).getFlexureCapacity());
+        }
+    }
+
+    @Test
+    void invalidSizeThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new DesignResultCache(0));
+        assertEquals(UIText.INVALID_CACHE_SIZE, exception.getMessage());
+    }
+}
@@ -0,0 +1,114 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FiberSectionTest {
+
+    private static DesignParameters designParameters;
+    private static FiberSection beamSection;
+    private static FiberSection slabSection;
+    private static DecimalFormat decimalFormat;
+
+    @BeforeAll
+    static void beforeAll() {
+        decimalFormat = new DecimalFormat("##.000");
+        designParameters = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        BeamReinforcement beamReinforcement = new BeamReinforcement(
+                List.of(List.of(12, 12)),
+                Collections.emptyList(),
+                List.of(List.of(25, 25, 25)),
+                Collections.emptyList(),
+                new ShearLinks(500, 8, 200, 2)
+        );
+        SlabReinforcement slabReinforcement = new SlabReinforcement(
+                List.of(12),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList(),
+                List.of(12),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList()
+        );
+        beamSection = new FiberSection(new Rectangle(300, 500), beamReinforcement, Concrete.C30_37, designParameters);
+        slabSection = new FiberSection(new SlabStrip(250), slabReinforcement, Concrete.C30_37, designParameters);
+    }
+
+    @Test
+    void bendingCapacityMatchesParabolaRectangleHandCalculation() {
+        // Both tensile and compressive reinforcement yield
+        double fyd = designParameters.getDesignYieldStrength();
+        double fcd = Concrete.C30_37.getDesignCompressiveResistance(Constants.GAMMA_C_PERSISTENT_TRANSIENT);
+        double tensileReinforcement = 3 * 0.25 * Math.PI * 25 * 25;
+        double compressiveReinforcement = 2 * 0.25 * Math.PI * 12 * 12;
+        double effectiveDepth = 500 - (35 + 8 + 12.5);
+        double centroidOfCompressionReinforcement = 35 + 8 + 6;
+        // Stress block factors for parabola-rectangle diagram with ec2 = 0.002 and ecu2 = 0.0035
+        double alpha = 1 - 0.002 / (3 * 0.0035);
+        double beta = 1 - (0.5 - 0.002 * 0.002 / (12 * 0.0035 * 0.0035)) / alpha;
+        double neutralAxis = (tensileReinforcement - compressiveReinforcement) * fyd / (alpha * fcd * 300);
+        double expectedCapacity = ((tensileReinforcement - compressiveReinforcement) * fyd * (effectiveDepth - beta * neutralAxis)
+                + compressiveReinforcement * fyd * (effectiveDepth - centroidOfCompressionReinforcement)) * Math.pow(10, -6);
+
+        assertEquals(expectedCapacity, beamSection.getBendingCapacity(true), 0.005 * expectedCapacity);
+        assertEquals(0.0035 / neutralAxis, beamSection.getUltimateCurvature(true), 0.01 * 0.0035 / neutralAxis);
+    }
+
+    @Test
+    void momentCurvatureCurveIncreasesUpToBendingCapacity() {
+        FiberSection.MomentCurvatureCurve curve = beamSection.getMomentCurvatureCurve(true, 21);
+        double[] curvatures = curve.getCurvatures();
+        double[] moments = curve.getMoments();
+
+        assertEquals(21, moments.length);
+        assertEquals(0, moments[0]);
+        for (int i = 1; i < moments.length; i++) {
+            assertTrue(curvatures[i] > curvatures[i - 1]);
+            assertTrue(moments[i] > moments[i - 1]);
+        }
+        assertEquals(decimalFormat.format(beamSection.getBendingCapacity(true)), decimalFormat.format(curve.getUltimateMoment()));
+        assertEquals(decimalFormat.format(beamSection.getMoment(curvatures[10])), decimalFormat.format(moments[10]));
+    }
+
+    @Test
+    void hoggingUsesTopReinforcement() {
+        FiberSection.MomentCurvatureCurve curve = beamSection.getMomentCurvatureCurve(false, 5);
+
+        assertTrue(beamSection.getBendingCapacity(false) < beamSection.getBendingCapacity(true));
+        assertTrue(curve.getUltimateMoment() < 0);
+        assertEquals(decimalFormat.format(-beamSection.getBendingCapacity(false)), decimalFormat.format(curve.getUltimateMoment()));
+    }
+
+    @Test
+    void symmetricSectionHasSameSaggingAndHoggingResponse() {
+        double curvature = 0.5 * slabSection.getUltimateCurvature(true);
+
+        assertEquals(decimalFormat.format(slabSection.getBendingCapacity(true)), decimalFormat.format(slabSection.getBendingCapacity(false)));
+        assertEquals(decimalFormat.format(slabSection.getMoment(curvature)), decimalFormat.format(-slabSection.getMoment(-curvature)));
+        assertEquals(0, slabSection.getMoment(0));
+    }
+
+    @Test
+    void invalidNumberOfFibersThrowsException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new FiberSection(new Rectangle(300, 500),
+                new BeamReinforcement(List.of(List.of(12, 12)), Collections.emptyList(), List.of(List.of(25, 25)), Collections.emptyList(), new ShearLinks(500, 8, 200, 2)),
+                Concrete.C30_37, designParameters, 0));
+        assertEquals(UIText.INVALID_NUMBER_OF_FIBERS, exception.getMessage());
+    }
+}
@@ -0,0 +1,149 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadCaseEnvelopeTest {
+
+    private static DesignRequest slabRequest;
+    private static DesignRequest beamRequest;
+    private static List<LoadCombination> slabCombinations;
+    private static List<LoadCombination> beamCombinations;
+    private static DecimalFormat decimalFormat;
+
+    @BeforeAll
+    static void beforeAll() {
+        decimalFormat = new DecimalFormat("##.000");
+        slabRequest = new DesignRequest(
+                "S1",
+                Constants.ELEMENT_TYPE_SLAB,
+                new Geometry(new SlabStrip(300)),
+                new SlabReinforcement(
+                        List.of(25),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList(),
+                        List.of(32),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList()
+                ),
+                new DesignParameters(25, 0, 35, 500, 20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85, true, true, 0.3),
+                Concrete.C32_40,
+                0, 0, 0
+        );
+        beamRequest = new DesignRequest(
+                "B1",
+                Constants.ELEMENT_TYPE_BEAM,
+                new Geometry(new Rectangle(300, 650)),
+                new BeamReinforcement(
+                        List.of(List.of(25, 25, 25)),
+                        Collections.emptyList(),
+                        List.of(List.of(20, 20, 20, 20)),
+                        Collections.emptyList(),
+                        new ShearLinks(500, 8, 200, 2)
+                ),
+                new DesignParameters(35, 25, 35, 500, 20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85, true, true, 0.3),
+                Concrete.C30_37,
+                0, 0, 0
+        );
+        slabCombinations = List.of(
+                new LoadCombination("ULS 1", 150, 0, 80),
+                new LoadCombination("ULS 2", -120, 0, -70),
+                new LoadCombination("ULS 3", 210, 0, 120),
+                new LoadCombination("ULS 4", 1500, 0, 900)
+        );
+        beamCombinations = List.of(
+                new LoadCombination("ULS 1", 180, 150, 90),
+                new LoadCombination("ULS 2", -220, 300, -120),
+                new LoadCombination("ULS 3", 450, 90, 250),
+                new LoadCombination("ULS 4", 100, 2000, 60)
+        );
+    }
+
+    @Test
+    void slabEnvelopeResultsAreSameAsDesignRequestResults() {
+        LoadCaseEnvelope envelope = slabRequest.calculateEnvelope(slabCombinations);
+
+        for (int i = 0; i < slabCombinations.size(); i++) {
+            LoadCombination combination = slabCombinations.get(i);
+            DesignResult result = new DesignRequest("S1", Constants.ELEMENT_TYPE_SLAB, slabRequest.getGeometry(), slabRequest.getReinforcement(),
+                    slabRequest.getDesignParameters(), slabRequest.getConcrete(),
+                    combination.getUlsMoment(), combination.getSlsMoment(), 0).calculate();
+
+            assertEquals(decimalFormat.format(result.getFlexureCapacity()), decimalFormat.format(envelope.getBendingCapacity(i)));
+            assertEquals(result.getFlexureError(), envelope.getFlexureError(i));
+            assertEquals(decimalFormat.format(result.getCrackWidth()), decimalFormat.format(envelope.getCrackWidth(i)));
+            assertEquals(result.getCrackingError(), envelope.getCrackingError(i));
+        }
+    }
+
+    @Test
+    void beamEnvelopeResultsAreSameAsDesignRequestResults() {
+        LoadCaseEnvelope envelope = beamRequest.calculateEnvelope(beamCombinations);
+
+        for (int i = 0; i < beamCombinations.size(); i++) {
+            LoadCombination combination = beamCombinations.get(i);
+            DesignResult result = new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM, beamRequest.getGeometry(), beamRequest.getReinforcement(),
+                    beamRequest.getDesignParameters(), beamRequest.getConcrete(),
+                    combination.getUlsMoment(), combination.getSlsMoment(), combination.getUlsShear()).calculate();
+
+            assertEquals(decimalFormat.format(result.getFlexureCapacity()), decimalFormat.format(envelope.getBendingCapacity(i)));
+            assertEquals(result.getFlexureError(), envelope.getFlexureError(i));
+            assertEquals(decimalFormat.format(result.getRequiredShearReinforcement()), decimalFormat.format(envelope.getRequiredShearReinforcement(i)));
+            assertEquals(result.getShearError(), envelope.getShearError(i));
+            assertEquals(decimalFormat.format(result.getCrackWidth()), decimalFormat.format(envelope.getCrackWidth(i)));
+            assertEquals(result.getCrackingError(), envelope.getCrackingError(i));
+        }
+    }
+
+    @Test
+    void combinationWithErrorGoverns() {
+        LoadCaseEnvelope slabEnvelope = slabRequest.calculateEnvelope(slabCombinations);
+        LoadCaseEnvelope beamEnvelope = beamRequest.calculateEnvelope(beamCombinations);
+
+        assertEquals(UIText.REDESIGN_SECTION_DUE_TO_COMPRESSIVE_FORCE, slabEnvelope.getFlexureError(3));
+        assertEquals(3, slabEnvelope.getGoverningFlexureCombination());
+        assertEquals(UIText.REDESIGN_SECTION_DUE_TO_HIGH_SHEAR, beamEnvelope.getShearError(3));
+        assertEquals(3, beamEnvelope.getGoverningShearCombination());
+        assertFalse(slabEnvelope.isPassed());
+        assertFalse(beamEnvelope.isPassed());
+    }
+
+    @Test
+    void governingCombinationHasHighestUtilisation() {
+        LoadCaseEnvelope envelope = slabRequest.calculateEnvelope(slabCombinations.subList(0, 3));
+        double[] utilisations = envelope.getFlexureUtilisations();
+        int governing = envelope.getGoverningFlexureCombination();
+
+        for (double utilisation : utilisations) {
+            assertTrue(utilisation <= utilisations[governing]);
+        }
+        assertEquals("ULS 3", envelope.getCombination(governing).getName());
+        assertEquals(0, envelope.getShearUtilisations()[governing]);
+    }
+
+    @Test
+    void emptyCombinationsThrowException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> slabRequest.calculateEnvelope(Collections.emptyList()));
+        assertEquals(UIText.EMPTY_LOAD_COMBINATIONS, exception.getMessage());
+    }
+}
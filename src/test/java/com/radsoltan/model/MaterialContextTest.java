@@ -0,0 +1,56 @@
+package com.radsoltan.model;
+
+import com.radsoltan.constants.Constants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaterialContextTest {
+
+    private static DesignParameters designParameters;
+    private static DecimalFormat decimalFormat;
+
+    @BeforeAll
+    static void beforeAll() {
+        decimalFormat = new DecimalFormat("##.000");
+        designParameters = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+    }
+
+    @Test
+    void sameMaterialsShareContext() {
+        DesignParameters otherCovers = new DesignParameters(50, 40, 50, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, false, 0.2);
+
+        assertSame(MaterialContext.of(Concrete.C30_37, designParameters), MaterialContext.of(Concrete.C30_37, otherCovers));
+    }
+
+    @Test
+    void differentMaterialsHaveDifferentContexts() {
+        DesignParameters accidental = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_ACCIDENTAL, Constants.GAMMA_S_ACCIDENTAL,
+                0.85, true, true, 0.3);
+
+        assertNotSame(MaterialContext.of(Concrete.C30_37, designParameters), MaterialContext.of(Concrete.C32_40, designParameters));
+        assertNotSame(MaterialContext.of(Concrete.C30_37, designParameters), MaterialContext.of(Concrete.C30_37, accidental));
+    }
+
+    @Test
+    void derivedConstantsAreCalculatedCorrectly() {
+        MaterialContext context = MaterialContext.of(Concrete.C30_37, designParameters);
+
+        assertEquals(30, context.getFck());
+        assertEquals(decimalFormat.format(0.85 * 30 / 1.5), decimalFormat.format(context.getFcd()));
+        assertEquals(decimalFormat.format(500 / 1.15), decimalFormat.format(context.getFyd()));
+        assertEquals(0.168, context.getKDashFactor());
+        assertEquals(decimalFormat.format(0.12), decimalFormat.format(context.getShearResistanceCoefficient()));
+        assertEquals(decimalFormat.format(0.035 * Math.sqrt(30)), decimalFormat.format(context.getMinimumConcreteShearStressFactor()));
+        assertEquals(decimalFormat.format(0.528), decimalFormat.format(context.getStrengthReductionFactor()));
+        assertEquals(decimalFormat.format(0.5 * 0.528 * 17), decimalFormat.format(context.getMaxShearStress()));
+    }
+}
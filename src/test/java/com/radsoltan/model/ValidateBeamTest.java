@@ -1,6 +1,7 @@
 package com.radsoltan.model;
 
 import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
 import com.radsoltan.model.geometry.Geometry;
 import com.radsoltan.model.geometry.Rectangle;
 import com.radsoltan.model.reinforcement.BeamReinforcement;
@@ -13,7 +14,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ValidateBeamTest {
 
@@ -197,4 +198,43 @@ class ValidateBeamTest {
         assertEquals("Vertical spacing between 2nd and 3rd top row is less than minimum required - 25 mm.", validationMessages.get(4));
         assertEquals("Vertical spacing between 1st and 2nd bottom row is less than minimum required - 32 mm.", validationMessages.get(5));
     }
-}
\ No newline at end of file
+
+    @Test
+    void violatedRulesAreStoredAsBits() {
+        ValidateBeam validateBeam = new ValidateBeam(validGeometry, beamReinforcementWithInvalidVerticalSpacing, designParameters);
+        long violations = validateBeam.getViolations();
+
+        assertEquals(ValidationRule.TOP_VERTICAL_SPACING.getBit(2) | ValidationRule.BOTTOM_VERTICAL_SPACING.getBit(1), violations);
+        assertTrue(ValidationRule.TOP_VERTICAL_SPACING.isViolated(violations));
+        assertFalse(ValidationRule.TOP_HORIZONTAL_SPACING.isViolated(violations));
+        assertFalse(ValidationRule.DEPTH.isViolated(violations));
+        assertFalse(validateBeam.isValid());
+        assertEquals(0, new ValidateBeam(validGeometry, validBeamReinforcement, designParameters).getViolations());
+    }
+
+    @Test
+    void feasibilityCheckIsSameAsValidation() {
+        assertTrue(ValidateBeam.isValid(validGeometry, validBeamReinforcement, designParameters));
+        assertFalse(ValidateBeam.isValid(invalidGeometry, validBeamReinforcement, designParameters));
+        assertFalse(ValidateBeam.isValid(validGeometry, beamReinforcementWithInvalidHorizontalSpacing, designParameters));
+        assertFalse(ValidateBeam.isValid(validGeometry, beamReinforcementWithInvalidVerticalSpacing, designParameters));
+    }
+
+    @Test
+    void tooManyRowsThrowException() {
+        // Rows are valid, but 9 rows do not fit in 8 bits of a rule
+        BeamReinforcement beamReinforcement = new BeamReinforcement(
+                List.of(List.of(16, 16)),
+                Collections.emptyList(),
+                Collections.nCopies(9, List.of(8, 8)),
+                Collections.nCopies(8, 25),
+                new ShearLinks(500, 6, 200, 2)
+        );
+        Geometry geometry = new Geometry(new Rectangle(300, 2000));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new ValidateBeam(geometry, beamReinforcement, designParameters));
+        assertEquals(UIText.INVALID_NUMBER_OF_ROWS + 8, exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ValidateBeam.isValid(geometry, beamReinforcement, designParameters));
+        assertThrows(IllegalArgumentException.class, () -> ValidationRule.BOTTOM_HORIZONTAL_SPACING.getBit(8));
+    }
+}
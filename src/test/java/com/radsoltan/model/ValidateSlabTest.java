@@ -157,4 +157,23 @@ class ValidateSlabTest {
         assertEquals("Vertical spacing between 2nd and 3rd top layer is less than minimum required - 40 mm." ,validationMessages.get(1));
         assertEquals("Invalid slab thickness. Minimum slab thickness: 544 mm." ,validationMessages.get(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void violatedRulesAreStoredAsBits() {
+        ValidateSlab validateSlab = new ValidateSlab(300, invalidSlabReinforcement, designParameters);
+        long violations = validateSlab.getViolations();
+
+        assertEquals(ValidationRule.TOP_HORIZONTAL_SPACING.getBit(1) | ValidationRule.TOP_VERTICAL_SPACING.getBit(2) | ValidationRule.DEPTH.getBit(0), violations);
+        assertFalse(ValidationRule.BOTTOM_VERTICAL_SPACING.isViolated(violations));
+        assertFalse(validateSlab.isValid());
+        assertEquals(0, new ValidateSlab(minimumSlabThicknessForValidSpacing, validSlabReinforcement, designParameters).getViolations());
+    }
+
+    @Test
+    void feasibilityCheckIsSameAsValidation() {
+        assertTrue(ValidateSlab.isValid(minimumSlabThicknessForValidSpacing, validSlabReinforcement, designParameters));
+        assertFalse(ValidateSlab.isValid(minimumSlabThicknessForValidSpacing - 10, validSlabReinforcement, designParameters));
+        assertFalse(ValidateSlab.isValid(600, slabReinforcementWithInvalidHorizontalSpacing, designParameters));
+        assertFalse(ValidateSlab.isValid(600, slabReinforcementWithInvalidVerticalSpacing, designParameters));
+    }
+}
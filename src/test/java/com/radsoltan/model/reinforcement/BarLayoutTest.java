@@ -0,0 +1,58 @@
+package com.radsoltan.model.reinforcement;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BarLayoutTest {
+
+    private static BarLayout singleRowLayout;
+    private static BarLayout multipleRowsLayout;
+    private static DecimalFormat decimalFormat;
+
+    @BeforeAll
+    static void beforeAll() {
+        decimalFormat = new DecimalFormat("##.000");
+        singleRowLayout = new BarLayout(List.of(List.of(25, 25, 25)), Collections.emptyList(), 8);
+        multipleRowsLayout = new BarLayout(List.of(List.of(32, 25, 32), List.of(16, 16), List.of(12, 12, 12)), List.of(50, 40), 10);
+    }
+
+    @Test
+    void shouldPackBarsInRows() {
+        assertEquals(3, multipleRowsLayout.getNumberOfRows());
+        assertEquals(3, multipleRowsLayout.getNumberOfBars(0));
+        assertEquals(2, multipleRowsLayout.getNumberOfBars(1));
+        assertEquals(25, multipleRowsLayout.getDiameter(0, 1));
+        assertEquals(12, multipleRowsLayout.getDiameter(2, 2));
+        assertEquals(32, multipleRowsLayout.getMaxDiameter(0));
+    }
+
+    @Test
+    void rowAreasAddUpToTotalArea() {
+        double sumOfRowAreas = multipleRowsLayout.getRowArea(0) + multipleRowsLayout.getRowArea(1) + multipleRowsLayout.getRowArea(2);
+
+        assertEquals(decimalFormat.format(multipleRowsLayout.getTotalArea()), decimalFormat.format(sumOfRowAreas));
+        assertEquals(1472.622, Double.parseDouble(decimalFormat.format(singleRowLayout.getTotalArea())));
+    }
+
+    @Test
+    void shouldCalculateFirstMomentOfAreaAgainstCoverLine() {
+        // Second row centre line: 10 + 16 + 50 + 16 + 8 = 100 mm below the cover line
+        assertEquals(100 * multipleRowsLayout.getRowArea(1), multipleRowsLayout.getRowFirstMomentOfArea(1), 1e-9);
+        assertEquals(45.5, Double.parseDouble(decimalFormat.format(singleRowLayout.getCentroid(25))));
+    }
+
+    @Test
+    void shouldGetDistancesOfBarsToCoverLine() {
+        // First row bars are tied to shear links, third row centre line is 100 + 8 + 40 + 6 = 154 mm below the cover line
+        assertEquals(26, multipleRowsLayout.getDistanceToCoverLine(0, 0), 1e-9);
+        assertEquals(22.5, multipleRowsLayout.getDistanceToCoverLine(0, 1), 1e-9);
+        assertEquals(154, multipleRowsLayout.getDistanceToCoverLine(2, 1), 1e-9);
+        assertEquals(89, multipleRowsLayout.getSumOfDiameters(0));
+    }
+}
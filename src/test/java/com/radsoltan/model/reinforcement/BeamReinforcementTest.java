@@ -201,6 +201,29 @@ class BeamReinforcementTest {
         assertEquals(expectedMessage, errorMessage);
     }
 
+    @Test
+    void shouldCalculateMaxSpacingForGivenSectionAndDesignParameters() {
+        double maxSpacing = beamReinforcementWithMultipleRowsAndBarTypes.getMaxBarSpacingForTensileReinforcement(
+                SlsMomentSagging,
+                new DesignParameters(
+                        30,
+                        25,
+                        35,
+                        500,
+                        20,
+                        Constants.GAMMA_C_PERSISTENT_TRANSIENT,
+                        Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                        0.85,
+                        true,
+                        true,
+                        0.3
+                ),
+                new Rectangle(700, 1300)
+        );
+
+        assertEquals(beamReinforcementForSlsCalculations.getMaxBarSpacingForTensileReinforcement(SlsMomentSagging), maxSpacing);
+    }
+
     @Test
     void shouldGetDescription() {
         String description = beamReinforcementWithMultipleRowsAndBarTypes.getDescription();
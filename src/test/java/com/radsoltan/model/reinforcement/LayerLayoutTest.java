@@ -0,0 +1,50 @@
+package com.radsoltan.model.reinforcement;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LayerLayoutTest {
+
+    private static LayerLayout singleLayerLayout;
+    private static LayerLayout multipleLayersLayout;
+    private static DecimalFormat decimalFormat;
+
+    @BeforeAll
+    static void beforeAll() {
+        decimalFormat = new DecimalFormat("##.000");
+        singleLayerLayout = new LayerLayout(List.of(12), List.of(10), List.of(200), Collections.emptyList());
+        multipleLayersLayout = new LayerLayout(List.of(16, 12, 10), List.of(0, 20, 0), List.of(150, 150, 100), List.of(30, 25));
+    }
+
+    @Test
+    void shouldPackLayers() {
+        assertEquals(3, multipleLayersLayout.getNumberOfLayers());
+        assertEquals(12, multipleLayersLayout.getDiameter(1));
+        assertEquals(20, multipleLayersLayout.getAdditionalDiameter(1));
+        assertEquals(20, multipleLayersLayout.getMaxDiameter(1));
+        assertEquals(100, multipleLayersLayout.getSpacing(2));
+    }
+
+    @Test
+    void shouldCalculateDistancesOfLayersToCoverLine() {
+        // Layer centres: 0.5 * 16 = 8, 16 + 30 + 0.5 * 20 = 56, 16 + 30 + 20 + 25 + 0.5 * 10 = 96
+        assertEquals(8, multipleLayersLayout.getDistanceToCoverLine(0), 1e-9);
+        assertEquals(56, multipleLayersLayout.getDistanceToCoverLine(1), 1e-9);
+        assertEquals(96, multipleLayersLayout.getDistanceToCoverLine(2), 1e-9);
+    }
+
+    @Test
+    void layerAreasAddUpToTotalArea() {
+        double sumOfLayerAreas = multipleLayersLayout.getLayerArea(0) + multipleLayersLayout.getLayerArea(1) + multipleLayersLayout.getLayerArea(2);
+
+        assertEquals(decimalFormat.format(multipleLayersLayout.getTotalArea()), decimalFormat.format(sumOfLayerAreas));
+        assertEquals(958.186, Double.parseDouble(decimalFormat.format(singleLayerLayout.getTotalArea())));
+        assertEquals(31.0, singleLayerLayout.getCentroid(25), 1e-9);
+    }
+}
@@ -119,6 +119,14 @@ class SlabReinforcementTest {
         assertEquals(66.45, Double.parseDouble(decimalFormat.format(centroid)));
     }
 
+    @Test
+    void centroidDependsOnCoverAfterFirstCalculation() {
+        double centroid = slabReinforcementWithMultipleLayers.getCentroidOfTopReinforcement(20);
+        double centroidForLargerCover = slabReinforcementWithMultipleLayers.getCentroidOfTopReinforcement(30);
+
+        assertEquals(10, Double.parseDouble(decimalFormat.format(centroidForLargerCover - centroid)));
+    }
+
     @Test
     void shouldCalculateCentroidOfBottomReinforcementWithSingleLayer() {
         double centroid = slabReinforcement.getCentroidOfBottomReinforcement(50);
@@ -0,0 +1,112 @@
+package com.radsoltan.optimizer;
+
+import com.radsoltan.batch.BatchDesignEngine;
+import com.radsoltan.constants.Constants;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.DesignResult;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReinforcementOptimizerTest {
+
+    private static ReinforcementOptimizer optimizer;
+    private static DesignRequest beamRequest;
+    private static DesignRequest slabRequest;
+
+    @BeforeAll
+    static void beforeAll() {
+        optimizer = new ReinforcementOptimizer(4);
+        DesignParameters designParameters = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        beamRequest = new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM,
+                new Geometry(new Rectangle(300, 600)),
+                new BeamReinforcement(
+                        List.of(List.of(16, 16)),
+                        Collections.emptyList(),
+                        List.of(List.of(16, 16)),
+                        Collections.emptyList(),
+                        new ShearLinks(500, 10, 150, 2)
+                ),
+                designParameters, Concrete.C30_37, 250, 175, 150);
+        slabRequest = new DesignRequest("S1", Constants.ELEMENT_TYPE_SLAB,
+                new Geometry(new SlabStrip(250)),
+                new SlabReinforcement(
+                        List.of(10),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList(),
+                        List.of(10),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList()
+                ),
+                designParameters, Concrete.C30_37, 60, 40, 0);
+    }
+
+    @Test
+    void shouldFindLightestPassingBeamReinforcement() {
+        OptimizationResult result = optimizer.optimize(beamRequest);
+
+        assertTrue(result.isFound());
+        assertTrue(result.getBestResult().isPassed());
+        assertTrue(result.getNumberOfPrunedCandidates() > 0);
+        assertEquals(result.getAreaOfTensileReinforcement(), result.getReinforcement().getTotalAreaOfBottomReinforcement());
+        // Brute force check - no passing candidate is lighter
+        double minimumArea = optimizer.getBeamCandidates(beamRequest).stream()
+                .map(candidate -> BatchDesignEngine.design(new DesignRequest("B1", Constants.ELEMENT_TYPE_BEAM, beamRequest.getGeometry(), candidate,
+                        beamRequest.getDesignParameters(), Concrete.C30_37, 250, 175, 150)))
+                .filter(DesignResult::isPassed)
+                .mapToDouble(designResult -> designResult.getRequest().getReinforcement().getTotalAreaOfBottomReinforcement())
+                .min()
+                .orElse(0);
+        assertTrue(result.getAreaOfTensileReinforcement() >= minimumArea);
+    }
+
+    @Test
+    void shouldKeepCompressionReinforcementAndShearLinks() {
+        BeamReinforcement reinforcement = (BeamReinforcement) optimizer.optimize(beamRequest).getReinforcement();
+        BeamReinforcement template = (BeamReinforcement) beamRequest.getReinforcement();
+
+        assertEquals(template.getTopDiameters(), reinforcement.getTopDiameters());
+        assertSame(template.getShearLinks(), reinforcement.getShearLinks());
+    }
+
+    @Test
+    void shouldFindLightestPassingSlabReinforcement() {
+        OptimizationResult result = optimizer.optimize(slabRequest);
+        SlabReinforcement reinforcement = (SlabReinforcement) result.getReinforcement();
+
+        assertTrue(result.isFound());
+        assertEquals(Constants.BAR_DIAMETERS.size() * ((Constants.SLAB_MAX_BAR_SPACING - Constants.SLAB_MIN_BAR_SPACING) / Constants.SLAB_BAR_SPACING_STEP + 1), result.getNumberOfCandidates());
+        // Template reinforcement fails, so the optimized one has to be heavier
+        assertFalse(slabRequest.calculate().isPassed());
+        assertTrue(result.getAreaOfTensileReinforcement() > ((SlabReinforcement) slabRequest.getReinforcement()).getTotalAreaOfBottomReinforcement());
+        assertEquals(1, reinforcement.getBottomDiameters().size());
+        assertTrue(result.getBestResult().isCrackingPassed());
+    }
+
+    @Test
+    void shouldNotFindReinforcementForOverloadedSection() {
+        DesignRequest request = new DesignRequest("S2", Constants.ELEMENT_TYPE_SLAB, slabRequest.getGeometry(), slabRequest.getReinforcement(),
+                slabRequest.getDesignParameters(), Concrete.C30_37, 5000, 3000, 0);
+
+        OptimizationResult result = optimizer.optimize(request);
+
+        assertFalse(result.isFound());
+        assertNull(result.getReinforcement());
+    }
+}
@@ -0,0 +1,123 @@
+package com.radsoltan.panel;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.DesignRequest;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlabPanelDesignerTest {
+
+    private static PanelDesign panelDesign;
+
+    @BeforeAll
+    static void beforeAll() {
+        DesignParameters designParameters = new DesignParameters(30, 25, 30, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        DesignRequest template = new DesignRequest("P1", Constants.ELEMENT_TYPE_SLAB,
+                new Geometry(new SlabStrip(250)),
+                new SlabReinforcement(
+                        List.of(10),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList(),
+                        List.of(10),
+                        List.of(0),
+                        List.of(200),
+                        Collections.emptyList()
+                ),
+                designParameters, Concrete.C30_37, 0, 0, 0);
+
+        // 5 x 7 grid at 500 mm - panel is 2 m along X and 3 m along Y
+        int numberOfColumns = 5;
+        int numberOfRows = 7;
+        double[] UlsMomentsX = new double[numberOfColumns * numberOfRows];
+        double[] UlsMomentsY = new double[numberOfColumns * numberOfRows];
+        for (int row = 0; row < numberOfRows; row++) {
+            for (int column = 0; column < numberOfColumns; column++) {
+                // Hogging over the support at x = 0, sagging in the span. My increases along X.
+                UlsMomentsX[row * numberOfColumns + column] = column == 0 ? -30 : 40;
+                UlsMomentsY[row * numberOfColumns + column] = column < 2 ? 10 : 55;
+            }
+        }
+        MomentField field = new MomentField(numberOfColumns, numberOfRows, 500, 500, UlsMomentsX, UlsMomentsY, UlsMomentsX, UlsMomentsY);
+
+        panelDesign = new SlabPanelDesigner(4, 1000, 5).design(field, template);
+    }
+
+    @Test
+    void shouldDividePanelIntoStrips() {
+        List<PanelStrip> stripsX = getStrips(StripDirection.X);
+        List<PanelStrip> stripsY = getStrips(StripDirection.Y);
+
+        assertEquals(3, stripsX.size());
+        assertEquals(2, stripsY.size());
+        assertEquals(2000, stripsX.get(2).getStart());
+        assertEquals(3000, stripsX.get(2).getEnd());
+        assertEquals(40, stripsX.get(0).getUlsMoment(Constants.SLAB_BOTTOM_FACE));
+        assertEquals(-30, stripsX.get(0).getUlsMoment(Constants.SLAB_TOP_FACE));
+        // Strip 0 in Y direction averages columns 0 and 1, strip 1 averages columns 2, 3 and 4
+        assertEquals(10, stripsY.get(0).getUlsMoment(Constants.SLAB_BOTTOM_FACE));
+        assertEquals(55, stripsY.get(1).getUlsMoment(Constants.SLAB_BOTTOM_FACE));
+        assertFalse(stripsY.get(1).isDesigned(Constants.SLAB_TOP_FACE));
+        assertTrue(panelDesign.isPassed());
+    }
+
+    @Test
+    void identicalStripsAreDesignedOnce() {
+        // X bottom, X top, Y bottom for 10 kNm/m and Y bottom for 55 kNm/m
+        assertEquals(4, panelDesign.getNumberOfUniqueDesigns());
+        List<PanelStrip> stripsX = getStrips(StripDirection.X);
+        assertSame(stripsX.get(0).getResult(Constants.SLAB_BOTTOM_FACE), stripsX.get(2).getResult(Constants.SLAB_BOTTOM_FACE));
+        assertSame(stripsX.get(0).getResult(Constants.SLAB_TOP_FACE), stripsX.get(1).getResult(Constants.SLAB_TOP_FACE));
+    }
+
+    @Test
+    void shouldMergeStripsIntoZones() throws IOException {
+        List<ReinforcementZone> zones = panelDesign.getZones();
+        ReinforcementZone bottomX = zones.get(0);
+        ReinforcementZone topY = zones.get(zones.size() - 1);
+
+        assertEquals(Constants.SLAB_BOTTOM_FACE, bottomX.getSlabFace());
+        assertEquals(0, bottomX.getFirstStrip());
+        assertEquals(2, bottomX.getLastStrip());
+        assertEquals(3000, bottomX.getEnd());
+        assertEquals("-", topY.getReinforcement());
+        assertEquals(1, topY.getLastStrip());
+
+        StringWriter writer = new StringWriter();
+        panelDesign.writeZoningMap(writer);
+        String[] lines = writer.toString().split("\n");
+        assertEquals("direction,face,first strip,last strip,start,end,reinforcement,moment", lines[0]);
+        assertEquals(zones.size() + 1, lines.length);
+        assertTrue(lines[1].startsWith("X,bottom,0,2,0.0,3000.0,\u03c6"));
+    }
+
+    @Test
+    void invalidMomentFieldThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new MomentField(2, 2, 500, 500, new double[4], new double[4], new double[3], new double[4]));
+        assertEquals(UIText.INVALID_MOMENT_FIELD, exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new SlabPanelDesigner(1, 0, 0));
+    }
+
+    private static List<PanelStrip> getStrips(StripDirection direction) {
+        return panelDesign.getStrips().stream()
+                .filter(strip -> strip.getDirection() == direction)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,140 @@
+package com.radsoltan.service;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.constants.UIText;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.util.Json;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DesignServerTest {
+
+    private static final String BEAM = "{\"id\": \"B1\", \"width\": 300, \"depth\": 500, \"concrete\": \"C30/37\", " +
+            "\"UlsMoment\": 150, \"SlsMoment\": 80, \"UlsShear\": 100, \"topDiameters\": [[16, 16]], " +
+            "\"bottomDiameters\": [[20, 20, 20]], \"linkDiameter\": 8, \"linkSpacing\": 200}";
+    private static DesignServer server;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+        DesignParameters designParameters = new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3);
+        server = new DesignServer(new InetSocketAddress("localhost", 0), 2, 16, designParameters);
+        server.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        server.stop();
+    }
+
+    @Test
+    void beamSectionIsDesigned() throws IOException {
+        Map<?, ?> result = (Map<?, ?>) Json.parse(post(DesignServer.BEAM_PATH, BEAM, 200));
+        Map<?, ?> flexure = (Map<?, ?>) result.get("flexure");
+
+        assertEquals("B1", result.get("id"));
+        assertEquals(true, result.get("passed"));
+        assertEquals("PASS", flexure.get("status"));
+        assertEquals(150.0, flexure.get("demand"));
+        assertEquals("PASS", ((Map<?, ?>) result.get("shear")).get("status"));
+    }
+
+    @Test
+    void batchResultsAreReturnedInOrder() throws IOException {
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 1; i <= 300; i++) {
+            batch.append(i > 1 ? "," : "").append("{\"id\": \"S").append(i).append("\", \"depth\": 250, \"concrete\": \"C30/37\", ")
+                    .append("\"UlsMoment\": ").append(i).append(", \"SlsMoment\": ").append(i / 2)
+                    .append(", \"topDiameters\": [12], \"topSpacings\": [200], \"bottomDiameters\": [16], \"bottomSpacings\": [150]}");
+        }
+        batch.append(",{\"id\": \"S301\", \"depth\": 250}]");
+        List<?> results = (List<?>) Json.parse(post(DesignServer.SLAB_PATH, batch.toString(), 200));
+
+        assertEquals(301, results.size());
+        for (int i = 0; i < 300; i++) {
+            assertEquals("S" + (i + 1), ((Map<?, ?>) results.get(i)).get("id"));
+        }
+        assertEquals(UIText.INVALID_JSON_FIELD + "concrete", ((Map<?, ?>) results.get(300)).get("error"));
+    }
+
+    @Test
+    void invalidJsonIsRejected() throws IOException {
+        Map<?, ?> error = (Map<?, ?>) Json.parse(post(DesignServer.BEAM_PATH, "{\"id\": ", 400));
+
+        assertTrue(((String) error.get("error")).startsWith(UIText.INVALID_JSON));
+    }
+
+    @Test
+    void malformedReinforcementIsReportedForItsSection() throws IOException {
+        String batch = "[" + BEAM.replace("[[20, 20, 20]]", "[[20, 20, 20], []]") + ","
+                + BEAM.replace("\"linkDiameter\"", "\"bottomVerticalSpacings\": [50], \"linkDiameter\"") + "," + BEAM + "]";
+        List<?> results = (List<?>) Json.parse(post(DesignServer.BEAM_PATH, batch, 200));
+
+        assertEquals(UIText.INVALID_JSON_FIELD + "bottomDiameters", ((Map<?, ?>) results.get(0)).get("error"));
+        assertEquals(UIText.INVALID_JSON_FIELD + "bottomVerticalSpacings", ((Map<?, ?>) results.get(1)).get("error"));
+        assertEquals(true, ((Map<?, ?>) results.get(2)).get("passed"));
+
+        String slab = "{\"id\": \"S1\", \"depth\": 250, \"concrete\": \"C30/37\", \"UlsMoment\": 50, "
+                + "\"topDiameters\": [12], \"topSpacings\": [200], \"bottomDiameters\": [16, 16], \"bottomSpacings\": [150]}";
+        Map<?, ?> result = (Map<?, ?>) Json.parse(post(DesignServer.SLAB_PATH, slab, 200));
+        assertEquals(UIText.INVALID_JSON_FIELD + "bottomDiameters", result.get("error"));
+    }
+
+    @Test
+    void deeplyNestedJsonIsRejected() throws IOException {
+        Map<?, ?> error = (Map<?, ?>) Json.parse(post(DesignServer.BEAM_PATH, "[".repeat(100_000), 400));
+
+        assertTrue(((String) error.get("error")).startsWith(UIText.INVALID_JSON_DEPTH));
+    }
+
+    @Test
+    void latencyPercentilesAreReported() throws IOException {
+        post(DesignServer.BEAM_PATH, BEAM, 200);
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + DesignServer.METRICS_PATH).openConnection();
+        Map<?, ?> metrics;
+        try (InputStream inputStream = connection.getInputStream()) {
+            metrics = (Map<?, ?>) Json.parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertTrue((Double) metrics.get("requests") >= 1);
+        assertTrue((Double) metrics.get("checks") >= 1);
+        assertTrue((Double) metrics.get("p99Millis") >= (Double) metrics.get("p50Millis"));
+        assertTrue((Double) metrics.get("p50Millis") > 0);
+    }
+
+    /**
+     * Posts JSON body and checks response status.
+     *
+     * @param path           endpoint path
+     * @param body           JSON body
+     * @param expectedStatus expected HTTP status
+     * @return response body
+     * @throws IOException if request fails
+     */
+    private static String post(String path, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream inputStream = expectedStatus < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
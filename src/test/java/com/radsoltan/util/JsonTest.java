@@ -0,0 +1,55 @@
+package com.radsoltan.util;
+
+import com.radsoltan.constants.UIText;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTest {
+
+    @Test
+    void objectsAndArraysAreParsed() {
+        Object value = Json.parse(" {\"id\": \"B\\\"1\", \"depth\": 500, \"UlsMoment\": -1.5e2, \"bars\": [[25, 25], []], \"flag\": true, \"note\": null} ");
+        Map<?, ?> object = (Map<?, ?>) value;
+
+        assertEquals("B\"1", object.get("id"));
+        assertEquals(500.0, object.get("depth"));
+        assertEquals(-150.0, object.get("UlsMoment"));
+        assertEquals(List.of(List.of(25.0, 25.0), List.of()), object.get("bars"));
+        assertEquals(true, object.get("flag"));
+        assertTrue(object.containsKey("note"));
+        assertNull(object.get("note"));
+    }
+
+    @Test
+    void invalidJsonThrowsException() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"id\": 1,}"));
+        assertEquals(UIText.INVALID_JSON + 9, exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("[1, 2"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("{} {}"));
+    }
+
+    @Test
+    void deeplyNestedJsonThrowsException() {
+        String nested = "[".repeat(100_000) + "]".repeat(100_000);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Json.parse(nested));
+        assertEquals(UIText.INVALID_JSON_DEPTH + 64, exception.getMessage());
+        assertEquals(List.of(Map.of("rows", List.of(List.of(25.0)))), Json.parse("[{\"rows\": [[25]]}]"));
+    }
+
+    @Test
+    void stringsAndNumbersAreWritten() {
+        StringBuilder builder = new StringBuilder();
+        Json.appendString(builder, "a\"b\\c\n");
+        builder.append(',');
+        Json.appendNumber(builder, 0.25);
+        builder.append(',');
+        Json.appendNumber(builder, Double.POSITIVE_INFINITY);
+
+        assertEquals("\"a\\\"b\\\\c\\n\",0.25,null", builder.toString());
+        assertEquals("a\"b\\c\n", ((List<?>) Json.parse("[" + builder + "]")).get(0));
+    }
+}
@@ -0,0 +1,119 @@
+package com.radsoltan.util;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.Project;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectArchiveTest {
+
+    private static List<Project> projects;
+    private static ProjectArchive archive;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+        projects = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Project project = new Project();
+            project.setId("B" + i);
+            project.setElementType(Constants.ELEMENT_TYPE_BEAM);
+            project.setUlsMoment(String.valueOf(100 + i));
+            project.setSlsMoment(String.valueOf(50 + i));
+            project.setUlsShear("120");
+            project.setGeometry(new Geometry(new Rectangle(300, 500 + 10 * i)));
+            project.setReinforcement(new BeamReinforcement(
+                    List.of(List.of(16, 16)),
+                    Collections.emptyList(),
+                    List.of(List.of(20, 20, 20)),
+                    Collections.emptyList(),
+                    new ShearLinks(500, 8, 200, 2)
+            ));
+            project.setDesignParameters(new DesignParameters(35, 25, 35, 500, 20,
+                    Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                    0.85, true, true, 0.3));
+            project.setConcrete(Concrete.C30_37);
+            project.calculate();
+            projects.add(project);
+        }
+        File file = File.createTempFile("building", ".rcda");
+        file.deleteOnExit();
+        ProjectArchive.write(file, projects);
+        archive = ProjectArchive.open(file);
+    }
+
+    @Test
+    void indexIncludesAllProjects() {
+        assertEquals(50, archive.size());
+        assertEquals("B0", archive.getIds().get(0));
+        assertEquals("B49", archive.getIds().get(49));
+        assertTrue(archive.contains("B27"));
+        assertFalse(archive.contains("S1"));
+    }
+
+    @Test
+    void singleProjectIsReadById() throws IOException {
+        Project project = archive.read("B27");
+
+        assertEquals("B27", project.getId());
+        assertEquals("127", project.getUlsMoment());
+        assertEquals(770, project.getGeometry().getSection().getDepth());
+        assertEquals(projects.get(27).getFlexureCapacity(), project.getFlexureCapacity());
+        assertEquals(projects.get(27).getCrackingCheckMessage(), project.getCrackingCheckMessage());
+    }
+
+    @Test
+    void allProjectsAreReadInOrder() throws IOException {
+        List<Project> read = archive.readAll();
+
+        assertEquals(projects.size(), read.size());
+        for (int i = 0; i < projects.size(); i++) {
+            assertEquals(projects.get(i).getId(), read.get(i).getId());
+            assertEquals(projects.get(i).getRequiredShearReinforcement(), read.get(i).getRequiredShearReinforcement());
+        }
+    }
+
+    @Test
+    void missingProjectThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> archive.read("S1"));
+    }
+
+    @Test
+    void singleProjectFileIsNotAnArchive() throws IOException {
+        File file = File.createTempFile("single", ".rcsd");
+        file.deleteOnExit();
+        ProjectFile.save(file, projects.get(0));
+
+        assertThrows(StreamCorruptedException.class, () -> ProjectArchive.open(file));
+    }
+
+    @Test
+    void negativeRecordLengthThrowsException() throws IOException {
+        File file = File.createTempFile("corrupted", ".rcda");
+        file.deleteOnExit();
+        ProjectArchive.write(file, projects.subList(0, 2));
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        // Length of the first record follows its id "B0" and offset in the index
+        int indexOffset = (int) buffer.getLong(Integer.BYTES + Short.BYTES + Integer.BYTES);
+        buffer.putInt(indexOffset + Integer.BYTES + 2 + Long.BYTES, -1);
+        Files.write(file.toPath(), buffer.array());
+
+        assertThrows(StreamCorruptedException.class, () -> ProjectArchive.open(file));
+    }
+}
@@ -0,0 +1,256 @@
+package com.radsoltan.util;
+
+import com.radsoltan.constants.Constants;
+import com.radsoltan.model.Concrete;
+import com.radsoltan.model.DesignParameters;
+import com.radsoltan.model.Project;
+import com.radsoltan.model.geometry.Geometry;
+import com.radsoltan.model.geometry.LSection;
+import com.radsoltan.model.geometry.Rectangle;
+import com.radsoltan.model.geometry.SlabStrip;
+import com.radsoltan.model.geometry.TSection;
+import com.radsoltan.model.reinforcement.BeamReinforcement;
+import com.radsoltan.model.reinforcement.ShearLinks;
+import com.radsoltan.model.reinforcement.SlabReinforcement;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectFileTest {
+
+    private static Project beamProject;
+    private static Project slabProject;
+
+    @BeforeAll
+    static void beforeAll() {
+        beamProject = new Project();
+        beamProject.setName("Office building");
+        beamProject.setId("B1");
+        beamProject.setDescription("Transfer beam \u00b0");
+        beamProject.setAuthor("Engineer");
+        beamProject.setElementType(Constants.ELEMENT_TYPE_BEAM);
+        beamProject.setUlsMoment("180");
+        beamProject.setSlsMoment("90");
+        beamProject.setUlsShear("150");
+        beamProject.setGeometry(new Geometry(new Rectangle(300, 650)));
+        beamProject.setReinforcement(new BeamReinforcement(
+                List.of(List.of(25, 25, 25)),
+                Collections.emptyList(),
+                List.of(List.of(20, 16, 20), List.of(16, 16)),
+                List.of(25),
+                new ShearLinks(500, 8, 200, 2)
+        ));
+        beamProject.setDesignParameters(new DesignParameters(35, 25, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3));
+        beamProject.setConcrete(Concrete.C30_37);
+        beamProject.calculate();
+
+        slabProject = new Project();
+        slabProject.setElementType(Constants.ELEMENT_TYPE_SLAB);
+        slabProject.setUlsMoment("150");
+        slabProject.setSlsMoment("80");
+        slabProject.setGeometry(new Geometry(new SlabStrip(300)));
+        slabProject.setReinforcement(new SlabReinforcement(
+                List.of(25, 12),
+                List.of(0, 10),
+                List.of(200, 200),
+                List.of(50),
+                List.of(32),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList()
+        ));
+        slabProject.setDesignParameters(new DesignParameters(25, 0, 35, 500, 20,
+                Constants.GAMMA_C_PERSISTENT_TRANSIENT, Constants.GAMMA_S_PERSISTENT_TRANSIENT,
+                0.85, true, true, 0.3));
+        slabProject.setConcrete(Concrete.C32_40);
+        slabProject.calculate();
+    }
+
+    @Test
+    void beamProjectIsSavedAndOpened() throws Exception {
+        File file = File.createTempFile("beam", ".rcsd");
+        file.deleteOnExit();
+        ProjectFile.save(file, beamProject);
+        Project project = ProjectFile.open(file);
+
+        assertProjectsAreEqual(beamProject, project);
+        BeamReinforcement expected = (BeamReinforcement) beamProject.getReinforcement();
+        BeamReinforcement actual = (BeamReinforcement) project.getReinforcement();
+        assertEquals(expected.getTopDiameters(), actual.getTopDiameters());
+        assertEquals(expected.getBottomDiameters(), actual.getBottomDiameters());
+        assertEquals(expected.getBottomVerticalSpacings(), actual.getBottomVerticalSpacings());
+        assertEquals(expected.getShearLinks().getSpacing(), actual.getShearLinks().getSpacing());
+        assertEquals(expected.getShearLinks().getDiameter(), actual.getShearLinks().getDiameter());
+        assertEquals(expected.getTotalAreaOfBottomReinforcement(), actual.getTotalAreaOfBottomReinforcement());
+    }
+
+    @Test
+    void slabProjectIsSavedAndOpened() throws Exception {
+        File file = File.createTempFile("slab", ".rcsd");
+        file.deleteOnExit();
+        ProjectFile.save(file, slabProject);
+        Project project = ProjectFile.open(file);
+
+        assertProjectsAreEqual(slabProject, project);
+        SlabReinforcement expected = (SlabReinforcement) slabProject.getReinforcement();
+        SlabReinforcement actual = (SlabReinforcement) project.getReinforcement();
+        assertEquals(expected.getTopDiameters(), actual.getTopDiameters());
+        assertEquals(expected.getAdditionalTopDiameters(), actual.getAdditionalTopDiameters());
+        assertEquals(expected.getTopVerticalSpacings(), actual.getTopVerticalSpacings());
+        assertEquals(expected.getBottomSpacings(), actual.getBottomSpacings());
+    }
+
+    @Test
+    void flangedGeometryAndEmptyProjectAreEncoded() throws Exception {
+        Project project = new Project();
+        project.setGeometry(new Geometry(new LSection(300, 600, 800, 150)));
+        Project decoded = ProjectBinaryFormat.decode(ProjectBinaryFormat.encode(project));
+
+        assertTrue(decoded.getGeometry().getSection() instanceof LSection);
+        assertEquals(800, ((LSection) decoded.getGeometry().getSection()).getFlangeWidth());
+        assertEquals(600, decoded.getGeometry().getSection().getDepth());
+        assertNull(decoded.getReinforcement());
+        assertNull(decoded.getDesignParameters());
+        assertNull(decoded.getConcrete());
+        assertNull(decoded.getName());
+    }
+
+    @Test
+    void legacySerializedProjectIsOpened() throws Exception {
+        File file = File.createTempFile("legacy", ".rcsd");
+        file.deleteOnExit();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(new FileOutputStream(file))) {
+            objectOutputStream.writeObject(beamProject);
+        }
+        Project project = ProjectFile.open(file);
+
+        assertProjectsAreEqual(beamProject, project);
+    }
+
+    @Test
+    void projectsSavedByFirstVersionAreOpened() throws Exception {
+        // Files saved with Java serialization by the first released version of the app
+        Project beam = ProjectFile.open(getResourceFile("baseline-beam.rcd"));
+        Project flangedBeam = ProjectFile.open(getResourceFile("baseline-flanged-beam.rcd"));
+        Project slab = ProjectFile.open(getResourceFile("baseline-slab.rcd"));
+
+        assertEquals("B1", beam.getId());
+        assertEquals("180", beam.getUlsMoment());
+        assertTrue(beam.getGeometry().getSection() instanceof Rectangle);
+        assertEquals(650, beam.getGeometry().getDepth());
+        assertEquals(beamProject.getReinforcement().getDescription(), beam.getReinforcement().getDescription());
+        assertEquals(beamProject.getFlexureCapacity(), beam.getFlexureCapacity(), 1e-6);
+
+        assertTrue(flangedBeam.getGeometry().getSection() instanceof TSection);
+        assertEquals(900, flangedBeam.getGeometry().getFlangeWidth());
+
+        assertTrue(slab.getGeometry().getSection() instanceof SlabStrip);
+        assertEquals(300, slab.getGeometry().getDepth());
+        assertEquals(slabProject.getReinforcement().getDescription(), slab.getReinforcement().getDescription());
+        assertEquals(slabProject.getFlexureCapacity(), slab.getFlexureCapacity(), 1e-6);
+        // Opened project can be recalculated
+        slab.calculate();
+        assertEquals(slabProject.getFlexureCapacity(), slab.getFlexureCapacity(), 1e-6);
+    }
+
+    @Test
+    void binaryFileIsSmallerThanSerializedFile() throws Exception {
+        File file = File.createTempFile("legacy", ".rcsd");
+        file.deleteOnExit();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(new FileOutputStream(file))) {
+            objectOutputStream.writeObject(beamProject);
+        }
+
+        assertTrue(ProjectBinaryFormat.encode(beamProject).remaining() < file.length());
+    }
+
+    @Test
+    void unsupportedVersionThrowsException() throws IOException {
+        ByteBuffer buffer = ProjectBinaryFormat.encode(slabProject);
+        buffer.putShort(Integer.BYTES, (short) (ProjectBinaryFormat.VERSION + 1));
+
+        assertTrue(ProjectBinaryFormat.isBinaryFormat(buffer));
+        assertThrows(StreamCorruptedException.class, () -> ProjectBinaryFormat.decode(buffer));
+    }
+
+    @Test
+    void truncatedFileThrowsException() throws IOException {
+        ByteBuffer buffer = ProjectBinaryFormat.encode(slabProject);
+        buffer.limit(buffer.limit() / 2);
+
+        assertThrows(StreamCorruptedException.class, () -> ProjectBinaryFormat.decode(buffer));
+    }
+
+    @Test
+    void corruptedStringLengthThrowsException() throws IOException {
+        ByteBuffer buffer = ProjectBinaryFormat.encode(beamProject);
+        // Length of project name follows the header
+        buffer.putInt(Integer.BYTES + Short.BYTES, Integer.MAX_VALUE);
+
+        assertThrows(StreamCorruptedException.class, () -> ProjectBinaryFormat.decode(buffer));
+        buffer.rewind();
+        buffer.putInt(Integer.BYTES + Short.BYTES, -2);
+        assertThrows(StreamCorruptedException.class, () -> ProjectBinaryFormat.decode(buffer));
+    }
+
+    @Test
+    void valuesOutOfRangeAreNotTruncated() {
+        Project project = new Project();
+        project.setElementType(Constants.ELEMENT_TYPE_SLAB);
+        project.setReinforcement(new SlabReinforcement(
+                List.of(12),
+                List.of(0),
+                List.of(40000),
+                Collections.emptyList(),
+                List.of(16),
+                List.of(0),
+                List.of(200),
+                Collections.emptyList()
+        ));
+
+        assertThrows(IOException.class, () -> ProjectBinaryFormat.encode(project));
+    }
+
+    private static File getResourceFile(String name) throws URISyntaxException {
+        return new File(ProjectFileTest.class.getResource(name).toURI());
+    }
+
+    private static void assertProjectsAreEqual(Project expected, Project actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getAuthor(), actual.getAuthor());
+        assertEquals(expected.getElementType(), actual.getElementType());
+        assertEquals(expected.getUlsMoment(), actual.getUlsMoment());
+        assertEquals(expected.getSlsMoment(), actual.getSlsMoment());
+        assertEquals(expected.getUlsShear(), actual.getUlsShear());
+        assertEquals(expected.getGeometry().getSection().getDescription(), actual.getGeometry().getSection().getDescription());
+        assertEquals(expected.getReinforcement().getDescription(), actual.getReinforcement().getDescription());
+        assertEquals(expected.getDesignParameters().getNominalCoverTop(), actual.getDesignParameters().getNominalCoverTop());
+        assertEquals(expected.getDesignParameters().getCrackWidthLimit(), actual.getDesignParameters().getCrackWidthLimit());
+        assertEquals(expected.getDesignParameters().getRedistributionRatio(), actual.getDesignParameters().getRedistributionRatio());
+        assertEquals(expected.getConcrete(), actual.getConcrete());
+        assertEquals(expected.getFlexureCapacity(), actual.getFlexureCapacity());
+        assertEquals(expected.getFlexureCapacityCheckMessage(), actual.getFlexureCapacityCheckMessage());
+        assertEquals(expected.getIsFlexureError(), actual.getIsFlexureError());
+        assertEquals(expected.getRequiredShearReinforcement(), actual.getRequiredShearReinforcement());
+        assertEquals(expected.getShearCapacityCheckMessage(), actual.getShearCapacityCheckMessage());
+        assertEquals(expected.getCrackWidth(), actual.getCrackWidth());
+        assertEquals(expected.getCrackWidthLimit(), actual.getCrackWidthLimit());
+        assertEquals(expected.getCrackingCheckMessage(), actual.getCrackingCheckMessage());
+        assertEquals(expected.getCrackingResultsAdditionalMessage(), actual.getCrackingResultsAdditionalMessage());
+    }
+}
@@ -0,0 +1,52 @@
+package com.radsoltan.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupProfilerTest {
+
+    @Test
+    void phasesAreRecordedInOrder() {
+        StartupProfiler profiler = new StartupProfiler(true);
+        profiler.mark("first");
+        profiler.mark("second");
+        List<StartupProfiler.Phase> phases = profiler.getPhases();
+
+        assertEquals(2, phases.size());
+        assertEquals("first", phases.get(0).getName());
+        assertEquals("second", phases.get(1).getName());
+        assertEquals(Thread.currentThread().getName(), phases.get(0).getThreadName());
+        assertTrue(phases.get(0).getDurationMillis() >= 0);
+        assertTrue(phases.get(1).getElapsedMillis() >= phases.get(0).getElapsedMillis());
+    }
+
+    @Test
+    void disabledProfilerDoesNotRecordPhases() {
+        StartupProfiler profiler = new StartupProfiler(false);
+        profiler.mark("first");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        profiler.report(new PrintStream(output));
+
+        assertTrue(profiler.getPhases().isEmpty());
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void reportIncludesAllPhases() {
+        StartupProfiler profiler = new StartupProfiler(true);
+        profiler.mark("fonts loaded");
+        profiler.mark("first frame");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        profiler.report(new PrintStream(output));
+        String report = output.toString();
+
+        assertTrue(report.contains("fonts loaded"));
+        assertTrue(report.contains("first frame"));
+        assertEquals(3, report.lines().count());
+    }
+}